@@ -0,0 +1,80 @@
+package com.scms.app.service;
+
+import com.scms.app.util.CompiledEmailTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이메일 템플릿 렌더링 벤치마크
+ * - perCallProcess: 수신자마다 templateEngine.process (기존 방식, Thymeleaf 템플릿 캐시는 사용)
+ * - rendererRender: EmailTemplateRenderer.render (캐시 조회 + 미리 렌더링한 템플릿)
+ * - compiledRender: CompiledEmailTemplate.render만
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class EmailTemplateRendererBenchmark {
+
+    @Param({"email/verification", "email/password-reset"})
+    public String templateName;
+
+    private SpringTemplateEngine templateEngine;
+    private EmailTemplateRenderer renderer;
+    private CompiledEmailTemplate compiled;
+    private Map<String, String> variables;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        renderer = new EmailTemplateRenderer(templateEngine);
+        // @Value 주입 대신 캐시 사용 설정
+        Field cacheEnabled = EmailTemplateRenderer.class.getDeclaredField("cacheEnabled");
+        cacheEnabled.setAccessible(true);
+        cacheEnabled.setBoolean(renderer, true);
+
+        String linkName = templateName.endsWith("verification") ? "verificationLink" : "resetLink";
+        variables = Map.of("name", "홍길동", linkName, "https://scms.example.com/auth?token=3f9a7c2e&user=20241234");
+        compiled = renderer.compile(templateName, variables.keySet())
+                .orElseThrow(() -> new IllegalStateException("캐시할 수 없는 템플릿입니다: " + templateName));
+    }
+
+    @Benchmark
+    public String perCallProcess() {
+        Context context = new Context();
+        variables.forEach(context::setVariable);
+        return templateEngine.process(templateName, context);
+    }
+
+    @Benchmark
+    public String rendererRender() {
+        return renderer.render(templateName, variables);
+    }
+
+    @Benchmark
+    public String compiledRender() {
+        return compiled.render(variables);
+    }
+}
@@ -0,0 +1,113 @@
+package com.scms.app.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 설문 분석 열 저장소 집계 벤치마크
+ * - rows가 병렬 계산 기준(50,000행)보다 작으면 순차, 크면 구간 병렬 경로를 측정
+ * - 분포(단일/복수선택/척도), 필터 마스크 생성, 학과별 교차표
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SurveyAnswerColumnsBenchmark {
+
+    private static final long SINGLE = 1L;
+    private static final long MULTI = 2L;
+    private static final long SCALE = 3L;
+    private static final int SINGLE_OPTIONS = 5;
+    private static final int MULTI_OPTIONS = 8;
+    private static final int SCALE_MIN = 1;
+    private static final int SCALE_MAX = 5;
+
+    @Param({"10000", "200000"})
+    public int rows;
+
+    private SurveyAnswerColumns table;
+    private boolean[] gradeMask;
+    private Map<String, String> filters;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] departments = new String[40];
+        for (int i = 0; i < departments.length; i++) {
+            departments[i] = "학과" + i;
+        }
+
+        List<Long> singleOptions = optionIds(100, SINGLE_OPTIONS);
+        List<Long> multiOptions = optionIds(200, MULTI_OPTIONS);
+        SurveyAnswerColumns.Builder builder = new SurveyAnswerColumns.Builder(List.of("department", "grade"))
+                .choiceQuestion(SINGLE, singleOptions, false)
+                .choiceQuestion(MULTI, multiOptions, true)
+                .scaleQuestion(SCALE);
+        for (int i = 0; i < rows; i++) {
+            builder.addResponse(i + 1, i + 1, departments[random.nextInt(departments.length)],
+                    String.valueOf(1 + random.nextInt(4)));
+        }
+        for (int i = 0; i < rows; i++) {
+            builder.addAnswer(i + 1, SINGLE, singleOptions.get(random.nextInt(SINGLE_OPTIONS)), null);
+            for (int o = 0; o < MULTI_OPTIONS; o++) {
+                if (random.nextInt(4) == 0) {
+                    builder.addAnswer(i + 1, MULTI, multiOptions.get(o), null);
+                }
+            }
+            builder.addAnswer(i + 1, SCALE, null, SCALE_MIN + random.nextInt(SCALE_MAX - SCALE_MIN + 1));
+        }
+        table = builder.build();
+
+        filters = Map.of("department", "학과7", "grade", "2");
+        gradeMask = table.mask(Map.of("grade", "2"));
+    }
+
+    @Benchmark
+    public long[] singleChoiceDistribution() {
+        return table.optionCounts(SINGLE, SINGLE_OPTIONS, gradeMask);
+    }
+
+    @Benchmark
+    public long[] multiChoiceDistribution() {
+        return table.optionCounts(MULTI, MULTI_OPTIONS, gradeMask);
+    }
+
+    @Benchmark
+    public SurveyAnswerColumns.ScaleSummary scaleDistribution() {
+        return table.scaleSummary(SCALE, SCALE_MIN, SCALE_MAX, gradeMask);
+    }
+
+    @Benchmark
+    public boolean[] filterMask() {
+        return table.mask(filters);
+    }
+
+    @Benchmark
+    public long[][] crossTabByDepartment() {
+        return table.crossTab(SINGLE, SINGLE_OPTIONS, "department", gradeMask);
+    }
+
+    @Benchmark
+    public SurveyAnswerColumns.ScaleSummary[] scaleByDepartment() {
+        return table.scaleSummaryBy(SCALE, SCALE_MIN, SCALE_MAX, "department", gradeMask);
+    }
+
+    private static List<Long> optionIds(long base, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(base + i);
+        }
+        return ids;
+    }
+}
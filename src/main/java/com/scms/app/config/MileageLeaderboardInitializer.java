@@ -0,0 +1,38 @@
+package com.scms.app.config;
+
+import com.scms.app.service.MileageBalanceService;
+import com.scms.app.service.MileageLeaderboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마일리지 랭킹 초기화
+ * - 잔액 요약 테이블이 비어 있으면 원장(mileage_history)으로부터 재계산
+ * - 잔액 테이블로부터 랭킹을 메모리에 적재 (이후 불일치는 정합성 검사 스케줄러가 보정)
+ */
+@Component
+@Order(10) // 초기 데이터 적재 이후 실행
+@RequiredArgsConstructor
+@Slf4j
+public class MileageLeaderboardInitializer implements CommandLineRunner {
+
+    private final MileageBalanceService balanceService;
+    private final MileageLeaderboardService leaderboardService;
+
+    @Override
+    public void run(String... args) {
+        try {
+            if (balanceService.initializeIfEmpty()) {
+                log.info("마일리지 잔액 요약 테이블 초기 적재 완료");
+            }
+            int rankedUsers = leaderboardService.reload();
+            log.info("=== 마일리지 랭킹 초기화 완료: {} 명 ===", rankedUsers);
+        } catch (Exception e) {
+            // 실패해도 첫 랭킹 조회 시 잔액 테이블에서 다시 적재함
+            log.error("마일리지 랭킹 초기화 실패: {}", e.getMessage(), e);
+        }
+    }
+}
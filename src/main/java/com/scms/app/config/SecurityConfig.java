@@ -3,6 +3,7 @@ package com.scms.app.config;
 import com.scms.app.oauth2.CustomOAuth2UserService;
 import com.scms.app.oauth2.OAuth2AuthenticationFailureHandler;
 import com.scms.app.oauth2.OAuth2AuthenticationSuccessHandler;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -50,6 +51,9 @@ public class SecurityConfig {
 
                 // 요청 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(SSE 등)의 재디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // 인증 없이 접근 가능한 경로
                         .requestMatchers(
                                 "/",
@@ -68,6 +72,10 @@ public class SecurityConfig {
                                 "/api/auth/password/validate-token",
                                 "/api/auth/me",
                                 "/api/external/**",
+                                "/api/programs",
+                                "/api/programs/popular",
+                                "/api/programs/search",
+                                "/api/programs/facets",
                                 "/css/**",
                                 "/js/**",
                                 "/images/**",
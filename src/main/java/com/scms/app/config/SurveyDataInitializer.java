@@ -2,6 +2,7 @@ package com.scms.app.config;
 
 import com.scms.app.model.*;
 import com.scms.app.repository.*;
+import com.scms.app.service.SurveyAggregateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -26,6 +27,7 @@ public class SurveyDataInitializer implements CommandLineRunner {
     private final SurveyQuestionOptionRepository optionRepository;
     private final SurveyResponseRepository responseRepository;
     private final SurveyAnswerRepository answerRepository;
+    private final SurveyAggregateService aggregateService;
 
     @Override
     @Transactional
@@ -341,6 +343,9 @@ public class SurveyDataInitializer implements CommandLineRunner {
                 .optionId(option2)
                 .build());
 
+        // 직접 저장한 답변을 통계 집계에 반영
+        aggregateService.rebuild(survey.getSurveyId());
+
         log.info("샘플 응답 데이터 추가: 이영희 학생의 과거 설문 응답");
     }
 }
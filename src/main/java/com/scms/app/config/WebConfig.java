@@ -1,7 +1,10 @@
 package com.scms.app.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -12,6 +15,29 @@ public class WebConfig implements WebMvcConfigurer {
     @Value("${file.upload-dir:${user.home}/scms-uploads}")
     private String uploadDir;
 
+    /**
+     * OSIV(Open EntityManager In View) 인터셉터
+     * 이 빈이 있으면 Spring Boot 기본 OSIV 설정은 등록되지 않으므로 아래에서 경로를 지정해 직접 등록
+     */
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    /**
+     * 비동기로 오래 유지되는 요청(SSE, 스트리밍 다운로드)은 OSIV에서 제외
+     * OSIV가 열어 둔 EntityManager는 비동기 요청이 끝날 때까지 DB 연결을 붙잡으므로
+     * 알림 스트림 탭 몇 개만으로도 커넥션 풀이 고갈될 수 있음
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+                .excludePathPatterns(
+                        "/api/notifications/stream",
+                        "/api/programs/*/applications/excel",
+                        "/api/surveys/*/responses/export");
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         registry.addResourceHandler("/static/**")
@@ -0,0 +1,100 @@
+package com.scms.app.controller;
+
+import com.scms.app.model.EmailOutbox;
+import com.scms.app.scheduler.EmailOutboxDispatcher;
+import com.scms.app.service.EmailOutboxService;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이메일 발송 대기열 관리자 API
+ */
+@RestController
+@RequestMapping("/admin/email/api/outbox")
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxAdminController {
+
+    private final EmailOutboxService outboxService;
+    private final EmailOutboxDispatcher outboxDispatcher;
+
+    /**
+     * 관리자 권한 체크
+     */
+    private boolean checkAdminRole(HttpSession session) {
+        Boolean isAdmin = (Boolean) session.getAttribute("isAdmin");
+        return isAdmin != null && isAdmin;
+    }
+
+    /**
+     * 대기열 지표 조회 (상태별 건수, 대기 시간, 발송 지연 시간)
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<?> getStats(HttpSession session) {
+        if (!checkAdminRole(session)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자 권한이 필요합니다."));
+        }
+
+        try {
+            return ResponseEntity.ok(outboxDispatcher.getStats());
+        } catch (Exception e) {
+            log.error("이메일 대기열 지표 조회 실패: error={}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "이메일 대기열 지표 조회에 실패했습니다."));
+        }
+    }
+
+    /**
+     * 발송 포기된 메일 목록 (최근 100건, 템플릿 변수는 제외)
+     */
+    @GetMapping("/dead")
+    public ResponseEntity<?> getDeadLetters(HttpSession session) {
+        if (!checkAdminRole(session)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자 권한이 필요합니다."));
+        }
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (EmailOutbox outbox : outboxService.getDeadLetters()) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("outboxId", outbox.getOutboxId());
+            item.put("toEmail", outbox.getToEmail());
+            item.put("subject", outbox.getSubject());
+            item.put("templateName", outbox.getTemplateName());
+            item.put("attempts", outbox.getAttempts());
+            item.put("lastError", outbox.getLastError());
+            item.put("createdAt", outbox.getCreatedAt());
+            result.add(item);
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 발송 포기된 메일 재발송
+     */
+    @PostMapping("/{outboxId}/retry")
+    public ResponseEntity<?> retry(@PathVariable Long outboxId, HttpSession session) {
+        if (!checkAdminRole(session)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자 권한이 필요합니다."));
+        }
+
+        try {
+            outboxService.requeueDead(outboxId);
+            outboxDispatcher.requestPollAfterCommit();
+            return ResponseEntity.ok(Map.of("message", "재발송을 요청했습니다."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.scms.app.controller;
 
+import com.scms.app.dto.ProgramCatalogItem;
 import com.scms.app.dto.RecommendedProgramDto;
 import com.scms.app.model.Program;
 import com.scms.app.model.Student;
@@ -7,6 +8,7 @@ import com.scms.app.model.User;
 import com.scms.app.model.UserRole;
 import com.scms.app.repository.StudentRepository;
 import com.scms.app.repository.UserRepository;
+import com.scms.app.service.ProgramCatalogService;
 import com.scms.app.service.ProgramRecommendationService;
 import com.scms.app.service.ProgramService;
 import jakarta.servlet.http.HttpSession;
@@ -30,6 +32,7 @@ import java.util.List;
 public class HomeController {
 
     private final ProgramService programService;
+    private final ProgramCatalogService catalogService;
     private final ProgramRecommendationService recommendationService;
     private final UserRepository userRepository;
     private final StudentRepository studentRepository;
@@ -56,14 +59,15 @@ public class HomeController {
             }
         }
 
-        // 필터 파라미터가 있으면 필터링, 없으면 전체 조회
-        List<Program> programs;
+        // 필터 파라미터가 있으면 필터링, 없으면 전체 조회 (카탈로그 캐시)
+        List<ProgramCatalogItem> programs;
         if (department != null || college != null || category != null) {
-            programs = programService.getProgramsByFilters(department, college, category);
+            programs = catalogService.getProgramsByFilters(department, college, category);
         } else {
-            programs = programService.getMainPagePrograms();
+            programs = catalogService.getMainPagePrograms();
         }
         model.addAttribute("programs", programs);
+        model.addAttribute("facetCounts", catalogService.getFacetCounts(department, college, category));
 
         // 현재 선택된 필터 정보를 Model에 추가
         model.addAttribute("selectedDepartment", department);
@@ -101,6 +105,7 @@ public class HomeController {
         try {
             Program program = programService.getProgramWithHitIncrement(programId);
             model.addAttribute("program", program);
+            model.addAttribute("hits", programService.getDisplayHits(program));
             model.addAttribute("pageTitle", program.getTitle() + " - 프로그램 상세");
             return "program-detail";
         } catch (IllegalArgumentException e) {
@@ -119,6 +124,7 @@ public class HomeController {
             @RequestParam(required = false) String college,
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String search,
+            @RequestParam(required = false) Boolean openNow,
             @RequestParam(required = false) Boolean recommended,
             @RequestParam(required = false) Long studentId,
             @RequestParam(defaultValue = "0") int page,
@@ -169,14 +175,15 @@ public class HomeController {
             return "programs";
         }
 
-        // 일반 모드: 필터링 또는 검색 with 페이지네이션
-        Page<Program> programPage;
+        // 일반 모드: 필터링 또는 검색 with 페이지네이션 (카탈로그 캐시)
+        Page<ProgramCatalogItem> programPage;
         if (search != null && !search.trim().isEmpty()) {
-            programPage = programService.searchProgramsByTitleWithPagination(search, page, size);
+            programPage = catalogService.searchPrograms(search, college, department, category,
+                    null, Boolean.TRUE.equals(openNow), page, size);
         } else if (department != null || college != null || category != null) {
-            programPage = programService.getProgramsByFiltersWithPagination(department, college, category, page, size);
+            programPage = catalogService.getProgramsByFiltersWithPagination(department, college, category, page, size);
         } else {
-            programPage = programService.getAllProgramsWithPagination(page, size);
+            programPage = catalogService.getAllProgramsWithPagination(page, size);
         }
 
         model.addAttribute("programs", programPage.getContent());
@@ -184,6 +191,7 @@ public class HomeController {
         model.addAttribute("totalPages", programPage.getTotalPages());
         model.addAttribute("totalItems", programPage.getTotalElements());
         model.addAttribute("pageSize", size);
+        model.addAttribute("facetCounts", catalogService.getFacetCounts(department, college, category));
 
         // 현재 선택된 필터 정보를 Model에 추가
         model.addAttribute("selectedDepartment", department);
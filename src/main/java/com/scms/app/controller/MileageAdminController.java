@@ -1,7 +1,11 @@
 package com.scms.app.controller;
 
+import com.scms.app.dto.MileageAwardCommand;
+import com.scms.app.dto.MileageBulkAwardResult;
+import com.scms.app.dto.MileageReconcileReport;
 import com.scms.app.model.MileageHistory;
 import com.scms.app.model.MileageRule;
+import com.scms.app.scheduler.MileageBalanceReconciler;
 import com.scms.app.service.MileageService;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +30,7 @@ import java.util.Map;
 public class MileageAdminController {
 
     private final MileageService mileageService;
+    private final MileageBalanceReconciler balanceReconciler;
 
     /**
      * 관리자 권한 체크
@@ -244,6 +249,36 @@ public class MileageAdminController {
         }
     }
 
+    /**
+     * API: 마일리지 일괄 지급/차감 (관리자용)
+     * POST /admin/mileage/api/award/bulk
+     */
+    @PostMapping("/api/award/bulk")
+    @ResponseBody
+    public ResponseEntity<?> bulkAwardMileage(
+            @RequestBody List<MileageAwardCommand> commands,
+            HttpSession session) {
+        try {
+            if (!checkAdminRole(session)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(Map.of("error", "관리자 권한이 필요합니다."));
+            }
+
+            Integer adminId = (Integer) session.getAttribute("userId");
+            MileageBulkAwardResult result = mileageService.awardMileageBulk(commands, adminId);
+
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.warn("마일리지 일괄 지급 실패: error={}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("마일리지 일괄 지급 실패: error={}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "마일리지 일괄 지급에 실패했습니다."));
+        }
+    }
+
     /**
      * API: 전체 사용자 마일리지 랭킹 조회 (관리자용)
      */
@@ -264,4 +299,74 @@ public class MileageAdminController {
                     .body(Map.of("error", "마일리지 랭킹 조회에 실패했습니다."));
         }
     }
+
+    /**
+     * API: 마일리지 랭킹 재구성 (원장 기준)
+     */
+    @PostMapping("/api/ranking/rebuild")
+    @ResponseBody
+    public ResponseEntity<?> rebuildRanking(HttpSession session) {
+        try {
+            if (!checkAdminRole(session)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(Map.of("error", "관리자 권한이 필요합니다."));
+            }
+
+            int rankedUsers = mileageService.rebuildMileageRanking();
+            log.info("마일리지 랭킹 재구성: rankedUsers={}", rankedUsers);
+
+            return ResponseEntity.ok(Map.of(
+                    "message", "마일리지 랭킹이 재구성되었습니다.",
+                    "rankedUsers", rankedUsers
+            ));
+        } catch (Exception e) {
+            log.error("마일리지 랭킹 재구성 실패: error={}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "마일리지 랭킹 재구성에 실패했습니다."));
+        }
+    }
+
+    /**
+     * 마일리지 잔액 정합성 검사 실행 (관리자용)
+     * POST /admin/mileage/api/balance/reconcile
+     */
+    @PostMapping("/api/balance/reconcile")
+    @ResponseBody
+    public ResponseEntity<?> reconcileBalances(HttpSession session) {
+        try {
+            if (!checkAdminRole(session)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(Map.of("error", "관리자 권한이 필요합니다."));
+            }
+
+            MileageReconcileReport report = balanceReconciler.reconcile();
+            return ResponseEntity.ok(report);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("마일리지 잔액 정합성 검사 실패: error={}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "마일리지 잔액 정합성 검사에 실패했습니다."));
+        }
+    }
+
+    /**
+     * 최근 마일리지 잔액 정합성 검사 결과 조회 (관리자용)
+     * GET /admin/mileage/api/balance/reconcile
+     */
+    @GetMapping("/api/balance/reconcile")
+    @ResponseBody
+    public ResponseEntity<?> getLastReconcileReport(HttpSession session) {
+        if (!checkAdminRole(session)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자 권한이 필요합니다."));
+        }
+
+        MileageReconcileReport report = balanceReconciler.getLastReport();
+        if (report == null) {
+            return ResponseEntity.ok(Map.of("message", "정합성 검사 이력이 없습니다."));
+        }
+        return ResponseEntity.ok(report);
+    }
 }
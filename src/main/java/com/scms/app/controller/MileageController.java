@@ -1,5 +1,6 @@
 package com.scms.app.controller;
 
+import com.scms.app.dto.CursorPage;
 import com.scms.app.model.MileageHistory;
 import com.scms.app.model.MileageRule;
 import com.scms.app.service.MileageService;
@@ -99,7 +100,10 @@ public class MileageController {
      */
     @GetMapping("/api/mileage/history")
     @ResponseBody
-    public ResponseEntity<?> getMileageHistory(HttpSession session) {
+    public ResponseEntity<?> getMileageHistory(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            HttpSession session) {
         try {
             Integer userId = (Integer) session.getAttribute("userId");
             if (userId == null) {
@@ -107,23 +111,22 @@ public class MileageController {
                         .body(Map.of("error", "로그인이 필요합니다."));
             }
 
+            // cursor 또는 size가 지정되면 커서 페이지로 응답
+            if (cursor != null || size != null) {
+                CursorPage<MileageHistory> page = mileageService.getMileageHistoryPage(userId, cursor, size);
+                return ResponseEntity.ok(page.map(this::toHistoryData));
+            }
+
             List<MileageHistory> history = mileageService.getMileageHistory(userId);
 
             // DTO 변환
             List<Map<String, Object>> historyData = history.stream()
-                    .map(h -> {
-                        Map<String, Object> data = new HashMap<>();
-                        data.put("historyId", h.getHistoryId());
-                        data.put("activityType", h.getActivityType());
-                        data.put("activityName", h.getActivityName());
-                        data.put("points", h.getPoints());
-                        data.put("description", h.getDescription());
-                        data.put("earnedAt", h.getEarnedAt().toString());
-                        return data;
-                    })
+                    .map(this::toHistoryData)
                     .toList();
 
             return ResponseEntity.ok(historyData);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             log.error("마일리지 내역 조회 실패: error={}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -234,4 +237,15 @@ public class MileageController {
                     .body(Map.of("error", "마일리지 규칙 조회에 실패했습니다."));
         }
     }
+
+    private Map<String, Object> toHistoryData(MileageHistory h) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("historyId", h.getHistoryId());
+        data.put("activityType", h.getActivityType());
+        data.put("activityName", h.getActivityName());
+        data.put("points", h.getPoints());
+        data.put("description", h.getDescription());
+        data.put("earnedAt", h.getEarnedAt().toString());
+        return data;
+    }
 }
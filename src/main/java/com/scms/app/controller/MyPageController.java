@@ -48,9 +48,10 @@ public class MyPageController {
             // 사용자의 모든 신청 내역 조회
             List<ProgramApplication> allApplications = applicationService.getUserApplications(userId);
 
-            // 상태별 분류
+            // 상태별 분류 (대기자는 대기 중에 포함)
             List<ProgramApplication> pendingList = allApplications.stream()
-                    .filter(a -> a.getStatus() == ApplicationStatus.PENDING)
+                    .filter(a -> a.getStatus() == ApplicationStatus.PENDING
+                            || a.getStatus() == ApplicationStatus.WAITLISTED)
                     .collect(Collectors.toList());
 
             List<ProgramApplication> approvedList = allApplications.stream()
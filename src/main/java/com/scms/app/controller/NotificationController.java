@@ -1,14 +1,18 @@
 package com.scms.app.controller;
 
+import com.scms.app.dto.CursorPage;
 import com.scms.app.dto.NotificationResponse;
 import com.scms.app.model.Notification;
+import com.scms.app.service.NotificationPushService;
 import com.scms.app.service.NotificationService;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -24,12 +28,17 @@ import java.util.stream.Collectors;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationPushService notificationPushService;
 
     /**
      * 알림 목록 조회
+     * cursor 또는 size가 지정되면 커서 페이지(items, nextCursor, hasNext)로 응답
      */
     @GetMapping
-    public ResponseEntity<?> getNotifications(HttpSession session) {
+    public ResponseEntity<?> getNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            HttpSession session) {
         try {
             Integer userId = (Integer) session.getAttribute("userId");
             if (userId == null) {
@@ -37,12 +46,19 @@ public class NotificationController {
                         .body(Map.of("error", "로그인이 필요합니다."));
             }
 
+            if (cursor != null || size != null) {
+                CursorPage<Notification> page = notificationService.getNotificationPage(userId, cursor, size);
+                return ResponseEntity.ok(page.map(NotificationResponse::from));
+            }
+
             List<Notification> notifications = notificationService.getNotificationsByUser(userId);
             List<NotificationResponse> response = notifications.stream()
                     .map(NotificationResponse::from)
                     .collect(Collectors.toList());
 
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             log.error("알림 목록 조회 실패: error={}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -75,6 +91,23 @@ public class NotificationController {
         }
     }
 
+    /**
+     * 실시간 알림 스트림 (Server-Sent Events)
+     * - unread-count: 읽지 않은 알림 개수 ({"count": n})
+     * - notification: 새 알림 (NotificationResponse)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamNotifications(HttpSession session) {
+        Integer userId = (Integer) session.getAttribute("userId");
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no") // 프록시 버퍼링 비활성화
+                .body(notificationPushService.subscribe(userId));
+    }
+
     /**
      * 읽지 않은 알림 개수 조회
      */
@@ -1,22 +1,26 @@
 package com.scms.app.controller;
 
+import com.scms.app.dto.ApplicationBulkRequest;
+import com.scms.app.dto.ApplicationBulkResult;
+import com.scms.app.dto.CursorPage;
 import com.scms.app.dto.ProgramApplicationResponse;
+import com.scms.app.dto.WaitingTicketResponse;
+import com.scms.app.model.ApplicationStatus;
 import com.scms.app.model.Program;
 import com.scms.app.model.ProgramApplication;
-import com.scms.app.service.ExcelService;
 import com.scms.app.service.ProgramApplicationService;
 import com.scms.app.service.ProgramService;
+import com.scms.app.service.WaitingRoomService;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayInputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
@@ -24,6 +28,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -36,8 +41,8 @@ import java.util.stream.Collectors;
 public class ProgramApplicationController {
 
     private final ProgramApplicationService applicationService;
-    private final ExcelService excelService;
     private final ProgramService programService;
+    private final WaitingRoomService waitingRoomService;
 
     /**
      * 프로그램 신청
@@ -55,9 +60,32 @@ public class ProgramApplicationController {
         }
 
         try {
+            // 대기실이 설정된 프로그램은 대기표 발급 후 순서대로 처리
+            Optional<WaitingTicketResponse> ticket = waitingRoomService.tryEnter(programId, userId);
+            if (ticket.isPresent()) {
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                        "queued", true,
+                        "message", "신청 대기열에 등록되었습니다.",
+                        "ticket", ticket.get()
+                ));
+            }
+
             ProgramApplication application = applicationService.applyProgram(userId, programId);
             ProgramApplicationResponse response = ProgramApplicationResponse.from(application);
 
+            if (application.getStatus() == ApplicationStatus.WAITLISTED) {
+                Long waitlistRank = applicationService.getWaitlistRank(application);
+                log.info("프로그램 대기자 등록: 사용자 ID {}, 프로그램 ID {}, 대기 순서 {}", userId, programId, waitlistRank);
+
+                return ResponseEntity.ok(Map.of(
+                        "success", true,
+                        "waitlisted", true,
+                        "message", "정원이 마감되어 대기자로 등록되었습니다. (대기 " + waitlistRank + "번)",
+                        "waitlistRank", waitlistRank,
+                        "application", response
+                ));
+            }
+
             log.info("프로그램 신청 성공: 사용자 ID {}, 프로그램 ID {}", userId, programId);
 
             return ResponseEntity.ok(Map.of(
@@ -83,6 +111,79 @@ public class ProgramApplicationController {
         }
     }
 
+    /**
+     * 신청 대기표 조회
+     */
+    @GetMapping("/{programId}/waiting-room/tickets/{ticketId}")
+    public ResponseEntity<?> getWaitingTicket(
+            @PathVariable Integer programId,
+            @PathVariable String ticketId,
+            HttpSession session) {
+
+        Integer userId = (Integer) session.getAttribute("userId");
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "로그인이 필요합니다."));
+        }
+
+        try {
+            return ResponseEntity.ok(waitingRoomService.getTicket(ticketId, userId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 신청 대기실 설정 (관리자용)
+     * 요청 본문: { "enabled": true, "admissionPerSecond": 20, "maxQueueSize": 5000 }
+     */
+    @PutMapping("/{programId}/waiting-room")
+    public ResponseEntity<?> configureWaitingRoom(
+            @PathVariable Integer programId,
+            @RequestBody Map<String, Object> requestBody,
+            HttpSession session) {
+
+        // 관리자 확인
+        Boolean isAdmin = (Boolean) session.getAttribute("isAdmin");
+        if (isAdmin == null || !isAdmin) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자 권한이 필요합니다."));
+        }
+
+        try {
+            programService.getProgram(programId);
+
+            boolean enabled = !Boolean.FALSE.equals(requestBody.get("enabled"));
+            Integer admissionPerSecond = requestBody.get("admissionPerSecond") instanceof Number number
+                    ? number.intValue() : null;
+            Integer maxQueueSize = requestBody.get("maxQueueSize") instanceof Number number
+                    ? number.intValue() : null;
+
+            return ResponseEntity.ok(waitingRoomService.configure(programId, enabled, admissionPerSecond, maxQueueSize));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 신청 대기실 지표 조회 (관리자용, 현재 서버 기준)
+     */
+    @GetMapping("/waiting-rooms/stats")
+    public ResponseEntity<?> getWaitingRoomStats(HttpSession session) {
+
+        // 관리자 확인
+        Boolean isAdmin = (Boolean) session.getAttribute("isAdmin");
+        if (isAdmin == null || !isAdmin) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자 권한이 필요합니다."));
+        }
+
+        return ResponseEntity.ok(waitingRoomService.getStats());
+    }
+
     /**
      * 프로그램 신청 취소
      */
@@ -129,7 +230,10 @@ public class ProgramApplicationController {
      * 나의 신청 내역 조회
      */
     @GetMapping("/applications/my")
-    public ResponseEntity<?> getMyApplications(HttpSession session) {
+    public ResponseEntity<?> getMyApplications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            HttpSession session) {
 
         // 로그인 확인
         Integer userId = (Integer) session.getAttribute("userId");
@@ -139,6 +243,13 @@ public class ProgramApplicationController {
         }
 
         try {
+            // cursor 또는 size가 지정되면 커서 페이지로 응답
+            if (cursor != null || size != null) {
+                CursorPage<ProgramApplication> page =
+                        applicationService.getUserApplicationPage(userId, cursor, size);
+                return ResponseEntity.ok(page.map(ProgramApplicationResponse::from));
+            }
+
             List<ProgramApplication> applications = applicationService.getUserApplications(userId);
             List<ProgramApplicationResponse> responses = applications.stream()
                     .map(ProgramApplicationResponse::from)
@@ -146,6 +257,8 @@ public class ProgramApplicationController {
 
             return ResponseEntity.ok(responses);
 
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             log.error("신청 내역 조회 실패: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -193,6 +306,8 @@ public class ProgramApplicationController {
     @GetMapping("/{programId}/applications")
     public ResponseEntity<?> getProgramApplications(
             @PathVariable Integer programId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             HttpSession session) {
 
         // 관리자 확인
@@ -203,6 +318,12 @@ public class ProgramApplicationController {
         }
 
         try {
+            if (cursor != null || size != null) {
+                CursorPage<ProgramApplication> page =
+                        applicationService.getProgramApplicationPage(programId, cursor, size);
+                return ResponseEntity.ok(page.map(ProgramApplicationResponse::from));
+            }
+
             List<ProgramApplication> applications = applicationService.getProgramApplications(programId);
             List<ProgramApplicationResponse> responses = applications.stream()
                     .map(ProgramApplicationResponse::from)
@@ -210,6 +331,8 @@ public class ProgramApplicationController {
 
             return ResponseEntity.ok(responses);
 
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             log.error("프로그램 신청 내역 조회 실패: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -233,15 +356,9 @@ public class ProgramApplicationController {
         }
 
         try {
-            // 프로그램 정보 조회
+            // 프로그램 정보 조회 (없으면 응답 전에 오류 반환)
             Program program = programService.getProgram(programId);
 
-            // 신청 내역 조회
-            List<ProgramApplication> applications = applicationService.getProgramApplications(programId);
-
-            // Excel 파일 생성
-            ByteArrayInputStream excelFile = excelService.generateApplicationsExcel(applications, program.getTitle());
-
             // 파일명 생성 (한글 인코딩 처리)
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
             String fileName = String.format("%s_신청자목록_%s.xlsx", program.getTitle(), timestamp);
@@ -252,11 +369,15 @@ public class ProgramApplicationController {
             headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFileName);
             headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
 
-            log.info("Excel 다운로드 성공: 프로그램 ID {}, 신청 수 {}", programId, applications.size());
+            // Excel 파일을 응답 스트림에 바로 기록 (파일 전체를 메모리에 만들지 않음)
+            StreamingResponseBody body = out -> {
+                int count = applicationService.exportProgramApplications(programId, out);
+                log.info("Excel 다운로드 성공: 프로그램 ID {}, 신청 수 {}", programId, count);
+            };
 
             return ResponseEntity.ok()
                     .headers(headers)
-                    .body(new InputStreamResource(excelFile));
+                    .body(body);
 
         } catch (Exception e) {
             log.error("Excel 다운로드 실패: ", e);
@@ -397,6 +518,137 @@ public class ProgramApplicationController {
         }
     }
 
+    /**
+     * 신청 일괄 승인 (관리자용)
+     * POST /api/programs/{programId}/applications/bulk-approve
+     */
+    @PostMapping("/{programId}/applications/bulk-approve")
+    public ResponseEntity<?> bulkApproveApplications(
+            @PathVariable Integer programId,
+            @RequestBody ApplicationBulkRequest request,
+            HttpSession session) {
+
+        // 관리자 확인
+        Boolean isAdmin = (Boolean) session.getAttribute("isAdmin");
+        if (isAdmin == null || !isAdmin) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자 권한이 필요합니다."));
+        }
+
+        try {
+            ApplicationBulkResult result = applicationService.bulkApprove(programId, request.getApplicationIds());
+
+            log.info("신청 일괄 승인 성공: 프로그램 ID {}, 성공 {}건, 실패 {}건",
+                    programId, result.getSuccessCount(), result.getFailedCount());
+
+            return ResponseEntity.ok(result);
+
+        } catch (IllegalArgumentException e) {
+            log.error("신청 일괄 승인 실패 (잘못된 요청): {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+
+        } catch (IllegalStateException e) {
+            log.error("신청 일괄 승인 실패 (상태 오류): {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", e.getMessage()));
+
+        } catch (Exception e) {
+            log.error("신청 일괄 승인 실패 (서버 오류): ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "서버 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 신청 일괄 거부 (관리자용)
+     * POST /api/programs/{programId}/applications/bulk-reject
+     */
+    @PostMapping("/{programId}/applications/bulk-reject")
+    public ResponseEntity<?> bulkRejectApplications(
+            @PathVariable Integer programId,
+            @RequestBody ApplicationBulkRequest request,
+            HttpSession session) {
+
+        // 관리자 확인
+        Boolean isAdmin = (Boolean) session.getAttribute("isAdmin");
+        if (isAdmin == null || !isAdmin) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자 권한이 필요합니다."));
+        }
+
+        try {
+            String reason = request.getReason();
+            if (reason == null || reason.trim().isEmpty()) {
+                reason = "관리자에 의해 거부됨";
+            }
+
+            ApplicationBulkResult result = applicationService.bulkReject(programId, request.getApplicationIds(), reason);
+
+            log.info("신청 일괄 거부 성공: 프로그램 ID {}, 성공 {}건, 실패 {}건",
+                    programId, result.getSuccessCount(), result.getFailedCount());
+
+            return ResponseEntity.ok(result);
+
+        } catch (IllegalArgumentException e) {
+            log.error("신청 일괄 거부 실패 (잘못된 요청): {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+
+        } catch (IllegalStateException e) {
+            log.error("신청 일괄 거부 실패 (상태 오류): {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", e.getMessage()));
+
+        } catch (Exception e) {
+            log.error("신청 일괄 거부 실패 (서버 오류): ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "서버 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 신청 일괄 완료 처리 (관리자용)
+     * POST /api/programs/{programId}/applications/bulk-complete
+     */
+    @PostMapping("/{programId}/applications/bulk-complete")
+    public ResponseEntity<?> bulkCompleteApplications(
+            @PathVariable Integer programId,
+            @RequestBody ApplicationBulkRequest request,
+            HttpSession session) {
+
+        // 관리자 확인
+        Boolean isAdmin = (Boolean) session.getAttribute("isAdmin");
+        if (isAdmin == null || !isAdmin) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자 권한이 필요합니다."));
+        }
+
+        try {
+            ApplicationBulkResult result = applicationService.bulkComplete(programId, request.getApplicationIds());
+
+            log.info("신청 일괄 완료 처리 성공: 프로그램 ID {}, 성공 {}건, 실패 {}건",
+                    programId, result.getSuccessCount(), result.getFailedCount());
+
+            return ResponseEntity.ok(result);
+
+        } catch (IllegalArgumentException e) {
+            log.error("신청 일괄 완료 처리 실패 (잘못된 요청): {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+
+        } catch (IllegalStateException e) {
+            log.error("신청 일괄 완료 처리 실패 (상태 오류): {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", e.getMessage()));
+
+        } catch (Exception e) {
+            log.error("신청 일괄 완료 처리 실패 (서버 오류): ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "서버 오류가 발생했습니다."));
+        }
+    }
+
     /**
      * 프로그램별 신청 통계 조회 (관리자용)
      */
@@ -419,6 +671,9 @@ public class ProgramApplicationController {
             long pendingCount = applications.stream()
                     .filter(app -> app.getStatus() == com.scms.app.model.ApplicationStatus.PENDING)
                     .count();
+            long waitlistedCount = applications.stream()
+                    .filter(app -> app.getStatus() == com.scms.app.model.ApplicationStatus.WAITLISTED)
+                    .count();
             long approvedCount = applications.stream()
                     .filter(app -> app.getStatus() == com.scms.app.model.ApplicationStatus.APPROVED)
                     .count();
@@ -435,6 +690,7 @@ public class ProgramApplicationController {
             Map<String, Object> stats = new HashMap<>();
             stats.put("total", applications.size());
             stats.put("pending", pendingCount);
+            stats.put("waitlisted", waitlistedCount);
             stats.put("approved", approvedCount);
             stats.put("rejected", rejectedCount);
             stats.put("cancelled", cancelledCount);
@@ -0,0 +1,128 @@
+package com.scms.app.controller;
+
+import com.scms.app.dto.CursorPage;
+import com.scms.app.dto.ProgramCatalogItem;
+import com.scms.app.dto.ProgramFacetCounts;
+import com.scms.app.model.ProgramStatus;
+import com.scms.app.service.ProgramCatalogService;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공개 프로그램 목록 REST API Controller (카탈로그 캐시)
+ */
+@RestController
+@RequestMapping("/api/programs")
+@RequiredArgsConstructor
+@Slf4j
+public class ProgramCatalogController {
+
+    private final ProgramCatalogService catalogService;
+
+    /**
+     * 프로그램 목록 조회 (최신순, 커서 기반)
+     * 다음 페이지는 응답의 nextCursor를 ?cursor= 로 넘겨 조회
+     */
+    @GetMapping
+    public ResponseEntity<?> getPrograms(
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String college,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        try {
+            CursorPage<ProgramCatalogItem> page =
+                    catalogService.getProgramsByCursor(department, college, category, cursor, size);
+            return ResponseEntity.ok(page);
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+
+        } catch (Exception e) {
+            log.error("프로그램 목록 조회 실패: ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "서버 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 프로그램 검색 (제목/설명/내용/카테고리/학과, 관련도순)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchPrograms(
+            @RequestParam String q,
+            @RequestParam(required = false) String college,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) ProgramStatus status,
+            @RequestParam(defaultValue = "false") boolean openNow,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "12") int size) {
+
+        if (page < 0 || size < 1 || size > CursorPage.MAX_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "잘못된 페이지 요청입니다."));
+        }
+
+        try {
+            Page<ProgramCatalogItem> result = catalogService.searchPrograms(
+                    q, college, department, category, status, openNow, page, size);
+            return ResponseEntity.ok(Map.of(
+                    "items", result.getContent(),
+                    "totalItems", result.getTotalElements(),
+                    "totalPages", result.getTotalPages(),
+                    "page", page));
+
+        } catch (Exception e) {
+            log.error("프로그램 검색 실패: ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "서버 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 필터(행정부서/단과대학/카테고리)별 프로그램 수 조회
+     * 각 필터의 개수는 나머지 선택 필터를 적용한 결과
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<ProgramFacetCounts> getFacetCounts(
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String college,
+            @RequestParam(required = false) String category) {
+        return ResponseEntity.ok(catalogService.getFacetCounts(department, college, category));
+    }
+
+    /**
+     * 인기 프로그램 조회 (조회수 기준 상위 8개)
+     */
+    @GetMapping("/popular")
+    public ResponseEntity<List<ProgramCatalogItem>> getPopularPrograms() {
+        return ResponseEntity.ok(catalogService.getPopularPrograms());
+    }
+
+    /**
+     * 프로그램 카탈로그 캐시 지표 조회 (관리자용, 현재 서버 기준)
+     */
+    @GetMapping("/catalog-cache/stats")
+    public ResponseEntity<?> getCatalogCacheStats(HttpSession session) {
+
+        // 관리자 확인
+        Boolean isAdmin = (Boolean) session.getAttribute("isAdmin");
+        if (isAdmin == null || !isAdmin) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자 권한이 필요합니다."));
+        }
+
+        return ResponseEntity.ok(catalogService.getStats());
+    }
+}
@@ -1,6 +1,7 @@
 package com.scms.app.controller;
 
 import com.scms.app.dto.*;
+import com.scms.app.service.SurveyExportService;
 import com.scms.app.service.SurveyResponseService;
 import com.scms.app.service.SurveyService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,10 +10,17 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -250,6 +258,127 @@ public class SurveyController {
         }
     }
 
+    /**
+     * 설문 분석 (관리자용)
+     * 학과/학년/프로그램 참여 여부로 응답자를 거른 분포, questionId 지정 시 학과/학년별 교차표
+     */
+    @GetMapping("/{surveyId}/analytics")
+    public ResponseEntity<?> getSurveyAnalytics(@PathVariable Long surveyId,
+                                                @RequestParam(required = false) Long questionId,
+                                                @RequestParam(required = false) String by,
+                                                @RequestParam(required = false) String department,
+                                                @RequestParam(required = false) String grade,
+                                                @RequestParam(required = false) Integer programId,
+                                                HttpSession session) {
+        try {
+            Boolean isAdmin = (Boolean) session.getAttribute("isAdmin");
+            if (isAdmin == null || !isAdmin) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(createErrorResponse("통계 조회 권한이 없습니다"));
+            }
+
+            SurveyAnalyticsResponse analytics = surveyResponseService.getSurveyAnalytics(
+                    surveyId, questionId, by, department, grade, programId);
+            return ResponseEntity.ok(createSuccessResponse("설문 분석 조회 성공", analytics));
+        } catch (Exception e) {
+            log.error("설문 분석 조회 실패", e);
+            return ResponseEntity.badRequest()
+                    .body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * 설문 응답 원본 다운로드 (관리자용, format=csv|xlsx)
+     */
+    @GetMapping("/{surveyId}/responses/export")
+    public ResponseEntity<?> exportSurveyResponses(@PathVariable Long surveyId,
+                                                   @RequestParam(required = false) String format,
+                                                   HttpSession session) {
+        try {
+            Boolean isAdmin = (Boolean) session.getAttribute("isAdmin");
+            if (isAdmin == null || !isAdmin) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(createErrorResponse("관리자 권한이 필요합니다"));
+            }
+
+            // 형식/설문 확인 (잘못되었으면 응답 전에 오류 반환)
+            SurveyExportService.Format exportFormat = SurveyExportService.Format.from(format);
+            String title = surveyResponseService.getSurveyTitle(surveyId);
+
+            // 파일명 생성 (한글 인코딩 처리)
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+            String fileName = String.format("%s_응답_%s.%s", title, timestamp, exportFormat.name().toLowerCase());
+            String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8).replaceAll("\\+", "%20");
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFileName);
+            headers.setContentType(exportFormat == SurveyExportService.Format.CSV
+                    ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                    : MediaType.APPLICATION_OCTET_STREAM);
+
+            // 응답 스트림에 바로 기록 (파일 전체를 메모리에 만들지 않음)
+            StreamingResponseBody body = out -> {
+                int count = surveyResponseService.exportSurveyResponses(surveyId, exportFormat, out);
+                log.info("설문 응답 다운로드 성공: 설문 ID {}, 응답 수 {}", surveyId, count);
+            };
+
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .body(body);
+        } catch (Exception e) {
+            log.error("설문 응답 다운로드 실패", e);
+            return ResponseEntity.badRequest()
+                    .body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * 주관식 답변 페이지 조회 (관리자용, 최신순)
+     */
+    @GetMapping("/{surveyId}/questions/{questionId}/text-answers")
+    public ResponseEntity<?> getTextAnswers(@PathVariable Long surveyId,
+                                            @PathVariable Long questionId,
+                                            @RequestParam(required = false) String cursor,
+                                            @RequestParam(required = false) Integer size,
+                                            HttpSession session) {
+        try {
+            Boolean isAdmin = (Boolean) session.getAttribute("isAdmin");
+            if (isAdmin == null || !isAdmin) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(createErrorResponse("통계 조회 권한이 없습니다"));
+            }
+
+            CursorPage<String> page = surveyResponseService.getTextAnswerPage(surveyId, questionId, cursor, size);
+            return ResponseEntity.ok(createSuccessResponse("주관식 답변 조회 성공", page));
+        } catch (Exception e) {
+            log.error("주관식 답변 조회 실패", e);
+            return ResponseEntity.badRequest()
+                    .body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * 설문 통계 재집계 (관리자용, 원본 답변으로부터 다시 계산)
+     */
+    @PostMapping("/{surveyId}/statistics/rebuild")
+    public ResponseEntity<?> rebuildStatistics(@PathVariable Long surveyId,
+                                               HttpSession session) {
+        try {
+            Boolean isAdmin = (Boolean) session.getAttribute("isAdmin");
+            if (isAdmin == null || !isAdmin) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(createErrorResponse("관리자 권한이 필요합니다"));
+            }
+
+            int rows = surveyResponseService.rebuildStatistics(surveyId);
+            return ResponseEntity.ok(createSuccessResponse("통계가 재집계되었습니다", Map.of("rows", rows)));
+        } catch (Exception e) {
+            log.error("통계 재집계 실패", e);
+            return ResponseEntity.badRequest()
+                    .body(createErrorResponse(e.getMessage()));
+        }
+    }
+
     /**
      * 사용자의 응답 내역 조회
      */
@@ -0,0 +1,21 @@
+package com.scms.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 프로그램 신청 일괄 처리 요청 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationBulkRequest {
+
+    private List<Integer> applicationIds;
+    private String reason;          // 일괄 거부 시 사유 (생략 시 기본 사유)
+}
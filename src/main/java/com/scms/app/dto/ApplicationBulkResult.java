@@ -0,0 +1,38 @@
+package com.scms.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 프로그램 신청 일괄 처리 결과 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationBulkResult {
+
+    private Integer totalCount;
+    private Integer successCount;
+    private Integer failedCount;
+    private Integer notificationCount;
+    private Integer mileageAwardedCount;   // 일괄 완료 시에만 사용
+
+    private List<RowResult> rows;   // 요청 순서와 동일 (중복 ID 제외)
+
+    /**
+     * 항목별 처리 결과
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowResult {
+        private Integer applicationId;
+        private String status;      // APPROVED, REJECTED, COMPLETED, NOT_FOUND, INVALID_STATUS
+        private String message;
+    }
+}
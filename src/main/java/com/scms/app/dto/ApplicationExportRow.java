@@ -0,0 +1,30 @@
+package com.scms.app.dto;
+
+import com.scms.app.model.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 신청자 목록 Excel 내보내기 행 (JPQL 생성자 조회용, 영속성 컨텍스트에 쌓이지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class ApplicationExportRow {
+
+    private Integer applicationId;
+    private Integer studentNum;
+    private String name;
+    private String phone;
+    private String email;
+    private String department;
+    private Integer grade;
+    private ApplicationStatus status;
+    private LocalDateTime appliedAt;
+    private LocalDateTime approvedAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime rejectedAt;
+    private LocalDateTime cancelledAt;
+    private String rejectionReason;
+}
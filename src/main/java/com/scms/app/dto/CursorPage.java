@@ -0,0 +1,57 @@
+package com.scms.app.dto;
+
+import com.scms.app.util.KeysetCursor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 페이지 응답 DTO
+ * - 다음 페이지는 nextCursor를 ?cursor= 로 넘겨 조회
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPage<T> {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private List<T> items;
+    private String nextCursor;   // 마지막 페이지면 null
+    private boolean hasNext;
+
+    /**
+     * 페이지 크기보다 1개 더 조회한 결과로 페이지 생성
+     * 초과분이 있으면 다음 페이지가 있는 것으로 보고 마지막 항목으로 커서를 만듦
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, KeysetCursor> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> items = hasNext ? List.copyOf(fetched.subList(0, size)) : List.copyOf(fetched);
+        String nextCursor = hasNext ? cursorOf.apply(items.get(items.size() - 1)).encode() : null;
+        return new CursorPage<>(items, nextCursor, hasNext);
+    }
+
+    /**
+     * 항목 변환 (Entity -> 응답 DTO)
+     */
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = items.stream().<R>map(mapper).toList();
+        return new CursorPage<>(mapped, nextCursor, hasNext);
+    }
+
+    /**
+     * 요청 페이지 크기 보정 (없으면 기본값, 최대 100)
+     */
+    public static int normalizeSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+}
@@ -0,0 +1,40 @@
+package com.scms.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이메일 발송 대기열 지표 DTO
+ * - 대기열 깊이는 DB 기준(전체 서버), 발송 건수/지연 시간은 현재 서버 기동 이후 누적
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailOutboxStats {
+
+    // 대기열 깊이
+    private Long pending;
+    private Long sending;
+    private Long sent;
+    private Long dead;
+    private Long oldestPendingSeconds;   // 가장 오래 기다린 대기 메일의 대기 시간
+
+    // 작업자
+    private Integer workers;
+    private Integer activeBatches;
+
+    // 누적 발송 결과 (현재 서버)
+    private Long sentTotal;
+    private Long retriedTotal;
+    private Long deadLetteredTotal;
+
+    // 지연 시간 (현재 서버)
+    private Long smtpBatches;
+    private Double avgSmtpBatchMs;      // SMTP 연결 1회(묶음 발송) 평균 소요 시간
+    private Long maxSmtpBatchMs;
+    private Double avgDeliveryMs;       // 대기열 저장부터 발송 완료까지 평균 시간
+    private Long maxDeliveryMs;
+}
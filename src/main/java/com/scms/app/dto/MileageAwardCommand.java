@@ -0,0 +1,23 @@
+package com.scms.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 마일리지 일괄 지급 요청 항목 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MileageAwardCommand {
+
+    private Integer userId;
+    private String activityType;   // 생략 시 MANUAL
+    private Long activityId;       // 지정 시 같은 활동에 대한 중복 지급 방지
+    private String activityName;
+    private Integer points;        // 양수: 지급, 음수: 차감
+    private String description;
+}
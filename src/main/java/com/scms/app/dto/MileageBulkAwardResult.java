@@ -0,0 +1,39 @@
+package com.scms.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 마일리지 일괄 지급 결과 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MileageBulkAwardResult {
+
+    private Integer totalCount;
+    private Integer awardedCount;
+    private Integer duplicateCount;
+    private Integer failedCount;
+    private Long awardedPoints;
+
+    private List<RowResult> rows;   // 요청 순서와 동일
+
+    /**
+     * 항목별 처리 결과
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowResult {
+        private Integer index;
+        private Integer userId;
+        private String status;      // AWARDED, DUPLICATE, USER_NOT_FOUND, INVALID
+        private String message;
+    }
+}
@@ -0,0 +1,31 @@
+package com.scms.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 마일리지 잔액 정합성 검사 결과 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MileageReconcileReport {
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    private Integer chunks;             // 처리한 청크 수
+    private Integer checkedUsers;       // 검사한 사용자 수
+    private Integer driftedUsers;       // 불일치가 발견된 사용자 수
+    private Integer driftedBuckets;     // 불일치가 발견된 버킷 수
+    private Long totalDriftPoints;      // 총 잔액 불일치 (절댓값 합)
+    private Integer removedOrphans;     // 원장에 없는 요약 행 삭제 수
+
+    private List<Integer> sampleDriftedUserIds; // 불일치 사용자 예시 (최대 20명)
+}
@@ -0,0 +1,28 @@
+package com.scms.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오래된 알림 정리 결과 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationPurgeReport {
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Long elapsedMs;
+
+    private Integer chunks;          // 처리한 청크(트랜잭션) 수
+    private Integer softDeleted;     // 보존 기간이 지나 Soft Delete된 알림 수
+    private Integer archived;        // 보관 테이블로 이동한 알림 수
+    private Integer hardDeleted;     // 영구 삭제된 알림 수
+    private Boolean completed;       // 시간 제한 없이 끝까지 처리했는지 여부
+}
@@ -0,0 +1,37 @@
+package com.scms.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로그램 카탈로그 캐시 지표 DTO (현재 서버 기동 이후 누적)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProgramCatalogCacheStats {
+
+    // 크기
+    private Integer entries;            // 캐시된 목록/페이지 수
+    private Integer maxEntries;
+    private Long ttlSeconds;
+    private Integer cachedPrograms;     // 캐시된 프로그램 항목 수
+
+    // 적중률
+    private Long hitCount;
+    private Long missCount;
+    private Double hitRatio;
+
+    // 적재 (DB 조회)
+    private Long loadCount;
+    private Long loadFailureCount;
+    private Double avgLoadMs;
+    private Long evictionCount;
+
+    // 변경 반영
+    private Long invalidationCount;     // 프로그램 등록/수정/삭제로 인한 전체 무효화
+    private Long participantPatchCount; // 전체 재적재 없이 반영한 참가자 수 변경
+}
@@ -0,0 +1,95 @@
+package com.scms.app.dto;
+
+import com.scms.app.model.Program;
+import com.scms.app.model.ProgramStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 프로그램 목록(카탈로그) 항목 DTO
+ * - 카탈로그 캐시에 보관되어 여러 요청이 함께 읽으므로 변경할 수 없는 객체로 유지
+ * - 참가자 수가 바뀌면 withParticipantDelta로 새 객체를 만들어 교체
+ * - 목록 화면(index, programs)이 사용하는 속성 이름은 Program 엔티티와 동일
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProgramCatalogItem {
+
+    private final Integer programId;
+    private final String title;
+    private final String content;
+    private final String department;
+    private final String college;
+    private final String category;
+    private final String subCategory;
+    private final LocalDateTime applicationStartDate;
+    private final LocalDateTime applicationEndDate;
+    private final Integer maxParticipants;
+    private final int currentParticipants;
+    private final String thumbnailUrl;
+    private final int hits;
+    private final ProgramStatus status;
+    private final LocalDateTime createdAt;
+
+    /**
+     * Entity를 DTO로 변환
+     */
+    public static ProgramCatalogItem from(Program program) {
+        return ProgramCatalogItem.builder()
+                .programId(program.getProgramId())
+                .title(program.getTitle())
+                .content(program.getContent())
+                .department(program.getDepartment())
+                .college(program.getCollege())
+                .category(program.getCategory())
+                .subCategory(program.getSubCategory())
+                .applicationStartDate(program.getApplicationStartDate())
+                .applicationEndDate(program.getApplicationEndDate())
+                .maxParticipants(program.getMaxParticipants())
+                .currentParticipants(program.getCurrentParticipants() != null ? program.getCurrentParticipants() : 0)
+                .thumbnailUrl(program.getThumbnailUrl())
+                .hits(program.getHits() != null ? program.getHits() : 0)
+                .status(program.getStatus())
+                .createdAt(program.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * 참가자 수 증감을 반영한 새 항목
+     * 상태 전환은 좌석 확보/반납 UPDATE와 동일 (ProgramStatus.afterParticipantDelta)
+     */
+    public ProgramCatalogItem withParticipantDelta(int delta) {
+        int participants = Math.max(0, currentParticipants + delta);
+        return toBuilder()
+                .currentParticipants(participants)
+                .status(status != null ? status.afterParticipantDelta(participants, maxParticipants, delta) : null)
+                .build();
+    }
+
+    /**
+     * D-day 계산 (신청 종료일 기준, 조회 시점에 계산)
+     */
+    public Long getDDay() {
+        LocalDateTime now = LocalDateTime.now();
+        if (now.isAfter(applicationEndDate)) {
+            return null;
+        }
+        return Duration.between(now, applicationEndDate).toDays();
+    }
+
+    /**
+     * 참가율 계산 (%)
+     */
+    public Integer getParticipationRate() {
+        if (maxParticipants == null || maxParticipants == 0) {
+            return 0;
+        }
+        return (currentParticipants * 100) / maxParticipants;
+    }
+}
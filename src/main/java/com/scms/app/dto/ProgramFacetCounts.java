@@ -0,0 +1,36 @@
+package com.scms.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 프로그램 목록 필터(패싯)별 개수 DTO
+ * 각 패싯의 개수는 그 패싯을 제외한 나머지 선택 필터를 적용한 결과
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProgramFacetCounts {
+
+    private Integer total;                              // 선택한 필터를 모두 적용한 프로그램 수
+    private Map<String, Integer> facetTotals;           // 패싯 -> "전체" 선택 시 프로그램 수
+    private Map<String, Map<String, Integer>> counts;   // 패싯 -> (값 -> 프로그램 수)
+
+    /**
+     * 필터 메뉴 항목의 프로그램 수 (화면에서 th:text로 출력)
+     *
+     * @param value 필터 값 (null 또는 빈 문자열이면 "전체" 항목)
+     */
+    public int countOf(String facet, String value) {
+        if (value == null || value.isEmpty()) {
+            return facetTotals != null ? facetTotals.getOrDefault(facet, 0) : 0;
+        }
+        Map<String, Integer> valueCounts = counts != null ? counts.get(facet) : null;
+        return valueCounts != null ? valueCounts.getOrDefault(value, 0) : 0;
+    }
+}
@@ -25,10 +25,12 @@ public class QuestionStatisticsResponse {
 
     // 척도형 통계
     private Double averageScale;      // 평균 점수
+    private Double scaleStdDev;       // 표준편차
     private Map<Integer, Long> scaleDistribution;  // 척도별 분포
 
     // 주관식 응답 목록
-    private List<String> textAnswers;
+    private List<String> textAnswers;          // 최신순 첫 페이지
+    private String textAnswersNextCursor;      // 다음 페이지 커서 (없으면 null)
 
     @Data
     @Builder
@@ -0,0 +1,42 @@
+package com.scms.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SurveyAnalyticsResponse {
+
+    private Long surveyId;
+    private String title;
+    private Long totalResponses;      // 전체 응답 수
+    private Long filteredResponses;   // 필터 적용 후 응답 수
+    private Map<String, String> filters;  // 적용된 필터 (department, grade, programId)
+
+    // 필터 적용 후 질문별 분포 (객관식/척도형만)
+    private List<QuestionStatisticsResponse> questionStatistics;
+
+    // 교차표 (questionId와 by를 지정한 경우)
+    private CrossTab crossTab;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CrossTab {
+        private Long questionId;
+        private String by;                  // 행 기준 속성 (department, grade)
+        private List<String> rowLabels;     // 속성 값
+        private List<String> columnLabels;  // 선택지 내용 또는 척도 값
+        private List<List<Long>> counts;    // [행][열] 응답 수
+        private List<Long> rowTotals;       // 행별 합계 (복수선택은 선택 수)
+        private List<Double> rowMeans;      // 행별 평균 (척도형만)
+    }
+}
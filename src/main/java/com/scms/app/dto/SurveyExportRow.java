@@ -0,0 +1,27 @@
+package com.scms.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 설문 응답 내보내기 행 (응답 한 건, 질문별 답변을 설문 질문 순서대로 보관)
+ * - 익명 설문이면 응답자 정보는 모두 null
+ */
+@Getter
+@AllArgsConstructor
+public class SurveyExportRow {
+
+    private Long responseId;
+    private LocalDateTime submittedAt;
+    private Integer studentNum;
+    private String name;
+    private String department;
+    private Integer grade;
+    private Object[] answers;  // 질문 순번 -> 답변 (척도형은 Integer, 나머지는 문자열)
+
+    public Object getAnswer(int index) {
+        return answers[index];
+    }
+}
@@ -0,0 +1,29 @@
+package com.scms.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로그램 신청 대기실 지표 DTO (현재 서버 기준)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WaitingRoomStats {
+
+    private Integer programId;
+    private Integer admissionPerSecond;
+    private Integer maxQueueSize;
+
+    private Integer queueDepth;         // 현재 대기 인원
+    private Long enteredTotal;          // 대기열 진입 수
+    private Long rejectedTotal;         // 대기열이 가득 차 거절된 수
+    private Long admittedTotal;         // 신청 처리로 넘어간 수
+    private Long succeededTotal;        // 신청 성공 수
+    private Long failedTotal;           // 신청 실패 수 (정원 마감 포함)
+    private Double avgWaitMs;           // 대기열 진입부터 처리 시작까지 평균 시간
+    private Long maxWaitMs;
+}
@@ -0,0 +1,26 @@
+package com.scms.app.dto;
+
+import com.scms.app.model.WaitingTicketStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 신청 대기표 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WaitingTicketResponse {
+
+    private String ticketId;
+    private Integer programId;
+    private WaitingTicketStatus status;
+    private String statusDescription;
+    private Long position;              // 대기 순번 (WAITING일 때만, 1이면 다음 차례)
+    private Long estimatedWaitSeconds;  // 예상 대기 시간
+    private Integer applicationId;      // 신청 완료 시 신청 ID
+    private String message;             // 신청 실패 사유
+}
@@ -5,6 +5,7 @@ package com.scms.app.model;
  */
 public enum ApplicationStatus {
     PENDING("대기"),           // 신청 대기
+    WAITLISTED("대기자"),      // 정원 마감으로 대기자 명단에 등록
     APPROVED("승인"),          // 신청 승인
     REJECTED("거부"),          // 신청 거부
     CANCELLED("취소"),         // 신청 취소
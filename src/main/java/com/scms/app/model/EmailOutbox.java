@@ -0,0 +1,79 @@
+package com.scms.app.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이메일 발송 대기열(outbox) 엔티티
+ * - 업무 트랜잭션 안에서 저장되고, 커밋된 행만 발송 작업자가 가져가 SMTP로 전송
+ * - 템플릿 이름과 변수만 저장하고 HTML은 발송 시점에 렌더링
+ */
+@Entity
+@Table(name = "email_outbox",
+       indexes = {
+           @Index(name = "idx_outbox_status_next", columnList = "status, next_attempt_at"),
+           @Index(name = "idx_outbox_claim_token", columnList = "claim_token")
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long outboxId;
+
+    @Column(name = "to_email", nullable = false, length = 255)
+    private String toEmail;
+
+    @Column(nullable = false, length = 255)
+    private String subject;
+
+    @Column(name = "template_name", nullable = false, length = 100)
+    private String templateName;
+
+    @Column(name = "template_variables", columnDefinition = "TEXT")
+    private String templateVariables; // JSON (발송 완료 후 삭제)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private EmailOutboxStatus status = EmailOutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken; // 발송 작업자가 가져간 묶음 식별자
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil; // 이 시각까지 결과가 없으면 다시 대기 상태로 복구
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        if (this.nextAttemptAt == null) {
+            this.nextAttemptAt = this.createdAt;
+        }
+    }
+}
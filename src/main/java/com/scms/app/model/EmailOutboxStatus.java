@@ -0,0 +1,21 @@
+package com.scms.app.model;
+
+/**
+ * 이메일 발송 대기열 상태
+ */
+public enum EmailOutboxStatus {
+    PENDING("발송 대기"),
+    SENDING("발송 중"),
+    SENT("발송 완료"),
+    DEAD("발송 포기");
+
+    private final String description;
+
+    EmailOutboxStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
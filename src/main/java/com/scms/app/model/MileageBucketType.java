@@ -0,0 +1,19 @@
+package com.scms.app.model;
+
+/**
+ * 마일리지 잔액 버킷 구분
+ */
+public enum MileageBucketType {
+    ACTIVITY("활동 타입별"),   // bucketKey = 활동 타입 (PROGRAM, COUNSELING, ...)
+    MONTH("월별");             // bucketKey = 적립 연월 (yyyy-MM)
+
+    private final String description;
+
+    MileageBucketType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
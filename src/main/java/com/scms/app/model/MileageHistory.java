@@ -13,7 +13,10 @@ import java.time.LocalDateTime;
  * - 학생별 마일리지 지급/차감 이력 관리
  */
 @Entity
-@Table(name = "mileage_history")
+@Table(name = "mileage_history",
+       indexes = {
+           @Index(name = "idx_mileage_history_user_earned", columnList = "user_id, earned_at, history_id")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
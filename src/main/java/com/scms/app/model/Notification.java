@@ -12,7 +12,11 @@ import java.time.LocalDateTime;
  * 알림 엔티티
  */
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications",
+       uniqueConstraints = @UniqueConstraint(name = "uk_notification_dedup_key", columnNames = "dedup_key"),
+       indexes = {
+           @Index(name = "idx_notification_user_feed", columnList = "user_id, deleted_at, created_at, notification_id")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -53,6 +57,9 @@ public class Notification {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt; // Soft Delete
 
+    @Column(name = "dedup_key", length = 100)
+    private String dedupKey; // 예약 알림 중복 발송 방지 키 (타입:프로그램ID:사용자ID:발송일)
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -12,7 +12,14 @@ import java.time.LocalDateTime;
  * 비교과 프로그램 엔티티
  */
 @Entity
-@Table(name = "programs")
+@Table(name = "programs",
+       indexes = {
+           @Index(name = "idx_programs_latest", columnList = "deleted_at, created_at, program_id"),
+           @Index(name = "idx_programs_hits", columnList = "deleted_at, hits, program_id"),
+           @Index(name = "idx_programs_status_start", columnList = "status, application_start_date"),
+           @Index(name = "idx_programs_status_end", columnList = "status, application_end_date"),
+           @Index(name = "idx_programs_program_start", columnList = "program_start_date")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -60,18 +67,18 @@ public class Program {
     @Column(name = "max_participants")
     private Integer maxParticipants;
 
-    @Column(name = "current_participants", nullable = false)
-    private Integer currentParticipants = 0;
+    @Column(name = "current_participants", nullable = false, updatable = false)
+    private Integer currentParticipants = 0; // SeatReservationService가 조건부 UPDATE로만 변경
 
     @Column(name = "thumbnail_url", length = 500)
     private String thumbnailUrl;
 
-    @Column(name = "hits", nullable = false)
-    private Integer hits = 0;
+    @Column(name = "hits", nullable = false, updatable = false)
+    private Integer hits = 0; // ProgramHitCounter가 직접 누적 반영 (엔티티 저장 시 덮어쓰지 않음)
 
     @Enumerated(EnumType.STRING)
-    @Column(name = "status", length = 20, nullable = false)
-    private ProgramStatus status = ProgramStatus.SCHEDULED;
+    @Column(name = "status", length = 20, nullable = false, updatable = false)
+    private ProgramStatus status = ProgramStatus.SCHEDULED; // 생성 후에는 조건부 UPDATE(좌석/일정/관리자 변경)로만 변경
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -107,33 +114,6 @@ public class Program {
         return this.deletedAt != null;
     }
 
-    /**
-     * 조회수 증가
-     */
-    public void incrementHits() {
-        this.hits++;
-    }
-
-    /**
-     * 참가자수 증가
-     */
-    public boolean incrementParticipants() {
-        if (this.maxParticipants != null && this.currentParticipants >= this.maxParticipants) {
-            return false;
-        }
-        this.currentParticipants++;
-        return true;
-    }
-
-    /**
-     * 참가자수 감소
-     */
-    public void decrementParticipants() {
-        if (this.currentParticipants > 0) {
-            this.currentParticipants--;
-        }
-    }
-
     /**
      * 신청 가능 여부 확인
      */
@@ -146,6 +126,18 @@ public class Program {
             && !isDeleted();
     }
 
+    /**
+     * 대기자 등록 가능 여부 확인 (신청 기간 중 정원이 마감된 경우)
+     */
+    public boolean isWaitlistAvailable() {
+        LocalDateTime now = LocalDateTime.now();
+        return (status == ProgramStatus.OPEN || status == ProgramStatus.FULL)
+            && now.isAfter(applicationStartDate)
+            && now.isBefore(applicationEndDate)
+            && maxParticipants != null
+            && !isDeleted();
+    }
+
     /**
      * 신청 마감 여부 확인
      */
@@ -12,7 +12,12 @@ import java.time.LocalDateTime;
  * 프로그램 신청 엔티티
  */
 @Entity
-@Table(name = "program_applications")
+@Table(name = "program_applications",
+       indexes = {
+           @Index(name = "idx_application_waitlist", columnList = "program_id, status, waitlist_position"),
+           @Index(name = "idx_application_user_applied", columnList = "user_id, deleted_at, applied_at, application_id"),
+           @Index(name = "idx_application_program_applied", columnList = "program_id, deleted_at, applied_at, application_id")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -36,6 +41,12 @@ public class ProgramApplication {
     @Column(name = "status", length = 20, nullable = false)
     private ApplicationStatus status = ApplicationStatus.PENDING;
 
+    /**
+     * 대기자 순번 (작을수록 먼저 승격, 승격 후에도 기록으로 남김)
+     */
+    @Column(name = "waitlist_position")
+    private Long waitlistPosition;
+
     @Column(name = "applied_at", nullable = false, updatable = false)
     private LocalDateTime appliedAt;
 
@@ -94,6 +105,14 @@ public class ProgramApplication {
         return this.deletedAt != null;
     }
 
+    /**
+     * 대기자 명단에 등록
+     */
+    public void waitlist(long position) {
+        this.status = ApplicationStatus.WAITLISTED;
+        this.waitlistPosition = position;
+    }
+
     /**
      * 신청 승인
      */
@@ -131,7 +150,16 @@ public class ProgramApplication {
      * 취소 가능 여부 확인
      */
     public boolean isCancellable() {
-        return (status == ApplicationStatus.PENDING || status == ApplicationStatus.APPROVED)
+        return (status == ApplicationStatus.PENDING || status == ApplicationStatus.APPROVED
+                || status == ApplicationStatus.WAITLISTED)
                 && !isDeleted();
     }
+
+    /**
+     * 좌석(정원)을 차지하고 있는지 확인
+     * 대기자는 좌석 없이 순번만 가지고 있음
+     */
+    public boolean isHoldingSeat() {
+        return status == ApplicationStatus.PENDING || status == ApplicationStatus.APPROVED;
+    }
 }
@@ -18,4 +18,23 @@ public enum ProgramStatus {
     public String getDescription() {
         return description;
     }
+
+    /**
+     * 참가자 수 증감 후 상태 (ProgramRepository의 STATUS_AFTER_RESERVE/STATUS_AFTER_RELEASE와 같은 규칙)
+     * - 좌석 확보로 정원에 도달하면 OPEN -> FULL
+     * - 좌석 반납으로 정원 미만이 되면 FULL -> OPEN
+     *
+     * @param participants 증감 후 참가자 수
+     * @param maxParticipants 정원 (null이면 제한 없음)
+     * @param delta 증감 수 (양수: 확보, 음수: 반납)
+     */
+    public ProgramStatus afterParticipantDelta(int participants, Integer maxParticipants, int delta) {
+        if (delta > 0 && this == OPEN && maxParticipants != null && participants >= maxParticipants) {
+            return FULL;
+        }
+        if (delta < 0 && this == FULL && (maxParticipants == null || participants < maxParticipants)) {
+            return OPEN;
+        }
+        return this;
+    }
 }
@@ -0,0 +1,45 @@
+package com.scms.app.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로그램 신청 대기실 설정 엔티티
+ * - 인기 프로그램의 신청 요청을 대기열에 넣고 정해진 속도로만 처리하기 위한 설정
+ * - 각 서버가 주기적으로 읽어 적용 (처리 속도는 서버당 값)
+ */
+@Entity
+@Table(name = "program_waiting_rooms")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProgramWaitingRoom {
+
+    @Id
+    @Column(name = "program_id")
+    private Integer programId;
+
+    @Column(nullable = false)
+    private Boolean enabled;
+
+    @Column(name = "admission_per_second", nullable = false)
+    private Integer admissionPerSecond; // 초당 신청 처리 수 (서버당)
+
+    @Column(name = "max_queue_size", nullable = false)
+    private Integer maxQueueSize; // 대기열 최대 길이 (서버당)
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,42 @@
+package com.scms.app.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 분산 잠금 엔티티
+ * - 여러 서버 중 한 곳에서만 예약 작업을 실행하기 위한 임대(lease) 방식 잠금
+ * - 잠금을 새로 획득할 때마다 fencingToken이 증가하여, 임대가 만료된 이전 소유자의 갱신/완료를 거부
+ */
+@Entity
+@Table(name = "scheduler_locks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SchedulerLock {
+
+    @Id
+    @Column(name = "lock_name", length = 150)
+    private String lockName;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "fencing_token", nullable = false)
+    private Long fencingToken;
+
+    @Column(name = "last_completed_at")
+    private LocalDateTime lastCompletedAt;
+}
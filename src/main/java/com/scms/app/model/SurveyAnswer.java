@@ -8,7 +8,8 @@ import java.time.LocalDateTime;
  * 설문 답변 엔티티
  */
 @Entity
-@Table(name = "survey_answers")
+@Table(name = "survey_answers",
+       indexes = @Index(name = "idx_survey_answer_question_feed", columnList = "question_id, created_at, answer_id"))
 @Getter
 @Setter
 @NoArgsConstructor
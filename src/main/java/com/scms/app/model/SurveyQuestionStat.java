@@ -0,0 +1,63 @@
+package com.scms.app.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 설문 질문별 집계 엔티티
+ * - 응답 제출 시 답변과 같은 트랜잭션에서 가산하여 통계 화면이 원본 답변을 집계하지 않도록 함
+ * - TOTAL: 답변 수, 척도 합계/제곱합 (평균, 표준편차 계산용)
+ * - OPTION: 선택지별 답변 수, SCALE: 척도 값별 답변 수
+ */
+@Entity
+@Table(name = "survey_question_stats",
+       uniqueConstraints = @UniqueConstraint(name = "uk_survey_question_stat",
+               columnNames = {"question_id", "bucket_type", "bucket_key"}),
+       indexes = @Index(name = "idx_survey_question_stat_survey", columnList = "survey_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SurveyQuestionStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "stat_id")
+    private Long statId;
+
+    @Column(name = "survey_id", nullable = false)
+    private Long surveyId;
+
+    @Column(name = "question_id", nullable = false)
+    private Long questionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "bucket_type", nullable = false, length = 20)
+    private SurveyStatBucketType bucketType;
+
+    @Column(name = "bucket_key", nullable = false)
+    private Long bucketKey;
+
+    @Column(name = "answer_count", nullable = false)
+    private Long answerCount;
+
+    @Column(name = "value_sum", nullable = false)
+    private Long valueSum;
+
+    @Column(name = "value_sum_sq", nullable = false)
+    private Long valueSumSq;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
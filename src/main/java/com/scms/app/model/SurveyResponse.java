@@ -8,7 +8,8 @@ import java.time.LocalDateTime;
  * 설문 응답 엔티티
  */
 @Entity
-@Table(name = "survey_responses")
+@Table(name = "survey_responses",
+       indexes = @Index(name = "idx_survey_response_survey_user", columnList = "survey_id, user_id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,20 @@
+package com.scms.app.model;
+
+/**
+ * 설문 질문 집계 버킷 구분
+ */
+public enum SurveyStatBucketType {
+    TOTAL("질문 전체"),      // bucketKey = 0, 답변 수와 척도 합계/제곱합
+    OPTION("선택지별"),      // bucketKey = 선택지 ID
+    SCALE("척도 값별");      // bucketKey = 척도 값 (분포)
+
+    private final String description;
+
+    SurveyStatBucketType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,40 @@
+package com.scms.app.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 마일리지 잔액 엔티티
+ * - mileage_history(원장)의 사용자별 합계를 미리 집계해 둔 요약 테이블
+ * - 마일리지 지급/차감과 같은 트랜잭션에서 갱신됨
+ */
+@Entity
+@Table(name = "user_mileage_balance")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserMileageBalance {
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Column(name = "total_points", nullable = false)
+    @Builder.Default
+    private Long totalPoints = 0L;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,55 @@
+package com.scms.app.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 마일리지 잔액 버킷 엔티티
+ * - user_mileage_balance의 세부 집계 (활동 타입별 / 월별 합계와 건수)
+ * - 통계 화면이 원장 전체를 집계하지 않고 버킷 행만 읽도록 함
+ */
+@Entity
+@Table(name = "user_mileage_balance_bucket",
+       uniqueConstraints = @UniqueConstraint(name = "uk_user_bucket",
+               columnNames = {"user_id", "bucket_type", "bucket_key"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserMileageBalanceBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "bucket_id")
+    private Long bucketId;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "bucket_type", nullable = false, length = 20)
+    private MileageBucketType bucketType;
+
+    @Column(name = "bucket_key", nullable = false, length = 50)
+    private String bucketKey;
+
+    @Column(name = "total_points", nullable = false)
+    private Long totalPoints;
+
+    @Column(name = "entry_count", nullable = false)
+    private Long entryCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
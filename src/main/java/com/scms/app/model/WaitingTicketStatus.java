@@ -0,0 +1,25 @@
+package com.scms.app.model;
+
+/**
+ * 신청 대기표 상태
+ */
+public enum WaitingTicketStatus {
+    WAITING("대기 중"),
+    PROCESSING("신청 처리 중"),
+    SUCCEEDED("신청 완료"),
+    FAILED("신청 실패");
+
+    private final String description;
+
+    WaitingTicketStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
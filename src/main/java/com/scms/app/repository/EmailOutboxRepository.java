@@ -0,0 +1,127 @@
+package com.scms.app.repository;
+
+import com.scms.app.model.EmailOutbox;
+import com.scms.app.model.EmailOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 이메일 발송 대기열 Repository
+ */
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * 발송 시각이 된 대기 메일을 최대 limit건 선점
+     * 단일 UPDATE로 선점하므로 여러 서버가 동시에 실행해도 같은 메일을 가져가지 않음
+     */
+    @Modifying
+    @Query(value = "UPDATE email_outbox " +
+                   "SET status = 'SENDING', claim_token = :claimToken, locked_until = :lockedUntil " +
+                   "WHERE status = 'PENDING' AND next_attempt_at <= NOW() " +
+                   "ORDER BY next_attempt_at " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    int claimDue(@Param("claimToken") String claimToken,
+                 @Param("lockedUntil") LocalDateTime lockedUntil,
+                 @Param("limit") int limit);
+
+    /**
+     * 선점한 메일 조회
+     */
+    @Query("SELECT o FROM EmailOutbox o WHERE o.claimToken = :claimToken ORDER BY o.outboxId")
+    List<EmailOutbox> findByClaimToken(@Param("claimToken") String claimToken);
+
+    /**
+     * 발송 완료 처리 (템플릿 변수는 더 이상 필요 없으므로 삭제)
+     */
+    @Modifying
+    @Query("UPDATE EmailOutbox o " +
+           "SET o.status = com.scms.app.model.EmailOutboxStatus.SENT, " +
+           "o.sentAt = :sentAt, o.attempts = o.attempts + 1, " +
+           "o.templateVariables = NULL, o.claimToken = NULL, o.lockedUntil = NULL, o.lastError = NULL " +
+           "WHERE o.outboxId IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * 재시도 예약
+     */
+    @Modifying
+    @Query("UPDATE EmailOutbox o " +
+           "SET o.status = com.scms.app.model.EmailOutboxStatus.PENDING, " +
+           "o.attempts = o.attempts + 1, o.nextAttemptAt = :nextAttemptAt, o.lastError = :error, " +
+           "o.claimToken = NULL, o.lockedUntil = NULL " +
+           "WHERE o.outboxId = :id")
+    int markRetry(@Param("id") Long id,
+                  @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                  @Param("error") String error);
+
+    /**
+     * 발송 포기 (dead-letter)
+     */
+    @Modifying
+    @Query("UPDATE EmailOutbox o " +
+           "SET o.status = com.scms.app.model.EmailOutboxStatus.DEAD, " +
+           "o.attempts = o.attempts + 1, o.lastError = :error, " +
+           "o.claimToken = NULL, o.lockedUntil = NULL " +
+           "WHERE o.outboxId = :id")
+    int markDead(@Param("id") Long id, @Param("error") String error);
+
+    /**
+     * 선점 후 결과 없이 만료된 메일을 대기 상태로 복구 (발송 중 서버가 종료된 경우)
+     */
+    @Modifying
+    @Query("UPDATE EmailOutbox o " +
+           "SET o.status = com.scms.app.model.EmailOutboxStatus.PENDING, " +
+           "o.claimToken = NULL, o.lockedUntil = NULL " +
+           "WHERE o.status = com.scms.app.model.EmailOutboxStatus.SENDING " +
+           "AND o.lockedUntil < :now")
+    int releaseExpiredClaims(@Param("now") LocalDateTime now);
+
+    /**
+     * 발송 포기된 메일 재발송 요청 (관리자용)
+     */
+    @Modifying
+    @Query("UPDATE EmailOutbox o " +
+           "SET o.status = com.scms.app.model.EmailOutboxStatus.PENDING, " +
+           "o.attempts = 0, o.nextAttemptAt = CURRENT_TIMESTAMP, o.lastError = NULL " +
+           "WHERE o.outboxId = :id " +
+           "AND o.status = com.scms.app.model.EmailOutboxStatus.DEAD")
+    int requeueDead(@Param("id") Long id);
+
+    /**
+     * 상태별 메일 수
+     *
+     * @return List<[status, count]>
+     */
+    @Query("SELECT o.status, COUNT(o) FROM EmailOutbox o GROUP BY o.status")
+    List<Object[]> countByStatus();
+
+    /**
+     * 가장 오래 기다린 대기 메일의 생성 일시
+     */
+    @Query("SELECT MIN(o.createdAt) FROM EmailOutbox o " +
+           "WHERE o.status = com.scms.app.model.EmailOutboxStatus.PENDING")
+    LocalDateTime findOldestPendingCreatedAt();
+
+    /**
+     * 발송 포기된 메일 목록 (최근 순)
+     */
+    List<EmailOutbox> findTop100ByStatusOrderByOutboxIdDesc(EmailOutboxStatus status);
+
+    /**
+     * 보존 기간이 지난 발송 완료 메일 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM EmailOutbox o " +
+           "WHERE o.status = com.scms.app.model.EmailOutboxStatus.SENT " +
+           "AND o.sentAt < :cutoff")
+    int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,96 @@
+package com.scms.app.repository;
+
+import com.scms.app.dto.MileageAwardCommand;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 마일리지 일괄 처리 Repository (JDBC 배치)
+ * - mileage_history는 IDENTITY 키를 사용하므로 Hibernate가 INSERT를 배치로 묶지 못함
+ * - 대량 지급 시 원장과 잔액 요약을 JDBC 배치(rewriteBatchedStatements)로 기록
+ */
+@Repository
+@RequiredArgsConstructor
+public class MileageBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_HISTORY_SQL =
+            "INSERT INTO mileage_history " +
+            "(user_id, activity_type, activity_id, activity_name, points, description, awarded_by, earned_at, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String ADD_BALANCE_SQL =
+            "INSERT INTO user_mileage_balance (user_id, total_points, updated_at) VALUES (?, ?, NOW()) " +
+            "ON DUPLICATE KEY UPDATE total_points = total_points + VALUES(total_points), updated_at = NOW()";
+
+    private static final String ADD_BUCKET_SQL =
+            "INSERT INTO user_mileage_balance_bucket " +
+            "(user_id, bucket_type, bucket_key, total_points, entry_count, updated_at) VALUES (?, ?, ?, ?, ?, NOW()) " +
+            "ON DUPLICATE KEY UPDATE total_points = total_points + VALUES(total_points), " +
+            "entry_count = entry_count + VALUES(entry_count), updated_at = NOW()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 마일리지 내역 일괄 INSERT
+     */
+    public void insertHistories(List<MileageAwardCommand> commands, Integer awardedBy, LocalDateTime earnedAt) {
+        Timestamp earned = Timestamp.valueOf(earnedAt);
+        Timestamp created = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, commands, BATCH_SIZE, (ps, command) -> {
+            ps.setInt(1, command.getUserId());
+            ps.setString(2, command.getActivityType());
+            if (command.getActivityId() != null) {
+                ps.setLong(3, command.getActivityId());
+            } else {
+                ps.setNull(3, Types.BIGINT);
+            }
+            ps.setString(4, command.getActivityName());
+            ps.setInt(5, command.getPoints());
+            ps.setString(6, command.getDescription());
+            if (awardedBy != null) {
+                ps.setInt(7, awardedBy);
+            } else {
+                ps.setNull(7, Types.INTEGER);
+            }
+            ps.setTimestamp(8, earned);
+            ps.setTimestamp(9, created);
+        });
+    }
+
+    /**
+     * 사용자별 잔액 일괄 가산
+     *
+     * @param deltas userId -> 증감 포인트
+     */
+    public void addBalances(Map<Integer, Long> deltas) {
+        jdbcTemplate.batchUpdate(ADD_BALANCE_SQL, List.copyOf(deltas.entrySet()), BATCH_SIZE, (ps, delta) -> {
+            ps.setInt(1, delta.getKey());
+            ps.setLong(2, delta.getValue());
+        });
+    }
+
+    /**
+     * 잔액 버킷 일괄 가산
+     *
+     * @param rows List<[userId, bucketType, bucketKey, points, count]>
+     */
+    public void addBuckets(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(ADD_BUCKET_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setInt(1, (Integer) row[0]);
+            ps.setString(2, (String) row[1]);
+            ps.setString(3, (String) row[2]);
+            ps.setLong(4, (Long) row[3]);
+            ps.setLong(5, (Long) row[4]);
+        });
+    }
+}
@@ -1,12 +1,14 @@
 package com.scms.app.repository;
 
 import com.scms.app.model.MileageHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -25,33 +27,6 @@ public interface MileageHistoryRepository extends JpaRepository<MileageHistory,
            "ORDER BY h.earnedAt DESC")
     List<MileageHistory> findByUserId(@Param("userId") Integer userId);
 
-    /**
-     * 사용자의 총 마일리지 계산
-     */
-    @Query("SELECT COALESCE(SUM(h.points), 0) FROM MileageHistory h " +
-           "WHERE h.user.userId = :userId")
-    Long getTotalMileageByUserId(@Param("userId") Integer userId);
-
-    /**
-     * 사용자별 활동 타입별 마일리지 통계
-     */
-    @Query("SELECT h.activityType, COALESCE(SUM(h.points), 0), COUNT(h) " +
-           "FROM MileageHistory h " +
-           "WHERE h.user.userId = :userId " +
-           "GROUP BY h.activityType " +
-           "ORDER BY SUM(h.points) DESC")
-    List<Object[]> getStatisticsByUserId(@Param("userId") Integer userId);
-
-    /**
-     * 전체 사용자 마일리지 랭킹 (TOP N)
-     */
-    @Query("SELECT h.user.userId, h.user.name, h.user.department, COALESCE(SUM(h.points), 0) as totalPoints " +
-           "FROM MileageHistory h " +
-           "WHERE h.user.deletedAt IS NULL " +
-           "GROUP BY h.user.userId, h.user.name, h.user.department " +
-           "ORDER BY totalPoints DESC")
-    List<Object[]> getMileageRanking();
-
     /**
      * 특정 기간 내 마일리지 내역 조회
      */
@@ -78,13 +53,28 @@ public interface MileageHistoryRepository extends JpaRepository<MileageHistory,
             @Param("activityType") String activityType);
 
     /**
-     * 최근 N개 마일리지 내역 조회
+     * 최근 N개 마일리지 내역 조회 / 커서 페이지네이션 첫 페이지
+     * (earned_at, history_id) 역순으로 정렬하며 idx_mileage_history_user_earned 인덱스 순서와 일치
      */
     @Query("SELECT h FROM MileageHistory h " +
            "LEFT JOIN FETCH h.user " +
            "WHERE h.user.userId = :userId " +
-           "ORDER BY h.earnedAt DESC")
-    List<MileageHistory> findRecentByUserId(@Param("userId") Integer userId);
+           "ORDER BY h.earnedAt DESC, h.historyId DESC")
+    List<MileageHistory> findRecentByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+    /**
+     * 마일리지 내역 커서 다음 페이지
+     */
+    @Query("SELECT h FROM MileageHistory h " +
+           "LEFT JOIN FETCH h.user " +
+           "WHERE h.user.userId = :userId " +
+           "AND (h.earnedAt < :earnedAt OR (h.earnedAt = :earnedAt AND h.historyId < :historyId)) " +
+           "ORDER BY h.earnedAt DESC, h.historyId DESC")
+    List<MileageHistory> findRecentByUserIdAfter(
+            @Param("userId") Integer userId,
+            @Param("earnedAt") LocalDateTime earnedAt,
+            @Param("historyId") Long historyId,
+            Pageable pageable);
 
     /**
      * 특정 활동에 대한 마일리지 지급 여부 확인
@@ -99,13 +89,38 @@ public interface MileageHistoryRepository extends JpaRepository<MileageHistory,
             @Param("activityId") Long activityId);
 
     /**
-     * 월별 마일리지 적립 통계
+     * 여러 사용자의 기존 활동 지급 내역 조회 (일괄 지급 시 중복 검사용)
+     * 사용자/타입/활동 ID 조합의 상위 집합을 반환하므로 호출 측에서 정확히 일치하는지 확인
+     *
+     * @return List<[userId, activityType, activityId]>
      */
-    @Query("SELECT YEAR(h.earnedAt), MONTH(h.earnedAt), COALESCE(SUM(h.points), 0) " +
+    @Query("SELECT h.user.userId, h.activityType, h.activityId FROM MileageHistory h " +
+           "WHERE h.user.userId IN :userIds " +
+           "AND h.activityType IN :activityTypes " +
+           "AND h.activityId IN :activityIds")
+    List<Object[]> findAwardedActivities(
+            @Param("userIds") Collection<Integer> userIds,
+            @Param("activityTypes") Collection<String> activityTypes,
+            @Param("activityIds") Collection<Long> activityIds);
+
+    /**
+     * 원장에 내역이 있는 사용자 ID 조회 (ID 오름차순, 정합성 검사 청크 단위)
+     */
+    @Query("SELECT DISTINCT h.user.userId FROM MileageHistory h " +
+           "WHERE h.user.userId > :afterUserId " +
+           "ORDER BY h.user.userId")
+    List<Integer> findUserIdsAfter(@Param("afterUserId") Integer afterUserId, Pageable pageable);
+
+    /**
+     * 여러 사용자의 활동 타입/연월별 합계와 건수 (정합성 검사용)
+     *
+     * @return List<[userId, activityType, year, month, totalPoints, count]>
+     */
+    @Query("SELECT h.user.userId, h.activityType, YEAR(h.earnedAt), MONTH(h.earnedAt), " +
+           "COALESCE(SUM(h.points), 0), COUNT(h) " +
            "FROM MileageHistory h " +
-           "WHERE h.user.userId = :userId " +
-           "GROUP BY YEAR(h.earnedAt), MONTH(h.earnedAt) " +
-           "ORDER BY YEAR(h.earnedAt) DESC, MONTH(h.earnedAt) DESC")
-    List<Object[]> getMonthlyStatistics(@Param("userId") Integer userId);
+           "WHERE h.user.userId IN :userIds " +
+           "GROUP BY h.user.userId, h.activityType, YEAR(h.earnedAt), MONTH(h.earnedAt)")
+    List<Object[]> getBucketStatisticsByUserIds(@Param("userIds") Collection<Integer> userIds);
 
 }
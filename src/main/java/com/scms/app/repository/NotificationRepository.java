@@ -2,12 +2,15 @@ package com.scms.app.repository;
 
 import com.scms.app.model.Notification;
 import com.scms.app.model.NotificationType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +31,30 @@ public interface NotificationRepository extends JpaRepository<Notification, Inte
            "ORDER BY n.createdAt DESC")
     List<Notification> findByUserIdAndDeletedAtIsNull(@Param("userId") Integer userId);
 
+    /**
+     * 사용자별 알림 첫 페이지 (커서 페이지네이션, 최신순)
+     * (created_at, notification_id) 역순으로 정렬하며 idx_notification_user_feed 인덱스 순서와 일치
+     */
+    @Query("SELECT n FROM Notification n " +
+           "WHERE n.user.userId = :userId " +
+           "AND n.deletedAt IS NULL " +
+           "ORDER BY n.createdAt DESC, n.notificationId DESC")
+    List<Notification> findFeedByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+    /**
+     * 사용자별 알림 커서 다음 페이지
+     */
+    @Query("SELECT n FROM Notification n " +
+           "WHERE n.user.userId = :userId " +
+           "AND n.deletedAt IS NULL " +
+           "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.notificationId < :notificationId)) " +
+           "ORDER BY n.createdAt DESC, n.notificationId DESC")
+    List<Notification> findFeedByUserIdAfter(
+            @Param("userId") Integer userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("notificationId") Integer notificationId,
+            Pageable pageable);
+
     /**
      * 사용자의 읽지 않은 알림 목록 조회 (최신순)
      */
@@ -48,6 +75,18 @@ public interface NotificationRepository extends JpaRepository<Notification, Inte
            "AND n.deletedAt IS NULL")
     Long countUnreadByUserId(@Param("userId") Integer userId);
 
+    /**
+     * 여러 사용자의 읽지 않은 알림 개수 (실시간 알림 개수 재동기화용)
+     *
+     * @return List<[userId, count]>
+     */
+    @Query("SELECT n.user.userId, COUNT(n) FROM Notification n " +
+           "WHERE n.user.userId IN :userIds " +
+           "AND n.isRead = false " +
+           "AND n.deletedAt IS NULL " +
+           "GROUP BY n.user.userId")
+    List<Object[]> countUnreadByUserIds(@Param("userIds") Collection<Integer> userIds);
+
     /**
      * 특정 알림 조회 (사용자 확인 포함)
      */
@@ -85,13 +124,135 @@ public interface NotificationRepository extends JpaRepository<Notification, Inte
             @Param("type") NotificationType type);
 
     /**
-     * 오래된 알림 삭제 (30일 이전 읽은 알림 또는 90일 이전 알림)
+     * 프로그램 신청자 대상 알림 일괄 생성 (INSERT ... SELECT)
+     * dedup_key UNIQUE 제약으로 같은 (타입, 프로그램, 사용자, 발송일) 알림은 한 번만 생성됨
+     * ON DUPLICATE KEY UPDATE는 Connector/J 기본 설정(useAffectedRows=false)에서 중복 행도 1로 세므로
+     * 새로 생성된 수를 얻기 위해 INSERT IGNORE 사용
+     * (user_id는 신청 행에서, 나머지 값은 호출 측 상수로 채우므로 무시될 수 있는 오류는 중복 키뿐)
+     *
+     * @return 새로 생성된 알림 수
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO notifications " +
+                   "(user_id, title, content, type, is_read, related_url, created_at, dedup_key) " +
+                   "SELECT a.user_id, :title, :content, :type, false, :relatedUrl, NOW(), " +
+                   "CONCAT(:type, ':', a.program_id, ':', a.user_id, ':', :sendDate) " +
+                   "FROM program_applications a " +
+                   "WHERE a.program_id = :programId " +
+                   "AND a.status = :status " +
+                   "AND a.deleted_at IS NULL",
+           nativeQuery = true)
+    int insertForProgramApplicants(
+            @Param("programId") Integer programId,
+            @Param("status") String status,
+            @Param("type") String type,
+            @Param("title") String title,
+            @Param("content") String content,
+            @Param("relatedUrl") String relatedUrl,
+            @Param("sendDate") String sendDate);
+
+    /**
+     * 지정한 신청의 신청자들에게 같은 내용의 알림을 한 번에 생성 (일괄 승인/거부/완료용)
+     *
+     * @return 생성된 알림 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notifications " +
+                   "(user_id, title, content, type, is_read, related_url, created_at) " +
+                   "SELECT a.user_id, :title, :content, :type, false, :relatedUrl, NOW() " +
+                   "FROM program_applications a " +
+                   "WHERE a.application_id IN :applicationIds",
+           nativeQuery = true)
+    int insertForApplications(
+            @Param("applicationIds") Collection<Integer> applicationIds,
+            @Param("type") String type,
+            @Param("title") String title,
+            @Param("content") String content,
+            @Param("relatedUrl") String relatedUrl);
+
+    /**
+     * 프로그램 신청자 알림 수신자 ID (insertForProgramApplicants와 같은 조건, 접속 사용자 재동기화용)
+     */
+    @Query(value = "SELECT DISTINCT a.user_id FROM program_applications a " +
+                   "WHERE a.program_id = :programId " +
+                   "AND a.status = :status " +
+                   "AND a.deleted_at IS NULL",
+           nativeQuery = true)
+    List<Integer> findApplicantUserIds(
+            @Param("programId") Integer programId,
+            @Param("status") String status);
+
+    /**
+     * 신청 ID 목록의 신청자 ID (insertForApplications 수신자, 접속 사용자 재동기화용)
+     */
+    @Query(value = "SELECT DISTINCT a.user_id FROM program_applications a " +
+                   "WHERE a.application_id IN :applicationIds",
+           nativeQuery = true)
+    List<Integer> findUserIdsByApplicationIds(@Param("applicationIds") Collection<Integer> applicationIds);
+
+    // ==================== 오래된 알림 정리 (청크 단위) ====================
+
+    /**
+     * 가장 작은 알림 ID
+     */
+    @Query("SELECT MIN(n.notificationId) FROM Notification n")
+    Integer findMinNotificationId();
+
+    /**
+     * 기준 시각 이전에 생성된 알림 중 가장 큰 ID (idx_created_at 사용)
+     * 알림 ID는 생성 순으로 증가하므로 정리 대상의 ID 상한으로 사용
+     */
+    @Query("SELECT MAX(n.notificationId) FROM Notification n WHERE n.createdAt < :cutoff")
+    Integer findMaxNotificationIdCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * ID 구간 내 보존 기간이 지난 알림 Soft Delete
+     * (읽은 지 readCutoff 이전 또는 생성된 지 createdCutoff 이전)
      */
     @Modifying
     @Query("UPDATE Notification n " +
            "SET n.deletedAt = CURRENT_TIMESTAMP " +
-           "WHERE (n.isRead = true AND n.readAt < CURRENT_TIMESTAMP - 30 DAY) " +
-           "OR (n.createdAt < CURRENT_TIMESTAMP - 90 DAY) " +
-           "AND n.deletedAt IS NULL")
-    int deleteOldNotifications();
+           "WHERE n.notificationId BETWEEN :fromId AND :toId " +
+           "AND n.deletedAt IS NULL " +
+           "AND ((n.isRead = true AND n.readAt < :readCutoff) " +
+           "OR n.createdAt < :createdCutoff)")
+    int softDeleteExpiredInRange(
+            @Param("fromId") Integer fromId,
+            @Param("toId") Integer toId,
+            @Param("readCutoff") LocalDateTime readCutoff,
+            @Param("createdCutoff") LocalDateTime createdCutoff);
+
+    /**
+     * 기준 시각 이전에 Soft Delete된 알림 ID 조회 (ID 오름차순 keyset)
+     */
+    @Query("SELECT n.notificationId FROM Notification n " +
+           "WHERE n.deletedAt < :cutoff " +
+           "AND n.notificationId > :afterId " +
+           "ORDER BY n.notificationId")
+    List<Integer> findIdsDeletedBefore(
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("afterId") Integer afterId,
+            Pageable pageable);
+
+    /**
+     * 알림을 보관 테이블로 복사
+     * 이전 실행에서 이미 복사된 행(중복 키)만 건너뛰고 다른 오류는 그대로 발생
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notifications_archive " +
+                   "(notification_id, user_id, title, content, type, is_read, related_url, " +
+                   "created_at, read_at, deleted_at, archived_at) " +
+                   "SELECT notification_id, user_id, title, content, type, is_read, related_url, " +
+                   "created_at, read_at, deleted_at, NOW() " +
+                   "FROM notifications WHERE notification_id IN (:ids) " +
+                   "ON DUPLICATE KEY UPDATE notifications_archive.notification_id = notifications_archive.notification_id",
+           nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * 알림 영구 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.notificationId IN :ids")
+    int deleteByIds(@Param("ids") Collection<Integer> ids);
 }
@@ -1,14 +1,25 @@
 package com.scms.app.repository;
 
+import com.scms.app.dto.ApplicationExportRow;
 import com.scms.app.model.ApplicationStatus;
 import com.scms.app.model.ProgramApplication;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 프로그램 신청 Repository
@@ -40,6 +51,61 @@ public interface ProgramApplicationRepository extends JpaRepository<ProgramAppli
            "ORDER BY pa.appliedAt DESC")
     List<ProgramApplication> findByUserId(@Param("userId") Integer userId);
 
+    /**
+     * 사용자 신청 내역 첫 페이지 (커서 페이지네이션, 최신순)
+     * (applied_at, application_id) 역순으로 정렬하며 idx_application_user_applied 인덱스 순서와 일치
+     */
+    @Query("SELECT pa FROM ProgramApplication pa " +
+           "JOIN FETCH pa.program " +
+           "JOIN FETCH pa.user " +
+           "WHERE pa.user.userId = :userId " +
+           "AND pa.deletedAt IS NULL " +
+           "ORDER BY pa.appliedAt DESC, pa.applicationId DESC")
+    List<ProgramApplication> findPageByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+    /**
+     * 사용자 신청 내역 커서 다음 페이지
+     */
+    @Query("SELECT pa FROM ProgramApplication pa " +
+           "JOIN FETCH pa.program " +
+           "JOIN FETCH pa.user " +
+           "WHERE pa.user.userId = :userId " +
+           "AND pa.deletedAt IS NULL " +
+           "AND (pa.appliedAt < :appliedAt OR (pa.appliedAt = :appliedAt AND pa.applicationId < :applicationId)) " +
+           "ORDER BY pa.appliedAt DESC, pa.applicationId DESC")
+    List<ProgramApplication> findPageByUserIdAfter(
+            @Param("userId") Integer userId,
+            @Param("appliedAt") LocalDateTime appliedAt,
+            @Param("applicationId") Integer applicationId,
+            Pageable pageable);
+
+    /**
+     * 프로그램별 신청 내역 첫 페이지 (커서 페이지네이션, 최신순, idx_application_program_applied)
+     */
+    @Query("SELECT pa FROM ProgramApplication pa " +
+           "JOIN FETCH pa.program " +
+           "JOIN FETCH pa.user " +
+           "WHERE pa.program.programId = :programId " +
+           "AND pa.deletedAt IS NULL " +
+           "ORDER BY pa.appliedAt DESC, pa.applicationId DESC")
+    List<ProgramApplication> findPageByProgramId(@Param("programId") Integer programId, Pageable pageable);
+
+    /**
+     * 프로그램별 신청 내역 커서 다음 페이지
+     */
+    @Query("SELECT pa FROM ProgramApplication pa " +
+           "JOIN FETCH pa.program " +
+           "JOIN FETCH pa.user " +
+           "WHERE pa.program.programId = :programId " +
+           "AND pa.deletedAt IS NULL " +
+           "AND (pa.appliedAt < :appliedAt OR (pa.appliedAt = :appliedAt AND pa.applicationId < :applicationId)) " +
+           "ORDER BY pa.appliedAt DESC, pa.applicationId DESC")
+    List<ProgramApplication> findPageByProgramIdAfter(
+            @Param("programId") Integer programId,
+            @Param("appliedAt") LocalDateTime appliedAt,
+            @Param("applicationId") Integer applicationId,
+            Pageable pageable);
+
     /**
      * 프로그램별 신청 내역 조회 (삭제되지 않은 것만)
      */
@@ -51,6 +117,24 @@ public interface ProgramApplicationRepository extends JpaRepository<ProgramAppli
            "ORDER BY pa.appliedAt DESC")
     List<ProgramApplication> findByProgramId(@Param("programId") Integer programId);
 
+    /**
+     * 프로그램별 신청자 목록 내보내기 행 스트림 (Excel 다운로드용)
+     * 엔티티 대신 행 DTO를 한 행씩 읽어 전체 목록을 메모리에 올리지 않음
+     * (MySQL 드라이버는 fetch size가 Integer.MIN_VALUE인 쿼리만 결과를 스트리밍함)
+     * 호출 측 트랜잭션 안에서 소비하고 닫아야 하며, 닫기 전에는 같은 연결로 다른 쿼리를 실행할 수 없음
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.scms.app.dto.ApplicationExportRow(" +
+           "pa.applicationId, u.studentNum, u.name, u.phone, u.email, u.department, u.grade, " +
+           "pa.status, pa.appliedAt, pa.approvedAt, pa.completedAt, pa.rejectedAt, pa.cancelledAt, " +
+           "pa.rejectionReason) " +
+           "FROM ProgramApplication pa " +
+           "JOIN pa.user u " +
+           "WHERE pa.program.programId = :programId " +
+           "AND pa.deletedAt IS NULL " +
+           "ORDER BY pa.appliedAt DESC")
+    Stream<ApplicationExportRow> streamExportRowsByProgramId(@Param("programId") Integer programId);
+
     /**
      * 사용자의 특정 상태 신청 내역 조회
      */
@@ -81,12 +165,12 @@ public interface ProgramApplicationRepository extends JpaRepository<ProgramAppli
 
     /**
      * 사용자의 특정 프로그램에 활성화된 신청이 있는지 확인
-     * (취소/거부되지 않은 신청)
+     * (취소/거부되지 않은 신청, 대기자 포함)
      */
     @Query("SELECT COUNT(pa) > 0 FROM ProgramApplication pa " +
            "WHERE pa.user.userId = :userId " +
            "AND pa.program.programId = :programId " +
-           "AND pa.status IN ('PENDING', 'APPROVED', 'COMPLETED') " +
+           "AND pa.status IN ('PENDING', 'WAITLISTED', 'APPROVED', 'COMPLETED') " +
            "AND pa.deletedAt IS NULL")
     boolean existsActiveApplicationByUserAndProgram(
             @Param("userId") Integer userId,
@@ -110,4 +194,126 @@ public interface ProgramApplicationRepository extends JpaRepository<ProgramAppli
            "WHERE pa.status = :status " +
            "AND pa.deletedAt IS NULL")
     List<ProgramApplication> findByStatus(@Param("status") ApplicationStatus status);
+
+    // ==================== 대기자 명단 ====================
+
+    /**
+     * 대기자 명단 앞부분 조회 (idx_application_waitlist 인덱스 범위 탐색)
+     *
+     * @param fromPosition 이 순번 이상부터 조회 (메모리 헤드 포인터)
+     * @return List<[applicationId, waitlistPosition, userId]>
+     */
+    @Query("SELECT pa.applicationId, pa.waitlistPosition, pa.user.userId " +
+           "FROM ProgramApplication pa " +
+           "WHERE pa.program.programId = :programId " +
+           "AND pa.status = 'WAITLISTED' " +
+           "AND pa.waitlistPosition >= :fromPosition " +
+           "AND pa.deletedAt IS NULL " +
+           "ORDER BY pa.waitlistPosition ASC")
+    List<Object[]> findWaitlistHead(
+            @Param("programId") Integer programId,
+            @Param("fromPosition") Long fromPosition,
+            Pageable pageable);
+
+    /**
+     * 대기자를 신청 대기(PENDING)로 승격 (아직 대기자인 경우에만)
+     * 반납된 좌석을 그대로 넘겨받으므로 프로그램 참가자 수는 변하지 않음
+     *
+     * @return 1이면 승격, 0이면 다른 트랜잭션에서 이미 승격되었거나 취소됨
+     */
+    @Modifying
+    @Query("UPDATE ProgramApplication pa " +
+           "SET pa.status = :promoted, pa.updatedAt = :now " +
+           "WHERE pa.applicationId = :applicationId " +
+           "AND pa.status = 'WAITLISTED' " +
+           "AND pa.deletedAt IS NULL")
+    int promoteFromWaitlist(
+            @Param("applicationId") Integer applicationId,
+            @Param("promoted") ApplicationStatus promoted,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 프로그램별 가장 앞선 대기자 순번 조회 (헤드 포인터 보정용)
+     *
+     * @return List<[programId, minWaitlistPosition]>
+     */
+    @Query("SELECT pa.program.programId, MIN(pa.waitlistPosition) " +
+           "FROM ProgramApplication pa " +
+           "WHERE pa.program.programId IN :programIds " +
+           "AND pa.status = 'WAITLISTED' " +
+           "AND pa.deletedAt IS NULL " +
+           "GROUP BY pa.program.programId")
+    List<Object[]> findWaitlistHeadPositions(@Param("programIds") Collection<Integer> programIds);
+
+    /**
+     * 남은 좌석이 있는데 대기자가 남아 있는 프로그램 (대기자 승격 보정용)
+     * 반납과 아직 커밋되지 않은 대기자 등록이 엇갈리면 생길 수 있음
+     */
+    @Query("SELECT DISTINCT pa.program.programId FROM ProgramApplication pa " +
+           "WHERE pa.status = 'WAITLISTED' " +
+           "AND pa.deletedAt IS NULL " +
+           "AND pa.program.deletedAt IS NULL " +
+           "AND pa.program.status IN ('OPEN', 'FULL') " +
+           "AND pa.program.maxParticipants IS NOT NULL " +
+           "AND pa.program.currentParticipants < pa.program.maxParticipants")
+    List<Integer> findProgramIdsWithFreeSeatsAndWaitlist();
+
+    /**
+     * 특정 순번보다 앞선 대기자 수 (대기 순서 안내용)
+     */
+    @Query("SELECT COUNT(pa) FROM ProgramApplication pa " +
+           "WHERE pa.program.programId = :programId " +
+           "AND pa.status = 'WAITLISTED' " +
+           "AND pa.waitlistPosition < :position " +
+           "AND pa.deletedAt IS NULL")
+    long countWaitlistAhead(@Param("programId") Integer programId, @Param("position") Long position);
+
+    // ==================== 일괄 처리 ====================
+
+    /**
+     * 일괄 처리 대상 신청 조회 (행 잠금, 같은 신청을 동시에 처리하지 않도록)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT pa FROM ProgramApplication pa " +
+           "JOIN FETCH pa.user " +
+           "WHERE pa.applicationId IN :applicationIds " +
+           "AND pa.deletedAt IS NULL")
+    List<ProgramApplication> findAllForUpdate(@Param("applicationIds") Collection<Integer> applicationIds);
+
+    /**
+     * 일괄 승인 (PENDING 상태만)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProgramApplication pa " +
+           "SET pa.status = 'APPROVED', pa.approvedAt = :now, pa.updatedAt = :now " +
+           "WHERE pa.applicationId IN :applicationIds " +
+           "AND pa.status = 'PENDING' " +
+           "AND pa.deletedAt IS NULL")
+    int approveAll(@Param("applicationIds") Collection<Integer> applicationIds,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * 일괄 거부 (PENDING, WAITLISTED 상태만)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProgramApplication pa " +
+           "SET pa.status = 'REJECTED', pa.rejectedAt = :now, pa.rejectionReason = :reason, pa.updatedAt = :now " +
+           "WHERE pa.applicationId IN :applicationIds " +
+           "AND pa.status IN ('PENDING', 'WAITLISTED') " +
+           "AND pa.deletedAt IS NULL")
+    int rejectAll(@Param("applicationIds") Collection<Integer> applicationIds,
+                  @Param("reason") String reason,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * 일괄 참여 완료 (APPROVED 상태만)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProgramApplication pa " +
+           "SET pa.status = 'COMPLETED', pa.completedAt = :now, pa.updatedAt = :now " +
+           "WHERE pa.applicationId IN :applicationIds " +
+           "AND pa.status = 'APPROVED' " +
+           "AND pa.deletedAt IS NULL")
+    int completeAll(@Param("applicationIds") Collection<Integer> applicationIds,
+                    @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,40 @@
+package com.scms.app.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로그램 조회수 일괄 반영 Repository (JDBC 배치)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProgramHitRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String ADD_HITS_SQL =
+            "UPDATE programs SET hits = hits + ? WHERE program_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 프로그램별 조회수 증가분 일괄 반영
+     * 여러 서버가 동시에 반영해도 교착 상태가 생기지 않도록 프로그램 ID 순으로 갱신
+     *
+     * @param deltas programId -> 증가분
+     */
+    public void addHits(Map<Integer, Long> deltas) {
+        List<Map.Entry<Integer, Long>> entries = new ArrayList<>(deltas.entrySet());
+        entries.sort(Map.Entry.comparingByKey());
+
+        jdbcTemplate.batchUpdate(ADD_HITS_SQL, entries, BATCH_SIZE, (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setInt(2, entry.getKey());
+        });
+    }
+}
@@ -5,12 +5,13 @@ import com.scms.app.model.ProgramStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -57,13 +58,9 @@ public interface ProgramRepository extends JpaRepository<Program, Integer> {
     List<Program> findByStatusNotDeleted(@Param("status") ProgramStatus status);
 
     /**
-     * 제목으로 프로그램 검색 (삭제되지 않은 것만)
-     */
-    @Query("SELECT p FROM Program p WHERE p.title LIKE %:keyword% AND p.deletedAt IS NULL ORDER BY p.createdAt DESC")
-    List<Program> searchByTitleNotDeleted(@Param("keyword") String keyword);
-
-    /**
-     * 신청 가능한 프로그램 조회 (삭제되지 않은 것만)
+     * 신청 가능한 프로그램 조회 (삭제되지 않은 것만, 마감 임박순)
+     * 관리자가 신청 시작 전에 OPEN으로 바꾸거나 상태 전환이 늦어질 수 있으므로 신청 기간 조건도 함께 확인
+     * (상태 + 마감 시각 범위로 idx_programs_status_end 사용)
      */
     @Query("SELECT p FROM Program p WHERE p.status = 'OPEN' " +
            "AND p.applicationStartDate <= :now " +
@@ -73,10 +70,10 @@ public interface ProgramRepository extends JpaRepository<Program, Integer> {
     List<Program> findAvailablePrograms(@Param("now") LocalDateTime now);
 
     /**
-     * 인기 프로그램 조회 (조회수 기준, 삭제되지 않은 것만)
+     * 인기 프로그램 상위 N개 조회 (조회수 기준, 삭제되지 않은 것만, idx_programs_hits)
      */
-    @Query("SELECT p FROM Program p WHERE p.deletedAt IS NULL ORDER BY p.hits DESC")
-    List<Program> findPopularPrograms();
+    @Query("SELECT p FROM Program p WHERE p.deletedAt IS NULL ORDER BY p.hits DESC, p.programId DESC")
+    List<Program> findPopularPrograms(Pageable pageable);
 
     /**
      * 복합 필터 검색 (모든 조건 optional)
@@ -108,42 +105,220 @@ public interface ProgramRepository extends JpaRepository<Program, Integer> {
         Pageable pageable
     );
 
-    /**
-     * 제목 검색 with 페이지네이션
-     */
-    @Query("SELECT p FROM Program p WHERE p.title LIKE %:keyword% AND p.deletedAt IS NULL")
-    Page<Program> searchByTitleWithPagination(@Param("keyword") String keyword, Pageable pageable);
-
     /**
      * 전체 프로그램 조회 with 페이지네이션
      */
     @Query("SELECT p FROM Program p WHERE p.deletedAt IS NULL")
     Page<Program> findAllNotDeletedWithPagination(Pageable pageable);
 
+    // ==================== 커서(keyset) 페이지네이션 ====================
+
+    /**
+     * 최신 프로그램 첫 페이지 / 상위 N개 (복합 필터, 모든 조건 optional)
+     * (created_at, program_id) 역순으로 정렬하며 idx_programs_latest 인덱스 순서와 일치
+     */
+    @Query("SELECT p FROM Program p WHERE " +
+           "(:department IS NULL OR p.department = :department) AND " +
+           "(:college IS NULL OR p.college = :college) AND " +
+           "(:category IS NULL OR p.category = :category) AND " +
+           "p.deletedAt IS NULL " +
+           "ORDER BY p.createdAt DESC, p.programId DESC")
+    List<Program> findLatest(
+        @Param("department") String department,
+        @Param("college") String college,
+        @Param("category") String category,
+        Pageable pageable
+    );
+
     /**
-     * 메인 페이지용 최신 프로그램 조회 (상위 8개, 삭제되지 않은 것만)
+     * 커서 다음 페이지 (커서 위치의 프로그램보다 오래된 것부터)
      */
-    @Query(value = "SELECT p FROM Program p WHERE p.deletedAt IS NULL ORDER BY p.createdAt DESC",
-           nativeQuery = false)
-    List<Program> findTop8NotDeleted();
+    @Query("SELECT p FROM Program p WHERE " +
+           "(:department IS NULL OR p.department = :department) AND " +
+           "(:college IS NULL OR p.college = :college) AND " +
+           "(:category IS NULL OR p.category = :category) AND " +
+           "p.deletedAt IS NULL AND " +
+           "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.programId < :programId)) " +
+           "ORDER BY p.createdAt DESC, p.programId DESC")
+    List<Program> findLatestAfter(
+        @Param("department") String department,
+        @Param("college") String college,
+        @Param("category") String category,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("programId") Integer programId,
+        Pageable pageable
+    );
 
     /**
-     * 특정 날짜에 신청이 마감되는 프로그램 조회 (스케줄러용 - D-3 알림)
-     * applicationEndDate를 기준으로 조회
+     * 신청 마감 시각이 [from, to) 구간인 프로그램 조회 (스케줄러용 - D-3 알림)
+     * 마감 전이므로 접수중/접수완료 상태만 대상 (idx_programs_status_end)
      */
     @Query("SELECT p FROM Program p WHERE " +
-           "CAST(p.applicationEndDate AS date) = :date " +
-           "AND p.status = 'OPEN' " +
+           "p.status IN :statuses " +
+           "AND p.applicationEndDate >= :from AND p.applicationEndDate < :to " +
            "AND p.deletedAt IS NULL")
-    List<Program> findProgramsWithDeadlineOn(@Param("date") LocalDate date);
+    List<Program> findProgramsWithDeadlineBetween(
+        @Param("statuses") Collection<ProgramStatus> statuses,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
 
     /**
-     * 특정 날짜에 시작하는 프로그램 조회 (스케줄러용 - D-1 알림)
-     * programStartDate를 기준으로 조회
+     * 시작 시각이 [from, to) 구간인 프로그램 조회 (스케줄러용 - D-1 알림, idx_programs_program_start)
+     * 시작 전에 신청이 마감(CLOSED)되는 경우가 대부분이므로 상태는 조건에 넣지 않음
      */
     @Query("SELECT p FROM Program p WHERE " +
-           "CAST(p.programStartDate AS date) = :date " +
-           "AND p.status = 'OPEN' " +
+           "p.programStartDate >= :from AND p.programStartDate < :to " +
            "AND p.deletedAt IS NULL")
-    List<Program> findProgramsStartingOn(@Param("date") LocalDate date);
+    List<Program> findProgramsStartingBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // ==================== 상태 전환 (ProgramLifecycleEngine) ====================
+
+    /**
+     * 접수 시작 시각이 until 이전인 접수예정 프로그램 (이미 지난 것 포함, idx_programs_status_start)
+     *
+     * @return List<[programId, applicationStartDate]>
+     */
+    @Query("SELECT p.programId, p.applicationStartDate FROM Program p " +
+           "WHERE p.status = :status " +
+           "AND p.applicationStartDate <= :until " +
+           "AND p.deletedAt IS NULL")
+    List<Object[]> findOpeningUntil(@Param("status") ProgramStatus status, @Param("until") LocalDateTime until);
+
+    /**
+     * 신청 마감 시각이 until 이전인 미마감 프로그램 (이미 지난 것 포함, idx_programs_status_end)
+     *
+     * @return List<[programId, applicationEndDate]>
+     */
+    @Query("SELECT p.programId, p.applicationEndDate FROM Program p " +
+           "WHERE p.status IN :statuses " +
+           "AND p.applicationEndDate <= :until " +
+           "AND p.deletedAt IS NULL")
+    List<Object[]> findClosingUntil(@Param("statuses") Collection<ProgramStatus> statuses,
+                                    @Param("until") LocalDateTime until);
+
+    /**
+     * 접수 시작 (접수예정이고 신청 기간 중인 경우에만, 이미 정원이 찼으면 FULL)
+     *
+     * @return 1이면 전환, 0이면 이미 전환되었거나 조건 불충족
+     */
+    @Modifying
+    @Query(value = "UPDATE programs " +
+                   "SET status = CASE WHEN max_participants IS NOT NULL " +
+                   "AND current_participants >= max_participants THEN 'FULL' ELSE 'OPEN' END, " +
+                   "updated_at = NOW() " +
+                   "WHERE program_id = :programId " +
+                   "AND deleted_at IS NULL " +
+                   "AND status = 'SCHEDULED' " +
+                   "AND application_start_date <= :now AND application_end_date > :now",
+           nativeQuery = true)
+    int openIfDue(@Param("programId") Integer programId, @Param("now") LocalDateTime now);
+
+    /**
+     * 신청 마감 (마감 시각이 지났고 아직 마감되지 않은 경우에만)
+     *
+     * @return 1이면 전환, 0이면 이미 전환되었거나 조건 불충족
+     */
+    @Modifying
+    @Query(value = "UPDATE programs " +
+                   "SET status = 'CLOSED', updated_at = NOW() " +
+                   "WHERE program_id = :programId " +
+                   "AND deleted_at IS NULL " +
+                   "AND status IN ('SCHEDULED', 'OPEN', 'FULL') " +
+                   "AND application_end_date <= :now",
+           nativeQuery = true)
+    int closeIfDue(@Param("programId") Integer programId, @Param("now") LocalDateTime now);
+
+    /**
+     * 관리자 상태 변경 (삭제되지 않은 프로그램만, OPEN으로 바꿔도 이미 정원이 찼으면 FULL)
+     * 엔티티 저장으로 덮어쓰면 동시에 반영된 좌석 확보/반납의 상태 전환이 사라지므로 조건부 UPDATE로만 변경
+     *
+     * @return 1이면 변경, 0이면 삭제되었거나 이미 같은 상태
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE programs " +
+                   "SET status = CASE WHEN :status = 'OPEN' AND max_participants IS NOT NULL " +
+                   "AND current_participants >= max_participants THEN 'FULL' ELSE :status END, " +
+                   "updated_at = NOW() " +
+                   "WHERE program_id = :programId " +
+                   "AND deleted_at IS NULL " +
+                   "AND status <> :status",
+           nativeQuery = true)
+    int changeStatus(@Param("programId") Integer programId, @Param("status") String status);
+
+    // ==================== 정원(좌석) 관리 ====================
+
+    /**
+     * 정원 현황 조회
+     *
+     * @return List<[programId, maxParticipants, currentParticipants]>
+     */
+    @Query("SELECT p.programId, p.maxParticipants, p.currentParticipants FROM Program p " +
+           "WHERE p.programId IN :programIds AND p.deletedAt IS NULL")
+    List<Object[]> findSeatStates(@Param("programIds") Collection<Integer> programIds);
+
+    /**
+     * 좌석 1개 확보 후 상태 (ProgramStatus.afterParticipantDelta와 같은 규칙, 정원에 도달하면 OPEN -> FULL)
+     * SET 절에서 current_participants보다 먼저 계산해야 증가 전 참가자 수로 판단됨
+     */
+    String STATUS_AFTER_RESERVE = "CASE WHEN status = 'OPEN' AND max_participants IS NOT NULL " +
+                                  "AND current_participants + 1 >= max_participants THEN 'FULL' ELSE status END";
+
+    /**
+     * :count개 좌석 반납 후 상태 (ProgramStatus.afterParticipantDelta와 같은 규칙, 정원 미만이 되면 FULL -> OPEN)
+     */
+    String STATUS_AFTER_RELEASE = "CASE WHEN status = 'FULL' AND (max_participants IS NULL " +
+                                  "OR current_participants - :count < max_participants) THEN 'OPEN' ELSE status END";
+
+    /**
+     * 좌석 1개 확보 (신청 가능한 상태이고 정원이 남은 경우에만 증가, 마지막 좌석이면 FULL로 변경)
+     *
+     * @return 1이면 확보, 0이면 정원 마감 또는 신청 불가
+     */
+    @Modifying
+    @Query(value = "UPDATE programs " +
+                   "SET status = " + STATUS_AFTER_RESERVE + ", " +
+                   "current_participants = current_participants + 1, " +
+                   "updated_at = NOW() " +
+                   "WHERE program_id = :programId " +
+                   "AND deleted_at IS NULL " +
+                   "AND status = 'OPEN' " +
+                   "AND application_start_date < :now AND application_end_date > :now " +
+                   "AND (max_participants IS NULL OR current_participants < max_participants)",
+           nativeQuery = true)
+    int reserveSeat(@Param("programId") Integer programId, @Param("now") LocalDateTime now);
+
+    /**
+     * 대기자 승격용 좌석 1개 확보 (접수 중/마감 상태이고 정원이 남은 경우에만 증가, 마지막 좌석이면 FULL로 변경)
+     * 신청 기간은 확인하지 않음 (취소로 인한 승격과 같은 조건)
+     *
+     * @return 1이면 확보, 0이면 남은 좌석 없음
+     */
+    @Modifying
+    @Query(value = "UPDATE programs " +
+                   "SET status = " + STATUS_AFTER_RESERVE + ", " +
+                   "current_participants = current_participants + 1, " +
+                   "updated_at = NOW() " +
+                   "WHERE program_id = :programId " +
+                   "AND deleted_at IS NULL " +
+                   "AND status IN ('OPEN', 'FULL') " +
+                   "AND max_participants IS NOT NULL " +
+                   "AND current_participants < max_participants",
+           nativeQuery = true)
+    int reserveWaitlistSeat(@Param("programId") Integer programId);
+
+    /**
+     * 좌석 반납 (정원 마감 상태였다면 다시 OPEN으로 변경, 참가자 수는 0 미만으로 내려가지 않음)
+     *
+     * @param count 반납할 좌석 수 (일괄 거부 시 프로그램당 한 번에 반납)
+     */
+    @Modifying
+    @Query(value = "UPDATE programs " +
+                   "SET status = " + STATUS_AFTER_RELEASE + ", " +
+                   "current_participants = GREATEST(current_participants - :count, 0), " +
+                   "updated_at = NOW() " +
+                   "WHERE program_id = :programId " +
+                   "AND current_participants > 0",
+           nativeQuery = true)
+    int releaseSeats(@Param("programId") Integer programId, @Param("count") int count);
 }
@@ -0,0 +1,19 @@
+package com.scms.app.repository;
+
+import com.scms.app.model.ProgramWaitingRoom;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 프로그램 신청 대기실 설정 Repository
+ */
+@Repository
+public interface ProgramWaitingRoomRepository extends JpaRepository<ProgramWaitingRoom, Integer> {
+
+    /**
+     * 사용 중인 대기실 설정 조회
+     */
+    List<ProgramWaitingRoom> findByEnabledTrue();
+}
@@ -0,0 +1,89 @@
+package com.scms.app.repository;
+
+import com.scms.app.model.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 분산 잠금 Repository
+ * 시간 비교는 모두 DB 시간(NOW)을 기준으로 하여 서버 간 시계 차이의 영향을 받지 않음
+ */
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    /**
+     * 잠금 행이 없으면 해제 상태로 생성
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO scheduler_locks (lock_name, locked_until, fencing_token) " +
+                   "VALUES (:lockName, NOW(3), 0)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("lockName") String lockName);
+
+    /**
+     * 잠금 획득 (임대가 만료되었고, 기준 시각 이후 완료 이력이 없을 때만)
+     *
+     * @return 획득 시 1
+     */
+    @Modifying
+    @Query(value = "UPDATE scheduler_locks " +
+                   "SET locked_by = :owner, locked_at = NOW(3), " +
+                   "locked_until = DATE_ADD(NOW(3), INTERVAL :leaseSeconds SECOND), " +
+                   "fencing_token = fencing_token + 1 " +
+                   "WHERE lock_name = :lockName " +
+                   "AND locked_until <= NOW(3) " +
+                   "AND (:since IS NULL OR last_completed_at IS NULL OR last_completed_at < :since)",
+           nativeQuery = true)
+    int acquire(@Param("lockName") String lockName,
+                @Param("owner") String owner,
+                @Param("leaseSeconds") long leaseSeconds,
+                @Param("since") LocalDateTime since);
+
+    /**
+     * 현재 소유자의 fencing token 조회
+     */
+    @Query(value = "SELECT fencing_token FROM scheduler_locks " +
+                   "WHERE lock_name = :lockName AND locked_by = :owner",
+           nativeQuery = true)
+    Long findFencingToken(@Param("lockName") String lockName, @Param("owner") String owner);
+
+    /**
+     * 임대 연장 (fencing token이 그대로일 때만)
+     * 보호할 쓰기와 같은 트랜잭션에서 실행하면 커밋까지 잠금 행을 잡고 있어 fencing 확인으로 사용됨
+     *
+     * @return 연장 시 1, 다른 노드가 잠금을 가져간 경우 0
+     */
+    @Modifying
+    @Query(value = "UPDATE scheduler_locks " +
+                   "SET locked_until = DATE_ADD(NOW(3), INTERVAL :leaseSeconds SECOND) " +
+                   "WHERE lock_name = :lockName AND fencing_token = :token",
+           nativeQuery = true)
+    int renew(@Param("lockName") String lockName,
+              @Param("token") long token,
+              @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * 작업 완료 기록 및 잠금 해제
+     */
+    @Modifying
+    @Query(value = "UPDATE scheduler_locks " +
+                   "SET locked_until = NOW(3), last_completed_at = NOW(3) " +
+                   "WHERE lock_name = :lockName AND fencing_token = :token",
+           nativeQuery = true)
+    int complete(@Param("lockName") String lockName, @Param("token") long token);
+
+    /**
+     * 잠금 해제 (작업 실패 시, 완료 이력은 남기지 않음)
+     */
+    @Modifying
+    @Query(value = "UPDATE scheduler_locks " +
+                   "SET locked_until = NOW(3) " +
+                   "WHERE lock_name = :lockName AND fencing_token = :token",
+           nativeQuery = true)
+    int release(@Param("lockName") String lockName, @Param("token") long token);
+}
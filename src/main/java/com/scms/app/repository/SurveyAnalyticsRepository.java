@@ -0,0 +1,143 @@
+package com.scms.app.repository;
+
+import com.scms.app.util.SurveyAnswerColumns;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 설문 분석/내보내기용 원본 조회 Repository (JDBC)
+ * - 응답/답변을 엔티티로 만들지 않고 스트리밍 조회로 한 행씩 읽으면서 열 저장소에 바로 적재
+ * - 스트리밍은 이 Repository의 쿼리에만 적용 (fetch size = Integer.MIN_VALUE, 드라이버 전역 설정 없음)
+ * - 내보내기는 응답 순으로 정렬된 답변 행을 스트림으로 반환 (호출 측에서 응답 단위로 묶음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class SurveyAnalyticsRepository {
+
+    private static final String RESPONSES_SQL =
+            "SELECT r.response_id, r.user_id, u.department, u.grade " +
+            "FROM survey_responses r " +
+            "LEFT JOIN users u ON u.user_id = r.user_id " +
+            "WHERE r.survey_id = ? " +
+            "ORDER BY r.response_id";
+
+    private static final String ANSWERS_SQL =
+            "SELECT a.response_id, a.question_id, a.option_id, a.answer_number " +
+            "FROM survey_answers a " +
+            "JOIN survey_responses r ON r.response_id = a.response_id " +
+            "WHERE r.survey_id = ? " +
+            "AND (a.option_id IS NOT NULL OR a.answer_number IS NOT NULL)";
+
+    private static final String EXPORT_SQL =
+            "SELECT r.response_id, r.submitted_at, u.student_num, u.name, u.department, u.grade, " +
+            "a.question_id, a.option_id, a.answer_text, a.answer_number " +
+            "FROM survey_responses r " +
+            "LEFT JOIN users u ON u.user_id = r.user_id " +
+            "LEFT JOIN survey_answers a ON a.response_id = r.response_id " +
+            "WHERE r.survey_id = ? " +
+            "ORDER BY r.response_id, a.answer_id";
+
+    private static final String ANONYMOUS_EXPORT_SQL =
+            "SELECT r.response_id, r.submitted_at, a.question_id, a.option_id, a.answer_text, a.answer_number " +
+            "FROM survey_responses r " +
+            "LEFT JOIN survey_answers a ON a.response_id = r.response_id " +
+            "WHERE r.survey_id = ? " +
+            "ORDER BY r.response_id, a.answer_id";
+
+    private static final String PROGRAM_PARTICIPANTS_SQL =
+            "SELECT DISTINCT user_id FROM program_applications " +
+            "WHERE program_id = ? AND status IN ('APPROVED', 'COMPLETED') AND deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 설문의 응답 행 적재 (응답자 속성: department, grade 순)
+     */
+    public void loadResponses(Long surveyId, SurveyAnswerColumns.Builder builder) {
+        jdbcTemplate.query(con -> streaming(con, RESPONSES_SQL, surveyId), rs -> {
+            int userId = rs.getInt("user_id");
+            Integer user = rs.wasNull() ? null : userId;
+            int grade = rs.getInt("grade");
+            String gradeLabel = rs.wasNull() ? null : String.valueOf(grade);
+            builder.addResponse(rs.getLong("response_id"), user, rs.getString("department"), gradeLabel);
+        });
+    }
+
+    /**
+     * 설문의 객관식/척도형 답변 적재 (응답 행을 먼저 적재해야 함)
+     */
+    public void loadAnswers(Long surveyId, SurveyAnswerColumns.Builder builder) {
+        jdbcTemplate.query(con -> streaming(con, ANSWERS_SQL, surveyId), rs -> {
+            long optionId = rs.getLong("option_id");
+            Long option = rs.wasNull() ? null : optionId;
+            int answerNumber = rs.getInt("answer_number");
+            Integer number = rs.wasNull() ? null : answerNumber;
+            builder.addAnswer(rs.getLong("response_id"), rs.getLong("question_id"), option, number);
+        });
+    }
+
+    /**
+     * 내보내기용 답변 행 (답변이 없는 응답은 질문 ID가 null인 행 하나)
+     * 익명 설문이면 응답자 정보는 조회하지 않음
+     */
+    public record ExportAnswer(long responseId, LocalDateTime submittedAt, Integer studentNum, String name,
+                               String department, Integer grade, Long questionId, Long optionId,
+                               String answerText, Integer answerNumber) {
+    }
+
+    /**
+     * 설문 답변 행 스트림 (응답 ID, 답변 ID 순)
+     * 한 행씩 스트리밍으로 읽으므로 응답 수와 무관하게 메모리 사용량이 일정함
+     * 반환된 스트림은 반드시 닫아야 하며 (연결 반환), 닫기 전에는 같은 연결로 다른 쿼리를 실행할 수 없음
+     */
+    public Stream<ExportAnswer> streamExportAnswers(Long surveyId, boolean anonymous) {
+        String sql = anonymous ? ANONYMOUS_EXPORT_SQL : EXPORT_SQL;
+        return jdbcTemplate.queryForStream(con -> streaming(con, sql, surveyId), (rs, rowNum) -> {
+            Timestamp submittedAt = rs.getTimestamp("submitted_at");
+            return new ExportAnswer(
+                    rs.getLong("response_id"),
+                    submittedAt != null ? submittedAt.toLocalDateTime() : null,
+                    anonymous ? null : rs.getObject("student_num", Integer.class),
+                    anonymous ? null : rs.getString("name"),
+                    anonymous ? null : rs.getString("department"),
+                    anonymous ? null : rs.getObject("grade", Integer.class),
+                    rs.getObject("question_id", Long.class),
+                    rs.getObject("option_id", Long.class),
+                    rs.getString("answer_text"),
+                    rs.getObject("answer_number", Integer.class));
+        });
+    }
+
+    /**
+     * 프로그램 참여자(승인/완료) 사용자 ID 목록
+     */
+    public Set<Integer> findProgramParticipantIds(Integer programId) {
+        Set<Integer> userIds = new HashSet<>();
+        jdbcTemplate.query(PROGRAM_PARTICIPANTS_SQL, rs -> {
+            userIds.add(rs.getInt(1));
+        }, programId);
+        return userIds;
+    }
+
+    /**
+     * 스트리밍 조회용 문장 생성
+     * MySQL 드라이버는 읽기 전용/전방향 커서에 fetch size가 Integer.MIN_VALUE이면 결과를 한 행씩 전송함
+     */
+    private static PreparedStatement streaming(Connection con, String sql, Long surveyId) throws SQLException {
+        PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        ps.setFetchSize(Integer.MIN_VALUE);
+        ps.setLong(1, surveyId);
+        return ps;
+    }
+}
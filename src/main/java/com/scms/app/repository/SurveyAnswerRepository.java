@@ -1,11 +1,13 @@
 package com.scms.app.repository;
 
 import com.scms.app.model.SurveyAnswer;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -18,23 +20,27 @@ public interface SurveyAnswerRepository extends JpaRepository<SurveyAnswer, Long
     List<SurveyAnswer> findByResponseIdOrderByQuestionId(@Param("responseId") Long responseId);
 
     /**
-     * 질문별 답변 목록 조회 (통계용)
+     * 질문별 주관식 답변 첫 페이지 (커서 페이지네이션, 최신순)
      */
-    @Query("SELECT a FROM SurveyAnswer a WHERE a.questionId = :questionId")
-    List<SurveyAnswer> findByQuestionId(@Param("questionId") Long questionId);
+    @Query("SELECT a FROM SurveyAnswer a " +
+           "WHERE a.questionId = :questionId " +
+           "AND a.answerText IS NOT NULL " +
+           "ORDER BY a.createdAt DESC, a.answerId DESC")
+    List<SurveyAnswer> findTextPageByQuestionId(@Param("questionId") Long questionId, Pageable pageable);
 
     /**
-     * 특정 선택지를 선택한 응답 수 조회
+     * 질문별 주관식 답변 커서 다음 페이지
      */
-    @Query("SELECT COUNT(a) FROM SurveyAnswer a WHERE a.questionId = :questionId AND a.optionId = :optionId")
-    long countByQuestionIdAndOptionId(@Param("questionId") Long questionId,
-                                       @Param("optionId") Long optionId);
-
-    /**
-     * 질문별 척도 평균 계산
-     */
-    @Query("SELECT AVG(a.answerNumber) FROM SurveyAnswer a WHERE a.questionId = :questionId AND a.answerNumber IS NOT NULL")
-    Double calculateAverageScale(@Param("questionId") Long questionId);
+    @Query("SELECT a FROM SurveyAnswer a " +
+           "WHERE a.questionId = :questionId " +
+           "AND a.answerText IS NOT NULL " +
+           "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.answerId < :answerId)) " +
+           "ORDER BY a.createdAt DESC, a.answerId DESC")
+    List<SurveyAnswer> findTextPageByQuestionIdAfter(
+            @Param("questionId") Long questionId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("answerId") Long answerId,
+            Pageable pageable);
 
     /**
      * 응답별 답변 삭제
@@ -0,0 +1,82 @@
+package com.scms.app.repository;
+
+import com.scms.app.model.SurveyAnswer;
+import com.scms.app.model.SurveyQuestionStat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 설문 일괄 처리 Repository (JDBC 배치)
+ * - survey_answers는 IDENTITY 키를 사용하므로 Hibernate가 INSERT를 배치로 묶지 못함
+ * - 응답 한 건의 답변 전체를 JDBC 배치(rewriteBatchedStatements)로 묶어 다중 행 INSERT 한 번으로 기록
+ * - 질문별 집계도 같은 방식으로 한 번에 가산
+ */
+@Repository
+@RequiredArgsConstructor
+public class SurveyBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_ANSWER_SQL =
+            "INSERT INTO survey_answers " +
+            "(response_id, question_id, option_id, answer_text, answer_number, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String ADD_QUESTION_STAT_SQL =
+            "INSERT INTO survey_question_stats " +
+            "(survey_id, question_id, bucket_type, bucket_key, answer_count, value_sum, value_sum_sq, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, NOW()) " +
+            "ON DUPLICATE KEY UPDATE answer_count = answer_count + VALUES(answer_count), " +
+            "value_sum = value_sum + VALUES(value_sum), value_sum_sq = value_sum_sq + VALUES(value_sum_sq), " +
+            "updated_at = NOW()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 답변 일괄 INSERT (답변 ID는 DB가 부여하며 돌려받지 않음)
+     */
+    public void insertAnswers(List<SurveyAnswer> answers) {
+        Timestamp created = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_ANSWER_SQL, answers, BATCH_SIZE, (ps, answer) -> {
+            ps.setLong(1, answer.getResponseId());
+            ps.setLong(2, answer.getQuestionId());
+            if (answer.getOptionId() != null) {
+                ps.setLong(3, answer.getOptionId());
+            } else {
+                ps.setNull(3, Types.BIGINT);
+            }
+            ps.setString(4, answer.getAnswerText());
+            if (answer.getAnswerNumber() != null) {
+                ps.setInt(5, answer.getAnswerNumber());
+            } else {
+                ps.setNull(5, Types.INTEGER);
+            }
+            ps.setTimestamp(6, created);
+        });
+    }
+
+    /**
+     * 질문별 집계 일괄 가산 (행이 없으면 생성)
+     * 동시 제출 간 교착을 피하도록 호출 측에서 (질문, 버킷) 순으로 정렬해 전달해야 함
+     *
+     * @param deltas 가산할 값 (answerCount, valueSum, valueSumSq는 증감분)
+     */
+    public void addQuestionStats(List<SurveyQuestionStat> deltas) {
+        jdbcTemplate.batchUpdate(ADD_QUESTION_STAT_SQL, deltas, BATCH_SIZE, (ps, delta) -> {
+            ps.setLong(1, delta.getSurveyId());
+            ps.setLong(2, delta.getQuestionId());
+            ps.setString(3, delta.getBucketType().name());
+            ps.setLong(4, delta.getBucketKey());
+            ps.setLong(5, delta.getAnswerCount());
+            ps.setLong(6, delta.getValueSum());
+            ps.setLong(7, delta.getValueSumSq());
+        });
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -23,6 +24,15 @@ public interface SurveyQuestionRepository extends JpaRepository<SurveyQuestion,
     @Query("SELECT COUNT(q) FROM SurveyQuestion q WHERE q.surveyId = :surveyId")
     long countBySurveyId(@Param("surveyId") Long surveyId);
 
+    /**
+     * 여러 설문의 질문 수 일괄 조회 (질문이 없는 설문은 결과에 없음)
+     *
+     * @return List<[surveyId, count]>
+     */
+    @Query("SELECT q.surveyId, COUNT(q) FROM SurveyQuestion q " +
+           "WHERE q.surveyId IN :surveyIds GROUP BY q.surveyId")
+    List<Object[]> countBySurveyIds(@Param("surveyIds") Collection<Long> surveyIds);
+
     /**
      * 설문의 필수 질문 수 조회
      */
@@ -0,0 +1,79 @@
+package com.scms.app.repository;
+
+import com.scms.app.model.SurveyQuestionStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 설문 질문별 집계 Repository
+ * 응답 제출 시 가산은 SurveyBatchRepository.addQuestionStats (JDBC 배치)
+ */
+@Repository
+public interface SurveyQuestionStatRepository extends JpaRepository<SurveyQuestionStat, Long> {
+
+    /**
+     * 설문의 전체 집계 행 조회 (통계 화면용)
+     */
+    @Query("SELECT s FROM SurveyQuestionStat s WHERE s.surveyId = :surveyId")
+    List<SurveyQuestionStat> findBySurveyId(@Param("surveyId") Long surveyId);
+
+    // ==================== 재집계 (원본 답변으로부터) ====================
+
+    /**
+     * 설문의 집계 행 삭제
+     */
+    @Modifying
+    @Query(value = "DELETE FROM survey_question_stats WHERE survey_id = :surveyId", nativeQuery = true)
+    int deleteBySurveyId(@Param("surveyId") Long surveyId);
+
+    /**
+     * 질문별 답변 수와 척도 합계/제곱합 재집계
+     */
+    @Modifying
+    @Query(value = "INSERT INTO survey_question_stats " +
+                   "(survey_id, question_id, bucket_type, bucket_key, answer_count, value_sum, value_sum_sq, updated_at) " +
+                   "SELECT q.survey_id, a.question_id, 'TOTAL', 0, COUNT(*), " +
+                   "COALESCE(SUM(a.answer_number), 0), COALESCE(SUM(a.answer_number * a.answer_number), 0), NOW() " +
+                   "FROM survey_answers a " +
+                   "JOIN survey_questions q ON q.question_id = a.question_id " +
+                   "WHERE q.survey_id = :surveyId " +
+                   "GROUP BY q.survey_id, a.question_id",
+           nativeQuery = true)
+    int rebuildTotals(@Param("surveyId") Long surveyId);
+
+    /**
+     * 선택지별 답변 수 재집계
+     */
+    @Modifying
+    @Query(value = "INSERT INTO survey_question_stats " +
+                   "(survey_id, question_id, bucket_type, bucket_key, answer_count, value_sum, value_sum_sq, updated_at) " +
+                   "SELECT q.survey_id, a.question_id, 'OPTION', a.option_id, COUNT(*), 0, 0, NOW() " +
+                   "FROM survey_answers a " +
+                   "JOIN survey_questions q ON q.question_id = a.question_id " +
+                   "WHERE q.survey_id = :surveyId " +
+                   "AND a.option_id IS NOT NULL " +
+                   "GROUP BY q.survey_id, a.question_id, a.option_id",
+           nativeQuery = true)
+    int rebuildOptionCounts(@Param("surveyId") Long surveyId);
+
+    /**
+     * 척도 값별 답변 수 재집계
+     */
+    @Modifying
+    @Query(value = "INSERT INTO survey_question_stats " +
+                   "(survey_id, question_id, bucket_type, bucket_key, answer_count, value_sum, value_sum_sq, updated_at) " +
+                   "SELECT q.survey_id, a.question_id, 'SCALE', a.answer_number, COUNT(*), " +
+                   "SUM(a.answer_number), SUM(a.answer_number * a.answer_number), NOW() " +
+                   "FROM survey_answers a " +
+                   "JOIN survey_questions q ON q.question_id = a.question_id " +
+                   "WHERE q.survey_id = :surveyId " +
+                   "AND a.answer_number IS NOT NULL " +
+                   "GROUP BY q.survey_id, a.question_id, a.answer_number",
+           nativeQuery = true)
+    int rebuildScaleCounts(@Param("surveyId") Long surveyId);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,6 +46,23 @@ public interface SurveyResponseRepository extends JpaRepository<SurveyResponse,
     @Query("SELECT COUNT(r) FROM SurveyResponse r WHERE r.surveyId = :surveyId")
     long countBySurveyId(@Param("surveyId") Long surveyId);
 
+    /**
+     * 여러 설문의 응답 수 일괄 조회 (응답이 없는 설문은 결과에 없음)
+     *
+     * @return List<[surveyId, count]>
+     */
+    @Query("SELECT r.surveyId, COUNT(r) FROM SurveyResponse r " +
+           "WHERE r.surveyId IN :surveyIds GROUP BY r.surveyId")
+    List<Object[]> countBySurveyIds(@Param("surveyIds") Collection<Long> surveyIds);
+
+    /**
+     * 사용자가 응답한 설문 ID 일괄 조회 (주어진 설문 중에서)
+     */
+    @Query("SELECT DISTINCT r.surveyId FROM SurveyResponse r " +
+           "WHERE r.userId = :userId AND r.surveyId IN :surveyIds")
+    List<Long> findRespondedSurveyIds(@Param("userId") Integer userId,
+                                      @Param("surveyIds") Collection<Long> surveyIds);
+
     /**
      * 설문별 응답 삭제
      */
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -59,6 +60,28 @@ public interface SurveyTargetRepository extends JpaRepository<SurveyTarget, Long
     @Query("UPDATE SurveyTarget t SET t.hasResponded = true WHERE t.surveyId = :surveyId AND t.userId = :userId")
     void markAsResponded(@Param("surveyId") Long surveyId, @Param("userId") Integer userId);
 
+    /**
+     * 대상자 응답 표시 (대상자인 경우에만, onlyOnce이면 아직 응답하지 않은 경우에만)
+     * 대상자 확인과 중복 응답 확인을 UPDATE 한 문장으로 처리
+     *
+     * @return 갱신된 행 수 (0이면 대상자가 아니거나 이미 응답함)
+     */
+    @Modifying
+    @Query("UPDATE SurveyTarget t SET t.hasResponded = true " +
+           "WHERE t.surveyId = :surveyId AND t.userId = :userId " +
+           "AND (:onlyOnce = false OR t.hasResponded = false)")
+    int claimResponse(@Param("surveyId") Long surveyId,
+                      @Param("userId") Integer userId,
+                      @Param("onlyOnce") boolean onlyOnce);
+
+    /**
+     * 사용자가 대상자인 설문 ID 일괄 조회 (주어진 설문 중에서)
+     */
+    @Query("SELECT t.surveyId FROM SurveyTarget t " +
+           "WHERE t.userId = :userId AND t.surveyId IN :surveyIds")
+    List<Long> findTargetedSurveyIds(@Param("userId") Integer userId,
+                                     @Param("surveyIds") Collection<Long> surveyIds);
+
     /**
      * 설문별 대상자 삭제
      */
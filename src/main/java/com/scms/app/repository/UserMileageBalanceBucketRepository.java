@@ -0,0 +1,111 @@
+package com.scms.app.repository;
+
+import com.scms.app.model.MileageBucketType;
+import com.scms.app.model.UserMileageBalanceBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자별 마일리지 잔액 버킷 Repository
+ */
+@Repository
+public interface UserMileageBalanceBucketRepository extends JpaRepository<UserMileageBalanceBucket, Long> {
+
+    /**
+     * 마일리지 1건 반영 (활동 타입 버킷과 월 버킷을 한 문장으로 가산)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_mileage_balance_bucket " +
+                   "(user_id, bucket_type, bucket_key, total_points, entry_count, updated_at) " +
+                   "VALUES (:userId, 'ACTIVITY', :activityType, :points, 1, NOW()), " +
+                   "(:userId, 'MONTH', :month, :points, 1, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE total_points = total_points + VALUES(total_points), " +
+                   "entry_count = entry_count + VALUES(entry_count), updated_at = NOW()",
+           nativeQuery = true)
+    int addEntry(@Param("userId") Integer userId,
+                 @Param("activityType") String activityType,
+                 @Param("month") String month,
+                 @Param("points") long points);
+
+    /**
+     * 버킷 하나의 합계/건수 증감 (정합성 보정용)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_mileage_balance_bucket " +
+                   "(user_id, bucket_type, bucket_key, total_points, entry_count, updated_at) " +
+                   "VALUES (:userId, :bucketType, :bucketKey, :points, :count, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE total_points = total_points + VALUES(total_points), " +
+                   "entry_count = entry_count + VALUES(entry_count), updated_at = NOW()",
+           nativeQuery = true)
+    int addToBucket(@Param("userId") Integer userId,
+                    @Param("bucketType") String bucketType,
+                    @Param("bucketKey") String bucketKey,
+                    @Param("points") long points,
+                    @Param("count") long count);
+
+    /**
+     * 사용자의 특정 구분 버킷 조회 (키 내림차순, 내역이 남아 있는 버킷만)
+     */
+    @Query("SELECT b FROM UserMileageBalanceBucket b " +
+           "WHERE b.userId = :userId " +
+           "AND b.bucketType = :bucketType " +
+           "AND b.entryCount > 0 " +
+           "ORDER BY b.bucketKey DESC")
+    List<UserMileageBalanceBucket> findByUserIdAndBucketType(
+            @Param("userId") Integer userId,
+            @Param("bucketType") MileageBucketType bucketType);
+
+    /**
+     * 여러 사용자의 버킷 일괄 조회 (정합성 검사용)
+     */
+    @Query("SELECT b FROM UserMileageBalanceBucket b WHERE b.userId IN :userIds")
+    List<UserMileageBalanceBucket> findByUserIdIn(@Param("userIds") Collection<Integer> userIds);
+
+    /**
+     * 전체 버킷 삭제 (재계산 전 초기화)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM user_mileage_balance_bucket", nativeQuery = true)
+    int deleteAllBuckets();
+
+    /**
+     * 원장으로부터 활동 타입별 버킷 재계산
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_mileage_balance_bucket " +
+                   "(user_id, bucket_type, bucket_key, total_points, entry_count, updated_at) " +
+                   "SELECT h.user_id, 'ACTIVITY', h.activity_type, SUM(h.points), COUNT(*), NOW() " +
+                   "FROM mileage_history h GROUP BY h.user_id, h.activity_type",
+           nativeQuery = true)
+    int rebuildActivityBuckets();
+
+    /**
+     * 원장으로부터 월별 버킷 재계산
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_mileage_balance_bucket " +
+                   "(user_id, bucket_type, bucket_key, total_points, entry_count, updated_at) " +
+                   "SELECT h.user_id, 'MONTH', " +
+                   "CONCAT(YEAR(h.earned_at), '-', LPAD(MONTH(h.earned_at), 2, '0')), " +
+                   "SUM(h.points), COUNT(*), NOW() " +
+                   "FROM mileage_history h " +
+                   "GROUP BY h.user_id, YEAR(h.earned_at), MONTH(h.earned_at)",
+           nativeQuery = true)
+    int rebuildMonthBuckets();
+
+    /**
+     * 원장에 내역이 없는 사용자의 버킷 삭제
+     */
+    @Modifying
+    @Query(value = "DELETE b FROM user_mileage_balance_bucket b " +
+                   "LEFT JOIN mileage_history h ON h.user_id = b.user_id " +
+                   "WHERE h.user_id IS NULL",
+           nativeQuery = true)
+    int deleteOrphans();
+}
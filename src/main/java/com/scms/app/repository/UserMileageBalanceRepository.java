@@ -0,0 +1,58 @@
+package com.scms.app.repository;
+
+import com.scms.app.model.UserMileageBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 사용자별 마일리지 잔액 Repository
+ */
+@Repository
+public interface UserMileageBalanceRepository extends JpaRepository<UserMileageBalance, Integer> {
+
+    /**
+     * 잔액 증감 (행이 없으면 생성, 있으면 원자적으로 가산)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_mileage_balance (user_id, total_points, updated_at) " +
+                   "VALUES (:userId, :points, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE total_points = total_points + :points, updated_at = NOW()",
+           nativeQuery = true)
+    int addPoints(@Param("userId") Integer userId, @Param("points") long points);
+
+    /**
+     * 원장(mileage_history)으로부터 전체 잔액 재계산
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_mileage_balance (user_id, total_points, updated_at) " +
+                   "SELECT h.user_id, SUM(h.points), NOW() FROM mileage_history h GROUP BY h.user_id " +
+                   "ON DUPLICATE KEY UPDATE total_points = VALUES(total_points), updated_at = NOW()",
+           nativeQuery = true)
+    int rebuildFromLedger();
+
+    /**
+     * 원장에 내역이 없는 잔액 행 삭제 (재계산 후 정리용)
+     */
+    @Modifying
+    @Query(value = "DELETE b FROM user_mileage_balance b " +
+                   "LEFT JOIN mileage_history h ON h.user_id = b.user_id " +
+                   "WHERE h.user_id IS NULL",
+           nativeQuery = true)
+    int deleteOrphans();
+
+    /**
+     * 랭킹 적재용 잔액 목록 조회 (삭제되지 않은 사용자만)
+     *
+     * @return List<[userId, name, department, totalPoints]>
+     */
+    @Query("SELECT b.userId, u.name, u.department, b.totalPoints " +
+           "FROM UserMileageBalance b, User u " +
+           "WHERE u.userId = b.userId " +
+           "AND u.deletedAt IS NULL")
+    List<Object[]> findLeaderboardRows();
+}
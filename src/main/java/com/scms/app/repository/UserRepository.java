@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -213,4 +214,10 @@ public interface UserRepository extends JpaRepository<User, Integer> {
      */
     @Query("SELECT COUNT(u) FROM User u WHERE u.locked = true AND u.deletedAt IS NULL")
     long countByLockedTrueAndDeletedFalse();
+
+    /**
+     * 존재하는 사용자 ID만 조회 (일괄 처리 시 대상 검증용)
+     */
+    @Query("SELECT u.userId FROM User u WHERE u.userId IN :userIds")
+    List<Integer> findExistingUserIds(@Param("userIds") Collection<Integer> userIds);
 }
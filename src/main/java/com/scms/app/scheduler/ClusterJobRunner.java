@@ -0,0 +1,58 @@
+package com.scms.app.scheduler;
+
+import com.scms.app.service.SchedulerLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 클러스터 단일 실행 도우미
+ * - 분산 잠금을 획득한 노드에서만 작업을 실행하고, 성공하면 완료 이력을 남김
+ * - 같은 기준 시각 이후 이미 완료된 작업은 다른 노드에서 다시 실행되지 않음
+ * - 작업의 쓰기는 각 트랜잭션 안에서 SchedulerLockService.fence로 임대를 확인(연장)한 뒤 수행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterJobRunner {
+
+    private final SchedulerLockService lockService;
+
+    /**
+     * 잠금을 획득한 경우에만 작업 실행
+     *
+     * @param jobName 작업(잠금) 이름
+     * @param notCompletedSince 이 시각 이후 완료 이력이 있으면 건너뜀 (null이면 실행 중 여부만 확인)
+     * @param job 실행할 작업 (임대를 받아 긴 작업 중 연장에 사용)
+     * @return 작업 결과 (다른 노드가 실행 중이거나 이미 완료된 경우 empty)
+     */
+    public <T> Optional<T> runOnce(String jobName, LocalDateTime notCompletedSince,
+                                   Function<SchedulerLockService.Lease, T> job) {
+        Optional<SchedulerLockService.Lease> acquired = lockService.tryAcquire(jobName, notCompletedSince);
+        if (acquired.isEmpty()) {
+            log.debug("다른 노드에서 실행 중이거나 이미 완료된 작업: jobName={}", jobName);
+            return Optional.empty();
+        }
+
+        SchedulerLockService.Lease lease = acquired.get();
+        try {
+            T result = job.apply(lease);
+            lockService.complete(lease);
+            return Optional.ofNullable(result);
+        } catch (RuntimeException e) {
+            lockService.release(lease);
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 노드 식별자
+     */
+    public String getNodeId() {
+        return lockService.getNodeId();
+    }
+}
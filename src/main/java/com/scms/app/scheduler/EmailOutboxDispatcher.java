@@ -0,0 +1,393 @@
+package com.scms.app.scheduler;
+
+import com.scms.app.dto.EmailOutboxStats;
+import com.scms.app.model.EmailOutbox;
+import com.scms.app.model.EmailOutboxStatus;
+import com.scms.app.service.EmailOutboxService;
+import com.scms.app.service.EmailTemplateRenderer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이메일 발송 대기열 처리기
+ * - 커밋 직후 또는 주기적으로 발송 시각이 된 메일을 묶음 단위로 선점하여 작업자 스레드에 배정
+ * - 작업자는 묶음 하나를 SMTP 연결 하나로 전송 (JavaMailSender.send(MimeMessage...))
+ * - 실패한 메일은 지수 백오프로 재시도하고, 최대 횟수를 넘거나 재시도해도 소용없는 오류면 발송 포기(DEAD)
+ * - 발송 후 결과 기록 전에 서버가 종료되면 선점 만료 후 다시 발송되므로 같은 메일이 중복 발송될 수 있음 (at-least-once)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxService outboxService;
+    private final JavaMailSender mailSender;
+    private final EmailTemplateRenderer templateRenderer;
+    private final ClusterJobRunner jobRunner;
+
+    @Value("${spring.mail.username}")
+    private String fromEmail;
+
+    @Value("${email.outbox.workers:4}")
+    private int workers;
+
+    @Value("${email.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${email.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${email.outbox.backoff-initial-seconds:30}")
+    private long backoffInitialSeconds;
+
+    @Value("${email.outbox.backoff-max-seconds:3600}")
+    private long backoffMaxSeconds;
+
+    @Value("${email.outbox.claim-timeout-seconds:300}")
+    private long claimTimeoutSeconds;
+
+    @Value("${email.outbox.shutdown-wait-seconds:20}")
+    private long shutdownWaitSeconds;
+
+    @Value("${email.outbox.sent-retention-days:7}")
+    private int sentRetentionDays;
+
+    private ThreadPoolExecutor workerPool;
+    private ExecutorService pollExecutor;
+
+    private final AtomicBoolean polling = new AtomicBoolean(false);
+    private final AtomicBoolean pollRequested = new AtomicBoolean(false);
+    private final AtomicInteger activeBatches = new AtomicInteger();
+    private volatile boolean shuttingDown = false;
+
+    // 지표 (현재 서버 기동 이후 누적)
+    private final LongAdder sentTotal = new LongAdder();
+    private final LongAdder retriedTotal = new LongAdder();
+    private final LongAdder deadLetteredTotal = new LongAdder();
+    private final LongAdder smtpBatches = new LongAdder();
+    private final LongAdder smtpBatchMsTotal = new LongAdder();
+    private final AtomicLong maxSmtpBatchMs = new AtomicLong();
+    private final LongAdder deliveryMsTotal = new LongAdder();
+    private final AtomicLong maxDeliveryMs = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        // 선점한 묶음 수를 작업자 수 이하로 제한하므로 대기 큐가 가득 차는 일은 없음
+        workerPool = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers), threadFactory("email-outbox-worker-"));
+        pollExecutor = Executors.newSingleThreadExecutor(threadFactory("email-outbox-poller-"));
+        log.info("이메일 발송 대기열 처리기 시작: workers={}, batchSize={}, maxAttempts={}",
+                workers, batchSize, maxAttempts);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shuttingDown = true;
+        pollExecutor.shutdownNow();
+        workerPool.shutdown();
+        try {
+            if (!workerPool.awaitTermination(shutdownWaitSeconds, TimeUnit.SECONDS)) {
+                workerPool.shutdownNow();
+                log.warn("발송 중인 메일을 기다리지 못하고 종료합니다. 선점 만료 후 다시 발송됩니다.");
+            }
+        } catch (InterruptedException e) {
+            workerPool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 대기열 처리 요청
+     */
+    public void requestPollAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    requestPoll();
+                }
+            });
+        } else {
+            requestPoll();
+        }
+    }
+
+    /**
+     * 주기적 대기열 처리 (다른 서버에서 저장된 메일, 재시도 시각이 된 메일, 만료된 선점 복구)
+     */
+    @Scheduled(initialDelayString = "${email.outbox.poll-ms:5000}",
+               fixedDelayString = "${email.outbox.poll-ms:5000}")
+    public void scheduledPoll() {
+        try {
+            outboxService.releaseExpiredClaims();
+            poll();
+        } catch (Exception e) {
+            log.error("이메일 발송 대기열 처리 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 발송 완료 메일 정리
+     * 매일 새벽 3시 30분 실행
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void cleanupSent() {
+        try {
+            jobRunner.runOnce("email.outbox.cleanup", LocalDate.now().atStartOfDay(),
+                    lease -> outboxService.deleteSentBefore(LocalDateTime.now().minusDays(sentRetentionDays)))
+                    .ifPresent(count -> log.info("발송 완료 메일 정리 완료: 삭제된 메일 수={}", count));
+        } catch (Exception e) {
+            log.error("발송 완료 메일 정리 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 대기열 지표 조회
+     */
+    public EmailOutboxStats getStats() {
+        Map<EmailOutboxStatus, Long> depth = outboxService.getQueueDepth();
+        LocalDateTime oldestPending = outboxService.getOldestPendingCreatedAt();
+        long batches = smtpBatches.sum();
+        long sent = sentTotal.sum();
+
+        return EmailOutboxStats.builder()
+                .pending(depth.get(EmailOutboxStatus.PENDING))
+                .sending(depth.get(EmailOutboxStatus.SENDING))
+                .sent(depth.get(EmailOutboxStatus.SENT))
+                .dead(depth.get(EmailOutboxStatus.DEAD))
+                .oldestPendingSeconds(oldestPending != null
+                        ? Duration.between(oldestPending, LocalDateTime.now()).getSeconds() : 0L)
+                .workers(workers)
+                .activeBatches(activeBatches.get())
+                .sentTotal(sent)
+                .retriedTotal(retriedTotal.sum())
+                .deadLetteredTotal(deadLetteredTotal.sum())
+                .smtpBatches(batches)
+                .avgSmtpBatchMs(batches > 0 ? (double) smtpBatchMsTotal.sum() / batches : 0.0)
+                .maxSmtpBatchMs(maxSmtpBatchMs.get())
+                .avgDeliveryMs(sent > 0 ? (double) deliveryMsTotal.sum() / sent : 0.0)
+                .maxDeliveryMs(maxDeliveryMs.get())
+                .build();
+    }
+
+    private void requestPoll() {
+        if (shuttingDown) {
+            return;
+        }
+        pollRequested.set(true);
+        if (!polling.get()) {
+            try {
+                pollExecutor.execute(this::poll);
+            } catch (RejectedExecutionException e) {
+                // 종료 중이면 무시 (남은 메일은 다음 기동 후 발송)
+            }
+        }
+    }
+
+    /**
+     * 작업자 여유가 있는 동안 메일을 선점하여 배정
+     * 동시에 한 스레드만 실행하고, 실행 중 들어온 요청은 끝난 뒤 한 번 더 처리
+     */
+    private void poll() {
+        if (!polling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            do {
+                pollRequested.set(false);
+                claimAndSubmit();
+            } while (pollRequested.get() && !shuttingDown);
+        } catch (Exception e) {
+            log.error("이메일 발송 대기열 선점 실패: error={}", e.getMessage(), e);
+        } finally {
+            polling.set(false);
+        }
+    }
+
+    private void claimAndSubmit() {
+        while (!shuttingDown && activeBatches.get() < workers) {
+            List<EmailOutbox> batch = outboxService.claimDue(batchSize,
+                    LocalDateTime.now().plusSeconds(claimTimeoutSeconds));
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            activeBatches.incrementAndGet();
+            workerPool.execute(() -> {
+                try {
+                    sendBatch(batch);
+                } catch (Exception e) {
+                    log.error("이메일 묶음 발송 처리 실패: size={}, error={}", batch.size(), e.getMessage(), e);
+                } finally {
+                    activeBatches.decrementAndGet();
+                }
+                if (batch.size() == batchSize) {
+                    // 묶음이 가득 찼으면 남은 메일이 있을 수 있으므로 바로 이어서 처리
+                    requestPoll();
+                }
+            });
+
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 묶음 발송 (SMTP 연결 1회)
+     */
+    private void sendBatch(List<EmailOutbox> batch) {
+        Map<MimeMessage, EmailOutbox> messages = new LinkedHashMap<>();
+        for (EmailOutbox outbox : batch) {
+            try {
+                messages.put(createMessage(outbox), outbox);
+            } catch (Exception e) {
+                // 렌더링/주소 오류는 재시도해도 같으므로 바로 발송 포기
+                handleFailure(outbox, e, true);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        long startNanos = System.nanoTime();
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages().isEmpty() ? failAll(messages, e) : e.getFailedMessages();
+        } catch (MailException e) {
+            failures = failAll(messages, e);
+        }
+        recordSmtpBatch(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+
+        List<Long> sentIds = new ArrayList<>(messages.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<MimeMessage, EmailOutbox> entry : messages.entrySet()) {
+            EmailOutbox outbox = entry.getValue();
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                sentIds.add(outbox.getOutboxId());
+                recordDelivery(Duration.between(outbox.getCreatedAt(), now).toMillis());
+            } else {
+                handleFailure(outbox, failure, isPermanent(failure));
+            }
+        }
+
+        outboxService.markSent(sentIds);
+        sentTotal.add(sentIds.size());
+        log.debug("이메일 묶음 발송 완료: sent={}, failed={}", sentIds.size(), failures.size());
+    }
+
+    private MimeMessage createMessage(EmailOutbox outbox) throws MessagingException {
+        String htmlContent = templateRenderer.render(outbox.getTemplateName(), outboxService.readVariables(outbox));
+
+        // 첨부 파일이 없으므로 multipart 없이 text/html 단일 파트로 구성
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+        helper.setFrom(fromEmail);
+        helper.setTo(outbox.getToEmail());
+        helper.setSubject(outbox.getSubject());
+        helper.setText(htmlContent, true);  // true = HTML
+        return message;
+    }
+
+    private void handleFailure(EmailOutbox outbox, Exception e, boolean permanent) {
+        int attempt = outbox.getAttempts() + 1;
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+
+        if (permanent || attempt >= maxAttempts) {
+            outboxService.markDead(outbox.getOutboxId(), error);
+            deadLetteredTotal.increment();
+            log.error("이메일 발송 포기: outboxId={}, to={}, attempts={}, error={}",
+                    outbox.getOutboxId(), outbox.getToEmail(), attempt, error);
+            return;
+        }
+
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plusSeconds(backoffSeconds(attempt));
+        outboxService.markRetry(outbox.getOutboxId(), nextAttemptAt, error);
+        retriedTotal.increment();
+        log.warn("이메일 발송 실패, 재시도 예약: outboxId={}, to={}, attempts={}, nextAttemptAt={}, error={}",
+                outbox.getOutboxId(), outbox.getToEmail(), attempt, nextAttemptAt, error);
+    }
+
+    /**
+     * 재시도 대기 시간 (초기값 x 2^(시도-1), 최대값 제한, 최대 20% 지터)
+     */
+    private long backoffSeconds(int attempt) {
+        long delay = backoffInitialSeconds << Math.min(attempt - 1, 20);
+        delay = Math.min(delay, backoffMaxSeconds);
+        return delay + ThreadLocalRandom.current().nextLong(delay / 5 + 1);
+    }
+
+    private static boolean isPermanent(Exception e) {
+        return e instanceof MailPreparationException
+                || e instanceof MailParseException
+                || e instanceof AddressException;
+    }
+
+    private static Map<Object, Exception> failAll(Map<MimeMessage, EmailOutbox> messages, Exception e) {
+        Map<Object, Exception> failures = new HashMap<>();
+        for (MimeMessage message : messages.keySet()) {
+            failures.put(message, e);
+        }
+        return failures;
+    }
+
+    private void recordSmtpBatch(long elapsedMs) {
+        smtpBatches.increment();
+        smtpBatchMsTotal.add(elapsedMs);
+        maxSmtpBatchMs.accumulateAndGet(elapsedMs, Math::max);
+    }
+
+    private void recordDelivery(long deliveryMs) {
+        deliveryMsTotal.add(deliveryMs);
+        maxDeliveryMs.accumulateAndGet(deliveryMs, Math::max);
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,133 @@
+package com.scms.app.scheduler;
+
+import com.scms.app.dto.MileageReconcileReport;
+import com.scms.app.repository.MileageHistoryRepository;
+import com.scms.app.service.MileageBalanceService;
+import com.scms.app.service.SchedulerLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 마일리지 잔액 정합성 검사 스케줄러
+ * - 원장(mileage_history)에서 사용자별 합계를 청크 단위로 다시 계산하여 요약 테이블과 비교
+ * - 불일치가 있으면 차이만큼 보정하고 결과를 로그와 최근 검사 결과로 남김
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MileageBalanceReconciler {
+
+    private static final int SAMPLE_SIZE = 20;
+    private static final String LOCK_NAME = "mileage.balance-reconcile";
+
+    private final MileageHistoryRepository mileageHistoryRepository;
+    private final MileageBalanceService balanceService;
+    private final ClusterJobRunner jobRunner;
+
+    @Value("${mileage.reconcile.chunk-size:500}")
+    private int chunkSize;
+
+    private volatile MileageReconcileReport lastReport;
+
+    /**
+     * 정기 정합성 검사
+     * 기본 매일 새벽 3시 30분 실행
+     */
+    @Scheduled(cron = "${mileage.reconcile.cron:0 30 3 * * *}")
+    public void scheduledReconcile() {
+        try {
+            // 여러 서버 중 한 곳에서 하루 한 번만 실행
+            jobRunner.runOnce(LOCK_NAME, LocalDate.now().atStartOfDay(), this::runReconcile);
+        } catch (Exception e) {
+            log.error("마일리지 잔액 정합성 검사 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 정합성 검사 즉시 실행 (관리자용)
+     */
+    public MileageReconcileReport reconcile() {
+        return jobRunner.runOnce(LOCK_NAME, null, this::runReconcile)
+                .orElseThrow(() -> new IllegalStateException("이미 마일리지 정합성 검사가 진행 중입니다."));
+    }
+
+    /**
+     * 정합성 검사 실행
+     * 사용자 ID 순으로 청크를 나누어 청크마다 별도 트랜잭션으로 처리
+     * 두 서버가 동시에 보정하면 차이가 두 번 반영되므로 분산 잠금을 잡은 상태에서만 실행
+     */
+    private MileageReconcileReport runReconcile(SchedulerLockService.Lease lease) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        log.info("마일리지 잔액 정합성 검사 시작: chunkSize={}", chunkSize);
+
+        int chunks = 0;
+        int checkedUsers = 0;
+        int driftedUsers = 0;
+        int driftedBuckets = 0;
+        long totalDriftPoints = 0;
+        List<Integer> sample = new ArrayList<>();
+
+        Integer lastUserId = 0;
+        while (true) {
+            List<Integer> userIds = mileageHistoryRepository.findUserIdsAfter(
+                    lastUserId, PageRequest.of(0, chunkSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            MileageBalanceService.ReconcileResult result = balanceService.reconcileChunk(userIds, lease);
+            chunks++;
+            checkedUsers += result.checkedUsers();
+            driftedUsers += result.driftedUserIds().size();
+            driftedBuckets += result.driftedBuckets();
+            totalDriftPoints += result.driftPoints();
+            for (Integer userId : result.driftedUserIds()) {
+                if (sample.size() >= SAMPLE_SIZE) {
+                    break;
+                }
+                sample.add(userId);
+            }
+
+            lastUserId = userIds.get(userIds.size() - 1);
+        }
+
+        int removedOrphans = balanceService.deleteOrphans(lease);
+
+        MileageReconcileReport report = MileageReconcileReport.builder()
+                .startedAt(startedAt)
+                .finishedAt(LocalDateTime.now())
+                .chunks(chunks)
+                .checkedUsers(checkedUsers)
+                .driftedUsers(driftedUsers)
+                .driftedBuckets(driftedBuckets)
+                .totalDriftPoints(totalDriftPoints)
+                .removedOrphans(removedOrphans)
+                .sampleDriftedUserIds(sample)
+                .build();
+        lastReport = report;
+
+        if (driftedUsers > 0 || removedOrphans > 0) {
+            log.warn("마일리지 잔액 정합성 검사 완료 (불일치 보정): 검사={}, 불일치 사용자={}, 불일치 버킷={}, " +
+                            "불일치 포인트={}, 정리={}, 예시={}",
+                    checkedUsers, driftedUsers, driftedBuckets, totalDriftPoints, removedOrphans, sample);
+        } else {
+            log.info("마일리지 잔액 정합성 검사 완료: 검사={}, 청크={}", checkedUsers, chunks);
+        }
+        return report;
+    }
+
+    /**
+     * 최근 정합성 검사 결과 (실행 이력이 없으면 null)
+     */
+    public MileageReconcileReport getLastReport() {
+        return lastReport;
+    }
+}
@@ -0,0 +1,162 @@
+package com.scms.app.scheduler;
+
+import com.scms.app.dto.NotificationPurgeReport;
+import com.scms.app.service.NotificationPurgeService;
+import com.scms.app.service.NotificationPushService;
+import com.scms.app.service.SchedulerLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오래된 알림 정리 작업
+ * 1단계: 보존 기간이 지난 알림을 알림 ID 구간(청크) 단위로 Soft Delete
+ *        (읽은 지 30일 또는 생성된 지 90일이 지난 알림)
+ * 2단계: Soft Delete된 지 오래된 알림을 보관 테이블로 이동하거나 영구 삭제
+ * 청크마다 짧은 트랜잭션으로 커밋하고 잠시 쉬어, 정리 중에도 알림 조회가 잠금에 막히지 않도록 함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationPurger {
+
+    private static final int PROGRESS_LOG_INTERVAL = 20;
+
+    private final NotificationPurgeService purgeService;
+    private final NotificationPushService pushService;
+
+    @Value("${notification.purge.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${notification.purge.pause-ms:200}")
+    private long pauseMs;
+
+    @Value("${notification.purge.read-retention-days:30}")
+    private int readRetentionDays;
+
+    @Value("${notification.purge.retention-days:90}")
+    private int retentionDays;
+
+    @Value("${notification.purge.archive-after-days:30}")
+    private int archiveAfterDays;
+
+    @Value("${notification.purge.mode:archive}")
+    private String mode; // archive: 보관 테이블로 이동, delete: 영구 삭제
+
+    @Value("${notification.purge.max-duration-minutes:60}")
+    private long maxDurationMinutes;
+
+    private volatile NotificationPurgeReport lastReport;
+
+    /**
+     * 정리 실행
+     * 최대 실행 시간을 넘기면 중단하고 남은 대상은 다음 실행에서 이어서 처리
+     */
+    public NotificationPurgeReport purge(SchedulerLockService.Lease lease) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime deadline = startedAt.plusMinutes(maxDurationMinutes);
+        log.info("오래된 알림 정리 시작: chunkSize={}, pauseMs={}, mode={}", chunkSize, pauseMs, mode);
+
+        int chunks = 0;
+        int softDeleted = 0;
+        int archived = 0;
+        int hardDeleted = 0;
+        boolean completed = true;
+
+        // 1단계: 보존 기간이 지난 알림 Soft Delete (ID 구간 단위)
+        LocalDateTime readCutoff = startedAt.minusDays(readRetentionDays);
+        LocalDateTime createdCutoff = startedAt.minusDays(retentionDays);
+        int[] range = purgeService.findExpiredIdRange(readCutoff);
+        if (range != null) {
+            for (int fromId = range[0]; fromId <= range[1]; fromId += chunkSize) {
+                if (LocalDateTime.now().isAfter(deadline)) {
+                    completed = false;
+                    break;
+                }
+                int toId = (int) Math.min((long) fromId + chunkSize - 1, range[1]);
+                softDeleted += purgeService.softDeleteExpired(fromId, toId, readCutoff, createdCutoff, lease);
+                chunks++;
+                logProgress(chunks, softDeleted, archived, hardDeleted);
+                pause();
+            }
+        }
+
+        // 2단계: Soft Delete된 지 오래된 알림 이동/삭제 (keyset)
+        LocalDateTime deletedCutoff = startedAt.minusDays(archiveAfterDays);
+        boolean archive = !"delete".equalsIgnoreCase(mode);
+        int afterId = 0;
+        while (completed) {
+            if (LocalDateTime.now().isAfter(deadline)) {
+                completed = false;
+                break;
+            }
+
+            List<Integer> ids = purgeService.findDeletedIds(deletedCutoff, afterId, chunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            if (archive) {
+                archived += purgeService.archive(ids, lease);
+            } else {
+                hardDeleted += purgeService.hardDelete(ids, lease);
+            }
+            afterId = ids.get(ids.size() - 1);
+            chunks++;
+            logProgress(chunks, softDeleted, archived, hardDeleted);
+            pause();
+        }
+
+        // 접속 중인 사용자의 읽지 않은 개수 재동기화
+        if (softDeleted > 0) {
+            pushService.resyncUnreadCounts();
+        }
+
+        LocalDateTime finishedAt = LocalDateTime.now();
+        NotificationPurgeReport report = NotificationPurgeReport.builder()
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .elapsedMs(Duration.between(startedAt, finishedAt).toMillis())
+                .chunks(chunks)
+                .softDeleted(softDeleted)
+                .archived(archived)
+                .hardDeleted(hardDeleted)
+                .completed(completed)
+                .build();
+        lastReport = report;
+
+        log.info("오래된 알림 정리 완료: softDeleted={}, archived={}, hardDeleted={}, chunks={}, elapsedMs={}, completed={}",
+                softDeleted, archived, hardDeleted, chunks, report.getElapsedMs(), completed);
+        return report;
+    }
+
+    /**
+     * 최근 정리 결과 (실행 이력이 없으면 null)
+     */
+    public NotificationPurgeReport getLastReport() {
+        return lastReport;
+    }
+
+    private void logProgress(int chunks, int softDeleted, int archived, int hardDeleted) {
+        if (chunks % PROGRESS_LOG_INTERVAL == 0) {
+            log.info("오래된 알림 정리 진행 중: chunks={}, softDeleted={}, archived={}, hardDeleted={}",
+                    chunks, softDeleted, archived, hardDeleted);
+        }
+    }
+
+    private void pause() {
+        if (pauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("알림 정리 작업이 중단되었습니다.", e);
+        }
+    }
+}
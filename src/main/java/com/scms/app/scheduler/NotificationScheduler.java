@@ -3,33 +3,47 @@ package com.scms.app.scheduler;
 import com.scms.app.model.ApplicationStatus;
 import com.scms.app.model.NotificationType;
 import com.scms.app.model.Program;
-import com.scms.app.model.ProgramApplication;
-import com.scms.app.repository.ProgramApplicationRepository;
+import com.scms.app.model.ProgramStatus;
 import com.scms.app.repository.ProgramRepository;
 import com.scms.app.service.NotificationService;
+import com.scms.app.service.SchedulerLockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * 알림 스케줄러
  * - 프로그램 시작 알림 (D-1)
  * - 마감 임박 알림 (D-3)
  * - 오래된 알림 정리
+ * 여러 서버에서 동시에 실행되어도 분산 잠금으로 하루 한 번만 처리되며,
+ * 알림 발송은 프로그램 ID 구간(shard) 단위로 나누어 여러 서버가 병렬로 처리할 수 있음
+ * 실패했거나 처리되지 못한 구간은 같은 날 재시도 스케줄에서 다시 처리
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationScheduler {
 
+    private static final LocalTime SEND_TIME = LocalTime.of(9, 0);
+
     private final NotificationService notificationService;
     private final ProgramRepository programRepository;
-    private final ProgramApplicationRepository applicationRepository;
+    private final ClusterJobRunner jobRunner;
+    private final NotificationPurger notificationPurger;
+
+    @Value("${scheduler.notification.shard-size:0}")
+    private int shardSize; // 샤드당 프로그램 ID 구간 크기 (0이면 샤딩하지 않음)
 
     /**
      * 프로그램 시작 알림 (D-1)
@@ -41,35 +55,12 @@ public class NotificationScheduler {
         log.info("프로그램 시작 알림 스케줄러 시작");
 
         try {
-            LocalDate tomorrow = LocalDate.now().plusDays(1);
-
-            // 내일 시작하는 프로그램 조회
-            List<Program> programs = programRepository.findProgramsStartingOn(tomorrow);
-
-            int notificationCount = 0;
-            for (Program program : programs) {
-                // 승인된 사용자에게만 알림
-                List<ProgramApplication> approvedApplications =
-                        applicationRepository.findByProgramIdAndStatus(
-                                program.getProgramId(),
-                                ApplicationStatus.APPROVED);
-
-                for (ProgramApplication application : approvedApplications) {
-                    try {
-                        String relatedUrl = "/programs/" + program.getProgramId();
-                        notificationService.createNotificationByType(
-                                application.getUser().getUserId(),
-                                NotificationType.PROGRAM_STARTING,
-                                program.getTitle(),
-                                relatedUrl
-                        );
-                        notificationCount++;
-                    } catch (Exception e) {
-                        log.error("프로그램 시작 알림 생성 실패: programId={}, userId={}, error={}",
-                                program.getProgramId(), application.getUser().getUserId(), e.getMessage());
-                    }
-                }
-            }
+            LocalDate today = LocalDate.now();
+            List<Program> programs = findProgramsStartingTomorrow(today);
+
+            // 승인된 사용자에게만 알림
+            int notificationCount = sendToApplicants("notification.program-starting", programs,
+                    ApplicationStatus.APPROVED, NotificationType.PROGRAM_STARTING, today);
 
             log.info("프로그램 시작 알림 발송 완료: 프로그램 수={}, 알림 수={}",
                     programs.size(), notificationCount);
@@ -88,36 +79,13 @@ public class NotificationScheduler {
         log.info("마감 임박 알림 스케줄러 시작");
 
         try {
-            LocalDate threeDaysLater = LocalDate.now().plusDays(3);
-
-            // 3일 후 마감되는 프로그램 조회
-            List<Program> programs = programRepository.findProgramsWithDeadlineOn(threeDaysLater);
-
-            int notificationCount = 0;
-            for (Program program : programs) {
-                // 신청한 사용자 중 PENDING 상태인 사람들에게만 알림
-                // (승인 대기 중인 사용자에게 마감 임박 알림)
-                List<ProgramApplication> pendingApplications =
-                        applicationRepository.findByProgramIdAndStatus(
-                                program.getProgramId(),
-                                ApplicationStatus.PENDING);
-
-                for (ProgramApplication application : pendingApplications) {
-                    try {
-                        String relatedUrl = "/programs/" + program.getProgramId();
-                        notificationService.createNotificationByType(
-                                application.getUser().getUserId(),
-                                NotificationType.DEADLINE_APPROACHING,
-                                program.getTitle(),
-                                relatedUrl
-                        );
-                        notificationCount++;
-                    } catch (Exception e) {
-                        log.error("마감 임박 알림 생성 실패: programId={}, userId={}, error={}",
-                                program.getProgramId(), application.getUser().getUserId(), e.getMessage());
-                    }
-                }
-            }
+            LocalDate today = LocalDate.now();
+            List<Program> programs = findProgramsWithDeadlineIn3Days(today);
+
+            // 신청한 사용자 중 PENDING 상태인 사람들에게만 알림
+            // (승인 대기 중인 사용자에게 마감 임박 알림)
+            int notificationCount = sendToApplicants("notification.deadline-approaching", programs,
+                    ApplicationStatus.PENDING, NotificationType.DEADLINE_APPROACHING, today);
 
             log.info("마감 임박 알림 발송 완료: 프로그램 수={}, 알림 수={}",
                     programs.size(), notificationCount);
@@ -126,19 +94,130 @@ public class NotificationScheduler {
         }
     }
 
+    /**
+     * 실패한 알림 구간 재시도
+     * 기본 10분마다 실행하며, 오늘 발송 시각(9시) 이후에만 동작
+     * 오늘 완료 이력이 있는 구간은 잠금 획득 단계에서 건너뛰므로 실패했거나 처리되지 못한 구간만 다시 처리
+     */
+    @Scheduled(initialDelayString = "${scheduler.notification.retry-ms:600000}",
+               fixedDelayString = "${scheduler.notification.retry-ms:600000}")
+    public void retryIncompleteNotifications() {
+        if (LocalTime.now().isBefore(SEND_TIME)) {
+            return;
+        }
+
+        try {
+            LocalDate today = LocalDate.now();
+            int starting = sendToApplicants("notification.program-starting", findProgramsStartingTomorrow(today),
+                    ApplicationStatus.APPROVED, NotificationType.PROGRAM_STARTING, today);
+            int deadline = sendToApplicants("notification.deadline-approaching", findProgramsWithDeadlineIn3Days(today),
+                    ApplicationStatus.PENDING, NotificationType.DEADLINE_APPROACHING, today);
+            if (starting + deadline > 0) {
+                log.info("알림 구간 재시도 발송 완료: 시작 알림 수={}, 마감 임박 알림 수={}", starting, deadline);
+            }
+        } catch (Exception e) {
+            log.error("알림 구간 재시도 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 내일 시작하는 프로그램 조회 (시작 시각 범위 조건으로 인덱스 사용)
+     */
+    private List<Program> findProgramsStartingTomorrow(LocalDate today) {
+        return programRepository.findProgramsStartingBetween(
+                today.plusDays(1).atStartOfDay(), today.plusDays(2).atStartOfDay());
+    }
+
+    /**
+     * 3일 후 마감되는 프로그램 조회 (마감 시각 범위 조건으로 인덱스 사용)
+     */
+    private List<Program> findProgramsWithDeadlineIn3Days(LocalDate today) {
+        return programRepository.findProgramsWithDeadlineBetween(
+                List.of(ProgramStatus.OPEN, ProgramStatus.FULL),
+                today.plusDays(3).atStartOfDay(), today.plusDays(4).atStartOfDay());
+    }
+
+    /**
+     * 프로그램별 신청자 알림 일괄 생성
+     * 프로그램 ID 구간별로 잠금을 잡고 처리하며, 다른 서버가 처리 중이거나 오늘 완료한 구간은 건너뜀
+     * 프로그램 하나가 실패해도 같은 구간의 나머지 프로그램은 계속 처리하되, 실패가 있으면 구간을 완료로 기록하지 않음
+     * (완료 기록이 없는 구간은 retryIncompleteNotifications에서 다시 처리)
+     */
+    private int sendToApplicants(String jobName, List<Program> programs, ApplicationStatus status,
+                                 NotificationType type, LocalDate sendDate) {
+        Map<String, List<Program>> shards = splitIntoShards(jobName, programs);
+
+        // 서버마다 다른 구간부터 시작하여 잠금 경합을 줄임
+        List<String> lockNames = new ArrayList<>(shards.keySet());
+        Collections.rotate(lockNames, Math.floorMod(jobRunner.getNodeId().hashCode(), Math.max(1, lockNames.size())));
+
+        int notificationCount = 0;
+        for (String lockName : lockNames) {
+            try {
+                notificationCount += jobRunner.runOnce(lockName, sendDate.atStartOfDay(), lease -> {
+                    int count = 0;
+                    int failed = 0;
+                    for (Program program : shards.get(lockName)) {
+                        try {
+                            count += notificationService.createProgramNotifications(
+                                    program, status, type, sendDate, lease);
+                        } catch (SchedulerLockService.LeaseLostException e) {
+                            throw e;
+                        } catch (Exception e) {
+                            failed++;
+                            log.error("프로그램 알림 생성 실패: programId={}, type={}, error={}",
+                                    program.getProgramId(), type, e.getMessage());
+                        }
+                    }
+                    if (failed > 0) {
+                        // 완료 이력을 남기지 않아 재시도 스케줄에서 구간 전체를 다시 처리 (이미 보낸 알림은 중복 방지로 건너뜀)
+                        throw new IllegalStateException("프로그램 알림 생성 실패 " + failed + "건 (생성된 알림 " + count + "건)");
+                    }
+                    return count;
+                }).orElse(0);
+            } catch (Exception e) {
+                // 잠금을 잃은 구간은 잠금을 가져간 서버가 이어서 처리함
+                log.error("알림 구간 처리 중단: lockName={}, error={}", lockName, e.getMessage());
+            }
+        }
+        return notificationCount;
+    }
+
+    /**
+     * 프로그램 ID 구간별로 분할 (잠금 이름 -> 프로그램 목록)
+     * 구간은 ID만으로 정해지므로 모든 서버에서 같은 샤드 이름을 사용함
+     */
+    private Map<String, List<Program>> splitIntoShards(String jobName, List<Program> programs) {
+        Map<String, List<Program>> shards = new TreeMap<>();
+        if (shardSize <= 0) {
+            shards.put(jobName, programs);
+            return shards;
+        }
+
+        for (Program program : programs) {
+            int rangeStart = ((program.getProgramId() - 1) / shardSize) * shardSize + 1;
+            String lockName = jobName + ":" + rangeStart + "-" + (rangeStart + shardSize - 1);
+            shards.computeIfAbsent(lockName, k -> new ArrayList<>()).add(program);
+        }
+        return shards;
+    }
+
     /**
      * 오래된 알림 정리
      * 매일 자정 실행
-     * - 30일 이전 읽은 알림 삭제
-     * - 90일 이전 모든 알림 삭제
+     * - 30일 이전 읽은 알림, 90일 이전 모든 알림 Soft Delete
+     * - Soft Delete된 지 30일이 지난 알림은 보관 테이블로 이동 (또는 영구 삭제)
+     * - 청크 단위로 나누어 처리 (NotificationPurger)
      */
     @Scheduled(cron = "0 0 0 * * *")
     public void cleanupOldNotifications() {
         log.info("오래된 알림 정리 스케줄러 시작");
 
         try {
-            int count = notificationService.cleanupOldNotifications();
-            log.info("오래된 알림 정리 완료: 삭제된 알림 수={}", count);
+            jobRunner.runOnce("notification.cleanup", LocalDate.now().atStartOfDay(),
+                    notificationPurger::purge)
+                    .ifPresent(report -> log.info("오래된 알림 정리 완료: softDeleted={}, archived={}, hardDeleted={}",
+                            report.getSoftDeleted(), report.getArchived(), report.getHardDeleted()));
         } catch (Exception e) {
             log.error("오래된 알림 정리 스케줄러 실패: error={}", e.getMessage(), e);
         }
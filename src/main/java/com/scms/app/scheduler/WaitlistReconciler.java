@@ -0,0 +1,39 @@
+package com.scms.app.scheduler;
+
+import com.scms.app.service.WaitlistService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기자 승격 보정 스케줄러
+ * - 좌석이 남았는데 대기자가 있는 프로그램을 찾아 남은 좌석만큼 대기자를 승격
+ * - 좌석 확보/승격이 모두 조건부 UPDATE이므로 여러 서버에서 동시에 실행해도 안전
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WaitlistReconciler {
+
+    private final WaitlistService waitlistService;
+
+    @Scheduled(initialDelayString = "${program.waitlist.reconcile-ms:30000}",
+               fixedDelayString = "${program.waitlist.reconcile-ms:30000}")
+    public void reconcile() {
+        try {
+            for (Integer programId : waitlistService.findProgramsToFill()) {
+                try {
+                    int promoted = waitlistService.fillFreeSeats(programId);
+                    if (promoted > 0) {
+                        log.info("남은 좌석으로 대기자 승격: programId={}, 승격 수={}", programId, promoted);
+                    }
+                } catch (Exception e) {
+                    log.error("대기자 승격 보정 실패: programId={}, error={}", programId, e.getMessage(), e);
+                }
+            }
+        } catch (Exception e) {
+            log.error("대기자 승격 보정 대상 조회 실패: error={}", e.getMessage(), e);
+        }
+    }
+}
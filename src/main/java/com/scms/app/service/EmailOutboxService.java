@@ -0,0 +1,176 @@
+package com.scms.app.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scms.app.model.EmailOutbox;
+import com.scms.app.model.EmailOutboxStatus;
+import com.scms.app.repository.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 이메일 발송 대기열 서비스
+ * - 발송 요청은 호출한 업무 트랜잭션에 참여하여 저장 (롤백되면 메일도 발송되지 않음)
+ * - 선점/결과 기록은 EmailOutboxDispatcher의 작업자 스레드에서 짧은 트랜잭션으로 호출
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class EmailOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final TypeReference<Map<String, String>> VARIABLES_TYPE = new TypeReference<>() {};
+
+    private final EmailOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 발송 대기열에 메일 추가
+     *
+     * @param toEmail 수신자 이메일
+     * @param subject 제목
+     * @param templateName 템플릿 이름 (예: email/verification)
+     * @param variables 템플릿 변수
+     */
+    @Transactional
+    public EmailOutbox enqueue(String toEmail, String subject, String templateName, Map<String, String> variables) {
+        EmailOutbox outbox = EmailOutbox.builder()
+                .toEmail(toEmail)
+                .subject(subject)
+                .templateName(templateName)
+                .templateVariables(writeVariables(variables))
+                .build();
+        return outboxRepository.save(outbox);
+    }
+
+    /**
+     * 발송 시각이 된 메일을 최대 limit건 선점하여 조회
+     *
+     * @param lockedUntil 이 시각까지 결과가 기록되지 않으면 다시 대기 상태로 복구
+     */
+    @Transactional
+    public List<EmailOutbox> claimDue(int limit, LocalDateTime lockedUntil) {
+        String claimToken = UUID.randomUUID().toString();
+        int claimed = outboxRepository.claimDue(claimToken, lockedUntil, limit);
+        if (claimed == 0) {
+            return List.of();
+        }
+        return outboxRepository.findByClaimToken(claimToken);
+    }
+
+    @Transactional
+    public void markSent(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            outboxRepository.markSent(ids, LocalDateTime.now());
+        }
+    }
+
+    @Transactional
+    public void markRetry(Long id, LocalDateTime nextAttemptAt, String error) {
+        outboxRepository.markRetry(id, nextAttemptAt, truncate(error));
+    }
+
+    @Transactional
+    public void markDead(Long id, String error) {
+        outboxRepository.markDead(id, truncate(error));
+    }
+
+    /**
+     * 만료된 선점 복구
+     */
+    @Transactional
+    public int releaseExpiredClaims() {
+        int released = outboxRepository.releaseExpiredClaims(LocalDateTime.now());
+        if (released > 0) {
+            log.warn("발송 결과 없이 만료된 메일을 대기 상태로 복구: count={}", released);
+        }
+        return released;
+    }
+
+    /**
+     * 발송 포기된 메일 재발송 요청
+     */
+    @Transactional
+    public void requeueDead(Long outboxId) {
+        if (outboxRepository.requeueDead(outboxId) == 0) {
+            throw new IllegalArgumentException("발송 포기 상태의 메일을 찾을 수 없습니다.");
+        }
+        log.info("발송 포기 메일 재발송 요청: outboxId={}", outboxId);
+    }
+
+    /**
+     * 보존 기간이 지난 발송 완료 메일 삭제
+     */
+    @Transactional
+    public int deleteSentBefore(LocalDateTime cutoff) {
+        return outboxRepository.deleteSentBefore(cutoff);
+    }
+
+    /**
+     * 상태별 메일 수 (없는 상태는 0)
+     */
+    public Map<EmailOutboxStatus, Long> getQueueDepth() {
+        Map<EmailOutboxStatus, Long> depth = new EnumMap<>(EmailOutboxStatus.class);
+        for (EmailOutboxStatus status : EmailOutboxStatus.values()) {
+            depth.put(status, 0L);
+        }
+        for (Object[] row : outboxRepository.countByStatus()) {
+            depth.put((EmailOutboxStatus) row[0], ((Number) row[1]).longValue());
+        }
+        return depth;
+    }
+
+    /**
+     * 가장 오래 기다린 대기 메일의 생성 일시 (없으면 null)
+     */
+    public LocalDateTime getOldestPendingCreatedAt() {
+        return outboxRepository.findOldestPendingCreatedAt();
+    }
+
+    /**
+     * 발송 포기된 메일 목록 (최근 100건)
+     */
+    public List<EmailOutbox> getDeadLetters() {
+        return outboxRepository.findTop100ByStatusOrderByOutboxIdDesc(EmailOutboxStatus.DEAD);
+    }
+
+    /**
+     * 저장된 템플릿 변수 복원
+     */
+    public Map<String, String> readVariables(EmailOutbox outbox) {
+        if (outbox.getTemplateVariables() == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(outbox.getTemplateVariables(), VARIABLES_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메일 템플릿 변수를 읽을 수 없습니다: outboxId=" + outbox.getOutboxId(), e);
+        }
+    }
+
+    private String writeVariables(Map<String, String> variables) {
+        try {
+            return objectMapper.writeValueAsString(variables);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("메일 템플릿 변수를 저장할 수 없습니다.", e);
+        }
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,127 @@
+package com.scms.app.service;
+
+import com.scms.app.util.CompiledEmailTemplate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이메일 템플릿 렌더링 서비스
+ * - 템플릿과 변수 이름 조합마다 한 번만 Thymeleaf로 렌더링하여 CompiledEmailTemplate으로 캐시
+ * - 이후에는 수신자별 변수 값만 끼워 넣으므로 템플릿 파싱/처리 비용이 들지 않음
+ * - 변수 값에 따라 구조가 바뀌는 템플릿(th:if, th:utext 등)은 캐시 검증에서 걸러져 매번 Thymeleaf로 렌더링
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailTemplateRenderer {
+
+    private final SpringTemplateEngine templateEngine;
+
+    @Value("${email.template.cache:${spring.thymeleaf.cache:true}}")
+    private boolean cacheEnabled;
+
+    private final Map<String, Optional<CompiledEmailTemplate>> compiled = new ConcurrentHashMap<>();
+
+    /**
+     * 템플릿 렌더링
+     *
+     * @param templateName 템플릿 이름 (예: email/verification)
+     * @param variables 수신자별 변수
+     */
+    public String render(String templateName, Map<String, String> variables) {
+        // Map.of 등 불변 맵은 containsValue(null)에서 NPE가 나므로 값을 직접 확인
+        if (variables.values().stream().anyMatch(Objects::isNull)) {
+            // null 변수는 속성 자체가 빠지는 등 결과 구조가 달라지므로 캐시를 사용하지 않음
+            return process(templateName, variables);
+        }
+        return compile(templateName, variables.keySet())
+                .map(template -> template.render(variables))
+                .orElseGet(() -> process(templateName, variables));
+    }
+
+    /**
+     * 같은 템플릿을 여러 수신자에게 렌더링 (대량 발송용)
+     */
+    public List<String> renderAll(String templateName, List<Map<String, String>> variablesList) {
+        List<String> result = new ArrayList<>(variablesList.size());
+        for (Map<String, String> variables : variablesList) {
+            result.add(render(templateName, variables));
+        }
+        return result;
+    }
+
+    /**
+     * 미리 렌더링된 템플릿 조회 (캐시에 없으면 생성)
+     *
+     * @return 변수 값만 끼워 넣어 렌더링할 수 없는 템플릿이면 empty
+     */
+    public Optional<CompiledEmailTemplate> compile(String templateName, Set<String> variableNames) {
+        if (!cacheEnabled) {
+            return Optional.empty();
+        }
+        String cacheKey = templateName + new TreeSet<>(variableNames);
+        Optional<CompiledEmailTemplate> cached = compiled.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        // Thymeleaf 렌더링을 computeIfAbsent 안에서 하면 버킷 잠금을 잡은 채 기다리므로 밖에서 만든 뒤 넣음
+        // (동시에 처음 요청되면 여러 번 만들어질 수 있지만 결과는 같고 먼저 넣은 값을 사용)
+        Optional<CompiledEmailTemplate> created = tryCompile(templateName, variableNames);
+        Optional<CompiledEmailTemplate> existing = compiled.putIfAbsent(cacheKey, created);
+        return existing != null ? existing : created;
+    }
+
+    /**
+     * 캐시 비우기 (템플릿 파일 변경 시)
+     */
+    public void clearCache() {
+        compiled.clear();
+        templateEngine.clearTemplateCache();
+    }
+
+    private Optional<CompiledEmailTemplate> tryCompile(String templateName, Set<String> variableNames) {
+        List<String> names = new ArrayList<>(new TreeSet<>(variableNames));
+        String markerPrefix = "SCMSVAR" + UUID.randomUUID().toString().replace("-", "");
+
+        Map<String, String> markers = new HashMap<>();
+        Map<String, String> samples = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            markers.put(names.get(i), markerPrefix + i + "X");
+            samples.put(names.get(i), "검증<&\"'>" + i);
+        }
+
+        CompiledEmailTemplate template =
+                CompiledEmailTemplate.parse(templateName, process(templateName, markers), markerPrefix, names);
+
+        // 이스케이프가 필요한 값으로 직접 렌더링한 결과와 같아야만 캐시 사용
+        if (!template.render(samples).equals(process(templateName, samples))) {
+            log.warn("변수 값에 따라 구조가 달라지는 이메일 템플릿이므로 캐시하지 않습니다: {}", templateName);
+            return Optional.empty();
+        }
+
+        log.info("이메일 템플릿 캐시 생성: template={}, variables={}, slots={}",
+                templateName, names, template.getSlotCount());
+        return Optional.of(template);
+    }
+
+    private String process(String templateName, Map<String, String> variables) {
+        Context context = new Context();
+        variables.forEach(context::setVariable);
+        return templateEngine.process(templateName, context);
+    }
+}
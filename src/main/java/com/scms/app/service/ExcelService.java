@@ -1,19 +1,26 @@
 package com.scms.app.service;
 
-import com.scms.app.model.ProgramApplication;
+import com.scms.app.dto.ApplicationExportRow;
+import com.scms.app.util.ExcelColumn;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
- * Excel 파일 생성 서비스
+ * Excel/CSV 파일 생성 서비스
  */
 @Service
 @Slf4j
@@ -21,143 +28,230 @@ public class ExcelService {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
+    private static final int ROW_WINDOW = 100;         // 메모리에 유지할 행 수 (나머지는 임시 파일로 내보냄)
+    private static final int WIDTH_SAMPLE_ROWS = 200;  // 열 너비 추정에 사용할 앞쪽 행 수
+    private static final int MIN_COLUMN_WIDTH = 3000;  // 최소 너비 (한글 지원)
+    private static final int MAX_COLUMN_WIDTH = 15000;
+    private static final int CSV_BUFFER_SIZE = 64 * 1024;
+
+    private final List<ExcelColumn<ApplicationExportRow>> applicationColumns = List.of(
+            ExcelColumn.of("신청 ID", ApplicationExportRow::getApplicationId),
+            ExcelColumn.of("학번", ApplicationExportRow::getStudentNum),
+            ExcelColumn.of("이름", ApplicationExportRow::getName),
+            ExcelColumn.of("전화번호", ApplicationExportRow::getPhone),
+            ExcelColumn.of("이메일", ApplicationExportRow::getEmail),
+            ExcelColumn.of("학과", ApplicationExportRow::getDepartment),
+            ExcelColumn.of("학년", ApplicationExportRow::getGrade),
+            ExcelColumn.of("상태", row -> getStatusText(row.getStatus().name())),
+            ExcelColumn.of("신청일", ApplicationExportRow::getAppliedAt),
+            ExcelColumn.of("승인일", ApplicationExportRow::getApprovedAt),
+            ExcelColumn.of("완료일", ApplicationExportRow::getCompletedAt),
+            ExcelColumn.of("거부일", ApplicationExportRow::getRejectedAt),
+            ExcelColumn.of("취소일", ApplicationExportRow::getCancelledAt),
+            ExcelColumn.of("거부 사유", ApplicationExportRow::getRejectionReason)
+    );
+
     /**
-     * 프로그램 신청 목록을 Excel 파일로 생성
+     * 프로그램 신청 목록 Excel을 출력 스트림에 기록
+     *
+     * @return 기록한 데이터 행 수
      */
-    public ByteArrayInputStream generateApplicationsExcel(List<ProgramApplication> applications, String programTitle) {
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+    public int writeApplicationsExcel(OutputStream out, Stream<ApplicationExportRow> rows) throws IOException {
+        return writeExcel(out, "신청 목록", applicationColumns, rows);
+    }
 
-            Sheet sheet = workbook.createSheet("신청 목록");
+    /**
+     * 스트리밍 Excel 생성 (신청자 목록, 학생 목록, 마일리지 내역, 설문 응답 등 공용)
+     * - SXSSF로 최근 ROW_WINDOW 행만 메모리에 두고 나머지는 압축 임시 파일로 내보냄
+     * - autoSizeColumn 대신 앞쪽 WIDTH_SAMPLE_ROWS 행의 글자 수로 열 너비 추정
+     * - 완성된 파일을 메모리에 모으지 않고 out에 바로 기록 (out은 닫지 않음)
+     *
+     * @param rows 행 스트림 (DB 스트림이면 호출 측 트랜잭션 안에서 호출해야 함)
+     * @return 기록한 데이터 행 수
+     */
+    public <T> int writeExcel(OutputStream out, String sheetName, List<ExcelColumn<T>> columns,
+                              Stream<T> rows) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            Sheet sheet = workbook.createSheet(sheetName);
 
             // 헤더 스타일
             CellStyle headerStyle = createHeaderStyle(workbook);
             CellStyle dataStyle = createDataStyle(workbook);
 
             // 헤더 행 생성
+            int[] widths = new int[columns.size()];
             Row headerRow = sheet.createRow(0);
-            String[] columns = {
-                    "신청 ID", "학번", "이름", "전화번호", "이메일",
-                    "학과", "학년", "상태", "신청일", "승인일", "완료일", "거부일", "취소일", "거부 사유"
-            };
-
-            for (int i = 0; i < columns.length; i++) {
+            for (int i = 0; i < columns.size(); i++) {
+                String header = columns.get(i).header();
                 Cell cell = headerRow.createCell(i);
-                cell.setCellValue(columns[i]);
+                cell.setCellValue(header);
                 cell.setCellStyle(headerStyle);
+                widths[i] = estimateWidth(header);
             }
 
             // 데이터 행 생성
             int rowNum = 1;
-            for (ProgramApplication app : applications) {
-                Row row = sheet.createRow(rowNum++);
-
-                // 신청 ID
-                Cell cell0 = row.createCell(0);
-                cell0.setCellValue(app.getApplicationId());
-                cell0.setCellStyle(dataStyle);
-
-                // 학번
-                Cell cell1 = row.createCell(1);
-                if (app.getUser().getStudentNum() != null) {
-                    cell1.setCellValue(app.getUser().getStudentNum());
-                }
-                cell1.setCellStyle(dataStyle);
-
-                // 이름
-                Cell cell2 = row.createCell(2);
-                cell2.setCellValue(app.getUser().getName());
-                cell2.setCellStyle(dataStyle);
-
-                // 전화번호
-                Cell cell3 = row.createCell(3);
-                if (app.getUser().getPhone() != null) {
-                    cell3.setCellValue(app.getUser().getPhone());
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                T item = iterator.next();
+                Row row = sheet.createRow(rowNum);
+                for (int i = 0; i < columns.size(); i++) {
+                    Cell cell = row.createCell(i);
+                    String text = setCellValue(cell, columns.get(i).value().apply(item));
+                    cell.setCellStyle(dataStyle);
+                    if (rowNum <= WIDTH_SAMPLE_ROWS && text != null) {
+                        widths[i] = Math.max(widths[i], estimateWidth(text));
+                    }
                 }
-                cell3.setCellStyle(dataStyle);
-
-                // 이메일
-                Cell cell4 = row.createCell(4);
-                cell4.setCellValue(app.getUser().getEmail());
-                cell4.setCellStyle(dataStyle);
+                rowNum++;
+            }
 
-                // 학과
-                Cell cell5 = row.createCell(5);
-                if (app.getUser().getDepartment() != null) {
-                    cell5.setCellValue(app.getUser().getDepartment());
-                }
-                cell5.setCellStyle(dataStyle);
+            // 열 너비 설정 (추정값을 최소/최대 너비 사이로 제한)
+            for (int i = 0; i < columns.size(); i++) {
+                sheet.setColumnWidth(i, Math.min(Math.max(widths[i], MIN_COLUMN_WIDTH), MAX_COLUMN_WIDTH));
+            }
 
-                // 학년
-                Cell cell6 = row.createCell(6);
-                if (app.getUser().getGrade() != null) {
-                    cell6.setCellValue(app.getUser().getGrade());
-                }
-                cell6.setCellStyle(dataStyle);
+            workbook.write(out);
+            out.flush();
+            log.info("Excel 파일 생성 완료: 시트={}, 행 수={}", sheetName, rowNum - 1);
+            return rowNum - 1;
+
+        } finally {
+            // 임시 파일 삭제
+            workbook.dispose();
+            workbook.close();
+        }
+    }
 
-                // 상태
-                Cell cell7 = row.createCell(7);
-                cell7.setCellValue(getStatusText(app.getStatus().name()));
-                cell7.setCellStyle(dataStyle);
+    /**
+     * 스트리밍 CSV 생성 (writeExcel과 같은 열 정의 사용)
+     * - 한 행씩 버퍼에 기록하므로 행 수와 무관하게 메모리 사용량이 일정함
+     * - Excel에서 한글이 깨지지 않도록 UTF-8 BOM을 붙이고, 줄 구분은 CRLF (RFC 4180)
+     * - 수식으로 해석될 수 있는 문자열 값은 앞에 '를 붙여 기록 (neutralizeFormula)
+     * - out은 닫지 않음
+     *
+     * @param rows 행 스트림 (DB 스트림이면 호출 측에서 닫아야 함)
+     * @return 기록한 데이터 행 수
+     */
+    public <T> int writeCsv(OutputStream out, List<ExcelColumn<T>> columns, Stream<T> rows) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), CSV_BUFFER_SIZE);
+        writer.write('\uFEFF');
 
-                // 신청일
-                Cell cell8 = row.createCell(8);
-                if (app.getAppliedAt() != null) {
-                    cell8.setCellValue(app.getAppliedAt().format(DATE_FORMATTER));
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvField(writer, columns.get(i).header());
+        }
+        writer.write("\r\n");
+
+        int count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T item = iterator.next();
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
                 }
-                cell8.setCellStyle(dataStyle);
+                Object value = columns.get(i).value().apply(item);
+                String text = formatValue(value);
+                writeCsvField(writer, value instanceof Number ? text : neutralizeFormula(text));
+            }
+            writer.write("\r\n");
+            count++;
+        }
 
-                // 승인일
-                Cell cell9 = row.createCell(9);
-                if (app.getApprovedAt() != null) {
-                    cell9.setCellValue(app.getApprovedAt().format(DATE_FORMATTER));
-                }
-                cell9.setCellStyle(dataStyle);
+        writer.flush();
+        log.info("CSV 파일 생성 완료: 행 수={}", count);
+        return count;
+    }
 
-                // 완료일
-                Cell cell10 = row.createCell(10);
-                if (app.getCompletedAt() != null) {
-                    cell10.setCellValue(app.getCompletedAt().format(DATE_FORMATTER));
-                }
-                cell10.setCellStyle(dataStyle);
+    /**
+     * CSV 필드 기록 (쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씀)
+     */
+    private static void writeCsvField(Writer writer, String text) throws IOException {
+        if (text == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char ch = text.charAt(i);
+            quote = ch == ',' || ch == '"' || ch == '\n' || ch == '\r';
+        }
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
 
-                // 거부일
-                Cell cell11 = row.createCell(11);
-                if (app.getRejectedAt() != null) {
-                    cell11.setCellValue(app.getRejectedAt().format(DATE_FORMATTER));
-                }
-                cell11.setCellStyle(dataStyle);
+    /**
+     * 수식 삽입 방지 (CSV/Excel injection)
+     * 사용자가 입력한 값이 =, +, -, @, 탭, CR로 시작하면 스프레드시트가 수식으로 실행할 수 있으므로 앞에 '를 붙임
+     * 숫자 셀 값에는 적용하지 않음 (음수가 문자열로 바뀌지 않도록)
+     */
+    static String neutralizeFormula(String text) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+        char first = text.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            return "'" + text;
+        }
+        return text;
+    }
 
-                // 취소일
-                Cell cell12 = row.createCell(12);
-                if (app.getCancelledAt() != null) {
-                    cell12.setCellValue(app.getCancelledAt().format(DATE_FORMATTER));
-                }
-                cell12.setCellStyle(dataStyle);
+    /**
+     * 셀 값을 문자열로 변환 (LocalDateTime은 DATE_FORMATTER, 값이 없으면 null)
+     */
+    private static String formatValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value instanceof LocalDateTime dateTime
+                ? dateTime.format(DATE_FORMATTER)
+                : value.toString();
+    }
 
-                // 거부 사유
-                Cell cell13 = row.createCell(13);
-                if (app.getRejectionReason() != null) {
-                    cell13.setCellValue(app.getRejectionReason());
-                }
-                cell13.setCellStyle(dataStyle);
-            }
+    /**
+     * 셀 값 기록
+     *
+     * @return 너비 추정용 텍스트 (값이 없으면 null)
+     */
+    private String setCellValue(Cell cell, Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number number) {
+            cell.setCellValue(number.doubleValue());
+            return number.toString();
+        }
+        // 문자열 셀도 편집하거나 CSV로 다시 저장하면 수식이 될 수 있으므로 같은 방식으로 처리
+        String text = neutralizeFormula(formatValue(value));
+        cell.setCellValue(text);
+        return text;
+    }
 
-            // 열 너비 자동 조정
-            for (int i = 0; i < columns.length; i++) {
-                sheet.autoSizeColumn(i);
-                // 최소 너비 설정 (한글 지원)
-                sheet.setColumnWidth(i, Math.max(sheet.getColumnWidth(i), 3000));
+    /**
+     * 텍스트 너비 추정 (1/256 글자 단위, 한글 등 전각 문자는 2칸으로 계산, 여러 줄이면 가장 긴 줄)
+     */
+    private static int estimateWidth(String text) {
+        int longest = 0;
+        int current = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch == '\n') {
+                longest = Math.max(longest, current);
+                current = 0;
+            } else {
+                current += Character.UnicodeBlock.of(ch) == Character.UnicodeBlock.BASIC_LATIN ? 1 : 2;
             }
-
-            workbook.write(out);
-            log.info("Excel 파일 생성 완료: 프로그램={}, 신청 수={}", programTitle, applications.size());
-            return new ByteArrayInputStream(out.toByteArray());
-
-        } catch (IOException e) {
-            log.error("Excel 파일 생성 실패", e);
-            throw new RuntimeException("Excel 파일을 생성할 수 없습니다.", e);
         }
+        return (Math.max(longest, current) + 2) * 256;
     }
 
     /**
@@ -218,6 +312,8 @@ public class ExcelService {
         switch (status) {
             case "PENDING":
                 return "대기 중";
+            case "WAITLISTED":
+                return "대기자";
             case "APPROVED":
                 return "승인됨";
             case "COMPLETED":
@@ -0,0 +1,227 @@
+package com.scms.app.service;
+
+import com.scms.app.dto.MileageAwardCommand;
+import com.scms.app.model.MileageBucketType;
+import com.scms.app.model.MileageHistory;
+import com.scms.app.model.UserMileageBalance;
+import com.scms.app.model.UserMileageBalanceBucket;
+import com.scms.app.repository.MileageBatchRepository;
+import com.scms.app.repository.MileageHistoryRepository;
+import com.scms.app.repository.UserMileageBalanceBucketRepository;
+import com.scms.app.repository.UserMileageBalanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 마일리지 잔액 요약 서비스
+ * - 원장(mileage_history)과 같은 트랜잭션에서 사용자별 총액과 활동 타입별/월별 버킷을 갱신
+ * - 총 마일리지와 통계 조회는 원장 대신 요약 행을 읽음
+ * - 원장 기준 재계산과 청크 단위 정합성 보정을 제공
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class MileageBalanceService {
+
+    private static final long[] EMPTY_BUCKET = {0L, 0L};
+
+    private final UserMileageBalanceRepository balanceRepository;
+    private final UserMileageBalanceBucketRepository bucketRepository;
+    private final MileageHistoryRepository mileageHistoryRepository;
+    private final MileageBatchRepository batchRepository;
+    private final MileageLeaderboardService leaderboardService;
+    private final SchedulerLockService lockService;
+
+    /**
+     * 저장된 마일리지 내역을 요약에 반영
+     * 호출한 트랜잭션 안에서 총액과 버킷을 갱신하고, 메모리 랭킹은 커밋 후 반영
+     */
+    @Transactional
+    public void record(MileageHistory history) {
+        Integer userId = history.getUser().getUserId();
+        long points = history.getPoints();
+
+        balanceRepository.addPoints(userId, points);
+        bucketRepository.addEntry(userId, history.getActivityType(),
+                toMonthKey(history.getEarnedAt().getYear(), history.getEarnedAt().getMonthValue()), points);
+        leaderboardService.applyAfterCommit(userId, points);
+    }
+
+    /**
+     * 일괄 지급된 마일리지를 요약에 반영
+     * 사용자별 총액과 (사용자, 활동 타입) 버킷을 합산한 뒤 JDBC 배치로 가산
+     */
+    @Transactional
+    public void recordAll(List<MileageAwardCommand> commands, LocalDateTime earnedAt) {
+        String month = toMonthKey(earnedAt.getYear(), earnedAt.getMonthValue());
+
+        Map<Integer, Long> totals = new LinkedHashMap<>();
+        Map<BucketKey, long[]> buckets = new LinkedHashMap<>();
+        for (MileageAwardCommand command : commands) {
+            long points = command.getPoints();
+            totals.merge(command.getUserId(), points, Long::sum);
+            accumulate(buckets, new BucketKey(command.getUserId(), MileageBucketType.ACTIVITY, command.getActivityType()), points, 1);
+            accumulate(buckets, new BucketKey(command.getUserId(), MileageBucketType.MONTH, month), points, 1);
+        }
+
+        List<Object[]> bucketRows = new ArrayList<>(buckets.size());
+        buckets.forEach((key, value) -> bucketRows.add(
+                new Object[]{key.userId(), key.bucketType().name(), key.bucketKey(), value[0], value[1]}));
+
+        batchRepository.addBalances(totals);
+        batchRepository.addBuckets(bucketRows);
+        leaderboardService.applyAllAfterCommit(totals);
+    }
+
+    /**
+     * 사용자의 총 마일리지 조회
+     */
+    public Long getTotalPoints(Integer userId) {
+        return balanceRepository.findById(userId)
+                .map(UserMileageBalance::getTotalPoints)
+                .orElse(0L);
+    }
+
+    /**
+     * 사용자의 버킷 조회 (키 내림차순)
+     */
+    public List<UserMileageBalanceBucket> getBuckets(Integer userId, MileageBucketType bucketType) {
+        return bucketRepository.findByUserIdAndBucketType(userId, bucketType);
+    }
+
+    /**
+     * 요약 테이블이 비어 있으면 원장으로부터 전체 재계산 (애플리케이션 시작 시)
+     *
+     * @return 재계산 여부
+     */
+    @Transactional
+    public boolean initializeIfEmpty() {
+        if (mileageHistoryRepository.count() == 0
+                || (balanceRepository.count() > 0 && bucketRepository.count() > 0)) {
+            return false;
+        }
+        rebuildFromLedger();
+        return true;
+    }
+
+    /**
+     * 원장으로부터 총액과 버킷 전체 재계산
+     */
+    @Transactional
+    public void rebuildFromLedger() {
+        int balances = balanceRepository.rebuildFromLedger();
+        int removed = balanceRepository.deleteOrphans();
+
+        bucketRepository.deleteAllBuckets();
+        int activityBuckets = bucketRepository.rebuildActivityBuckets();
+        int monthBuckets = bucketRepository.rebuildMonthBuckets();
+
+        log.info("마일리지 잔액 재계산 완료: 잔액 갱신={}, 잔액 삭제={}, 활동 버킷={}, 월 버킷={}",
+                balances, removed, activityBuckets, monthBuckets);
+    }
+
+    /**
+     * 사용자 청크의 요약 값을 원장과 비교하여 보정
+     * 원장 집계와 요약 값을 같은 스냅샷에서 읽고 차이만큼 가산하므로,
+     * 검사 도중 커밋된 지급 건과 겹쳐도 값을 덮어쓰지 않음
+     * 보정은 두 번 반영되면 안 되므로 먼저 잠금의 fencing token을 같은 트랜잭션에서 확인
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public ReconcileResult reconcileChunk(List<Integer> userIds, SchedulerLockService.Lease lease) {
+        lockService.fence(lease);
+        Map<Integer, Long> ledgerTotals = new HashMap<>();
+        Map<BucketKey, long[]> ledgerBuckets = new HashMap<>();
+        for (Object[] row : mileageHistoryRepository.getBucketStatisticsByUserIds(userIds)) {
+            Integer userId = (Integer) row[0];
+            String month = toMonthKey(((Number) row[2]).intValue(), ((Number) row[3]).intValue());
+            long points = ((Number) row[4]).longValue();
+            long count = ((Number) row[5]).longValue();
+
+            ledgerTotals.merge(userId, points, Long::sum);
+            accumulate(ledgerBuckets, new BucketKey(userId, MileageBucketType.ACTIVITY, (String) row[1]), points, count);
+            accumulate(ledgerBuckets, new BucketKey(userId, MileageBucketType.MONTH, month), points, count);
+        }
+
+        Map<Integer, Long> projectedTotals = new HashMap<>();
+        for (UserMileageBalance balance : balanceRepository.findAllById(userIds)) {
+            projectedTotals.put(balance.getUserId(), balance.getTotalPoints());
+        }
+        Map<BucketKey, long[]> projectedBuckets = new HashMap<>();
+        for (UserMileageBalanceBucket bucket : bucketRepository.findByUserIdIn(userIds)) {
+            projectedBuckets.put(new BucketKey(bucket.getUserId(), bucket.getBucketType(), bucket.getBucketKey()),
+                    new long[]{bucket.getTotalPoints(), bucket.getEntryCount()});
+        }
+
+        Set<Integer> driftedUsers = new LinkedHashSet<>();
+        long driftPoints = 0;
+        for (Integer userId : userIds) {
+            long delta = ledgerTotals.getOrDefault(userId, 0L) - projectedTotals.getOrDefault(userId, 0L);
+            if (delta != 0) {
+                log.warn("마일리지 잔액 불일치 보정: userId={}, delta={}", userId, delta);
+                balanceRepository.addPoints(userId, delta);
+                leaderboardService.applyAfterCommit(userId, delta);
+                driftedUsers.add(userId);
+                driftPoints += Math.abs(delta);
+            }
+        }
+
+        Set<BucketKey> keys = new LinkedHashSet<>(ledgerBuckets.keySet());
+        keys.addAll(projectedBuckets.keySet());
+        int driftedBuckets = 0;
+        for (BucketKey key : keys) {
+            long[] expected = ledgerBuckets.getOrDefault(key, EMPTY_BUCKET);
+            long[] actual = projectedBuckets.getOrDefault(key, EMPTY_BUCKET);
+            if (expected[0] != actual[0] || expected[1] != actual[1]) {
+                log.warn("마일리지 버킷 불일치 보정: userId={}, bucket={}:{}, points {} -> {}, count {} -> {}",
+                        key.userId(), key.bucketType(), key.bucketKey(),
+                        actual[0], expected[0], actual[1], expected[1]);
+                bucketRepository.addToBucket(key.userId(), key.bucketType().name(), key.bucketKey(),
+                        expected[0] - actual[0], expected[1] - actual[1]);
+                driftedUsers.add(key.userId());
+                driftedBuckets++;
+            }
+        }
+
+        return new ReconcileResult(userIds.size(), new ArrayList<>(driftedUsers), driftedBuckets, driftPoints);
+    }
+
+    /**
+     * 원장에 내역이 없는 사용자의 요약 행 삭제
+     */
+    @Transactional
+    public int deleteOrphans(SchedulerLockService.Lease lease) {
+        lockService.fence(lease);
+        return balanceRepository.deleteOrphans() + bucketRepository.deleteOrphans();
+    }
+
+    private static void accumulate(Map<BucketKey, long[]> buckets, BucketKey key, long points, long count) {
+        long[] bucket = buckets.computeIfAbsent(key, k -> new long[2]);
+        bucket[0] += points;
+        bucket[1] += count;
+    }
+
+    static String toMonthKey(int year, int month) {
+        return String.format("%04d-%02d", year, month);
+    }
+
+    private record BucketKey(Integer userId, MileageBucketType bucketType, String bucketKey) {}
+
+    /**
+     * 청크 단위 정합성 검사 결과
+     */
+    public record ReconcileResult(int checkedUsers, List<Integer> driftedUserIds,
+                                  int driftedBuckets, long driftPoints) {}
+}
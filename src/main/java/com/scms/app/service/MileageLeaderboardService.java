@@ -0,0 +1,224 @@
+package com.scms.app.service;
+
+import com.scms.app.model.User;
+import com.scms.app.repository.UserMileageBalanceRepository;
+import com.scms.app.repository.UserRepository;
+import com.scms.app.util.RankedSkipList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 마일리지 랭킹 서비스
+ * - 사용자별 잔액(user_mileage_balance)을 메모리의 순위 스킵 리스트로 유지
+ * - TOP N 조회와 특정 사용자 순위 조회를 전체 집계 없이 O(log n)에 처리
+ * - 잔액 테이블 갱신은 MileageBalanceService가 담당하고, 메모리 랭킹에는 커밋 후 증감만 반영
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MileageLeaderboardService {
+
+    private final UserMileageBalanceRepository balanceRepository;
+    private final UserRepository userRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, String[]> profiles = new ConcurrentHashMap<>(); // userId -> [name, department]
+    private RankedSkipList ranking = new RankedSkipList();
+    private volatile boolean loaded = false;
+
+    /**
+     * 마일리지 증감을 메모리 랭킹에 반영
+     * 트랜잭션 안에서 호출되면 커밋된 경우에만 반영
+     */
+    public void applyAfterCommit(Integer userId, long points) {
+        applyAllAfterCommit(Map.of(userId, points));
+    }
+
+    /**
+     * 여러 사용자의 마일리지 증감을 메모리 랭킹에 반영 (일괄 지급용)
+     *
+     * @param deltas userId -> 증감 포인트
+     */
+    public void applyAllAfterCommit(Map<Integer, Long> deltas) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyPoints(deltas);
+                }
+            });
+        } else {
+            applyPoints(deltas);
+        }
+    }
+
+    /**
+     * 상위 N명 랭킹 조회
+     *
+     * @return List<Map<userId, name, department, totalPoints, rank>>
+     */
+    public List<Map<String, Object>> getTopRankings(int limit) {
+        ensureLoaded();
+
+        List<RankedSkipList.Entry> entries;
+        lock.readLock().lock();
+        try {
+            entries = ranking.range(0, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        loadMissingProfiles(entries);
+        List<Map<String, Object>> result = new ArrayList<>(entries.size());
+        for (RankedSkipList.Entry entry : entries) {
+            result.add(toRankData(entry.getId(), entry.getScore(), entry.getRank()));
+        }
+        return result;
+    }
+
+    /**
+     * 특정 사용자의 랭킹 조회 (랭킹에 없으면 null)
+     */
+    public Map<String, Object> getUserRanking(Integer userId) {
+        ensureLoaded();
+
+        int rank;
+        Long score;
+        lock.readLock().lock();
+        try {
+            rank = ranking.rankOf(userId);
+            score = ranking.getScore(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (rank == 0 || score == null) {
+            return null;
+        }
+        loadMissingProfiles(List.of(new RankedSkipList.Entry(userId, score, rank)));
+        return toRankData(userId, score, rank);
+    }
+
+    /**
+     * 랭킹에 포함된 사용자 수
+     */
+    public int getRankedUserCount() {
+        ensureLoaded();
+
+        lock.readLock().lock();
+        try {
+            return ranking.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 주기적 랭킹 재적재
+     * 다른 서버에서 지급된 마일리지나 재적재 중 누락된 증감을 보정
+     */
+    @Scheduled(initialDelayString = "${mileage.leaderboard.refresh-interval-ms:300000}",
+               fixedDelayString = "${mileage.leaderboard.refresh-interval-ms:300000}")
+    public void scheduledReload() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("마일리지 랭킹 재적재 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 잔액 테이블로부터 메모리 랭킹 재구성
+     * 조회와 교체 사이에 커밋된 증감이 조회 결과에 없는 채로 덮어쓰이지 않도록 조회부터 교체까지 쓰기 잠금을 유지
+     * (그동안 커밋된 증감은 교체 후 반영됨)
+     */
+    public int reload() {
+        List<Object[]> rows;
+        lock.writeLock().lock();
+        try {
+            rows = balanceRepository.findLeaderboardRows();
+
+            RankedSkipList rebuilt = new RankedSkipList();
+            Map<Integer, String[]> rebuiltProfiles = new HashMap<>(rows.size() * 2);
+            for (Object[] row : rows) {
+                Integer userId = (Integer) row[0];
+                rebuilt.put(userId, ((Number) row[3]).longValue());
+                rebuiltProfiles.put(userId, new String[]{(String) row[1], (String) row[2]});
+            }
+
+            ranking = rebuilt;
+            profiles.clear();
+            profiles.putAll(rebuiltProfiles);
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("마일리지 랭킹 적재 완료: 사용자 수={}", rows.size());
+        return rows.size();
+    }
+
+    private void applyPoints(Map<Integer, Long> deltas) {
+        lock.writeLock().lock();
+        try {
+            // 적재 중이면 적재가 끝난 뒤 확인하므로, 첫 적재의 조회 이후 커밋된 증감도 빠지지 않음
+            if (!loaded) {
+                // 아직 적재 전이면 적재 시 잔액 테이블에서 함께 읽힘
+                return;
+            }
+            deltas.forEach(ranking::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    /**
+     * 적재 이후 처음 랭킹에 진입한 사용자의 이름/학과 조회
+     */
+    private void loadMissingProfiles(List<RankedSkipList.Entry> entries) {
+        List<Integer> missing = entries.stream()
+                .map(RankedSkipList.Entry::getId)
+                .filter(id -> !profiles.containsKey(id))
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        for (User user : userRepository.findAllById(missing)) {
+            profiles.put(user.getUserId(), new String[]{user.getName(), user.getDepartment()});
+        }
+    }
+
+    private Map<String, Object> toRankData(int userId, long totalPoints, int rank) {
+        String[] profile = profiles.getOrDefault(userId, new String[2]);
+
+        Map<String, Object> rankData = new HashMap<>();
+        rankData.put("rank", rank);
+        rankData.put("userId", userId);
+        rankData.put("name", profile[0]);
+        rankData.put("department", profile[1]);
+        rankData.put("totalPoints", totalPoints);
+        return rankData;
+    }
+}
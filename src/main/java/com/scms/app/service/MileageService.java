@@ -1,20 +1,31 @@
 package com.scms.app.service;
 
+import com.scms.app.dto.CursorPage;
+import com.scms.app.dto.MileageAwardCommand;
+import com.scms.app.dto.MileageBulkAwardResult;
+import com.scms.app.model.MileageBucketType;
 import com.scms.app.model.MileageHistory;
 import com.scms.app.model.MileageRule;
 import com.scms.app.model.User;
+import com.scms.app.model.UserMileageBalanceBucket;
+import com.scms.app.repository.MileageBatchRepository;
 import com.scms.app.repository.MileageHistoryRepository;
 import com.scms.app.repository.MileageRuleRepository;
 import com.scms.app.repository.UserRepository;
+import com.scms.app.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * CHAMP 마일리지 서비스
@@ -25,9 +36,16 @@ import java.util.Map;
 @Transactional(readOnly = true)
 public class MileageService {
 
+    private static final int MAX_BULK_AWARD_SIZE = 10000;
+    private static final String DEFAULT_ACTIVITY_TYPE = "MANUAL";
+    private static final Set<String> ACTIVITY_TYPES = Set.of("PROGRAM", "COUNSELING", "SURVEY", "MANUAL");
+
     private final MileageHistoryRepository mileageHistoryRepository;
+    private final MileageBatchRepository mileageBatchRepository;
     private final MileageRuleRepository mileageRuleRepository;
     private final UserRepository userRepository;
+    private final MileageBalanceService balanceService;
+    private final MileageLeaderboardService leaderboardService;
 
     /**
      * 마일리지 지급 (자동)
@@ -69,6 +87,7 @@ public class MileageService {
                 .build();
 
         history = mileageHistoryRepository.save(history);
+        balanceService.record(history);
         log.info("마일리지 지급: userId={}, activityType={}, points={}, activityName={}",
                 userId, activityType, points, activityName);
 
@@ -109,17 +128,116 @@ public class MileageService {
                 .build();
 
         history = mileageHistoryRepository.save(history);
+        balanceService.record(history);
         log.info("관리자 수동 마일리지 지급: userId={}, points={}, awardedBy={}, reason={}",
                 userId, points, awardedBy, activityName);
 
         return history;
     }
 
+    /**
+     * 마일리지 일괄 지급 (관리자용)
+     * - 대상 사용자 존재 여부와 기존 지급 여부를 각각 한 번의 쿼리로 검사
+     * - 통과한 항목은 JDBC 배치로 원장에 기록하고 잔액 요약도 배치로 가산
+     * - 검증에 실패한 항목은 건너뛰고 항목별 결과로 보고
+     *
+     * @param commands 지급 항목 목록
+     * @param awardedBy 지급자 ID
+     * @return 항목별 처리 결과
+     */
+    @Transactional
+    public MileageBulkAwardResult awardMileageBulk(List<MileageAwardCommand> commands, Integer awardedBy) {
+        if (commands == null || commands.isEmpty()) {
+            throw new IllegalArgumentException("지급 대상이 없습니다.");
+        }
+        if (commands.size() > MAX_BULK_AWARD_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BULK_AWARD_SIZE + "건까지 지급할 수 있습니다.");
+        }
+
+        // 대상 사용자 및 지급자 존재 여부 (1회 조회)
+        Set<Integer> requestedIds = new HashSet<>();
+        for (MileageAwardCommand command : commands) {
+            if (command != null && command.getUserId() != null) {
+                requestedIds.add(command.getUserId());
+            }
+        }
+        if (awardedBy != null) {
+            requestedIds.add(awardedBy);
+        }
+        Set<Integer> existingIds = requestedIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(userRepository.findExistingUserIds(requestedIds));
+        if (awardedBy != null && !existingIds.contains(awardedBy)) {
+            throw new IllegalStateException("지급자를 찾을 수 없습니다.");
+        }
+
+        // 기존 지급 내역 (1회 조회)
+        Set<String> awardedKeys = findAwardedActivityKeys(commands);
+
+        List<MileageBulkAwardResult.RowResult> rows = new ArrayList<>(commands.size());
+        List<MileageAwardCommand> accepted = new ArrayList<>();
+        int duplicateCount = 0;
+        long awardedPoints = 0;
+        for (int i = 0; i < commands.size(); i++) {
+            MileageAwardCommand command = commands.get(i);
+            Integer userId = command != null ? command.getUserId() : null;
+
+            String invalidReason = validateAwardCommand(command);
+            if (invalidReason != null) {
+                rows.add(new MileageBulkAwardResult.RowResult(i, userId, "INVALID", invalidReason));
+                continue;
+            }
+            if (!existingIds.contains(userId)) {
+                rows.add(new MileageBulkAwardResult.RowResult(i, userId, "USER_NOT_FOUND", "사용자를 찾을 수 없습니다."));
+                continue;
+            }
+            // 같은 요청 안의 중복도 함께 걸러냄
+            String activityType = activityTypeOf(command);
+            if (command.getActivityId() != null
+                    && !awardedKeys.add(activityKey(userId, activityType, command.getActivityId()))) {
+                rows.add(new MileageBulkAwardResult.RowResult(i, userId, "DUPLICATE", "이미 마일리지가 지급된 활동입니다."));
+                duplicateCount++;
+                continue;
+            }
+
+            // 요청 객체는 그대로 두고 활동 타입을 채운 사본을 기록
+            accepted.add(MileageAwardCommand.builder()
+                    .userId(userId)
+                    .activityType(activityType)
+                    .activityId(command.getActivityId())
+                    .activityName(command.getActivityName())
+                    .points(command.getPoints())
+                    .description(command.getDescription())
+                    .build());
+            awardedPoints += command.getPoints();
+            rows.add(new MileageBulkAwardResult.RowResult(i, userId, "AWARDED", null));
+        }
+
+        if (!accepted.isEmpty()) {
+            LocalDateTime earnedAt = LocalDateTime.now();
+            mileageBatchRepository.insertHistories(accepted, awardedBy, earnedAt);
+            balanceService.recordAll(accepted, earnedAt);
+        }
+
+        log.info("마일리지 일괄 지급: 요청={}, 지급={}, 중복={}, 실패={}, points={}, awardedBy={}",
+                commands.size(), accepted.size(), duplicateCount,
+                commands.size() - accepted.size() - duplicateCount, awardedPoints, awardedBy);
+
+        return MileageBulkAwardResult.builder()
+                .totalCount(commands.size())
+                .awardedCount(accepted.size())
+                .duplicateCount(duplicateCount)
+                .failedCount(commands.size() - accepted.size() - duplicateCount)
+                .awardedPoints(awardedPoints)
+                .rows(rows)
+                .build();
+    }
+
     /**
      * 사용자의 총 마일리지 조회
      */
     public Long getTotalMileage(Integer userId) {
-        return mileageHistoryRepository.getTotalMileageByUserId(userId);
+        return balanceService.getTotalPoints(userId);
     }
 
     /**
@@ -133,8 +251,23 @@ public class MileageService {
      * 사용자의 최근 N개 마일리지 내역 조회
      */
     public List<MileageHistory> getRecentMileageHistory(Integer userId, int limit) {
-        List<MileageHistory> allHistory = mileageHistoryRepository.findRecentByUserId(userId);
-        return allHistory.stream().limit(limit).toList();
+        return mileageHistoryRepository.findRecentByUserId(userId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 사용자의 마일리지 내역 커서 페이지 조회 (최신순)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public CursorPage<MileageHistory> getMileageHistoryPage(Integer userId, String cursor, Integer size) {
+        int pageSize = CursorPage.normalizeSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<MileageHistory> fetched = after == null
+                ? mileageHistoryRepository.findRecentByUserId(userId, limit)
+                : mileageHistoryRepository.findRecentByUserIdAfter(userId, after.getSortedAt(), after.getId(), limit);
+        return CursorPage.of(fetched, pageSize, h -> KeysetCursor.of(h.getEarnedAt(), h.getHistoryId()));
     }
 
     /**
@@ -143,17 +276,16 @@ public class MileageService {
      * @return Map<활동타입, Map<"totalPoints"|"count", 값>>
      */
     public Map<String, Map<String, Object>> getMileageStatistics(Integer userId) {
-        List<Object[]> statistics = mileageHistoryRepository.getStatisticsByUserId(userId);
+        List<UserMileageBalanceBucket> buckets =
+                balanceService.getBuckets(userId, MileageBucketType.ACTIVITY);
 
         Map<String, Map<String, Object>> result = new HashMap<>();
-        for (Object[] stat : statistics) {
-            String activityType = (String) stat[0];
-            Long totalPoints = (Long) stat[1];
-            Long count = (Long) stat[2];
+        for (UserMileageBalanceBucket bucket : buckets) {
+            String activityType = bucket.getBucketKey();
 
             Map<String, Object> typeStats = new HashMap<>();
-            typeStats.put("totalPoints", totalPoints);
-            typeStats.put("count", count);
+            typeStats.put("totalPoints", bucket.getTotalPoints());
+            typeStats.put("count", bucket.getEntryCount());
             typeStats.put("activityType", activityType);
             typeStats.put("activityTypeName", getActivityTypeName(activityType));
 
@@ -164,56 +296,48 @@ public class MileageService {
     }
 
     /**
-     * 마일리지 랭킹 조회 (전체 사용자)
+     * 마일리지 랭킹 조회 (TOP 100)
      *
      * @return List<Map<userId, name, department, totalPoints, rank>>
      */
     public List<Map<String, Object>> getMileageRanking() {
-        List<Object[]> rankings = mileageHistoryRepository.getMileageRanking();
-
-        return rankings.stream()
-                .limit(100) // TOP 100
-                .map((Object[] ranking) -> {
-                    int rank = rankings.indexOf(ranking) + 1;
-                    Map<String, Object> rankData = new HashMap<>();
-                    rankData.put("rank", rank);
-                    rankData.put("userId", ranking[0]);
-                    rankData.put("name", ranking[1]);
-                    rankData.put("department", ranking[2]);
-                    rankData.put("totalPoints", ranking[3]);
-                    return rankData;
-                })
-                .toList();
+        return leaderboardService.getTopRankings(100);
     }
 
     /**
      * 특정 사용자의 랭킹 조회
      */
     public Map<String, Object> getUserMileageRanking(Integer userId) {
-        Long totalMileage = getTotalMileage(userId);
-        List<Map<String, Object>> allRankings = getMileageRanking();
-
-        // 전체 랭킹에서 사용자 찾기
-        for (Map<String, Object> ranking : allRankings) {
-            if (ranking.get("userId").equals(userId)) {
-                return ranking;
-            }
+        Map<String, Object> ranking = leaderboardService.getUserRanking(userId);
+        if (ranking != null) {
+            return ranking;
         }
 
-        // 랭킹에 없는 경우 (마일리지 0 또는 아직 없음)
+        // 랭킹에 없는 경우 (마일리지 내역 없음)
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
 
         Map<String, Object> myRanking = new HashMap<>();
-        myRanking.put("rank", allRankings.size() + 1);
+        myRanking.put("rank", leaderboardService.getRankedUserCount() + 1);
         myRanking.put("userId", userId);
         myRanking.put("name", user.getName());
         myRanking.put("department", user.getDepartment());
-        myRanking.put("totalPoints", totalMileage);
+        myRanking.put("totalPoints", getTotalMileage(userId));
 
         return myRanking;
     }
 
+    /**
+     * 마일리지 잔액/랭킹 재구성 (원장 기준, 관리자용)
+     *
+     * @return 랭킹에 적재된 사용자 수
+     */
+    @Transactional
+    public int rebuildMileageRanking() {
+        balanceService.rebuildFromLedger();
+        return leaderboardService.reload();
+    }
+
     /**
      * 특정 기간의 마일리지 내역 조회
      */
@@ -234,14 +358,18 @@ public class MileageService {
      * 월별 마일리지 적립 통계
      */
     public List<Map<String, Object>> getMonthlyStatistics(Integer userId) {
-        List<Object[]> statistics = mileageHistoryRepository.getMonthlyStatistics(userId);
+        List<UserMileageBalanceBucket> buckets =
+                balanceService.getBuckets(userId, MileageBucketType.MONTH);
+
+        return buckets.stream()
+                .map(bucket -> {
+                    // bucketKey = yyyy-MM
+                    String[] yearMonth = bucket.getBucketKey().split("-");
 
-        return statistics.stream()
-                .map(stat -> {
                     Map<String, Object> monthData = new HashMap<>();
-                    monthData.put("year", stat[0]);
-                    monthData.put("month", stat[1]);
-                    monthData.put("totalPoints", stat[2]);
+                    monthData.put("year", Integer.parseInt(yearMonth[0]));
+                    monthData.put("month", Integer.parseInt(yearMonth[1]));
+                    monthData.put("totalPoints", bucket.getTotalPoints());
                     return monthData;
                 })
                 .toList();
@@ -351,6 +479,62 @@ public class MileageService {
                 consultationTitle, rule.getPoints(), rule.getDescription());
     }
 
+    /**
+     * 일괄 지급 항목 검증 (문제가 없으면 null)
+     */
+    private String validateAwardCommand(MileageAwardCommand command) {
+        if (command == null || command.getUserId() == null) {
+            return "사용자 ID가 필요합니다.";
+        }
+        if (command.getPoints() == null || command.getPoints() == 0) {
+            return "지급 포인트가 올바르지 않습니다.";
+        }
+        if (command.getActivityName() == null || command.getActivityName().isBlank()) {
+            return "활동명이 필요합니다.";
+        }
+        if (!ACTIVITY_TYPES.contains(activityTypeOf(command))) {
+            return "알 수 없는 활동 타입입니다: " + command.getActivityType();
+        }
+        return null;
+    }
+
+    /**
+     * 일괄 지급 항목의 활동 타입 (생략 시 MANUAL)
+     */
+    private static String activityTypeOf(MileageAwardCommand command) {
+        return command.getActivityType() == null || command.getActivityType().isBlank()
+                ? DEFAULT_ACTIVITY_TYPE : command.getActivityType();
+    }
+
+    /**
+     * 일괄 지급 항목 중 활동 ID가 있는 항목의 기존 지급 키 조회
+     */
+    private Set<String> findAwardedActivityKeys(List<MileageAwardCommand> commands) {
+        Set<Integer> userIds = new HashSet<>();
+        Set<String> activityTypes = new HashSet<>();
+        Set<Long> activityIds = new HashSet<>();
+        for (MileageAwardCommand command : commands) {
+            if (command != null && command.getUserId() != null && command.getActivityId() != null) {
+                userIds.add(command.getUserId());
+                activityTypes.add(activityTypeOf(command));
+                activityIds.add(command.getActivityId());
+            }
+        }
+
+        Set<String> keys = new HashSet<>();
+        if (userIds.isEmpty()) {
+            return keys;
+        }
+        for (Object[] row : mileageHistoryRepository.findAwardedActivities(userIds, activityTypes, activityIds)) {
+            keys.add(activityKey((Integer) row[0], (String) row[1], (Long) row[2]));
+        }
+        return keys;
+    }
+
+    private static String activityKey(Integer userId, String activityType, Long activityId) {
+        return userId + ":" + activityType + ":" + activityId;
+    }
+
     /**
      * 활동 타입 한글명 변환
      */
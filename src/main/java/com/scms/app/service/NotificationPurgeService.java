@@ -0,0 +1,78 @@
+package com.scms.app.service;
+
+import com.scms.app.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오래된 알림 정리 서비스
+ * - 청크 하나를 짧은 트랜잭션 하나로 처리하여 잠금 보유 시간을 제한
+ * - 반복/간격 조절은 NotificationPurger가 담당
+ * - 변경은 스케줄러 잠금의 fencing token을 같은 트랜잭션에서 확인한 뒤 수행 (임대를 잃으면 롤백)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class NotificationPurgeService {
+
+    private final NotificationRepository notificationRepository;
+    private final SchedulerLockService lockService;
+
+    /**
+     * 정리 대상 ID 구간 [최소 ID, 상한 ID] (대상이 없으면 null)
+     * 보존 기간이 지난 알림은 모두 readCutoff 이전에 생성되었으므로 그 이전 생성분의 최대 ID가 상한
+     */
+    public int[] findExpiredIdRange(LocalDateTime readCutoff) {
+        Integer maxId = notificationRepository.findMaxNotificationIdCreatedBefore(readCutoff);
+        Integer minId = notificationRepository.findMinNotificationId();
+        if (maxId == null || minId == null) {
+            return null;
+        }
+        return new int[]{minId, maxId};
+    }
+
+    /**
+     * ID 구간 내 보존 기간이 지난 알림 Soft Delete
+     */
+    @Transactional
+    public int softDeleteExpired(int fromId, int toId, LocalDateTime readCutoff, LocalDateTime createdCutoff,
+                                 SchedulerLockService.Lease lease) {
+        lockService.fence(lease);
+        return notificationRepository.softDeleteExpiredInRange(fromId, toId, readCutoff, createdCutoff);
+    }
+
+    /**
+     * 기준 시각 이전에 Soft Delete된 알림 ID 조회 (afterId 다음부터 limit개)
+     */
+    public List<Integer> findDeletedIds(LocalDateTime deletedCutoff, int afterId, int limit) {
+        return notificationRepository.findIdsDeletedBefore(deletedCutoff, afterId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 보관 테이블로 이동 (복사 후 삭제, 같은 트랜잭션)
+     *
+     * @return 이동한 알림 수
+     */
+    @Transactional
+    public int archive(List<Integer> ids, SchedulerLockService.Lease lease) {
+        lockService.fence(lease);
+        notificationRepository.copyToArchive(ids);
+        return notificationRepository.deleteByIds(ids);
+    }
+
+    /**
+     * 영구 삭제
+     */
+    @Transactional
+    public int hardDelete(List<Integer> ids, SchedulerLockService.Lease lease) {
+        lockService.fence(lease);
+        return notificationRepository.deleteByIds(ids);
+    }
+}
@@ -0,0 +1,282 @@
+package com.scms.app.service;
+
+import com.scms.app.dto.NotificationResponse;
+import com.scms.app.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 실시간 전송 서비스 (Server-Sent Events)
+ * - 사용자별 SseEmitter 레지스트리와 접속 중인 사용자의 읽지 않은 알림 개수를 메모리에 유지
+ * - 알림 생성/읽음/삭제는 커밋 후 개수를 갱신하고 접속 중인 브라우저로 전송
+ * - 접속 중인 사용자의 개수 조회는 DB를 거치지 않음 (주기적으로 DB와 재동기화)
+ * - 연결과 개수는 서버(노드)별 메모리 값이므로, 다른 서버에서 생성/읽음 처리된 알림은
+ *   그 서버의 커밋 후 갱신이 닿지 않고 다음 재동기화(notification.stream.resync-ms) 때 반영됨
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationPushService {
+
+    private static final String EVENT_NOTIFICATION = "notification";
+    private static final String EVENT_UNREAD_COUNT = "unread-count";
+    private static final int RESYNC_CHUNK_SIZE = 1000;
+    private static final int COUNTER_LOCK_STRIPES = 64;
+
+    private final NotificationRepository notificationRepository;
+
+    @Value("${notification.stream.timeout-ms:1800000}")
+    private long emitterTimeout;
+
+    private final Map<Integer, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Map<Integer, AtomicLong> unreadCounts = new ConcurrentHashMap<>();
+    private final Object[] counterLocks = newLocks(COUNTER_LOCK_STRIPES);
+
+    /**
+     * 알림 스트림 구독
+     * 처음 접속한 사용자는 DB에서 읽지 않은 개수를 한 번 읽어 캐시하고 즉시 전송
+     */
+    public SseEmitter subscribe(Integer userId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout);
+        emitter.onCompletion(() -> removeEmitter(userId, emitter));
+        emitter.onTimeout(() -> removeEmitter(userId, emitter));
+        emitter.onError(e -> removeEmitter(userId, emitter));
+
+        emitters.compute(userId, (id, set) -> {
+            Set<SseEmitter> userEmitters = set != null ? set : ConcurrentHashMap.newKeySet();
+            userEmitters.add(emitter);
+            return userEmitters;
+        });
+
+        AtomicLong counter = seedCounter(userId);
+
+        send(userId, emitter, SseEmitter.event()
+                .name(EVENT_UNREAD_COUNT)
+                .reconnectTime(5000)
+                .data(Map.of("count", counter.get())));
+        log.debug("알림 스트림 구독: userId={}, 접속 사용자 수={}", userId, emitters.size());
+        return emitter;
+    }
+
+    /**
+     * 캐시된 읽지 않은 알림 개수 (접속 중이 아니면 null)
+     */
+    public Long getCachedUnreadCount(Integer userId) {
+        AtomicLong counter = unreadCounts.get(userId);
+        return counter != null ? counter.get() : null;
+    }
+
+    /**
+     * 새 알림 전송 (커밋 후)
+     */
+    public void publishCreated(Integer userId, NotificationResponse notification) {
+        runAfterCommit(() -> {
+            Long count = applyDelta(userId, 1);
+            if (count == null) {
+                return;
+            }
+            broadcast(userId, EVENT_NOTIFICATION, notification);
+            broadcast(userId, EVENT_UNREAD_COUNT, Map.of("count", count));
+        });
+    }
+
+    /**
+     * 읽지 않은 알림 개수 증감 (커밋 후)
+     */
+    public void adjustUnreadCount(Integer userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        runAfterCommit(() -> {
+            Long count = applyDelta(userId, delta);
+            if (count != null) {
+                broadcast(userId, EVENT_UNREAD_COUNT, Map.of("count", count));
+            }
+        });
+    }
+
+    /**
+     * 접속 중인 사용자가 있는지 (없으면 재동기화 대상 조회를 생략할 수 있음)
+     */
+    public boolean hasSubscribers() {
+        return !emitters.isEmpty();
+    }
+
+    /**
+     * 일괄 변경 후 해당 사용자 중 접속 중인 사용자만 개수 재동기화 (커밋 후)
+     *
+     * @param userIds 알림이 변경된 사용자 ID 목록
+     */
+    public void resyncAfterCommit(Collection<Integer> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        runAfterCommit(() -> resync(userIds.stream()
+                .filter(unreadCounts::containsKey)
+                .distinct()
+                .toList()));
+    }
+
+    /**
+     * 연결 유지용 heartbeat
+     * 프록시의 유휴 연결 종료를 막고 끊어진 연결을 정리
+     */
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat-ms:30000}")
+    public void sendHeartbeat() {
+        emitters.forEach((userId, userEmitters) -> {
+            for (SseEmitter emitter : userEmitters) {
+                send(userId, emitter, SseEmitter.event().comment("ping"));
+            }
+        });
+    }
+
+    /**
+     * 접속 중인 사용자의 읽지 않은 개수를 DB와 재동기화
+     * 다른 서버에서 변경된 알림이나 일괄 정리로 인한 차이를 보정
+     */
+    @Scheduled(fixedDelayString = "${notification.stream.resync-ms:300000}")
+    public void resyncUnreadCounts() {
+        // 접속이 끊긴 사용자의 캐시 정리
+        unreadCounts.keySet().removeIf(userId -> !emitters.containsKey(userId));
+
+        resync(new ArrayList<>(unreadCounts.keySet()));
+    }
+
+    /**
+     * 지정한 사용자의 읽지 않은 개수를 청크 단위로 DB와 재동기화 (바뀐 사용자에게만 전송)
+     */
+    private void resync(List<Integer> userIds) {
+        for (int from = 0; from < userIds.size(); from += RESYNC_CHUNK_SIZE) {
+            List<Integer> chunk = userIds.subList(from, Math.min(from + RESYNC_CHUNK_SIZE, userIds.size()));
+
+            Map<Integer, Long> counts = new HashMap<>();
+            for (Object[] row : notificationRepository.countUnreadByUserIds(chunk)) {
+                counts.put((Integer) row[0], (Long) row[1]);
+            }
+
+            for (Integer userId : chunk) {
+                AtomicLong counter = unreadCounts.get(userId);
+                if (counter == null) {
+                    continue;
+                }
+                long count = counts.getOrDefault(userId, 0L);
+                if (counter.getAndSet(count) != count) {
+                    broadcast(userId, EVENT_UNREAD_COUNT, Map.of("count", count));
+                }
+            }
+        }
+    }
+
+    /**
+     * 접속 중인 사용자 수
+     */
+    public int getConnectedUserCount() {
+        return emitters.size();
+    }
+
+    /**
+     * 처음 접속한 사용자의 개수를 DB에서 읽어 캐시 (이미 있으면 그 값 사용)
+     * 커밋 후 증감(applyDelta)과 같은 잠금 안에서 읽고 넣으므로, 조회 중에 도착한 증감은 캐시가 생긴 뒤에 더해지고
+     * 캐시가 없어 건너뛴 증감은 이미 커밋되어 조회 결과에 포함됨
+     * (조회 전에 커밋되었지만 커밋 후 처리는 조회 뒤에 실행된 증감은 한 번 더 더해질 수 있으며 재동기화 때 보정)
+     */
+    private AtomicLong seedCounter(Integer userId) {
+        AtomicLong counter = unreadCounts.get(userId);
+        if (counter != null) {
+            return counter;
+        }
+        synchronized (counterLock(userId)) {
+            counter = unreadCounts.get(userId);
+            if (counter == null) {
+                counter = new AtomicLong(notificationRepository.countUnreadByUserId(userId));
+                unreadCounts.put(userId, counter);
+            }
+            return counter;
+        }
+    }
+
+    private Long applyDelta(Integer userId, long delta) {
+        synchronized (counterLock(userId)) {
+            AtomicLong counter = unreadCounts.get(userId);
+            if (counter == null) {
+                return null;
+            }
+            return counter.updateAndGet(count -> Math.max(0, count + delta));
+        }
+    }
+
+    /**
+     * 사용자별 개수 잠금 (사용자 ID로 나눈 고정 개수의 잠금을 공유)
+     */
+    private Object counterLock(Integer userId) {
+        return counterLocks[Math.floorMod(userId.hashCode(), counterLocks.length)];
+    }
+
+    private static Object[] newLocks(int count) {
+        Object[] locks = new Object[count];
+        for (int i = 0; i < count; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    private void broadcast(Integer userId, String eventName, Object data) {
+        Set<SseEmitter> userEmitters = emitters.get(userId);
+        if (userEmitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : userEmitters) {
+            send(userId, emitter, SseEmitter.event().name(eventName).data(data));
+        }
+    }
+
+    private void send(Integer userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 브라우저가 연결을 끊은 경우
+            log.debug("알림 스트림 전송 실패, 연결 제거: userId={}, error={}", userId, e.getMessage());
+            removeEmitter(userId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void removeEmitter(Integer userId, SseEmitter emitter) {
+        Set<SseEmitter> remaining = emitters.computeIfPresent(userId, (id, set) -> {
+            set.remove(emitter);
+            return set.isEmpty() ? null : set;
+        });
+        if (remaining == null) {
+            unreadCounts.remove(userId);
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -1,15 +1,23 @@
 package com.scms.app.service;
 
+import com.scms.app.dto.CursorPage;
+import com.scms.app.dto.NotificationResponse;
+import com.scms.app.model.ApplicationStatus;
 import com.scms.app.model.Notification;
 import com.scms.app.model.NotificationType;
+import com.scms.app.model.Program;
 import com.scms.app.model.User;
 import com.scms.app.repository.NotificationRepository;
 import com.scms.app.repository.UserRepository;
+import com.scms.app.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -23,6 +31,8 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final NotificationPushService pushService;
+    private final SchedulerLockService lockService;
 
     /**
      * 알림 생성
@@ -45,6 +55,7 @@ public class NotificationService {
                 .build();
 
         notification = notificationRepository.save(notification);
+        pushService.publishCreated(userId, NotificationResponse.from(notification));
         log.info("알림 생성: notificationId={}, userId={}, type={}",
                 notification.getNotificationId(), userId, type);
 
@@ -72,6 +83,77 @@ public class NotificationService {
         return createNotification(userId, title, content, type, relatedUrl);
     }
 
+    /**
+     * 프로그램 신청자 대상 알림 일괄 생성 (스케줄러용)
+     * - 알림 내용은 프로그램당 한 번만 만들고 INSERT ... SELECT 한 문장으로 생성
+     * - 같은 날 재실행되거나 다른 서버에서 동시에 실행되어도 사용자당 한 건만 생성됨
+     * - 스케줄러 잠금의 fencing token을 같은 트랜잭션에서 확인하여, 임대를 잃은 서버의 생성은 롤백됨
+     *
+     * @param program 대상 프로그램
+     * @param status 알림을 받을 신청 상태
+     * @param type 알림 타입
+     * @param sendDate 발송 기준일 (중복 방지 단위)
+     * @param lease 처리 중인 구간의 스케줄러 잠금 임대
+     * @return 새로 생성된 알림 수
+     */
+    @Transactional
+    public int createProgramNotifications(Program program, ApplicationStatus status,
+                                          NotificationType type, LocalDate sendDate,
+                                          SchedulerLockService.Lease lease) {
+        lockService.fence(lease);
+        int count = notificationRepository.insertForProgramApplicants(
+                program.getProgramId(),
+                status.name(),
+                type.name(),
+                type.getTitle(),
+                generateContentByType(type, program.getTitle()),
+                "/programs/" + program.getProgramId(),
+                sendDate.toString());
+
+        if (count > 0 && pushService.hasSubscribers()) {
+            // 접속 중인 수신자의 읽지 않은 개수만 갱신
+            pushService.resyncAfterCommit(
+                    notificationRepository.findApplicantUserIds(program.getProgramId(), status.name()));
+        }
+        log.info("프로그램 알림 일괄 생성: programId={}, type={}, status={}, count={}",
+                program.getProgramId(), type, status, count);
+        return count;
+    }
+
+    /**
+     * 신청 일괄 처리 결과 알림 생성 (일괄 승인/거부/완료용)
+     * - 같은 프로그램의 신청이므로 알림 내용은 한 번만 만들고 INSERT ... SELECT 한 문장으로 생성
+     *
+     * @param applicationIds 처리된 신청 ID 목록
+     * @param reason 거부 사유 (없으면 null)
+     * @return 생성된 알림 수
+     */
+    @Transactional
+    public int createApplicationNotifications(Collection<Integer> applicationIds, NotificationType type,
+                                              Program program, String reason) {
+        if (applicationIds.isEmpty()) {
+            return 0;
+        }
+
+        String content = generateContentByType(type, program.getTitle());
+        if (reason != null && !reason.isEmpty()) {
+            content += "\n사유: " + reason;
+        }
+        int count = notificationRepository.insertForApplications(
+                applicationIds,
+                type.name(),
+                type.getTitle(),
+                content,
+                "/programs/" + program.getProgramId());
+
+        if (count > 0 && pushService.hasSubscribers()) {
+            pushService.resyncAfterCommit(notificationRepository.findUserIdsByApplicationIds(applicationIds));
+        }
+        log.info("신청 처리 알림 일괄 생성: programId={}, type={}, count={}",
+                program.getProgramId(), type, count);
+        return count;
+    }
+
     /**
      * 타입에 따른 알림 내용 생성
      */
@@ -83,6 +165,8 @@ public class NotificationService {
                 "'" + programTitle + "' 프로그램 신청이 거부되었습니다.";
             case APPLICATION_CANCELLED ->
                 "'" + programTitle + "' 프로그램 신청이 취소되었습니다.";
+            case WAITLIST_PROMOTED ->
+                "'" + programTitle + "' 프로그램에 자리가 생겨 대기자에서 신청 대기 상태로 전환되었습니다.";
             case PROGRAM_STARTING ->
                 "'" + programTitle + "' 프로그램이 내일 시작됩니다. 준비해주세요!";
             case DEADLINE_APPROACHING ->
@@ -99,6 +183,22 @@ public class NotificationService {
         return notificationRepository.findByUserIdAndDeletedAtIsNull(userId);
     }
 
+    /**
+     * 사용자별 알림 커서 페이지 조회 (최신순)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public CursorPage<Notification> getNotificationPage(Integer userId, String cursor, Integer size) {
+        int pageSize = CursorPage.normalizeSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Notification> fetched = after == null
+                ? notificationRepository.findFeedByUserId(userId, limit)
+                : notificationRepository.findFeedByUserIdAfter(userId, after.getSortedAt(), after.getIntId(), limit);
+        return CursorPage.of(fetched, pageSize, n -> KeysetCursor.of(n.getCreatedAt(), n.getNotificationId()));
+    }
+
     /**
      * 사용자의 읽지 않은 알림 목록 조회
      */
@@ -108,8 +208,13 @@ public class NotificationService {
 
     /**
      * 사용자의 읽지 않은 알림 개수
+     * 알림 스트림에 접속 중인 사용자는 메모리 캐시에서 조회
      */
     public Long getUnreadCount(Integer userId) {
+        Long cached = pushService.getCachedUnreadCount(userId);
+        if (cached != null) {
+            return cached;
+        }
         return notificationRepository.countUnreadByUserId(userId);
     }
 
@@ -124,6 +229,7 @@ public class NotificationService {
         if (!notification.getIsRead()) {
             notification.markAsRead();
             notificationRepository.save(notification);
+            pushService.adjustUnreadCount(userId, -1);
             log.info("알림 읽음 처리: notificationId={}, userId={}", notificationId, userId);
         }
     }
@@ -134,6 +240,7 @@ public class NotificationService {
     @Transactional
     public int markAllAsRead(Integer userId) {
         int count = notificationRepository.markAllAsReadByUserId(userId);
+        pushService.adjustUnreadCount(userId, -count);
         log.info("모든 알림 읽음 처리: userId={}, count={}", userId, count);
         return count;
     }
@@ -148,6 +255,9 @@ public class NotificationService {
 
         notification.delete();
         notificationRepository.save(notification);
+        if (!notification.getIsRead()) {
+            pushService.adjustUnreadCount(userId, -1);
+        }
         log.info("알림 삭제: notificationId={}, userId={}", notificationId, userId);
     }
 
@@ -158,11 +268,16 @@ public class NotificationService {
     public void deleteAllNotifications(Integer userId) {
         List<Notification> notifications = notificationRepository.findByUserIdAndDeletedAtIsNull(userId);
 
+        long unread = 0;
         for (Notification notification : notifications) {
+            if (!notification.getIsRead()) {
+                unread++;
+            }
             notification.delete();
         }
 
         notificationRepository.saveAll(notifications);
+        pushService.adjustUnreadCount(userId, -unread);
         log.info("모든 알림 삭제: userId={}, count={}", userId, notifications.size());
     }
 
@@ -172,14 +287,4 @@ public class NotificationService {
     public List<Notification> getNotificationsByType(Integer userId, NotificationType type) {
         return notificationRepository.findByUserIdAndType(userId, type);
     }
-
-    /**
-     * 오래된 알림 정리 (스케줄러에서 호출)
-     */
-    @Transactional
-    public int cleanupOldNotifications() {
-        int count = notificationRepository.deleteOldNotifications();
-        log.info("오래된 알림 정리 완료: count={}", count);
-        return count;
-    }
 }
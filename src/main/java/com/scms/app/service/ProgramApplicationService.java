@@ -1,5 +1,10 @@
 package com.scms.app.service;
 
+import com.scms.app.dto.ApplicationBulkResult;
+import com.scms.app.dto.ApplicationExportRow;
+import com.scms.app.dto.CursorPage;
+import com.scms.app.dto.MileageAwardCommand;
+import com.scms.app.dto.MileageBulkAwardResult;
 import com.scms.app.model.ApplicationStatus;
 import com.scms.app.model.NotificationType;
 import com.scms.app.model.Program;
@@ -8,13 +13,26 @@ import com.scms.app.model.User;
 import com.scms.app.repository.ProgramApplicationRepository;
 import com.scms.app.repository.ProgramRepository;
 import com.scms.app.repository.UserRepository;
+import com.scms.app.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 프로그램 신청 관리 Service
@@ -25,12 +43,17 @@ import java.util.List;
 @Slf4j
 public class ProgramApplicationService {
 
+    private static final int MAX_BULK_SIZE = 1000;
+    private static final int PROGRAM_COMPLETION_POINTS = 100; // 기본 프로그램 참여 완료 포인트
+
     private final ProgramApplicationRepository applicationRepository;
     private final ProgramRepository programRepository;
     private final UserRepository userRepository;
-    private final ProgramService programService;
+    private final SeatReservationService seatReservationService;
+    private final WaitlistService waitlistService;
     private final NotificationService notificationService;
     private final MileageService mileageService;
+    private final ExcelService excelService;
 
     /**
      * 프로그램 신청
@@ -50,17 +73,11 @@ public class ProgramApplicationService {
             throw new IllegalStateException("이미 신청한 프로그램입니다.");
         }
 
-        // 신청 가능 여부 확인
-        if (!program.isApplicationAvailable()) {
+        // 신청 가능 여부 확인 (정원만 마감된 경우는 대기자로 등록)
+        if (!program.isApplicationAvailable() && !program.isWaitlistAvailable()) {
             throw new IllegalStateException("현재 신청할 수 없는 프로그램입니다.");
         }
 
-        // 신청 정원 확인
-        if (program.getMaxParticipants() != null
-            && program.getCurrentParticipants() >= program.getMaxParticipants()) {
-            throw new IllegalStateException("프로그램 정원이 마감되었습니다.");
-        }
-
         // 신청 생성
         ProgramApplication application = ProgramApplication.builder()
                 .program(program)
@@ -71,8 +88,17 @@ public class ProgramApplicationService {
 
         ProgramApplication savedApplication = applicationRepository.save(application);
 
-        // 프로그램 참가자 수 증가
-        programService.incrementParticipants(programId);
+        // 좌석 확보 (프로그램 행 잠금을 커밋 직전까지만 보유하도록 마지막에 수행)
+        SeatReservationService.Result result = seatReservationService.reserve(programId);
+        if (result == SeatReservationService.Result.UNAVAILABLE) {
+            throw new IllegalStateException("현재 신청할 수 없는 프로그램입니다.");
+        }
+        if (result == SeatReservationService.Result.FULL) {
+            waitlistService.enqueue(savedApplication);
+            log.info("프로그램 대기자 등록: 사용자 {} ({}), 프로그램 {} ({}), 순번 {}",
+                    user.getName(), userId, program.getTitle(), programId, savedApplication.getWaitlistPosition());
+            return savedApplication;
+        }
 
         log.info("프로그램 신청 완료: 사용자 {} ({}), 프로그램 {} ({})",
                 user.getName(), userId, program.getTitle(), programId);
@@ -99,11 +125,14 @@ public class ProgramApplicationService {
         }
 
         // 신청 취소 처리
+        boolean holdingSeat = application.isHoldingSeat();
         application.cancel();
         applicationRepository.save(application);
 
-        // 프로그램 참가자 수 감소
-        programService.decrementParticipants(application.getProgram().getProgramId());
+        // 좌석 반납 (대기자가 있으면 맨 앞 대기자에게 넘김)
+        if (holdingSeat) {
+            waitlistService.releaseSeat(application.getProgram());
+        }
 
         // 취소 알림 생성 (선택 사항 - 사용자가 직접 취소했으므로 알림이 필요없을 수 있음)
         // 하지만 기록을 위해 알림 생성
@@ -130,6 +159,22 @@ public class ProgramApplicationService {
         return applicationRepository.findByUserId(userId);
     }
 
+    /**
+     * 사용자의 신청 내역 커서 페이지 조회 (신청일 최신순)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public CursorPage<ProgramApplication> getUserApplicationPage(Integer userId, String cursor, Integer size) {
+        int pageSize = CursorPage.normalizeSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<ProgramApplication> fetched = after == null
+                ? applicationRepository.findPageByUserId(userId, limit)
+                : applicationRepository.findPageByUserIdAfter(userId, after.getSortedAt(), after.getIntId(), limit);
+        return CursorPage.of(fetched, pageSize, ProgramApplicationService::cursorOf);
+    }
+
     /**
      * 사용자의 특정 프로그램 신청 조회
      */
@@ -145,6 +190,36 @@ public class ProgramApplicationService {
         return applicationRepository.findByProgramId(programId);
     }
 
+    /**
+     * 프로그램별 신청 내역 커서 페이지 조회 (관리자용, 신청일 최신순)
+     */
+    public CursorPage<ProgramApplication> getProgramApplicationPage(Integer programId, String cursor, Integer size) {
+        int pageSize = CursorPage.normalizeSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<ProgramApplication> fetched = after == null
+                ? applicationRepository.findPageByProgramId(programId, limit)
+                : applicationRepository.findPageByProgramIdAfter(programId, after.getSortedAt(), after.getIntId(), limit);
+        return CursorPage.of(fetched, pageSize, ProgramApplicationService::cursorOf);
+    }
+
+    /**
+     * 프로그램별 신청 내역 Excel 내보내기 (관리자용)
+     * 신청 행을 DB에서 스트림으로 읽으면서 out에 바로 기록 (스트림 소비를 위해 읽기 트랜잭션 유지)
+     *
+     * @return 기록한 신청 수
+     */
+    public int exportProgramApplications(Integer programId, OutputStream out) throws IOException {
+        try (Stream<ApplicationExportRow> rows = applicationRepository.streamExportRowsByProgramId(programId)) {
+            return excelService.writeApplicationsExcel(out, rows);
+        }
+    }
+
+    private static KeysetCursor cursorOf(ProgramApplication application) {
+        return KeysetCursor.of(application.getAppliedAt(), application.getApplicationId());
+    }
+
     /**
      * 신청 승인 (관리자용)
      */
@@ -185,15 +260,19 @@ public class ProgramApplicationService {
         ProgramApplication application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new IllegalArgumentException("신청 내역을 찾을 수 없습니다: ID " + applicationId));
 
-        if (application.getStatus() != ApplicationStatus.PENDING) {
+        if (application.getStatus() != ApplicationStatus.PENDING
+                && application.getStatus() != ApplicationStatus.WAITLISTED) {
             throw new IllegalStateException("대기 중인 신청만 거부할 수 있습니다.");
         }
 
+        boolean holdingSeat = application.isHoldingSeat();
         application.reject(reason);
         applicationRepository.save(application);
 
-        // 프로그램 참가자 수 감소
-        programService.decrementParticipants(application.getProgram().getProgramId());
+        // 좌석 반납 (대기자가 있으면 맨 앞 대기자에게 넘김)
+        if (holdingSeat) {
+            waitlistService.releaseSeat(application.getProgram());
+        }
 
         // 거부 알림 생성
         try {
@@ -236,7 +315,7 @@ public class ProgramApplicationService {
         try {
             // 기본 프로그램 완료 마일리지 100점 지급
             // 실제로는 MileageRule에서 조회하여 동적으로 지급할 수도 있음
-            Integer points = 100; // 기본 프로그램 참여 완료 포인트
+            Integer points = PROGRAM_COMPLETION_POINTS;
             String activityName = application.getProgram().getTitle() + " 참여 완료";
             String description = "프로그램 '" + application.getProgram().getTitle() + "' 참여 완료";
 
@@ -262,6 +341,178 @@ public class ProgramApplicationService {
                 applicationId, application.getUser().getName());
     }
 
+    // ==================== 일괄 처리 (관리자용) ====================
+
+    /**
+     * 신청 일괄 승인
+     * 대상 신청을 잠근 뒤 UPDATE 한 문장으로 승인하고, 알림도 한 문장으로 생성
+     */
+    @Transactional
+    public ApplicationBulkResult bulkApprove(Integer programId, List<Integer> applicationIds) {
+        Program program = programRepository.findById(programId)
+                .orElseThrow(() -> new IllegalArgumentException("프로그램을 찾을 수 없습니다: ID " + programId));
+
+        Map<Integer, ApplicationBulkResult.RowResult> rows = new LinkedHashMap<>();
+        List<ProgramApplication> targets = lockBulkTargets(programId, applicationIds,
+                EnumSet.of(ApplicationStatus.PENDING), "대기 중인 신청만 승인할 수 있습니다.", rows);
+
+        int notificationCount = 0;
+        if (!targets.isEmpty()) {
+            List<Integer> ids = idsOf(targets);
+            applicationRepository.approveAll(ids, LocalDateTime.now());
+            notificationCount = notificationService.createApplicationNotifications(
+                    ids, NotificationType.APPLICATION_APPROVED, program, null);
+            ids.forEach(id -> rows.put(id, new ApplicationBulkResult.RowResult(id, "APPROVED", "승인되었습니다.")));
+        }
+
+        log.info("프로그램 신청 일괄 승인: programId={}, 요청 {}건, 승인 {}건",
+                programId, rows.size(), targets.size());
+        return toBulkResult(rows, notificationCount, null);
+    }
+
+    /**
+     * 신청 일괄 거부
+     * 좌석을 가진 신청(PENDING)의 좌석은 프로그램당 한 번에 반납 (대기자가 있으면 순서대로 승격)
+     */
+    @Transactional
+    public ApplicationBulkResult bulkReject(Integer programId, List<Integer> applicationIds, String reason) {
+        Program program = programRepository.findById(programId)
+                .orElseThrow(() -> new IllegalArgumentException("프로그램을 찾을 수 없습니다: ID " + programId));
+
+        Map<Integer, ApplicationBulkResult.RowResult> rows = new LinkedHashMap<>();
+        List<ProgramApplication> targets = lockBulkTargets(programId, applicationIds,
+                EnumSet.of(ApplicationStatus.PENDING, ApplicationStatus.WAITLISTED),
+                "대기 중인 신청만 거부할 수 있습니다.", rows);
+
+        int notificationCount = 0;
+        if (!targets.isEmpty()) {
+            int seatsToRelease = (int) targets.stream().filter(ProgramApplication::isHoldingSeat).count();
+            List<Integer> ids = idsOf(targets);
+            applicationRepository.rejectAll(ids, reason, LocalDateTime.now());
+
+            // 좌석 반납 (프로그램 행 갱신은 한 번만)
+            if (seatsToRelease > 0) {
+                waitlistService.releaseSeats(program, seatsToRelease);
+            }
+
+            notificationCount = notificationService.createApplicationNotifications(
+                    ids, NotificationType.APPLICATION_REJECTED, program, reason);
+            ids.forEach(id -> rows.put(id, new ApplicationBulkResult.RowResult(id, "REJECTED", "거부되었습니다.")));
+        }
+
+        log.info("프로그램 신청 일괄 거부: programId={}, 요청 {}건, 거부 {}건, 사유: {}",
+                programId, rows.size(), targets.size(), reason);
+        return toBulkResult(rows, notificationCount, null);
+    }
+
+    /**
+     * 참여 일괄 완료 처리
+     * 마일리지는 기존 지급 내역을 한 번에 확인한 뒤 배치로 지급
+     */
+    @Transactional
+    public ApplicationBulkResult bulkComplete(Integer programId, List<Integer> applicationIds) {
+        Program program = programRepository.findById(programId)
+                .orElseThrow(() -> new IllegalArgumentException("프로그램을 찾을 수 없습니다: ID " + programId));
+
+        Map<Integer, ApplicationBulkResult.RowResult> rows = new LinkedHashMap<>();
+        List<ProgramApplication> targets = lockBulkTargets(programId, applicationIds,
+                EnumSet.of(ApplicationStatus.APPROVED), "승인된 신청만 완료 처리할 수 있습니다.", rows);
+
+        int mileageAwardedCount = 0;
+        if (!targets.isEmpty()) {
+            applicationRepository.completeAll(idsOf(targets), LocalDateTime.now());
+
+            // 마일리지 일괄 지급 (이미 지급된 사용자는 건너뜀)
+            List<MileageAwardCommand> commands = new ArrayList<>(targets.size());
+            for (ProgramApplication application : targets) {
+                commands.add(MileageAwardCommand.builder()
+                        .userId(application.getUser().getUserId())
+                        .activityType("PROGRAM")
+                        .activityId(programId.longValue())
+                        .activityName(program.getTitle() + " 참여 완료")
+                        .points(PROGRAM_COMPLETION_POINTS)
+                        .description("프로그램 '" + program.getTitle() + "' 참여 완료")
+                        .build());
+            }
+            MileageBulkAwardResult mileageResult = mileageService.awardMileageBulk(commands, null);
+            mileageAwardedCount = mileageResult.getAwardedCount();
+
+            for (MileageBulkAwardResult.RowResult mileageRow : mileageResult.getRows()) {
+                Integer id = targets.get(mileageRow.getIndex()).getApplicationId();
+                String message = "AWARDED".equals(mileageRow.getStatus())
+                        ? "참여 완료 처리되었습니다."
+                        : "참여 완료 처리되었습니다. (마일리지 미지급: " + mileageRow.getMessage() + ")";
+                rows.put(id, new ApplicationBulkResult.RowResult(id, "COMPLETED", message));
+            }
+        }
+
+        log.info("프로그램 참여 일괄 완료 처리: programId={}, 요청 {}건, 완료 {}건, 마일리지 지급 {}건",
+                programId, rows.size(), targets.size(), mileageAwardedCount);
+        return toBulkResult(rows, 0, mileageAwardedCount);
+    }
+
+    /**
+     * 일괄 처리 대상 신청을 잠그고 분류
+     * 다른 프로그램의 신청이나 없는 신청은 NOT_FOUND, 처리할 수 없는 상태는 INVALID_STATUS로 rows에 기록
+     *
+     * @param rows 요청 순서대로 항목별 결과를 담을 맵 (처리 대상은 자리만 잡아 둠)
+     * @return 처리 대상 신청 (요청 순서)
+     */
+    private List<ProgramApplication> lockBulkTargets(Integer programId, List<Integer> applicationIds,
+                                                     Set<ApplicationStatus> allowed, String invalidMessage,
+                                                     Map<Integer, ApplicationBulkResult.RowResult> rows) {
+        Set<Integer> distinctIds = new LinkedHashSet<>();
+        if (applicationIds != null) {
+            for (Integer id : applicationIds) {
+                if (id != null) {
+                    distinctIds.add(id);
+                }
+            }
+        }
+        if (distinctIds.isEmpty()) {
+            throw new IllegalArgumentException("처리할 신청이 없습니다.");
+        }
+        if (distinctIds.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BULK_SIZE + "건까지 처리할 수 있습니다.");
+        }
+
+        Map<Integer, ProgramApplication> found = applicationRepository.findAllForUpdate(distinctIds).stream()
+                .collect(Collectors.toMap(ProgramApplication::getApplicationId, Function.identity()));
+
+        List<ProgramApplication> targets = new ArrayList<>();
+        for (Integer id : distinctIds) {
+            ProgramApplication application = found.get(id);
+            if (application == null || !application.getProgram().getProgramId().equals(programId)) {
+                rows.put(id, new ApplicationBulkResult.RowResult(id, "NOT_FOUND", "신청 내역을 찾을 수 없습니다."));
+            } else if (!allowed.contains(application.getStatus())) {
+                rows.put(id, new ApplicationBulkResult.RowResult(id, "INVALID_STATUS", invalidMessage));
+            } else {
+                rows.put(id, null);
+                targets.add(application);
+            }
+        }
+        return targets;
+    }
+
+    private static List<Integer> idsOf(List<ProgramApplication> applications) {
+        return applications.stream().map(ProgramApplication::getApplicationId).toList();
+    }
+
+    private static ApplicationBulkResult toBulkResult(Map<Integer, ApplicationBulkResult.RowResult> rows,
+                                                      int notificationCount, Integer mileageAwardedCount) {
+        int failedCount = (int) rows.values().stream()
+                .filter(row -> "NOT_FOUND".equals(row.getStatus()) || "INVALID_STATUS".equals(row.getStatus()))
+                .count();
+        return ApplicationBulkResult.builder()
+                .totalCount(rows.size())
+                .successCount(rows.size() - failedCount)
+                .failedCount(failedCount)
+                .notificationCount(notificationCount)
+                .mileageAwardedCount(mileageAwardedCount)
+                .rows(new ArrayList<>(rows.values()))
+                .build();
+    }
+
     /**
      * 신청 ID로 조회
      */
@@ -270,6 +521,13 @@ public class ProgramApplicationService {
                 .orElseThrow(() -> new IllegalArgumentException("신청 내역을 찾을 수 없습니다: ID " + applicationId));
     }
 
+    /**
+     * 대기 순서 조회 (대기자가 아니면 null)
+     */
+    public Long getWaitlistRank(ProgramApplication application) {
+        return waitlistService.getWaitlistRank(application);
+    }
+
     /**
      * 사용자가 특정 프로그램을 신청했는지 확인
      */
@@ -0,0 +1,337 @@
+package com.scms.app.service;
+
+import com.scms.app.dto.CursorPage;
+import com.scms.app.dto.ProgramCatalogCacheStats;
+import com.scms.app.dto.ProgramCatalogItem;
+import com.scms.app.dto.ProgramFacetCounts;
+import com.scms.app.model.Program;
+import com.scms.app.model.ProgramStatus;
+import com.scms.app.repository.ProgramRepository;
+import com.scms.app.util.ExpiringLruCache;
+import com.scms.app.util.KeysetCursor;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 공개 프로그램 목록(카탈로그) 캐시 서비스
+ * - 홈/프로그램 전체보기 목록을 크기와 유효 시간이 제한된 캐시에서 제공 (캐시 적중 시 DB 조회 없음)
+ * - 목록 캐시에는 프로그램 ID 순서만 두고, 항목 내용은 프로그램별 변경 불가능한 DTO로 따로 보관
+ * - 프로그램 등록/수정/삭제가 커밋되면 목록 캐시 전체를 무효화 (정렬/필터 결과가 바뀔 수 있으므로)
+ * - 참가자 수 변경은 해당 프로그램 항목만 교체하여 반영 (목록 재적재 없음)
+ * - 다른 서버에서의 변경과 조회수는 유효 시간이 지나 재적재될 때 반영
+ * - 항목 캐시는 max-items를 넘으면 일부를 비움 (빠진 항목은 목록 조회 시 다시 조회)
+ * - 키워드 검색은 ProgramSearchService의 메모리 색인으로 처리하고 결과 항목만 이 캐시에서 채움
+ *
+ * 트랜잭션 없이 동작하므로 캐시 적중 시 DB 커넥션을 사용하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProgramCatalogService {
+
+    private static final int MAIN_PAGE_SIZE = 8;
+
+    private final ProgramRepository programRepository;
+    private final ProgramSearchService searchService;
+
+    @Value("${program.catalog-cache.max-entries:500}")
+    private int maxEntries;
+
+    @Value("${program.catalog-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${program.catalog-cache.max-items:5000}")
+    private int maxItems;
+
+    private ExpiringLruCache<CatalogKey, CatalogPage> pages;
+    private final Map<Integer, ProgramCatalogItem> items = new ConcurrentHashMap<>();
+
+    private final LongAdder invalidationCount = new LongAdder();
+    private final LongAdder participantPatchCount = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        pages = new ExpiringLruCache<>(maxEntries, ttlSeconds * 1000L);
+    }
+
+    /**
+     * 메인 페이지용 최신 프로그램 (상위 8개)
+     */
+    public List<ProgramCatalogItem> getMainPagePrograms() {
+        CatalogPage page = pages.get(CatalogKey.of("main"), key -> cache(
+                programRepository.findLatest(null, null, null, PageRequest.of(0, MAIN_PAGE_SIZE))));
+        return resolve(page);
+    }
+
+    /**
+     * 인기 프로그램 (조회수 기준 상위 8개)
+     */
+    public List<ProgramCatalogItem> getPopularPrograms() {
+        CatalogPage page = pages.get(CatalogKey.of("popular"), key -> cache(
+                programRepository.findPopularPrograms(PageRequest.of(0, MAIN_PAGE_SIZE))));
+        return resolve(page);
+    }
+
+    /**
+     * 복합 필터로 프로그램 조회 (홈 화면 필터)
+     */
+    public List<ProgramCatalogItem> getProgramsByFilters(String department, String college, String category) {
+        CatalogKey cacheKey = new CatalogKey("filter", department, college, category, null, 0, 0);
+        CatalogPage page = pages.get(cacheKey, key -> cache(
+                programRepository.findByFilters(department, college, category)));
+        return resolve(page);
+    }
+
+    /**
+     * 복합 필터로 프로그램 조회 with 페이지네이션
+     */
+    public Page<ProgramCatalogItem> getProgramsByFiltersWithPagination(String department, String college,
+                                                                       String category, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, ProgramService.LATEST_FIRST);
+        CatalogKey cacheKey = new CatalogKey("filter-page", department, college, category, null, page, size);
+        return toPage(pages.get(cacheKey, key -> cache(
+                programRepository.findByFiltersWithPagination(department, college, category, pageable))), pageable);
+    }
+
+    /**
+     * 키워드 검색 with 페이지네이션 (제목/설명/내용/카테고리/학과, 관련도순)
+     * 검색은 메모리 색인에서 처리하므로 목록 캐시를 거치지 않음
+     *
+     * @param status  프로그램 상태 (null이면 전체)
+     * @param openNow true면 현재 신청 가능한 프로그램만
+     */
+    public Page<ProgramCatalogItem> searchPrograms(String keyword, String college, String department,
+                                                   String category, ProgramStatus status, boolean openNow,
+                                                   int page, int size) {
+        Page<Integer> ids = searchService.search(keyword, college, department, category, status, openNow, page, size);
+        return new PageImpl<>(resolve(new CatalogPage(ids.getContent(), ids.getTotalElements(), false)),
+                ids.getPageable(), ids.getTotalElements());
+    }
+
+    /**
+     * 전체 프로그램 조회 with 페이지네이션
+     */
+    public Page<ProgramCatalogItem> getAllProgramsWithPagination(int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, ProgramService.LATEST_FIRST);
+        CatalogKey cacheKey = new CatalogKey("all", null, null, null, null, page, size);
+        return toPage(pages.get(cacheKey, key -> cache(
+                programRepository.findAllNotDeletedWithPagination(pageable))), pageable);
+    }
+
+    /**
+     * 커서 기반 프로그램 목록 (최신순, 복합 필터)
+     * 깊은 페이지도 커서 위치부터 인덱스를 탐색하므로 조회 비용이 일정
+     *
+     * @param cursor 이전 페이지의 nextCursor (없으면 첫 페이지)
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    public CursorPage<ProgramCatalogItem> getProgramsByCursor(String department, String college, String category,
+                                                              String cursor, Integer size) {
+        int pageSize = CursorPage.normalizeSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Integer afterId = after != null ? after.getIntId() : null; // 잘못된 커서는 캐시 적재 전에 거부
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        CatalogKey cacheKey = new CatalogKey("cursor", department, college, category,
+                after != null ? after.encode() : null, 0, pageSize);
+        CatalogPage page = pages.get(cacheKey, key -> {
+            List<Program> programs = after == null
+                    ? programRepository.findLatest(department, college, category, limit)
+                    : programRepository.findLatestAfter(department, college, category,
+                            after.getSortedAt(), afterId, limit);
+            boolean hasNext = programs.size() > pageSize;
+            CatalogPage fetched = cache(hasNext ? programs.subList(0, pageSize) : programs);
+            return new CatalogPage(fetched.ids(), fetched.total(), hasNext);
+        });
+
+        List<ProgramCatalogItem> items = resolve(page);
+        String nextCursor = page.hasNext() && !items.isEmpty()
+                ? cursorOf(items.get(items.size() - 1)).encode()
+                : null;
+        return new CursorPage<>(items, nextCursor, nextCursor != null);
+    }
+
+    /**
+     * 필터별 프로그램 수 (검색 색인의 패싯 비트맵으로 계산, DB 조회 없음)
+     */
+    public ProgramFacetCounts getFacetCounts(String department, String college, String category) {
+        return searchService.getFacetCounts(department, college, category);
+    }
+
+    /**
+     * 프로그램 등록/수정/삭제 반영 (트랜잭션 안에서 호출하면 커밋된 경우에만)
+     * 해당 프로그램 항목을 제거하고 목록 캐시를 모두 무효화, 검색 색인은 해당 프로그램만 재색인
+     */
+    public void invalidateAfterCommit(Integer programId) {
+        searchService.reindexAfterCommit(programId);
+        runAfterCommit(() -> {
+            if (programId != null) {
+                items.remove(programId);
+            }
+            pages.invalidateAll();
+            invalidationCount.increment();
+        });
+    }
+
+    /**
+     * 참가자 수 증감 반영 (좌석 확보/반납이 커밋된 뒤 호출)
+     * 캐시에 있는 항목만 새 항목으로 교체하고 목록은 그대로 둠
+     */
+    public void patchParticipants(Integer programId, int delta) {
+        searchService.patchParticipants(programId, delta);
+        if (items.computeIfPresent(programId, (id, item) -> item.withParticipantDelta(delta)) != null) {
+            participantPatchCount.increment();
+        }
+    }
+
+    /**
+     * 캐시 지표 조회
+     */
+    public ProgramCatalogCacheStats getStats() {
+        return ProgramCatalogCacheStats.builder()
+                .entries(pages.size())
+                .maxEntries(pages.getMaxEntries())
+                .ttlSeconds(ttlSeconds)
+                .cachedPrograms(items.size())
+                .hitCount(pages.getHitCount())
+                .missCount(pages.getMissCount())
+                .hitRatio(pages.getHitRate())
+                .loadCount(pages.getLoadSuccessCount())
+                .loadFailureCount(pages.getLoadFailureCount())
+                .avgLoadMs(pages.getAverageLoadPenaltyNanos() / 1_000_000.0)
+                .evictionCount(pages.getEvictionCount())
+                .invalidationCount(invalidationCount.sum())
+                .participantPatchCount(participantPatchCount.sum())
+                .build();
+    }
+
+    /**
+     * 조회한 프로그램을 항목 캐시에 넣고 ID 순서만 목록으로 보관
+     */
+    private CatalogPage cache(Collection<Program> programs, long total) {
+        List<Integer> ids = new ArrayList<>(programs.size());
+        for (Program program : programs) {
+            putItem(ProgramCatalogItem.from(program));
+            ids.add(program.getProgramId());
+        }
+        return new CatalogPage(List.copyOf(ids), total, false);
+    }
+
+    private CatalogPage cache(List<Program> programs) {
+        return cache(programs, programs.size());
+    }
+
+    private CatalogPage cache(Page<Program> programs) {
+        return cache(programs.getContent(), programs.getTotalElements());
+    }
+
+    private static KeysetCursor cursorOf(ProgramCatalogItem item) {
+        return KeysetCursor.of(item.getCreatedAt(), item.getProgramId());
+    }
+
+    /**
+     * 목록의 ID를 항목으로 변환
+     * 목록 적재 후 수정/삭제로 항목이 빠졌으면 그 항목만 다시 조회
+     */
+    private List<ProgramCatalogItem> resolve(CatalogPage page) {
+        List<ProgramCatalogItem> result = new ArrayList<>(page.ids().size());
+        List<Integer> missing = null;
+        for (Integer id : page.ids()) {
+            ProgramCatalogItem item = items.get(id);
+            if (item == null) {
+                if (missing == null) {
+                    missing = new ArrayList<>();
+                }
+                missing.add(id);
+            }
+            result.add(item);
+        }
+
+        if (missing != null) {
+            // 넣은 직후 항목 캐시가 비워질 수 있으므로 조회한 항목은 따로 들고 채움
+            Map<Integer, ProgramCatalogItem> fetched = new HashMap<>();
+            for (Program program : programRepository.findAllById(missing)) {
+                if (!program.isDeleted()) {
+                    ProgramCatalogItem item = ProgramCatalogItem.from(program);
+                    putItem(item);
+                    fetched.put(item.getProgramId(), item);
+                }
+            }
+            for (int i = 0; i < result.size(); i++) {
+                if (result.get(i) == null) {
+                    result.set(i, fetched.get(page.ids().get(i)));
+                }
+            }
+            result.removeIf(item -> item == null);
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * 항목 캐시에 넣기 (max-items를 넘으면 임의의 항목을 90%까지 비움)
+     * 목록이 가리키는 항목이 빠져도 resolve에서 다시 조회하므로 어떤 항목을 비워도 결과는 같음
+     */
+    private void putItem(ProgramCatalogItem item) {
+        if (items.size() >= maxItems && !items.containsKey(item.getProgramId())) {
+            int target = maxItems * 9 / 10;
+            Iterator<Integer> it = items.keySet().iterator();
+            while (items.size() > target && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        items.put(item.getProgramId(), item);
+    }
+
+    private Page<ProgramCatalogItem> toPage(CatalogPage page, Pageable pageable) {
+        return new PageImpl<>(resolve(page), pageable, page.total());
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 목록 캐시 키 (조회 종류 + 조건)
+     */
+    private record CatalogKey(String type, String department, String college, String category,
+                              String keyword, int page, int size) {
+
+        static CatalogKey of(String type) {
+            return new CatalogKey(type, null, null, null, null, 0, 0);
+        }
+    }
+
+    /**
+     * 캐시된 목록 (프로그램 ID 순서, 전체 건수, 커서 목록의 다음 페이지 여부)
+     */
+    private record CatalogPage(List<Integer> ids, long total, boolean hasNext) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.scms.app.service;
+
+import com.scms.app.repository.ProgramHitRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 프로그램 조회수 지연 반영(write-behind) 카운터
+ * - 상세 페이지 조회마다 DB를 갱신하지 않고 프로그램별 LongAdder에 누적
+ * - 몇 초마다 누적분을 UPDATE ... SET hits = hits + ? 배치로 반영
+ * - 종료 시 남은 누적분을 모두 반영
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProgramHitCounter {
+
+    private final ProgramHitRepository programHitRepository;
+
+    private final Map<Integer, LongAdder> pendingHits = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가
+     */
+    public void increment(Integer programId) {
+        pendingHits.computeIfAbsent(programId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long getPendingHits(Integer programId) {
+        LongAdder adder = pendingHits.get(programId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * 주기적 반영
+     */
+    @Scheduled(initialDelayString = "${program.hits.flush-ms:5000}",
+               fixedDelayString = "${program.hits.flush-ms:5000}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("프로그램 조회수 반영 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void drain() {
+        int flushed = flush();
+        log.info("프로그램 조회수 종료 반영 완료: 프로그램 수={}", flushed);
+    }
+
+    /**
+     * 누적된 조회수를 DB에 반영
+     * 반영에 실패하면 누적분을 되돌려 다음 반영 때 다시 시도
+     *
+     * @return 반영한 프로그램 수
+     */
+    public synchronized int flush() {
+        Map<Integer, Long> deltas = new HashMap<>();
+        pendingHits.forEach((programId, adder) -> {
+            long hits = adder.sumThenReset();
+            if (hits > 0) {
+                deltas.put(programId, hits);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            programHitRepository.addHits(deltas);
+        } catch (RuntimeException e) {
+            deltas.forEach((programId, hits) -> pendingHits.get(programId).add(hits));
+            throw e;
+        }
+
+        log.debug("프로그램 조회수 반영: 프로그램 수={}", deltas.size());
+        return deltas.size();
+    }
+}
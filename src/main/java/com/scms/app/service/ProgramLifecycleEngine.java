@@ -0,0 +1,150 @@
+package com.scms.app.service;
+
+import com.scms.app.service.ProgramLifecycleService.Transition;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 프로그램 상태 전환 엔진
+ * - 앞으로 일정 구간(horizon) 안의 전환 시각(접수 시작, 신청 마감)을 시각순 대기열로 유지
+ * - 짧은 주기로 대기열 맨 앞만 확인하여 시각이 된 전환을 실행 (전체 프로그램을 매번 조회하지 않음)
+ * - 프로그램 등록/수정/삭제가 커밋되면 해당 프로그램의 전환만 다시 예약
+ * - 주기적으로 DB에서 대기열을 다시 구성하여 다른 서버의 변경과 서버 중단 중 지난 전환을 보정
+ * 상태가 DB에 저장되므로 목록 조회는 신청 기간 비교 없이 상태 일치 조건만 사용
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProgramLifecycleEngine {
+
+    private static final Comparator<Transition> BY_TIME = Comparator
+            .comparing(Transition::at)
+            .thenComparing(Transition::programId)
+            .thenComparing(Transition::kind);
+
+    private final ProgramLifecycleService lifecycleService;
+
+    @Value("${program.lifecycle.horizon-ms:600000}")
+    private long horizonMs; // 재구성 주기보다 길어야 함
+
+    private final TreeSet<Transition> queue = new TreeSet<>(BY_TIME);
+    private volatile LocalDateTime loadedUntil; // 대기열이 포함하는 전환 시각 상한 (null이면 미적재)
+
+    /**
+     * 시각이 된 전환 실행
+     */
+    @Scheduled(fixedDelayString = "${program.lifecycle.tick-ms:1000}")
+    public void tick() {
+        try {
+            if (loadedUntil == null) {
+                reload();
+            }
+            fireDue(LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("프로그램 상태 전환 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 주기적 대기열 재구성
+     */
+    @Scheduled(initialDelayString = "${program.lifecycle.reload-ms:300000}",
+               fixedDelayString = "${program.lifecycle.reload-ms:300000}")
+    public void scheduledReload() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("프로그램 상태 전환 대기열 재구성 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * DB로부터 대기열 재구성 (지금부터 horizon 이내 + 이미 지난 전환)
+     */
+    public int reload() {
+        LocalDateTime until = LocalDateTime.now().plus(horizonMs, ChronoUnit.MILLIS);
+        List<Transition> transitions = lifecycleService.findTransitions(until);
+
+        synchronized (queue) {
+            queue.clear();
+            queue.addAll(transitions);
+            loadedUntil = until;
+        }
+
+        log.debug("프로그램 상태 전환 대기열 구성: 전환 수={}, until={}", transitions.size(), until);
+        return transitions.size();
+    }
+
+    /**
+     * 프로그램 전환 재예약 (트랜잭션 안에서 호출하면 커밋된 경우에만)
+     * 신청 기간이나 상태가 바뀌었을 수 있으므로 기존 예약을 지우고 다시 조회
+     */
+    public void rescheduleAfterCommit(Integer programId) {
+        if (programId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reschedule(programId);
+                }
+            });
+        } else {
+            reschedule(programId);
+        }
+    }
+
+    private void reschedule(Integer programId) {
+        LocalDateTime until = loadedUntil;
+        if (until == null) {
+            // 아직 적재 전이면 적재 시 함께 조회됨
+            return;
+        }
+
+        try {
+            List<Transition> transitions = lifecycleService.findTransitions(programId, until);
+            synchronized (queue) {
+                queue.removeIf(transition -> transition.programId().equals(programId));
+                queue.addAll(transitions);
+            }
+        } catch (Exception e) {
+            // 다음 재구성 때 반영됨
+            log.error("프로그램 상태 전환 재예약 실패: programId={}, error={}", programId, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 대기열 맨 앞부터 시각이 된 전환을 꺼내 실행
+     * 실패한 전환은 다음 재구성 때 다시 조회됨
+     */
+    private void fireDue(LocalDateTime now) {
+        while (true) {
+            Transition next;
+            synchronized (queue) {
+                if (queue.isEmpty() || queue.first().at().isAfter(now)) {
+                    return;
+                }
+                next = queue.pollFirst();
+            }
+
+            try {
+                lifecycleService.apply(next);
+            } catch (Exception e) {
+                log.error("프로그램 상태 전환 실행 실패: programId={}, kind={}, error={}",
+                        next.programId(), next.kind(), e.getMessage(), e);
+            }
+        }
+    }
+}
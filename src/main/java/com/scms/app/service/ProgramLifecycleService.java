@@ -0,0 +1,102 @@
+package com.scms.app.service;
+
+import com.scms.app.model.ProgramStatus;
+import com.scms.app.repository.ProgramRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 프로그램 상태 전환 서비스
+ * - 신청 기간에 따른 상태 전환(접수예정 -> 접수중, 미마감 -> 마감) 시각 조회와 DB 반영
+ * - 전환은 조건부 UPDATE로 처리하므로 여러 서버가 같은 전환을 실행해도 한 번만 반영됨
+ * - 전환 시각 대기열은 ProgramLifecycleEngine이 관리
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ProgramLifecycleService {
+
+    private static final List<ProgramStatus> NOT_CLOSED =
+            List.of(ProgramStatus.SCHEDULED, ProgramStatus.OPEN, ProgramStatus.FULL);
+
+    private final ProgramRepository programRepository;
+    private final ProgramCatalogService catalogService;
+
+    /**
+     * 전환 종류
+     */
+    public enum Kind {
+        OPEN,   // 접수 시작 (application_start_date)
+        CLOSE   // 신청 마감 (application_end_date)
+    }
+
+    /**
+     * 예정된 상태 전환
+     */
+    public record Transition(LocalDateTime at, Integer programId, Kind kind) {
+    }
+
+    /**
+     * until 이전에 실행해야 하는 전환 목록 (이미 지난 전환 포함)
+     */
+    public List<Transition> findTransitions(LocalDateTime until) {
+        List<Transition> transitions = new ArrayList<>();
+        for (Object[] row : programRepository.findOpeningUntil(ProgramStatus.SCHEDULED, until)) {
+            transitions.add(new Transition((LocalDateTime) row[1], (Integer) row[0], Kind.OPEN));
+        }
+        for (Object[] row : programRepository.findClosingUntil(NOT_CLOSED, until)) {
+            transitions.add(new Transition((LocalDateTime) row[1], (Integer) row[0], Kind.CLOSE));
+        }
+        return transitions;
+    }
+
+    /**
+     * 특정 프로그램의 until 이전 전환 목록 (프로그램 등록/수정 시 재예약용)
+     * 삭제되었거나 이미 마감된 프로그램은 빈 목록
+     */
+    public List<Transition> findTransitions(Integer programId, LocalDateTime until) {
+        List<Transition> transitions = new ArrayList<>();
+        programRepository.findById(programId)
+                .filter(program -> !program.isDeleted())
+                .ifPresent(program -> {
+                    if (program.getStatus() == ProgramStatus.SCHEDULED
+                            && !program.getApplicationStartDate().isAfter(until)) {
+                        transitions.add(new Transition(program.getApplicationStartDate(), programId, Kind.OPEN));
+                    }
+                    if (NOT_CLOSED.contains(program.getStatus())
+                            && !program.getApplicationEndDate().isAfter(until)) {
+                        transitions.add(new Transition(program.getApplicationEndDate(), programId, Kind.CLOSE));
+                    }
+                });
+        return transitions;
+    }
+
+    /**
+     * 전환 실행 (조건을 만족하는 경우에만 상태 변경)
+     * 변경되면 커밋 후 카탈로그 캐시와 검색 색인에 반영
+     *
+     * @return 상태가 변경되었으면 true
+     */
+    @Transactional
+    public boolean apply(Transition transition) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = transition.kind() == Kind.OPEN
+                ? programRepository.openIfDue(transition.programId(), now)
+                : programRepository.closeIfDue(transition.programId(), now);
+        if (updated == 0) {
+            return false;
+        }
+
+        catalogService.invalidateAfterCommit(transition.programId());
+        log.info("프로그램 상태 전환: programId={}, kind={}, scheduledAt={}",
+                transition.programId(), transition.kind(), transition.at());
+        return true;
+    }
+}
@@ -0,0 +1,390 @@
+package com.scms.app.service;
+
+import com.scms.app.dto.ProgramFacetCounts;
+import com.scms.app.model.Program;
+import com.scms.app.model.ProgramStatus;
+import com.scms.app.repository.ProgramRepository;
+import com.scms.app.util.FacetBitmapIndex;
+import com.scms.app.util.NGramIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 프로그램 검색 서비스
+ * - 제목/설명/내용/카테고리/학과를 메모리의 바이그램 역색인으로 검색 (DB LIKE 전체 스캔 없음)
+ * - 필드 가중치 합으로 순위를 매기고, 제목에 검색어가 그대로 포함되면 가산점
+ * - 단과대학/학과/카테고리/상태/현재 신청 가능 여부로 필터링
+ * - 행정부서/단과대학/카테고리 필터별 프로그램 수는 패싯 비트맵 색인으로 계산 (COUNT 쿼리 없음)
+ * - 프로그램 등록/수정/삭제는 커밋 후 해당 프로그램만 다시 색인하고, 주기적으로 전체 재색인
+ * - 전체 재색인 도중의 변경은 교체 후 해당 프로그램만 다시 색인하여 덮어쓰이지 않도록 함
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProgramSearchService {
+
+    private static final float TITLE_WEIGHT = 5.0f;
+    private static final float CATEGORY_WEIGHT = 3.0f;
+    private static final float DEPARTMENT_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 2.0f;
+    private static final float CONTENT_WEIGHT = 1.0f;
+    private static final float TITLE_PHRASE_BONUS = 10.0f;
+
+    private static final List<String> FACETS = List.of("department", "college", "category");
+
+    private final ProgramRepository programRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private NGramIndex index = new NGramIndex();
+    private Map<Integer, SearchDoc> docs = new HashMap<>();
+    private FacetBitmapIndex facets = new FacetBitmapIndex(FACETS);
+    private volatile boolean loaded = false;
+    private Set<Integer> changedDuringReload; // 전체 재구성 중 변경된 프로그램 (재구성 중이 아니면 null, 쓰기 잠금으로 보호)
+
+    /**
+     * 프로그램 검색 (점수 내림차순, 동점이면 최신순)
+     *
+     * @param college   단과대학 (null이면 전체)
+     * @param department 학과 (null이면 전체)
+     * @param category  카테고리 (null이면 전체)
+     * @param status    프로그램 상태 (null이면 전체)
+     * @param openNow   true면 현재 신청 가능한 프로그램만
+     * @return 검색된 프로그램 ID 페이지
+     */
+    public Page<Integer> search(String keyword, String college, String department, String category,
+                                ProgramStatus status, boolean openNow, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        if (keyword == null || keyword.isBlank()) {
+            return Page.empty(pageable);
+        }
+        ensureLoaded();
+
+        String phrase = NGramIndex.normalize(keyword.trim());
+        LocalDateTime now = LocalDateTime.now();
+        List<Hit> hits = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            index.search(keyword).forEach((programId, score) -> {
+                SearchDoc doc = docs.get(programId);
+                if (doc == null || !doc.matches(college, department, category, status, openNow, now)) {
+                    return;
+                }
+                float total = doc.titleNormalized().contains(phrase) ? score + TITLE_PHRASE_BONUS : score;
+                hits.add(new Hit(programId, total, doc.createdAt()));
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                .thenComparing(Hit::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(Hit::programId, Comparator.reverseOrder()));
+
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + size, hits.size());
+        List<Integer> ids = hits.subList(from, to).stream().map(Hit::programId).toList();
+        return new PageImpl<>(ids, pageable, hits.size());
+    }
+
+    /**
+     * 필터(패싯)별 프로그램 수 조회 (삭제되지 않은 프로그램 기준, findByFilters와 같은 조건)
+     *
+     * @param department 선택한 행정부서 (null이면 전체)
+     * @param college    선택한 단과대학 (null이면 전체)
+     * @param category   선택한 카테고리 (null이면 전체)
+     */
+    public ProgramFacetCounts getFacetCounts(String department, String college, String category) {
+        ensureLoaded();
+
+        Map<String, String> filters = new HashMap<>();
+        filters.put("department", department);
+        filters.put("college", college);
+        filters.put("category", category);
+
+        lock.readLock().lock();
+        try {
+            return ProgramFacetCounts.builder()
+                    .total(facets.count(filters))
+                    .facetTotals(facets.facetTotals(filters))
+                    .counts(facets.facetCounts(filters))
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 프로그램 재색인 (트랜잭션 안에서 호출하면 커밋된 경우에만)
+     * 삭제되었거나 없는 프로그램은 색인에서 제거
+     */
+    public void reindexAfterCommit(Integer programId) {
+        if (programId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reindex(programId);
+                }
+            });
+        } else {
+            reindex(programId);
+        }
+    }
+
+    /**
+     * 참가자 수 증감 반영 (정원 도달/해소 시 OPEN/FULL 상태 전환)
+     */
+    public void patchParticipants(Integer programId, int delta) {
+        lock.writeLock().lock();
+        try {
+            if (changedDuringReload != null) {
+                // 재구성에 쓰인 조회 결과에 이 변경이 들어 있는지 알 수 없으므로 교체 후 DB에서 다시 읽음
+                changedDuringReload.add(programId);
+            }
+            if (loaded) {
+                docs.computeIfPresent(programId, (id, doc) -> doc.withParticipantDelta(delta));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 프로그램 수
+     */
+    public int getIndexedCount() {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 주기적 전체 재색인
+     * 다른 서버에서의 변경과 재색인 중 누락된 변경을 보정
+     */
+    @Scheduled(initialDelayString = "${program.search.reload-interval-ms:600000}",
+               fixedDelayString = "${program.search.reload-interval-ms:600000}")
+    public void scheduledReload() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("프로그램 검색 색인 재구성 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 삭제되지 않은 전체 프로그램으로 색인 재구성
+     * 조회부터 교체 사이에 재색인/참가자 수 변경이 있었던 프로그램은 교체 후 다시 색인
+     */
+    public synchronized int reload() {
+        lock.writeLock().lock();
+        try {
+            changedDuringReload = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<Program> programs;
+        try {
+            programs = programRepository.findAllNotDeleted();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changedDuringReload = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        NGramIndex rebuilt = new NGramIndex();
+        Map<Integer, SearchDoc> rebuiltDocs = new HashMap<>(programs.size() * 2);
+        FacetBitmapIndex rebuiltFacets = new FacetBitmapIndex(FACETS);
+        for (Program program : programs) {
+            rebuilt.put(program.getProgramId(), fieldsOf(program));
+            rebuiltDocs.put(program.getProgramId(), SearchDoc.from(program));
+            rebuiltFacets.put(program.getProgramId(), facetsOf(program));
+        }
+
+        Set<Integer> changed;
+        lock.writeLock().lock();
+        try {
+            index = rebuilt;
+            docs = rebuiltDocs;
+            facets = rebuiltFacets;
+            loaded = true;
+            changed = changedDuringReload;
+            changedDuringReload = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        for (Integer programId : changed) {
+            reindex(programId);
+        }
+
+        log.info("프로그램 검색 색인 구성 완료: 프로그램 수={}, 색인어 수={}, 재구성 중 변경={}",
+                programs.size(), rebuilt.termCount(), changed.size());
+        return programs.size();
+    }
+
+    private void reindex(Integer programId) {
+        lock.writeLock().lock();
+        try {
+            if (changedDuringReload != null) {
+                changedDuringReload.add(programId);
+            }
+            if (!loaded) {
+                // 아직 적재 전이면 적재(교체 후 재색인 포함) 시 함께 색인됨
+                return;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Program program = programRepository.findById(programId)
+                .filter(p -> !p.isDeleted())
+                .orElse(null);
+
+        lock.writeLock().lock();
+        try {
+            if (program == null) {
+                index.remove(programId);
+                docs.remove(programId);
+                facets.remove(programId);
+            } else {
+                index.put(programId, fieldsOf(program));
+                docs.put(programId, SearchDoc.from(program));
+                facets.put(programId, facetsOf(program));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    private static Map<String, Float> fieldsOf(Program program) {
+        Map<String, Float> fields = new LinkedHashMap<>();
+        addField(fields, program.getTitle(), TITLE_WEIGHT);
+        addField(fields, program.getCategory(), CATEGORY_WEIGHT);
+        addField(fields, program.getSubCategory(), CATEGORY_WEIGHT);
+        addField(fields, program.getDepartment(), DEPARTMENT_WEIGHT);
+        addField(fields, program.getDescription(), DESCRIPTION_WEIGHT);
+        addField(fields, program.getContent(), CONTENT_WEIGHT);
+        return fields;
+    }
+
+    private static Map<String, String> facetsOf(Program program) {
+        Map<String, String> values = new HashMap<>();
+        values.put("department", program.getDepartment());
+        values.put("college", program.getCollege());
+        values.put("category", program.getCategory());
+        return values;
+    }
+
+    private static void addField(Map<String, Float> fields, String text, float weight) {
+        if (text != null && !text.isBlank()) {
+            fields.merge(text, weight, Float::sum);
+        }
+    }
+
+    /**
+     * 검색 결과 항목
+     */
+    private record Hit(Integer programId, float score, LocalDateTime createdAt) {
+    }
+
+    /**
+     * 필터/정렬용 프로그램 요약 (변경 불가능, 갱신 시 교체)
+     */
+    private record SearchDoc(String titleNormalized, String college, String department, String category,
+                             ProgramStatus status, LocalDateTime applicationStartDate,
+                             LocalDateTime applicationEndDate, Integer maxParticipants,
+                             int currentParticipants, LocalDateTime createdAt) {
+
+        static SearchDoc from(Program program) {
+            return new SearchDoc(
+                    NGramIndex.normalize(program.getTitle() != null ? program.getTitle() : ""),
+                    program.getCollege(),
+                    program.getDepartment(),
+                    program.getCategory(),
+                    program.getStatus(),
+                    program.getApplicationStartDate(),
+                    program.getApplicationEndDate(),
+                    program.getMaxParticipants(),
+                    program.getCurrentParticipants() != null ? program.getCurrentParticipants() : 0,
+                    program.getCreatedAt());
+        }
+
+        boolean matches(String college, String department, String category,
+                        ProgramStatus status, boolean openNow, LocalDateTime now) {
+            if (college != null && !college.equals(this.college)) {
+                return false;
+            }
+            if (department != null && !department.equals(this.department)) {
+                return false;
+            }
+            if (category != null && !category.equals(this.category)) {
+                return false;
+            }
+            if (status != null && status != this.status) {
+                return false;
+            }
+            return !openNow || isOpenAt(now);
+        }
+
+        /**
+         * Program.isApplicationAvailable()과 같은 조건
+         */
+        boolean isOpenAt(LocalDateTime now) {
+            return status == ProgramStatus.OPEN
+                    && applicationStartDate != null && now.isAfter(applicationStartDate)
+                    && applicationEndDate != null && now.isBefore(applicationEndDate)
+                    && (maxParticipants == null || currentParticipants < maxParticipants);
+        }
+
+        SearchDoc withParticipantDelta(int delta) {
+            int participants = Math.max(0, currentParticipants + delta);
+            ProgramStatus newStatus = status != null
+                    ? status.afterParticipantDelta(participants, maxParticipants, delta)
+                    : null;
+            return new SearchDoc(titleNormalized, college, department, category, newStatus,
+                    applicationStartDate, applicationEndDate, maxParticipants, participants, createdAt);
+        }
+    }
+}
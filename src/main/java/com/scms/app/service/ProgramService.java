@@ -14,7 +14,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 프로그램 관리 Service
@@ -25,7 +24,18 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ProgramService {
 
+    private static final int MAIN_PAGE_SIZE = 8;
+
+    /**
+     * 최신순 정렬 (등록 시각이 같으면 ID 역순으로 순서 고정)
+     */
+    static final Sort LATEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "programId");
+
     private final ProgramRepository programRepository;
+    private final ProgramHitCounter programHitCounter;
+    private final SeatReservationService seatReservationService;
+    private final ProgramCatalogService catalogService;
+    private final ProgramLifecycleEngine lifecycleEngine;
 
     /**
      * 모든 프로그램 조회
@@ -35,13 +45,10 @@ public class ProgramService {
     }
 
     /**
-     * 메인 페이지용 최신 프로그램 조회 (상위 8개)
+     * 메인 페이지용 최신 프로그램 조회 (상위 8개, DB에서 LIMIT)
      */
     public List<Program> getMainPagePrograms() {
-        List<Program> programs = programRepository.findAllNotDeleted();
-        return programs.stream()
-                .limit(8)
-                .collect(Collectors.toList());
+        return programRepository.findLatest(null, null, null, PageRequest.of(0, MAIN_PAGE_SIZE));
     }
 
     /**
@@ -54,15 +61,21 @@ public class ProgramService {
 
     /**
      * 프로그램 조회 (조회수 증가)
+     * 조회수는 ProgramHitCounter에 누적되었다가 주기적으로 반영되므로 읽기 전용 트랜잭션으로 처리
      */
-    @Transactional
     public Program getProgramWithHitIncrement(Integer programId) {
         Program program = getProgram(programId);
-        program.incrementHits();
-        programRepository.save(program);
+        programHitCounter.increment(programId);
         return program;
     }
 
+    /**
+     * 아직 반영되지 않은 조회수를 포함한 조회수
+     */
+    public long getDisplayHits(Program program) {
+        return program.getHits() + programHitCounter.getPendingHits(program.getProgramId());
+    }
+
     /**
      * 카테고리별 프로그램 조회
      */
@@ -91,13 +104,6 @@ public class ProgramService {
         return programRepository.findByStatusNotDeleted(status);
     }
 
-    /**
-     * 제목으로 프로그램 검색
-     */
-    public List<Program> searchProgramsByTitle(String keyword) {
-        return programRepository.searchByTitleNotDeleted(keyword);
-    }
-
     /**
      * 신청 가능한 프로그램 조회
      */
@@ -106,12 +112,10 @@ public class ProgramService {
     }
 
     /**
-     * 인기 프로그램 조회 (조회수 기준 상위 8개)
+     * 인기 프로그램 조회 (조회수 기준 상위 8개, DB에서 LIMIT)
      */
     public List<Program> getPopularPrograms() {
-        return programRepository.findPopularPrograms().stream()
-                .limit(8)
-                .collect(Collectors.toList());
+        return programRepository.findPopularPrograms(PageRequest.of(0, MAIN_PAGE_SIZE));
     }
 
     /**
@@ -125,23 +129,15 @@ public class ProgramService {
      * 복합 필터로 프로그램 조회 with 페이지네이션
      */
     public Page<Program> getProgramsByFiltersWithPagination(String department, String college, String category, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Pageable pageable = PageRequest.of(page, size, LATEST_FIRST);
         return programRepository.findByFiltersWithPagination(department, college, category, pageable);
     }
 
-    /**
-     * 제목으로 프로그램 검색 with 페이지네이션
-     */
-    public Page<Program> searchProgramsByTitleWithPagination(String keyword, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        return programRepository.searchByTitleWithPagination(keyword, pageable);
-    }
-
     /**
      * 전체 프로그램 조회 with 페이지네이션
      */
     public Page<Program> getAllProgramsWithPagination(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Pageable pageable = PageRequest.of(page, size, LATEST_FIRST);
         return programRepository.findAllNotDeletedWithPagination(pageable);
     }
 
@@ -151,6 +147,8 @@ public class ProgramService {
     @Transactional
     public Program createProgram(Program program) {
         Program savedProgram = programRepository.save(program);
+        catalogService.invalidateAfterCommit(savedProgram.getProgramId());
+        lifecycleEngine.rescheduleAfterCommit(savedProgram.getProgramId());
         log.info("프로그램 생성 완료: {} (ID: {})", savedProgram.getTitle(), savedProgram.getProgramId());
         return savedProgram;
     }
@@ -196,11 +194,16 @@ public class ProgramService {
         if (programData.getThumbnailUrl() != null) {
             program.setThumbnailUrl(programData.getThumbnailUrl());
         }
-        if (programData.getStatus() != null) {
-            program.setStatus(programData.getStatus());
-        }
 
         Program updatedProgram = programRepository.save(program);
+        if (programData.getStatus() != null
+                && programRepository.changeStatus(programId, programData.getStatus().name()) > 0) {
+            // 상태 컬럼은 엔티티로 갱신되지 않으므로 응답용 값만 맞춤
+            updatedProgram.setStatus(programData.getStatus());
+        }
+        seatReservationService.evict(programId);
+        catalogService.invalidateAfterCommit(programId);
+        lifecycleEngine.rescheduleAfterCommit(programId);
         log.info("프로그램 수정 완료: {} (ID: {})", updatedProgram.getTitle(), updatedProgram.getProgramId());
         return updatedProgram;
     }
@@ -213,53 +216,9 @@ public class ProgramService {
         Program program = getProgram(programId);
         program.delete();
         programRepository.save(program);
+        seatReservationService.evict(programId);
+        catalogService.invalidateAfterCommit(programId);
+        lifecycleEngine.rescheduleAfterCommit(programId);
         log.info("프로그램 삭제 완료: {} (ID: {})", program.getTitle(), program.getProgramId());
     }
-
-    /**
-     * 프로그램 참가자 증가
-     */
-    @Transactional
-    public boolean incrementParticipants(Integer programId) {
-        Program program = getProgram(programId);
-        if (!program.isApplicationAvailable()) {
-            log.warn("신청 불가능한 프로그램: {} (ID: {})", program.getTitle(), program.getProgramId());
-            return false;
-        }
-
-        boolean success = program.incrementParticipants();
-        if (success) {
-            // 정원이 찬 경우 상태 변경
-            if (program.getMaxParticipants() != null
-                && program.getCurrentParticipants() >= program.getMaxParticipants()) {
-                program.setStatus(ProgramStatus.FULL);
-            }
-            programRepository.save(program);
-            log.info("프로그램 참가자 증가: {} (ID: {}, 현재: {}/{})",
-                    program.getTitle(), program.getProgramId(),
-                    program.getCurrentParticipants(), program.getMaxParticipants());
-        }
-        return success;
-    }
-
-    /**
-     * 프로그램 참가자 감소
-     */
-    @Transactional
-    public void decrementParticipants(Integer programId) {
-        Program program = getProgram(programId);
-        program.decrementParticipants();
-
-        // 정원이 다시 여유가 생긴 경우 상태 변경
-        if (program.getStatus() == ProgramStatus.FULL
-            && (program.getMaxParticipants() == null
-            || program.getCurrentParticipants() < program.getMaxParticipants())) {
-            program.setStatus(ProgramStatus.OPEN);
-        }
-
-        programRepository.save(program);
-        log.info("프로그램 참가자 감소: {} (ID: {}, 현재: {}/{})",
-                program.getTitle(), program.getProgramId(),
-                program.getCurrentParticipants(), program.getMaxParticipants());
-    }
 }
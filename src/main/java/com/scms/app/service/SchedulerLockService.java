@@ -0,0 +1,121 @@
+package com.scms.app.service;
+
+import com.scms.app.repository.SchedulerLockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 스케줄러 분산 잠금 서비스
+ * - scheduler_locks 테이블의 행 단위 임대(lease)로 한 노드만 작업을 실행
+ * - 잠금 변경은 호출한 작업의 트랜잭션과 분리하여 즉시 커밋
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository lockRepository;
+
+    @Value("${scheduler.node-id:}")
+    private String configuredNodeId;
+
+    @Value("${scheduler.lock.lease-seconds:600}")
+    private long leaseSeconds;
+
+    private volatile String nodeId;
+
+    /**
+     * 잠금 획득 시도
+     *
+     * @param lockName 잠금 이름
+     * @param notCompletedSince 이 시각 이후 이미 완료된 작업이면 획득하지 않음 (null이면 확인하지 않음)
+     * @return 획득한 임대 (획득 실패 시 empty)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<Lease> tryAcquire(String lockName, LocalDateTime notCompletedSince) {
+        lockRepository.insertIfAbsent(lockName);
+        if (lockRepository.acquire(lockName, getNodeId(), leaseSeconds, notCompletedSince) == 0) {
+            return Optional.empty();
+        }
+
+        Long token = lockRepository.findFencingToken(lockName, getNodeId());
+        log.debug("스케줄러 잠금 획득: lockName={}, nodeId={}, token={}", lockName, getNodeId(), token);
+        return Optional.of(new Lease(lockName, getNodeId(), token));
+    }
+
+    /**
+     * fencing 확인 및 임대 연장 (보호할 쓰기와 같은 트랜잭션 안에서 쓰기 전에 호출)
+     * fencing token이 그대로일 때만 잠금 행을 갱신하고, 그 행 잠금을 트랜잭션이 끝날 때까지 유지하므로
+     * 확인 후 커밋 전에 임대가 만료되어도 다른 노드는 커밋될 때까지 획득하지 못함 (이후에는 연장된 임대로 획득 불가)
+     *
+     * @throws LeaseLostException 다른 노드가 잠금을 가져간 경우 (호출한 트랜잭션은 롤백됨)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void fence(Lease lease) {
+        if (lockRepository.renew(lease.lockName(), lease.fencingToken(), leaseSeconds) == 0) {
+            throw new LeaseLostException(lease);
+        }
+    }
+
+    /**
+     * 작업 완료 기록 및 잠금 해제
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void complete(Lease lease) {
+        if (lockRepository.complete(lease.lockName(), lease.fencingToken()) == 0) {
+            log.warn("스케줄러 잠금 완료 기록 실패 (임대 만료 후 다른 노드가 획득): lockName={}, token={}",
+                    lease.lockName(), lease.fencingToken());
+        }
+    }
+
+    /**
+     * 잠금 해제 (작업 실패 시)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(Lease lease) {
+        lockRepository.release(lease.lockName(), lease.fencingToken());
+    }
+
+    /**
+     * 현재 노드 식별자 (설정값이 없으면 호스트명:PID)
+     */
+    public String getNodeId() {
+        if (nodeId == null) {
+            if (configuredNodeId != null && !configuredNodeId.isBlank()) {
+                nodeId = configuredNodeId;
+            } else {
+                String host;
+                try {
+                    host = InetAddress.getLocalHost().getHostName();
+                } catch (Exception e) {
+                    host = "unknown";
+                }
+                nodeId = host + ":" + ProcessHandle.current().pid();
+            }
+        }
+        return nodeId;
+    }
+
+    /**
+     * 획득한 잠금 임대
+     */
+    public record Lease(String lockName, String owner, long fencingToken) {}
+
+    /**
+     * 임대가 만료된 뒤 다른 노드가 잠금을 가져간 경우
+     */
+    public static class LeaseLostException extends IllegalStateException {
+
+        public LeaseLostException(Lease lease) {
+            super("스케줄러 잠금을 다른 노드가 가져갔습니다: " + lease.lockName() + ", token=" + lease.fencingToken());
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.scms.app.service;
+
+import com.scms.app.repository.ProgramRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 프로그램 좌석(정원) 확보 서비스
+ * - 프로그램별 남은 좌석 수를 메모리의 AtomicInteger로 유지하고 CAS로 먼저 확보
+ * - 메모리에서 확보한 요청만 조건부 UPDATE(current_participants < max_participants)로 DB에 반영
+ * - 남은 좌석이 0이면 DB의 정원 현황을 다시 읽어 마감을 확인 (마감이면 호출 측에서 대기자로 등록)
+ * - 메모리 값은 다른 서버의 신청/취소로 어긋날 수 있으므로 DB 반영 실패 시와 주기적으로 DB 값으로 재설정
+ * - 커밋된 증감은 프로그램 카탈로그 캐시의 참가자 수에도 반영
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeatReservationService {
+
+    /**
+     * 좌석 확보 결과
+     */
+    public enum Result {
+        RESERVED,     // 확보 성공
+        FULL,         // 정원 마감
+        UNAVAILABLE   // 신청 기간이 아니거나 접수 중이 아님
+    }
+
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final ProgramRepository programRepository;
+    private final ProgramCatalogService catalogService;
+
+    private final Map<Integer, AtomicInteger> remainingSeats = new ConcurrentHashMap<>();
+
+    /**
+     * 좌석 1개 확보 (트랜잭션 안에서 호출)
+     * 트랜잭션이 롤백되면 메모리에서 확보한 좌석도 되돌림
+     */
+    public Result reserve(Integer programId) {
+        AtomicInteger remaining = remainingOf(programId);
+        if (!tryClaim(remaining)) {
+            // 메모리 값은 다른 서버의 반납을 아직 모를 수 있으므로 DB 값으로 마감을 확인한 뒤 대기자로 보냄
+            if (refresh(programId) <= 0 || !tryClaim(remaining)) {
+                return Result.FULL;
+            }
+        }
+
+        int updated;
+        try {
+            updated = programRepository.reserveSeat(programId, LocalDateTime.now());
+        } catch (RuntimeException e) {
+            giveBack(remaining);
+            throw e;
+        }
+
+        if (updated == 0) {
+            // 다른 서버에서 먼저 마감되었거나 신청 가능한 상태가 아님
+            giveBack(remaining);
+            int actual = refresh(programId);
+            return actual <= 0 ? Result.FULL : Result.UNAVAILABLE;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        catalogService.patchParticipants(programId, 1);
+                    } else {
+                        giveBack(remaining);
+                    }
+                }
+            });
+        } else {
+            catalogService.patchParticipants(programId, 1);
+        }
+        return Result.RESERVED;
+    }
+
+    /**
+     * 대기자 승격용 좌석 1개 확보 (트랜잭션 안에서 호출)
+     * 신청 기간과 무관하게 접수 중/마감 상태이고 정원이 남은 경우에만 확보
+     *
+     * @return 확보했으면 true
+     */
+    public boolean reserveForWaitlist(Integer programId) {
+        if (programRepository.reserveWaitlistSeat(programId) == 0) {
+            return false;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    incrementIfLoaded(programId, -1);
+                    catalogService.patchParticipants(programId, 1);
+                }
+            });
+        } else {
+            incrementIfLoaded(programId, -1);
+            catalogService.patchParticipants(programId, 1);
+        }
+        return true;
+    }
+
+    /**
+     * 좌석 1개 반납 (신청 취소/거부 시, 트랜잭션 안에서 호출)
+     * 커밋된 경우에만 메모리의 남은 좌석을 늘림
+     */
+    public void release(Integer programId) {
+        release(programId, 1);
+    }
+
+    /**
+     * 좌석 여러 개 반납 (일괄 거부 시 프로그램당 한 번만 갱신, 트랜잭션 안에서 호출)
+     */
+    public void release(Integer programId, int count) {
+        if (count <= 0 || programRepository.releaseSeats(programId, count) == 0) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    incrementIfLoaded(programId, count);
+                    catalogService.patchParticipants(programId, -count);
+                }
+            });
+        } else {
+            incrementIfLoaded(programId, count);
+            catalogService.patchParticipants(programId, -count);
+        }
+    }
+
+    /**
+     * 메모리 값 제거 (정원 변경, 프로그램 삭제 시)
+     * 다음 신청 때 DB에서 다시 적재
+     */
+    public void evict(Integer programId) {
+        remainingSeats.remove(programId);
+    }
+
+    /**
+     * 주기적으로 DB 값으로 재설정 (다른 서버의 신청/취소 반영)
+     */
+    @Scheduled(initialDelayString = "${program.seats.refresh-ms:10000}",
+               fixedDelayString = "${program.seats.refresh-ms:10000}")
+    public void refreshAll() {
+        if (remainingSeats.isEmpty()) {
+            return;
+        }
+
+        try {
+            Set<Integer> loaded = new HashSet<>(remainingSeats.keySet());
+            List<Object[]> states = programRepository.findSeatStates(loaded);
+            for (Object[] state : states) {
+                Integer programId = (Integer) state[0];
+                remainingSeats.computeIfPresent(programId, (id, remaining) -> {
+                    remaining.set(toRemaining((Integer) state[1], (Integer) state[2]));
+                    return remaining;
+                });
+                loaded.remove(programId);
+            }
+            // 삭제된 프로그램
+            loaded.forEach(remainingSeats::remove);
+        } catch (Exception e) {
+            log.error("프로그램 좌석 현황 재설정 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 남은 좌석을 CAS로 1개 확보
+     */
+    private static boolean tryClaim(AtomicInteger remaining) {
+        while (true) {
+            int current = remaining.get();
+            if (current <= 0) {
+                return false;
+            }
+            if (remaining.compareAndSet(current, current - 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 메모리의 남은 좌석 (없으면 DB에서 적재)
+     * 조회는 맵 밖에서 하고 putIfAbsent로 넣어 computeIfAbsent가 버킷을 잡은 채 DB를 기다리지 않게 함
+     */
+    private AtomicInteger remainingOf(Integer programId) {
+        AtomicInteger remaining = remainingSeats.get(programId);
+        if (remaining != null) {
+            return remaining;
+        }
+        AtomicInteger loaded = loadRemaining(programId);
+        AtomicInteger existing = remainingSeats.putIfAbsent(programId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private AtomicInteger loadRemaining(Integer programId) {
+        List<Object[]> states = programRepository.findSeatStates(List.of(programId));
+        if (states.isEmpty()) {
+            return new AtomicInteger(0);
+        }
+        Object[] state = states.get(0);
+        return new AtomicInteger(toRemaining((Integer) state[1], (Integer) state[2]));
+    }
+
+    private int refresh(Integer programId) {
+        AtomicInteger loaded = loadRemaining(programId);
+        AtomicInteger existing = remainingSeats.putIfAbsent(programId, loaded);
+        if (existing != null) {
+            existing.set(loaded.get());
+        }
+        return loaded.get();
+    }
+
+    private void incrementIfLoaded(Integer programId, int count) {
+        AtomicInteger remaining = remainingSeats.get(programId);
+        if (remaining != null) {
+            remaining.getAndUpdate(value -> value < UNLIMITED ? Math.max(0, value + count) : value);
+        }
+    }
+
+    /**
+     * 좌석 1개 되돌림 (정원 제한이 없는 프로그램은 그대로)
+     */
+    private static void giveBack(AtomicInteger remaining) {
+        remaining.getAndUpdate(value -> value < UNLIMITED ? value + 1 : value);
+    }
+
+    private static int toRemaining(Integer maxParticipants, Integer currentParticipants) {
+        if (maxParticipants == null) {
+            return UNLIMITED;
+        }
+        return Math.max(0, maxParticipants - currentParticipants);
+    }
+}
@@ -0,0 +1,98 @@
+package com.scms.app.service;
+
+import com.scms.app.model.SurveyAnswer;
+import com.scms.app.model.SurveyQuestionStat;
+import com.scms.app.model.SurveyStatBucketType;
+import com.scms.app.repository.SurveyBatchRepository;
+import com.scms.app.repository.SurveyQuestionStatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 설문 집계 서비스
+ * - 응답 제출 시 질문별 답변 수, 선택지별 수, 척도 합계/제곱합/분포를 증분으로 가산
+ * - 통계 화면은 원본 답변 대신 survey_question_stats 행만 읽음
+ * - 집계가 어긋났을 때(수동 데이터 수정 등) 원본 답변으로부터 다시 계산하는 재집계 제공
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SurveyAggregateService {
+
+    private static final Comparator<SurveyQuestionStat> BY_BUCKET = Comparator
+            .comparing(SurveyQuestionStat::getQuestionId)
+            .thenComparing(SurveyQuestionStat::getBucketType)
+            .thenComparing(SurveyQuestionStat::getBucketKey);
+
+    private final SurveyQuestionStatRepository statRepository;
+    private final SurveyBatchRepository surveyBatchRepository;
+
+    /**
+     * 제출된 답변을 집계에 가산 (응답 저장과 같은 트랜잭션 안에서 호출)
+     */
+    public void recordAnswers(Long surveyId, List<SurveyAnswer> answers) {
+        Map<String, SurveyQuestionStat> deltas = new HashMap<>();
+        for (SurveyAnswer answer : answers) {
+            Long questionId = answer.getQuestionId();
+            Integer value = answer.getAnswerNumber();
+            long sum = value != null ? value : 0;
+
+            add(deltas, surveyId, questionId, SurveyStatBucketType.TOTAL, 0L, sum);
+            if (answer.getOptionId() != null) {
+                add(deltas, surveyId, questionId, SurveyStatBucketType.OPTION, answer.getOptionId(), 0);
+            }
+            if (value != null) {
+                add(deltas, surveyId, questionId, SurveyStatBucketType.SCALE, value.longValue(), sum);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // 같은 행을 갱신하는 동시 제출끼리 교착하지 않도록 항상 같은 순서로 가산
+        List<SurveyQuestionStat> sorted = new ArrayList<>(deltas.values());
+        sorted.sort(BY_BUCKET);
+        surveyBatchRepository.addQuestionStats(sorted);
+    }
+
+    /**
+     * 원본 답변으로부터 설문 집계 재계산
+     *
+     * @return 생성된 집계 행 수
+     */
+    @Transactional
+    public int rebuild(Long surveyId) {
+        int deleted = statRepository.deleteBySurveyId(surveyId);
+        int rows = statRepository.rebuildTotals(surveyId)
+                + statRepository.rebuildOptionCounts(surveyId)
+                + statRepository.rebuildScaleCounts(surveyId);
+
+        log.info("설문 집계 재계산: surveyId={}, 삭제 {}행, 생성 {}행", surveyId, deleted, rows);
+        return rows;
+    }
+
+    private static void add(Map<String, SurveyQuestionStat> deltas, Long surveyId, Long questionId,
+                            SurveyStatBucketType type, Long key, long value) {
+        SurveyQuestionStat delta = deltas.computeIfAbsent(questionId + ":" + type + ":" + key,
+                k -> SurveyQuestionStat.builder()
+                        .surveyId(surveyId)
+                        .questionId(questionId)
+                        .bucketType(type)
+                        .bucketKey(key)
+                        .answerCount(0L)
+                        .valueSum(0L)
+                        .valueSumSq(0L)
+                        .build());
+        delta.setAnswerCount(delta.getAnswerCount() + 1);
+        delta.setValueSum(delta.getValueSum() + value);
+        delta.setValueSumSq(delta.getValueSumSq() + value * value);
+    }
+}
@@ -0,0 +1,291 @@
+package com.scms.app.service;
+
+import com.scms.app.dto.QuestionStatisticsResponse;
+import com.scms.app.dto.SurveyAnalyticsResponse;
+import com.scms.app.model.QuestionType;
+import com.scms.app.repository.SurveyAnalyticsRepository;
+import com.scms.app.util.ExpiringLruCache;
+import com.scms.app.util.SurveyAnswerColumns;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 설문 분석 서비스
+ * - 설문의 객관식/척도형 답변을 열 저장소(SurveyAnswerColumns)로 적재하여 짧은 시간 동안 캐시
+ * - 학과/학년/프로그램 참여 여부로 응답자를 거른 분포와 학과/학년별 교차표를 메모리에서 계산
+ * - 답변 제출이 캐시에 반영되기까지 최대 유효 시간만큼 지연될 수 있음 (실시간 수치는 설문 통계 사용)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SurveyAnalyticsService {
+
+    public static final String DEPARTMENT = "department";
+    public static final String GRADE = "grade";
+    private static final List<String> DIMENSIONS = List.of(DEPARTMENT, GRADE);
+
+    private static final int DEFAULT_SCALE_MIN = 1;
+    private static final int DEFAULT_SCALE_MAX = 5;
+
+    private final SurveyDefinitionCache definitionCache;
+    private final SurveyAnalyticsRepository analyticsRepository;
+
+    @Value("${survey.analytics.max-entries:5}")
+    private int maxEntries;
+
+    @Value("${survey.analytics.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private ExpiringLruCache<Long, SurveyAnswerColumns> tables;
+
+    @PostConstruct
+    void init() {
+        tables = new ExpiringLruCache<>(maxEntries, ttlSeconds * 1000L);
+    }
+
+    /**
+     * 필터를 적용한 질문별 분포와 교차표 계산
+     *
+     * @param questionId 교차표를 만들 질문 (null이면 교차표 없음)
+     * @param by 교차표 행 기준 (department, grade)
+     * @param department 학과 필터 (null이면 전체)
+     * @param grade 학년 필터 (null이면 전체)
+     * @param programId 이 프로그램 참여자(승인/완료)만 (null이면 전체)
+     */
+    public SurveyAnalyticsResponse analyze(Long surveyId, Long questionId, String by,
+                                           String department, String grade, Integer programId) {
+        SurveyDefinitionCache.Definition survey = definitionCache.get(surveyId);
+        SurveyAnswerColumns table = tables.get(surveyId, id -> load(survey));
+
+        // 필터 마스크
+        Map<String, String> filters = new LinkedHashMap<>();
+        if (department != null && !department.isBlank()) {
+            filters.put(DEPARTMENT, department);
+        }
+        if (grade != null && !grade.isBlank()) {
+            filters.put(GRADE, grade);
+        }
+        boolean[] mask = table.mask(filters);
+        if (programId != null) {
+            mask = table.restrictToUsers(mask, analyticsRepository.findProgramParticipantIds(programId));
+        }
+        long filtered = table.count(mask);
+
+        Map<String, String> appliedFilters = new LinkedHashMap<>(filters);
+        if (programId != null) {
+            appliedFilters.put("programId", String.valueOf(programId));
+        }
+
+        List<QuestionStatisticsResponse> questionStatistics = new ArrayList<>();
+        for (SurveyDefinitionCache.Question question : survey.questions()) {
+            if (question.isChoiceType() && table.hasChoice(question.questionId())) {
+                questionStatistics.add(choiceStatistics(table, question, mask, filtered));
+            } else if (question.isScaleType() && table.hasScale(question.questionId())) {
+                questionStatistics.add(scaleStatistics(table, question, mask));
+            }
+        }
+
+        SurveyAnalyticsResponse.CrossTab crossTab = null;
+        if (questionId != null) {
+            SurveyDefinitionCache.Question question = survey.question(questionId);
+            if (question == null) {
+                throw new IllegalArgumentException("질문을 찾을 수 없습니다");
+            }
+            crossTab = crossTab(table, question, by != null ? by : DEPARTMENT, mask);
+        }
+
+        return SurveyAnalyticsResponse.builder()
+                .surveyId(surveyId)
+                .title(survey.title())
+                .totalResponses((long) table.size())
+                .filteredResponses(filtered)
+                .filters(appliedFilters)
+                .questionStatistics(questionStatistics)
+                .crossTab(crossTab)
+                .build();
+    }
+
+    /**
+     * 설문 분석 캐시 무효화 (재집계 등 즉시 반영이 필요할 때)
+     */
+    public void invalidate(Long surveyId) {
+        tables.invalidate(surveyId);
+    }
+
+    private SurveyAnswerColumns load(SurveyDefinitionCache.Definition survey) {
+        long started = System.currentTimeMillis();
+
+        SurveyAnswerColumns.Builder builder = new SurveyAnswerColumns.Builder(DIMENSIONS);
+        for (SurveyDefinitionCache.Question question : survey.questions()) {
+            if (question.isChoiceType()) {
+                builder.choiceQuestion(question.questionId(), List.copyOf(question.options().keySet()),
+                        question.type() == QuestionType.MULTIPLE_CHOICE);
+            } else if (question.isScaleType()) {
+                builder.scaleQuestion(question.questionId());
+            }
+        }
+        analyticsRepository.loadResponses(survey.surveyId(), builder);
+        analyticsRepository.loadAnswers(survey.surveyId(), builder);
+        SurveyAnswerColumns table = builder.build();
+
+        log.info("설문 분석 데이터 적재: surveyId={}, 응답 수={}, 소요={}ms",
+                survey.surveyId(), table.size(), System.currentTimeMillis() - started);
+        return table;
+    }
+
+    private QuestionStatisticsResponse choiceStatistics(SurveyAnswerColumns table,
+                                                        SurveyDefinitionCache.Question question,
+                                                        boolean[] mask, long filtered) {
+        List<Map.Entry<Long, String>> options = choiceOptions(question);
+        long[] counts = table.optionCounts(question.questionId(), options.size(), mask);
+
+        List<QuestionStatisticsResponse.OptionStatistics> optionStats = new ArrayList<>(options.size());
+        for (int i = 0; i < options.size(); i++) {
+            optionStats.add(QuestionStatisticsResponse.OptionStatistics.builder()
+                    .optionId(options.get(i).getKey())
+                    .optionText(options.get(i).getValue())
+                    .count(counts[i])
+                    .percentage(filtered > 0 ? (double) counts[i] / filtered * 100 : 0)
+                    .build());
+        }
+
+        return QuestionStatisticsResponse.builder()
+                .questionId(question.questionId())
+                .questionText(question.text())
+                .questionType(question.type())
+                .totalAnswers((long) table.answered(question.questionId(), mask))
+                .optionStatistics(optionStats)
+                .build();
+    }
+
+    private QuestionStatisticsResponse scaleStatistics(SurveyAnswerColumns table,
+                                                       SurveyDefinitionCache.Question question,
+                                                       boolean[] mask) {
+        int minValue = scaleMin(question);
+        SurveyAnswerColumns.ScaleSummary summary =
+                table.scaleSummary(question.questionId(), minValue, scaleMax(question), mask);
+
+        Map<Integer, Long> distribution = new TreeMap<>();
+        long[] histogram = summary.histogram();
+        for (int i = 0; i < histogram.length; i++) {
+            if (histogram[i] > 0) {
+                distribution.put(minValue + i, histogram[i]);
+            }
+        }
+
+        return QuestionStatisticsResponse.builder()
+                .questionId(question.questionId())
+                .questionText(question.text())
+                .questionType(question.type())
+                .totalAnswers(summary.count())
+                .averageScale(summary.mean())
+                .scaleStdDev(summary.stdDev())
+                .scaleDistribution(distribution)
+                .build();
+    }
+
+    /**
+     * 교차표 계산 (응답이 없는 행은 제외)
+     */
+    private SurveyAnalyticsResponse.CrossTab crossTab(SurveyAnswerColumns table,
+                                                      SurveyDefinitionCache.Question question,
+                                                      String by, boolean[] mask) {
+        SurveyAnswerColumns.Dimension dimension = table.dimension(by);
+        if (dimension == null) {
+            throw new IllegalArgumentException("지원하지 않는 교차 기준입니다: " + by);
+        }
+
+        List<String> columnLabels = new ArrayList<>();
+        long[][] counts;
+        Double[] means = null;
+        if (question.isChoiceType()) {
+            List<Map.Entry<Long, String>> options = choiceOptions(question);
+            options.forEach(option -> columnLabels.add(option.getValue()));
+            counts = table.crossTab(question.questionId(), options.size(), by, mask);
+        } else if (question.isScaleType()) {
+            int minValue = scaleMin(question);
+            int maxValue = scaleMax(question);
+            for (int v = minValue; v <= maxValue; v++) {
+                columnLabels.add(String.valueOf(v));
+            }
+            SurveyAnswerColumns.ScaleSummary[] summaries =
+                    table.scaleSummaryBy(question.questionId(), minValue, maxValue, by, mask);
+            counts = new long[summaries.length][];
+            means = new Double[summaries.length];
+            for (int g = 0; g < summaries.length; g++) {
+                counts[g] = summaries[g].histogram();
+                means[g] = summaries[g].mean();
+            }
+        } else {
+            throw new IllegalArgumentException("객관식 또는 척도형 질문만 교차 분석할 수 있습니다");
+        }
+
+        List<String> rowLabels = new ArrayList<>();
+        List<List<Long>> rows = new ArrayList<>();
+        List<Long> rowTotals = new ArrayList<>();
+        List<Double> rowMeans = means != null ? new ArrayList<>() : null;
+        for (int g = 0; g < counts.length; g++) {
+            long total = 0;
+            List<Long> row = new ArrayList<>(counts[g].length);
+            for (long count : counts[g]) {
+                row.add(count);
+                total += count;
+            }
+            if (total == 0) {
+                continue;
+            }
+            rowLabels.add(dimension.labels()[g]);
+            rows.add(row);
+            rowTotals.add(total);
+            if (rowMeans != null) {
+                rowMeans.add(means[g]);
+            }
+        }
+
+        return SurveyAnalyticsResponse.CrossTab.builder()
+                .questionId(question.questionId())
+                .by(by)
+                .rowLabels(rowLabels)
+                .columnLabels(columnLabels)
+                .counts(rows)
+                .rowTotals(rowTotals)
+                .rowMeans(rowMeans)
+                .build();
+    }
+
+    /**
+     * 분석 대상 선택지 (복수선택은 열 저장소 비트마스크 한도까지)
+     */
+    private static List<Map.Entry<Long, String>> choiceOptions(SurveyDefinitionCache.Question question) {
+        List<Map.Entry<Long, String>> options = new ArrayList<>(question.options().entrySet());
+        if (question.type() == QuestionType.MULTIPLE_CHOICE && options.size() > SurveyAnswerColumns.MAX_MULTI_OPTIONS) {
+            return options.subList(0, SurveyAnswerColumns.MAX_MULTI_OPTIONS);
+        }
+        return options;
+    }
+
+    /**
+     * 척도 범위 (질문 정의 그대로 사용, 없으면 1~5)
+     * 0이나 음수로 시작하는 척도도 있으므로 값을 1 이상으로 가정하지 않음
+     */
+    private static int scaleMin(SurveyDefinitionCache.Question question) {
+        return question.scaleMin() != null ? question.scaleMin() : DEFAULT_SCALE_MIN;
+    }
+
+    private static int scaleMax(SurveyDefinitionCache.Question question) {
+        int minValue = scaleMin(question);
+        if (question.scaleMax() != null && question.scaleMax() >= minValue) {
+            return question.scaleMax();
+        }
+        return Math.max(DEFAULT_SCALE_MAX, minValue);
+    }
+}
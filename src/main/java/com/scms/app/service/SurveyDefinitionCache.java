@@ -0,0 +1,160 @@
+package com.scms.app.service;
+
+import com.scms.app.model.QuestionType;
+import com.scms.app.model.Survey;
+import com.scms.app.model.SurveyQuestion;
+import com.scms.app.model.SurveyQuestionOption;
+import com.scms.app.model.SurveyTargetType;
+import com.scms.app.repository.SurveyQuestionOptionRepository;
+import com.scms.app.repository.SurveyQuestionRepository;
+import com.scms.app.repository.SurveyRepository;
+import com.scms.app.util.ExpiringLruCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 설문 정의(설문 설정 + 질문 + 선택지) 캐시
+ * - 응답 제출/통계/내보내기에서 설문 정의를 매번 조회하지 않도록 변경 불가능한 스냅샷으로 보관
+ * - 설문 수정/삭제/활성화 변경이 커밋되면 해당 설문만 무효화
+ * - 다른 서버에서의 변경은 유효 시간이 지나 재적재될 때 반영
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SurveyDefinitionCache {
+
+    private final SurveyRepository surveyRepository;
+    private final SurveyQuestionRepository questionRepository;
+    private final SurveyQuestionOptionRepository optionRepository;
+
+    @Value("${survey.definition-cache.max-entries:200}")
+    private int maxEntries;
+
+    @Value("${survey.definition-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private ExpiringLruCache<Long, Definition> definitions;
+
+    @PostConstruct
+    void init() {
+        definitions = new ExpiringLruCache<>(maxEntries, ttlSeconds * 1000L);
+    }
+
+    /**
+     * 설문 정의 스냅샷
+     */
+    public record Definition(Long surveyId, String title, boolean anonymous, boolean active,
+                             LocalDateTime startDate, LocalDateTime endDate, SurveyTargetType targetType,
+                             Integer maxResponses, boolean allowMultipleResponses,
+                             List<Question> questions, Map<Long, Question> questionsById) {
+
+        /**
+         * 설문이 진행 중인지 확인 (Survey.isOngoing과 같은 기준)
+         */
+        public boolean isOngoing(LocalDateTime now) {
+            return active && !now.isBefore(startDate) && !now.isAfter(endDate);
+        }
+
+        public Question question(Long questionId) {
+            return questionsById.get(questionId);
+        }
+    }
+
+    /**
+     * 질문 정의 (options: 선택지 ID -> 선택지 내용, 표시 순서)
+     */
+    public record Question(Long questionId, QuestionType type, String text, boolean required,
+                           Integer scaleMin, Integer scaleMax, Map<Long, String> options) {
+
+        public boolean isChoiceType() {
+            return type == QuestionType.SINGLE_CHOICE || type == QuestionType.MULTIPLE_CHOICE;
+        }
+
+        public boolean isTextType() {
+            return type == QuestionType.SHORT_TEXT || type == QuestionType.LONG_TEXT;
+        }
+
+        public boolean isScaleType() {
+            return type == QuestionType.SCALE;
+        }
+    }
+
+    /**
+     * 설문 정의 조회 (삭제된 설문이면 IllegalArgumentException)
+     */
+    public Definition get(Long surveyId) {
+        return definitions.get(surveyId, this::load);
+    }
+
+    /**
+     * 설문 정의 무효화 (트랜잭션 안에서 호출하면 커밋된 경우에만)
+     */
+    public void invalidateAfterCommit(Long surveyId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    definitions.invalidate(surveyId);
+                }
+            });
+        } else {
+            definitions.invalidate(surveyId);
+        }
+    }
+
+    private Definition load(Long surveyId) {
+        Survey survey = surveyRepository.findByIdAndNotDeleted(surveyId)
+                .orElseThrow(() -> new IllegalArgumentException("설문을 찾을 수 없습니다"));
+
+        List<SurveyQuestion> questions = questionRepository.findBySurveyIdOrderByDisplayOrder(surveyId);
+        Map<Long, Map<Long, String>> optionsByQuestion = new LinkedHashMap<>();
+        if (!questions.isEmpty()) {
+            List<Long> questionIds = questions.stream().map(SurveyQuestion::getQuestionId).toList();
+            for (SurveyQuestionOption option : optionRepository.findByQuestionIdIn(questionIds)) {
+                optionsByQuestion.computeIfAbsent(option.getQuestionId(), id -> new LinkedHashMap<>())
+                        .put(option.getOptionId(), option.getOptionText());
+            }
+        }
+
+        List<Question> questionDefs = new ArrayList<>(questions.size());
+        Map<Long, Question> questionsById = new LinkedHashMap<>();
+        for (SurveyQuestion question : questions) {
+            Question def = new Question(
+                    question.getQuestionId(),
+                    question.getQuestionType(),
+                    question.getQuestionText(),
+                    Boolean.TRUE.equals(question.getIsRequired()),
+                    question.getScaleMin(),
+                    question.getScaleMax(),
+                    Collections.unmodifiableMap(optionsByQuestion.getOrDefault(question.getQuestionId(), Map.of())));
+            questionDefs.add(def);
+            questionsById.put(def.questionId(), def);
+        }
+
+        log.debug("설문 정의 적재: surveyId={}, 질문 수={}", surveyId, questionDefs.size());
+        return new Definition(
+                survey.getSurveyId(),
+                survey.getTitle(),
+                Boolean.TRUE.equals(survey.getIsAnonymous()),
+                Boolean.TRUE.equals(survey.getIsActive()),
+                survey.getStartDate(),
+                survey.getEndDate(),
+                survey.getTargetType(),
+                survey.getMaxResponses(),
+                Boolean.TRUE.equals(survey.getAllowMultipleResponses()),
+                List.copyOf(questionDefs),
+                Collections.unmodifiableMap(questionsById));
+    }
+}
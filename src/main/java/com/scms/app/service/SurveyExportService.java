@@ -0,0 +1,166 @@
+package com.scms.app.service;
+
+import com.scms.app.dto.SurveyExportRow;
+import com.scms.app.repository.SurveyAnalyticsRepository;
+import com.scms.app.repository.SurveyAnalyticsRepository.ExportAnswer;
+import com.scms.app.util.ExcelColumn;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 설문 응답 원본 내보내기 서비스
+ * - 응답 순으로 정렬된 답변 행을 스트리밍으로 읽으면서 응답 단위로 묶어 한 행(질문당 한 열)으로 변환
+ * - 한 번에 응답 한 건의 답변만 메모리에 두므로 답변 수와 무관하게 메모리 사용량이 일정함
+ * - 익명 설문은 응답자 정보 열을 만들지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SurveyExportService {
+
+    /**
+     * 내보내기 파일 형식 (소문자 이름이 확장자)
+     */
+    public enum Format {
+        CSV,
+        XLSX;
+
+        public static Format from(String value) {
+            if (value == null || value.isBlank()) {
+                return XLSX;
+            }
+            try {
+                return Format.valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 파일 형식입니다: " + value);
+            }
+        }
+    }
+
+    private static final String MULTI_CHOICE_SEPARATOR = "; ";
+
+    private final SurveyAnalyticsRepository analyticsRepository;
+    private final ExcelService excelService;
+
+    /**
+     * 설문 응답을 출력 스트림에 기록
+     *
+     * @return 기록한 응답 수
+     */
+    public int export(SurveyDefinitionCache.Definition survey, Format format, OutputStream out) throws IOException {
+        List<ExcelColumn<SurveyExportRow>> columns = columnsOf(survey);
+
+        try (Stream<ExportAnswer> answers = analyticsRepository.streamExportAnswers(survey.surveyId(), survey.anonymous())) {
+            Stream<SurveyExportRow> rows = pivot(survey, answers);
+            int count = format == Format.CSV
+                    ? excelService.writeCsv(out, columns, rows)
+                    : excelService.writeExcel(out, "설문 응답", columns, rows);
+
+            log.info("설문 응답 내보내기 완료: surveyId={}, format={}, 응답 수={}", survey.surveyId(), format, count);
+            return count;
+        }
+    }
+
+    /**
+     * 열 정의 (응답 정보 + 응답자 정보(기명 설문만) + 질문 순서대로 질문당 한 열)
+     */
+    private static List<ExcelColumn<SurveyExportRow>> columnsOf(SurveyDefinitionCache.Definition survey) {
+        List<ExcelColumn<SurveyExportRow>> columns = new ArrayList<>();
+        columns.add(ExcelColumn.of("응답 ID", SurveyExportRow::getResponseId));
+        columns.add(ExcelColumn.of("제출일", SurveyExportRow::getSubmittedAt));
+        if (!survey.anonymous()) {
+            columns.add(ExcelColumn.of("학번", SurveyExportRow::getStudentNum));
+            columns.add(ExcelColumn.of("이름", SurveyExportRow::getName));
+            columns.add(ExcelColumn.of("학과", SurveyExportRow::getDepartment));
+            columns.add(ExcelColumn.of("학년", SurveyExportRow::getGrade));
+        }
+
+        List<SurveyDefinitionCache.Question> questions = survey.questions();
+        for (int i = 0; i < questions.size(); i++) {
+            int index = i;
+            columns.add(ExcelColumn.of((i + 1) + ". " + questions.get(i).text(), row -> row.getAnswer(index)));
+        }
+        return columns;
+    }
+
+    /**
+     * 답변 행 스트림을 응답 행 스트림으로 변환 (원본 스트림은 호출 측에서 닫음)
+     */
+    private static Stream<SurveyExportRow> pivot(SurveyDefinitionCache.Definition survey, Stream<ExportAnswer> answers) {
+        Map<Long, Integer> questionIndex = new HashMap<>();
+        for (int i = 0; i < survey.questions().size(); i++) {
+            questionIndex.put(survey.questions().get(i).questionId(), i);
+        }
+
+        Iterator<ExportAnswer> source = answers.iterator();
+        Iterator<SurveyExportRow> rows = new Iterator<>() {
+            private ExportAnswer next = source.hasNext() ? source.next() : null;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public SurveyExportRow next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                ExportAnswer first = next;
+                Object[] cells = new Object[questionIndex.size()];
+                do {
+                    addAnswer(survey, questionIndex, cells, next);
+                    next = source.hasNext() ? source.next() : null;
+                } while (next != null && next.responseId() == first.responseId());
+
+                return new SurveyExportRow(first.responseId(), first.submittedAt(), first.studentNum(),
+                        first.name(), first.department(), first.grade(), cells);
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED), false);
+    }
+
+    /**
+     * 답변 한 건을 셀에 기록 (객관식은 선택지 내용, 복수선택은 선택 순서대로 이어 붙임)
+     */
+    private static void addAnswer(SurveyDefinitionCache.Definition survey, Map<Long, Integer> questionIndex,
+                                  Object[] cells, ExportAnswer answer) {
+        if (answer.questionId() == null) {
+            return;
+        }
+        Integer index = questionIndex.get(answer.questionId());
+        if (index == null) {
+            return;
+        }
+
+        Object value;
+        if (answer.optionId() != null) {
+            value = survey.question(answer.questionId()).options().get(answer.optionId());
+        } else if (answer.answerNumber() != null) {
+            value = answer.answerNumber();
+        } else {
+            value = answer.answerText();
+        }
+        if (value == null) {
+            return;
+        }
+
+        cells[index] = cells[index] == null
+                ? value
+                : cells[index] + MULTI_CHOICE_SEPARATOR + value;
+    }
+}
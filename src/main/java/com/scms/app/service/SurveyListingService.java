@@ -0,0 +1,204 @@
+package com.scms.app.service;
+
+import com.scms.app.dto.SurveyDTO;
+import com.scms.app.model.Survey;
+import com.scms.app.model.SurveyTargetType;
+import com.scms.app.model.User;
+import com.scms.app.repository.SurveyQuestionRepository;
+import com.scms.app.repository.SurveyResponseRepository;
+import com.scms.app.repository.SurveyTargetRepository;
+import com.scms.app.repository.UserRepository;
+import com.scms.app.util.ExpiringLruCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 설문 목록 조회 서비스
+ * - 목록에 필요한 질문 수/응답 수/사용자 응답 여부/대상자 여부/생성자 이름을 설문마다 조회하지 않고
+ *   목록 전체에 대해 항목별 그룹 쿼리 한 번씩으로 조회
+ * - 질문 수/응답 수는 짧은 유효 시간 동안 설문별로 캐시 (응답 제출/설문 수정이 커밋되면 해당 설문만 무효화)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SurveyListingService {
+
+    private final SurveyQuestionRepository surveyQuestionRepository;
+    private final SurveyResponseRepository surveyResponseRepository;
+    private final SurveyTargetRepository surveyTargetRepository;
+    private final UserRepository userRepository;
+
+    @Value("${survey.listing-counts.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${survey.listing-counts.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    private ExpiringLruCache<Long, Counts> counts;
+
+    @PostConstruct
+    void init() {
+        counts = new ExpiringLruCache<>(maxEntries, ttlSeconds * 1000L);
+    }
+
+    /**
+     * 설문별 질문 수/응답 수
+     */
+    public record Counts(long questionCount, long responseCount) {
+        static final Counts EMPTY = new Counts(0, 0);
+    }
+
+    /**
+     * 사용자의 설문별 응답 여부/대상자 여부
+     */
+    public record UserFlags(Set<Long> respondedSurveyIds, Set<Long> targetedSurveyIds) {
+        static final UserFlags NONE = new UserFlags(Set.of(), Set.of());
+
+        public boolean hasResponded(Long surveyId) {
+            return respondedSurveyIds.contains(surveyId);
+        }
+
+        public boolean isTarget(Long surveyId) {
+            return targetedSurveyIds.contains(surveyId);
+        }
+    }
+
+    /**
+     * 설문별 질문 수/응답 수 일괄 조회 (캐시에 없는 설문만 그룹 쿼리 두 번으로 조회)
+     */
+    public Map<Long, Counts> getCounts(Collection<Long> surveyIds) {
+        if (surveyIds.isEmpty()) {
+            return Map.of();
+        }
+        return counts.getAll(surveyIds, this::loadCounts);
+    }
+
+    /**
+     * 사용자의 응답 여부/대상자 여부 일괄 조회 (대상자 여부는 SPECIFIC 설문만 조회)
+     */
+    public UserFlags getUserFlags(Integer userId, List<Survey> surveys) {
+        if (userId == null || surveys.isEmpty()) {
+            return UserFlags.NONE;
+        }
+
+        List<Long> surveyIds = surveys.stream().map(Survey::getSurveyId).toList();
+        Set<Long> responded = new HashSet<>(surveyResponseRepository.findRespondedSurveyIds(userId, surveyIds));
+
+        List<Long> specificIds = surveys.stream()
+                .filter(survey -> survey.getTargetType() == SurveyTargetType.SPECIFIC)
+                .map(Survey::getSurveyId)
+                .toList();
+        Set<Long> targeted = specificIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(surveyTargetRepository.findTargetedSurveyIds(userId, specificIds));
+
+        return new UserFlags(responded, targeted);
+    }
+
+    /**
+     * Survey 목록 -> SurveyDTO 목록 변환 (목록 크기와 무관하게 쿼리 수 일정)
+     */
+    public List<SurveyDTO> toSurveyDTOs(List<Survey> surveys, Integer currentUserId) {
+        return toSurveyDTOs(surveys, currentUserId, getUserFlags(currentUserId, surveys));
+    }
+
+    /**
+     * Survey 목록 -> SurveyDTO 목록 변환 (이미 조회한 사용자 플래그 사용)
+     */
+    public List<SurveyDTO> toSurveyDTOs(List<Survey> surveys, Integer currentUserId, UserFlags flags) {
+        if (surveys.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Counts> countsBySurvey = getCounts(surveys.stream().map(Survey::getSurveyId).toList());
+        Map<Integer, String> creatorNames = getUserNames(surveys.stream().map(Survey::getCreatedBy).toList());
+
+        return surveys.stream()
+                .map(survey -> {
+                    Counts surveyCounts = countsBySurvey.getOrDefault(survey.getSurveyId(), Counts.EMPTY);
+                    return SurveyDTO.builder()
+                            .surveyId(survey.getSurveyId())
+                            .title(survey.getTitle())
+                            .description(survey.getDescription())
+                            .startDate(survey.getStartDate())
+                            .endDate(survey.getEndDate())
+                            .isAnonymous(survey.getIsAnonymous())
+                            .isActive(survey.getIsActive())
+                            .targetType(survey.getTargetType())
+                            .maxResponses(survey.getMaxResponses())
+                            .allowMultipleResponses(survey.getAllowMultipleResponses())
+                            .showResults(survey.getShowResults())
+                            .createdBy(survey.getCreatedBy())
+                            .createdByName(creatorNames.getOrDefault(survey.getCreatedBy(), "알 수 없음"))
+                            .createdAt(survey.getCreatedAt())
+                            .updatedAt(survey.getUpdatedAt())
+                            .questionCount(surveyCounts.questionCount())
+                            .responseCount(surveyCounts.responseCount())
+                            .isOngoing(survey.isOngoing())
+                            .isExpired(survey.isExpired())
+                            .hasResponded(currentUserId != null ? flags.hasResponded(survey.getSurveyId()) : null)
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 설문 질문 수/응답 수 캐시 무효화 (트랜잭션 안에서 호출하면 커밋된 경우에만)
+     */
+    public void invalidateCountsAfterCommit(Long surveyId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counts.invalidate(surveyId);
+                }
+            });
+        } else {
+            counts.invalidate(surveyId);
+        }
+    }
+
+    private Map<Long, Counts> loadCounts(Set<Long> surveyIds) {
+        Map<Long, Long> questionCounts = toCountMap(surveyQuestionRepository.countBySurveyIds(surveyIds));
+        Map<Long, Long> responseCounts = toCountMap(surveyResponseRepository.countBySurveyIds(surveyIds));
+
+        Map<Long, Counts> loaded = new HashMap<>();
+        for (Long surveyId : surveyIds) {
+            loaded.put(surveyId, new Counts(
+                    questionCounts.getOrDefault(surveyId, 0L),
+                    responseCounts.getOrDefault(surveyId, 0L)));
+        }
+        log.debug("설문 목록 수치 적재: 설문 수={}", surveyIds.size());
+        return loaded;
+    }
+
+    private Map<Integer, String> getUserNames(Collection<Integer> userIds) {
+        Set<Integer> distinct = userIds.stream().filter(id -> id != null).collect(Collectors.toSet());
+        if (distinct.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findAllById(distinct).stream()
+                .collect(Collectors.toMap(User::getUserId, User::getName));
+    }
+
+    private static Map<Long, Long> toCountMap(List<Object[]> rows) {
+        Map<Long, Long> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.put((Long) row[0], (Long) row[1]);
+        }
+        return result;
+    }
+}
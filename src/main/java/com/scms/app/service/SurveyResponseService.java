@@ -3,12 +3,17 @@ package com.scms.app.service;
 import com.scms.app.dto.*;
 import com.scms.app.model.*;
 import com.scms.app.repository.*;
+import com.scms.app.util.KeysetCursor;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -18,109 +23,167 @@ import java.util.stream.Collectors;
 public class SurveyResponseService {
 
     private final SurveyRepository surveyRepository;
-    private final SurveyQuestionRepository surveyQuestionRepository;
-    private final SurveyQuestionOptionRepository surveyQuestionOptionRepository;
     private final SurveyResponseRepository surveyResponseRepository;
     private final SurveyAnswerRepository surveyAnswerRepository;
     private final SurveyTargetRepository surveyTargetRepository;
+    private final SurveyBatchRepository surveyBatchRepository;
+    private final SurveyQuestionStatRepository statRepository;
+    private final SurveyDefinitionCache definitionCache;
+    private final SurveyAggregateService aggregateService;
+    private final SurveyAnalyticsService analyticsService;
+    private final SurveyExportService exportService;
+    private final SurveyListingService listingService;
 
     /**
      * 설문 응답 제출
+     * - 설문 정의는 캐시에서 조회하고 필수 질문/선택지/척도 범위는 메모리에서 검증
+     * - 답변은 JDBC 배치로 한 번에 기록 (답변 수와 무관하게 INSERT 왕복 1회)
      */
     @Transactional
     public Long submitSurveyResponse(SurveySubmitRequest request, Integer userId,
                                      HttpServletRequest httpRequest) {
         log.info("설문 응답 제출 시작: surveyId={}, userId={}", request.getSurveyId(), userId);
 
-        Survey survey = surveyRepository.findByIdAndNotDeleted(request.getSurveyId())
-                .orElseThrow(() -> new IllegalArgumentException("설문을 찾을 수 없습니다"));
+        SurveyDefinitionCache.Definition survey = definitionCache.get(request.getSurveyId());
+
+        // 답변 검증 (DB 조회 없음)
+        List<SurveyAnswer> answers = buildAnswers(survey, request.getAnswers());
 
         // 응답 가능 여부 확인
         validateCanRespond(survey, userId);
 
         // 응답 저장
         SurveyResponse response = SurveyResponse.builder()
-                .surveyId(survey.getSurveyId())
-                .userId(survey.getIsAnonymous() ? null : userId)  // 익명이면 NULL
+                .surveyId(survey.surveyId())
+                .userId(survey.anonymous() ? null : userId)  // 익명이면 NULL
                 .ipAddress(getClientIp(httpRequest))
                 .userAgent(httpRequest.getHeader("User-Agent"))
                 .build();
 
         response = surveyResponseRepository.save(response);
-        log.info("응답 저장 완료: responseId={}", response.getResponseId());
 
-        // 답변 저장
-        for (SurveyAnswerRequest answerReq : request.getAnswers()) {
-            saveAnswer(response.getResponseId(), answerReq);
+        // 답변 일괄 저장
+        for (SurveyAnswer answer : answers) {
+            answer.setResponseId(response.getResponseId());
         }
+        surveyBatchRepository.insertAnswers(answers);
 
-        // SPECIFIC 유형인 경우 응답 완료 표시
-        if (survey.getTargetType() == SurveyTargetType.SPECIFIC) {
-            surveyTargetRepository.markAsResponded(survey.getSurveyId(), userId);
-        }
+        // 통계 집계 가산
+        aggregateService.recordAnswers(survey.surveyId(), answers);
+        listingService.invalidateCountsAfterCommit(survey.surveyId());
 
-        log.info("설문 응답 제출 완료: responseId={}", response.getResponseId());
+        log.info("설문 응답 제출 완료: responseId={}, 답변 수={}", response.getResponseId(), answers.size());
         return response.getResponseId();
     }
 
     /**
-     * 답변 저장
+     * 제출된 답변을 설문 정의로 검증하고 저장할 답변 행으로 변환
+     * 복수선택은 선택지마다 한 행, 답하지 않은(빈) 선택 질문은 저장하지 않음
      */
-    private void saveAnswer(Long responseId, SurveyAnswerRequest answerReq) {
-        // 복수선택인 경우 여러 개의 답변으로 저장
-        if (answerReq.getOptionIds() != null && !answerReq.getOptionIds().isEmpty()) {
-            for (Long optionId : answerReq.getOptionIds()) {
-                SurveyAnswer answer = SurveyAnswer.builder()
-                        .responseId(responseId)
-                        .questionId(answerReq.getQuestionId())
-                        .optionId(optionId)
-                        .build();
-                surveyAnswerRepository.save(answer);
+    private List<SurveyAnswer> buildAnswers(SurveyDefinitionCache.Definition survey,
+                                            List<SurveyAnswerRequest> answerRequests) {
+        List<SurveyAnswer> answers = new ArrayList<>();
+        Set<Long> answeredQuestionIds = new HashSet<>();
+
+        for (SurveyAnswerRequest answerReq : answerRequests) {
+            SurveyDefinitionCache.Question question = survey.question(answerReq.getQuestionId());
+            if (question == null) {
+                throw new IllegalArgumentException("설문에 없는 질문입니다: ID " + answerReq.getQuestionId());
+            }
+            if (!answeredQuestionIds.add(question.questionId())) {
+                throw new IllegalArgumentException("같은 질문에 대한 답변이 중복되었습니다: ID " + question.questionId());
+            }
+
+            if (question.isChoiceType()) {
+                // 복수선택인 경우 여러 개의 답변으로 저장
+                List<Long> optionIds = answerReq.getOptionIds() != null && !answerReq.getOptionIds().isEmpty()
+                        ? answerReq.getOptionIds()
+                        : answerReq.getOptionId() != null ? List.of(answerReq.getOptionId()) : List.of();
+                if (question.type() == QuestionType.SINGLE_CHOICE && optionIds.size() > 1) {
+                    throw new IllegalArgumentException("하나의 선택지만 선택할 수 있습니다: " + question.text());
+                }
+                for (Long optionId : new LinkedHashSet<>(optionIds)) {
+                    if (!question.options().containsKey(optionId)) {
+                        throw new IllegalArgumentException("선택지가 올바르지 않습니다: " + question.text());
+                    }
+                    answers.add(SurveyAnswer.builder()
+                            .questionId(question.questionId())
+                            .optionId(optionId)
+                            .build());
+                }
+                if (optionIds.isEmpty()) {
+                    answeredQuestionIds.remove(question.questionId());
+                }
+            } else if (question.isScaleType()) {
+                Integer value = answerReq.getAnswerNumber();
+                if (value == null) {
+                    answeredQuestionIds.remove(question.questionId());
+                    continue;
+                }
+                if ((question.scaleMin() != null && value < question.scaleMin())
+                        || (question.scaleMax() != null && value > question.scaleMax())) {
+                    throw new IllegalArgumentException("척도 값이 범위를 벗어났습니다: " + question.text());
+                }
+                answers.add(SurveyAnswer.builder()
+                        .questionId(question.questionId())
+                        .answerNumber(value)
+                        .build());
+            } else {
+                String text = answerReq.getAnswerText();
+                if (text == null || text.isBlank()) {
+                    answeredQuestionIds.remove(question.questionId());
+                    continue;
+                }
+                answers.add(SurveyAnswer.builder()
+                        .questionId(question.questionId())
+                        .answerText(text)
+                        .build());
             }
-        } else {
-            // 단일선택, 주관식, 척도형
-            SurveyAnswer answer = SurveyAnswer.builder()
-                    .responseId(responseId)
-                    .questionId(answerReq.getQuestionId())
-                    .optionId(answerReq.getOptionId())
-                    .answerText(answerReq.getAnswerText())
-                    .answerNumber(answerReq.getAnswerNumber())
-                    .build();
-            surveyAnswerRepository.save(answer);
         }
+
+        // 필수 질문 확인
+        for (SurveyDefinitionCache.Question question : survey.questions()) {
+            if (question.required() && !answeredQuestionIds.contains(question.questionId())) {
+                throw new IllegalArgumentException("필수 질문에 답변해주세요: " + question.text());
+            }
+        }
+        if (answers.isEmpty()) {
+            throw new IllegalArgumentException("답변은 최소 1개 이상 제출해야 합니다");
+        }
+        return answers;
     }
 
     /**
      * 응답 가능 여부 확인
+     * SPECIFIC 유형은 대상자 확인, 중복 응답 확인, 응답 완료 표시를 조건부 UPDATE 한 번으로 처리
      */
-    private void validateCanRespond(Survey survey, Integer userId) {
+    private void validateCanRespond(SurveyDefinitionCache.Definition survey, Integer userId) {
         // 진행 중인지 확인
-        if (!survey.isAvailableForResponse()) {
+        if (!survey.isOngoing(LocalDateTime.now())) {
             throw new IllegalArgumentException("현재 응답할 수 없는 설문입니다");
         }
 
-        // 중복 응답 확인
-        if (!survey.getAllowMultipleResponses()) {
+        if (survey.targetType() == SurveyTargetType.SPECIFIC) {
+            // 대상자 확인 + 응답 완료 표시 (중복 응답 불가이면 아직 응답하지 않은 경우에만)
+            int claimed = surveyTargetRepository.claimResponse(
+                    survey.surveyId(), userId, !survey.allowMultipleResponses());
+            if (claimed == 0) {
+                boolean isTarget = surveyTargetRepository.existsBySurveyIdAndUserId(survey.surveyId(), userId);
+                throw new IllegalArgumentException(isTarget ? "이미 응답한 설문입니다" : "응답 권한이 없습니다");
+            }
+        } else if (!survey.allowMultipleResponses()) {
+            // 중복 응답 확인
             boolean hasResponded = surveyResponseRepository.existsBySurveyIdAndUserId(
-                    survey.getSurveyId(), userId);
+                    survey.surveyId(), userId);
             if (hasResponded) {
                 throw new IllegalArgumentException("이미 응답한 설문입니다");
             }
         }
 
-        // SPECIFIC 유형인 경우 대상자 확인
-        if (survey.getTargetType() == SurveyTargetType.SPECIFIC) {
-            boolean isTarget = surveyTargetRepository.existsBySurveyIdAndUserId(
-                    survey.getSurveyId(), userId);
-            if (!isTarget) {
-                throw new IllegalArgumentException("응답 권한이 없습니다");
-            }
-        }
-
         // 최대 응답 수 확인
-        if (survey.getMaxResponses() != null) {
-            long responseCount = surveyResponseRepository.countBySurveyId(survey.getSurveyId());
-            if (responseCount >= survey.getMaxResponses()) {
+        if (survey.maxResponses() != null) {
+            long responseCount = surveyResponseRepository.countBySurveyId(survey.surveyId());
+            if (responseCount >= survey.maxResponses()) {
                 throw new IllegalArgumentException("설문 응답이 마감되었습니다");
             }
         }
@@ -128,35 +191,36 @@ public class SurveyResponseService {
 
     /**
      * 설문 통계 조회
+     * 질문/선택지는 설문 정의 캐시, 수치는 질문별 집계 행에서 읽음 (원본 답변을 집계하지 않음)
      */
     public SurveyStatisticsResponse getSurveyStatistics(Long surveyId) {
         log.info("설문 통계 조회: surveyId={}", surveyId);
 
-        Survey survey = surveyRepository.findByIdAndNotDeleted(surveyId)
-                .orElseThrow(() -> new IllegalArgumentException("설문을 찾을 수 없습니다"));
+        SurveyDefinitionCache.Definition survey = definitionCache.get(surveyId);
 
         long totalResponses = surveyResponseRepository.countBySurveyId(surveyId);
         long targetCount = 0;
         Double responseRate = null;
 
-        if (survey.getTargetType() == SurveyTargetType.SPECIFIC) {
+        if (survey.targetType() == SurveyTargetType.SPECIFIC) {
             targetCount = surveyTargetRepository.countBySurveyId(surveyId);
             if (targetCount > 0) {
                 responseRate = (double) totalResponses / targetCount * 100;
             }
         }
 
-        // 질문별 통계
-        List<SurveyQuestion> questions = surveyQuestionRepository
-                .findBySurveyIdOrderByDisplayOrder(surveyId);
+        // 질문별 집계 행 (질문 ID -> 행 목록)
+        Map<Long, List<SurveyQuestionStat>> statsByQuestion = statRepository.findBySurveyId(surveyId).stream()
+                .collect(Collectors.groupingBy(SurveyQuestionStat::getQuestionId));
 
-        List<QuestionStatisticsResponse> questionStatistics = questions.stream()
-                .map(question -> calculateQuestionStatistics(question, totalResponses))
+        List<QuestionStatisticsResponse> questionStatistics = survey.questions().stream()
+                .map(question -> calculateQuestionStatistics(question,
+                        statsByQuestion.getOrDefault(question.questionId(), List.of()), totalResponses))
                 .collect(Collectors.toList());
 
         return SurveyStatisticsResponse.builder()
                 .surveyId(surveyId)
-                .title(survey.getTitle())
+                .title(survey.title())
                 .totalResponses(totalResponses)
                 .targetCount(targetCount)
                 .responseRate(responseRate)
@@ -165,34 +229,41 @@ public class SurveyResponseService {
     }
 
     /**
-     * 질문별 통계 계산
+     * 질문별 통계 계산 (집계 행으로부터)
      */
-    private QuestionStatisticsResponse calculateQuestionStatistics(SurveyQuestion question,
+    private QuestionStatisticsResponse calculateQuestionStatistics(SurveyDefinitionCache.Question question,
+                                                                     List<SurveyQuestionStat> stats,
                                                                      long totalResponses) {
-        List<SurveyAnswer> answers = surveyAnswerRepository.findByQuestionId(question.getQuestionId());
+        SurveyQuestionStat total = null;
+        Map<Long, Long> optionCounts = new HashMap<>();
+        Map<Integer, Long> scaleDistribution = new TreeMap<>();
+        for (SurveyQuestionStat stat : stats) {
+            switch (stat.getBucketType()) {
+                case TOTAL -> total = stat;
+                case OPTION -> optionCounts.put(stat.getBucketKey(), stat.getAnswerCount());
+                case SCALE -> scaleDistribution.put(stat.getBucketKey().intValue(), stat.getAnswerCount());
+            }
+        }
+        long answerCount = total != null ? total.getAnswerCount() : 0;
 
         QuestionStatisticsResponse.QuestionStatisticsResponseBuilder builder =
                 QuestionStatisticsResponse.builder()
-                        .questionId(question.getQuestionId())
-                        .questionText(question.getQuestionText())
-                        .questionType(question.getQuestionType())
-                        .totalAnswers((long) answers.size());
+                        .questionId(question.questionId())
+                        .questionText(question.text())
+                        .questionType(question.type())
+                        .totalAnswers(answerCount);
 
         // 객관식 통계
         if (question.isChoiceType()) {
-            List<SurveyQuestionOption> options = surveyQuestionOptionRepository
-                    .findByQuestionIdOrderByDisplayOrder(question.getQuestionId());
-
-            List<QuestionStatisticsResponse.OptionStatistics> optionStats = options.stream()
+            List<QuestionStatisticsResponse.OptionStatistics> optionStats = question.options().entrySet().stream()
                     .map(option -> {
-                        long count = surveyAnswerRepository.countByQuestionIdAndOptionId(
-                                question.getQuestionId(), option.getOptionId());
+                        long count = optionCounts.getOrDefault(option.getKey(), 0L);
                         double percentage = totalResponses > 0 ?
                                 (double) count / totalResponses * 100 : 0;
 
                         return QuestionStatisticsResponse.OptionStatistics.builder()
-                                .optionId(option.getOptionId())
-                                .optionText(option.getOptionText())
+                                .optionId(option.getKey())
+                                .optionText(option.getValue())
                                 .count(count)
                                 .percentage(percentage)
                                 .build();
@@ -202,50 +273,118 @@ public class SurveyResponseService {
             builder.optionStatistics(optionStats);
         }
 
-        // 척도형 통계
+        // 척도형 통계 (합계/제곱합으로 평균과 표준편차 계산)
         if (question.isScaleType()) {
-            Double averageScale = surveyAnswerRepository.calculateAverageScale(question.getQuestionId());
-            builder.averageScale(averageScale);
-
-            // 척도별 분포
-            Map<Integer, Long> scaleDistribution = answers.stream()
-                    .filter(a -> a.getAnswerNumber() != null)
-                    .collect(Collectors.groupingBy(
-                            SurveyAnswer::getAnswerNumber,
-                            Collectors.counting()
-                    ));
+            long scaleCount = scaleDistribution.values().stream().mapToLong(Long::longValue).sum();
+            if (total != null && scaleCount > 0) {
+                double mean = (double) total.getValueSum() / scaleCount;
+                double variance = (double) total.getValueSumSq() / scaleCount - mean * mean;
+                builder.averageScale(mean);
+                builder.scaleStdDev(Math.sqrt(Math.max(variance, 0)));
+            }
             builder.scaleDistribution(scaleDistribution);
         }
 
-        // 주관식 응답 목록
+        // 주관식 응답 (첫 페이지만, 나머지는 getTextAnswerPage로 조회)
         if (question.isTextType()) {
-            List<String> textAnswers = answers.stream()
-                    .map(SurveyAnswer::getAnswerText)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
-            builder.textAnswers(textAnswers);
+            CursorPage<String> firstPage = getTextAnswerPage(question.questionId(), null, null);
+            builder.textAnswers(firstPage.getItems());
+            builder.textAnswersNextCursor(firstPage.getNextCursor());
         }
 
         return builder.build();
     }
 
+    /**
+     * 주관식 답변 커서 페이지 조회 (최신순)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public CursorPage<String> getTextAnswerPage(Long surveyId, Long questionId, String cursor, Integer size) {
+        SurveyDefinitionCache.Question question = definitionCache.get(surveyId).question(questionId);
+        if (question == null || !question.isTextType()) {
+            throw new IllegalArgumentException("주관식 질문을 찾을 수 없습니다");
+        }
+        return getTextAnswerPage(questionId, cursor, size);
+    }
+
+    private CursorPage<String> getTextAnswerPage(Long questionId, String cursor, Integer size) {
+        int pageSize = CursorPage.normalizeSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<SurveyAnswer> fetched = after == null
+                ? surveyAnswerRepository.findTextPageByQuestionId(questionId, limit)
+                : surveyAnswerRepository.findTextPageByQuestionIdAfter(
+                        questionId, after.getSortedAt(), after.getId(), limit);
+        return CursorPage.of(fetched, pageSize, a -> KeysetCursor.of(a.getCreatedAt(), a.getAnswerId()))
+                .map(SurveyAnswer::getAnswerText);
+    }
+
+    /**
+     * 설문 분석 (관리자용, 학과/학년/프로그램 참여 필터 + 교차표)
+     * 응답 데이터를 메모리 열 저장소로 적재하여 계산하므로 최근 제출은 캐시 유효 시간만큼 늦게 반영됨
+     */
+    public SurveyAnalyticsResponse getSurveyAnalytics(Long surveyId, Long questionId, String by,
+                                                      String department, String grade, Integer programId) {
+        log.info("설문 분석 조회: surveyId={}, questionId={}, by={}, department={}, grade={}, programId={}",
+                surveyId, questionId, by, department, grade, programId);
+        return analyticsService.analyze(surveyId, questionId, by, department, grade, programId);
+    }
+
+    /**
+     * 설문 제목 조회 (내보내기 파일명용, 삭제된 설문이면 IllegalArgumentException)
+     */
+    public String getSurveyTitle(Long surveyId) {
+        return definitionCache.get(surveyId).title();
+    }
+
+    /**
+     * 설문 응답 원본 내보내기 (관리자용, 응답당 한 행 / 질문당 한 열)
+     * 익명 설문은 응답자 정보 열 없이 기록
+     *
+     * @return 기록한 응답 수
+     */
+    public int exportSurveyResponses(Long surveyId, SurveyExportService.Format format,
+                                     OutputStream out) throws IOException {
+        return exportService.export(definitionCache.get(surveyId), format, out);
+    }
+
+    /**
+     * 설문 집계 재계산 (관리자용)
+     */
+    public int rebuildStatistics(Long surveyId) {
+        definitionCache.get(surveyId);
+        analyticsService.invalidate(surveyId);
+        return aggregateService.rebuild(surveyId);
+    }
+
     /**
      * 사용자의 응답 내역 조회
+     * 설문과 질문 수/응답 수는 응답 건수와 무관하게 일괄 조회
      */
     public List<SurveyDTO> getUserResponses(Integer userId) {
         List<com.scms.app.model.SurveyResponse> responses = surveyResponseRepository
                 .findByUserIdOrderBySubmittedAtDesc(userId);
+        if (responses.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> surveyIds = responses.stream()
+                .map(com.scms.app.model.SurveyResponse::getSurveyId)
+                .collect(Collectors.toSet());
+        Map<Long, Survey> surveys = surveyRepository.findAllById(surveyIds).stream()
+                .collect(Collectors.toMap(Survey::getSurveyId, survey -> survey));
+        Map<Long, SurveyListingService.Counts> counts = listingService.getCounts(surveys.keySet());
 
         return responses.stream()
                 .map(response -> {
-                    Survey survey = surveyRepository.findById(response.getSurveyId())
-                            .orElse(null);
+                    Survey survey = surveys.get(response.getSurveyId());
                     if (survey == null) {
                         return null;
                     }
 
-                    long questionCount = surveyQuestionRepository.countBySurveyId(survey.getSurveyId());
-                    long responseCount = surveyResponseRepository.countBySurveyId(survey.getSurveyId());
+                    SurveyListingService.Counts surveyCounts = counts.get(survey.getSurveyId());
 
                     return SurveyDTO.builder()
                             .surveyId(survey.getSurveyId())
@@ -255,8 +394,8 @@ public class SurveyResponseService {
                             .endDate(survey.getEndDate())
                             .isAnonymous(survey.getIsAnonymous())
                             .createdAt(response.getSubmittedAt())
-                            .questionCount(questionCount)
-                            .responseCount(responseCount)
+                            .questionCount(surveyCounts != null ? surveyCounts.questionCount() : 0L)
+                            .responseCount(surveyCounts != null ? surveyCounts.responseCount() : 0L)
                             .hasResponded(true)
                             .build();
                 })
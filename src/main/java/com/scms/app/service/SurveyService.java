@@ -7,6 +7,7 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -26,7 +27,8 @@ public class SurveyService {
     private final SurveyQuestionOptionRepository surveyQuestionOptionRepository;
     private final SurveyTargetRepository surveyTargetRepository;
     private final SurveyResponseRepository surveyResponseRepository;
-    private final UserRepository userRepository;
+    private final SurveyDefinitionCache definitionCache;
+    private final SurveyListingService listingService;
 
     /**
      * 설문 생성
@@ -121,7 +123,8 @@ public class SurveyService {
         Pageable pageable = PageRequest.of(page, size);
         Page<Survey> surveys = surveyRepository.findActivesurveys(pageable);
 
-        return surveys.map(survey -> convertToResponse(survey, currentUserId));
+        List<SurveyDTO> content = listingService.toSurveyDTOs(surveys.getContent(), currentUserId);
+        return new PageImpl<>(content, surveys.getPageable(), surveys.getTotalElements());
     }
 
     /**
@@ -131,41 +134,36 @@ public class SurveyService {
         LocalDateTime now = LocalDateTime.now();
         List<Survey> surveys = surveyRepository.findOngoingSurveys(now);
 
-        return surveys.stream()
-                .map(survey -> convertToResponse(survey, currentUserId))
-                .collect(Collectors.toList());
+        return listingService.toSurveyDTOs(surveys, currentUserId);
     }
 
     /**
      * 사용자가 응답 가능한 설문 목록
+     * 응답 여부/대상자 여부는 진행 중인 설문 전체에 대해 한 번에 조회
      */
     public List<SurveyDTO> getAvailableSurveysForUser(Integer userId) {
         LocalDateTime now = LocalDateTime.now();
         List<Survey> allOngoing = surveyRepository.findOngoingSurveys(now);
+        SurveyListingService.UserFlags flags = listingService.getUserFlags(userId, allOngoing);
 
-        return allOngoing.stream()
-                .filter(survey -> canUserRespond(survey, userId))
-                .map(survey -> convertToResponse(survey, userId))
+        List<Survey> available = allOngoing.stream()
+                .filter(survey -> canUserRespond(survey, flags))
                 .collect(Collectors.toList());
+        return listingService.toSurveyDTOs(available, userId, flags);
     }
 
     /**
      * 사용자가 설문에 응답 가능한지 확인
      */
-    private boolean canUserRespond(Survey survey, Integer userId) {
+    private boolean canUserRespond(Survey survey, SurveyListingService.UserFlags flags) {
         // 이미 응답했는지 확인 (중복 응답 허용 안하는 경우)
-        if (!survey.getAllowMultipleResponses()) {
-            boolean hasResponded = surveyResponseRepository.existsBySurveyIdAndUserId(
-                    survey.getSurveyId(), userId);
-            if (hasResponded) {
-                return false;
-            }
+        if (!survey.getAllowMultipleResponses() && flags.hasResponded(survey.getSurveyId())) {
+            return false;
         }
 
         // SPECIFIC 유형인 경우 대상자인지 확인
         if (survey.getTargetType() == SurveyTargetType.SPECIFIC) {
-            return surveyTargetRepository.existsBySurveyIdAndUserId(
-                    survey.getSurveyId(), userId);
+            return flags.isTarget(survey.getSurveyId());
         }
 
         return true;
@@ -256,6 +254,8 @@ public class SurveyService {
             }
         }
 
+        definitionCache.invalidateAfterCommit(surveyId);
+        listingService.invalidateCountsAfterCommit(surveyId);
         log.info("설문 수정 완료: surveyId={}", surveyId);
         return convertToResponse(survey);
     }
@@ -276,6 +276,7 @@ public class SurveyService {
         survey.delete();
         surveyRepository.save(survey);
 
+        definitionCache.invalidateAfterCommit(surveyId);
         log.info("설문 삭제 완료: surveyId={}", surveyId);
     }
 
@@ -294,6 +295,7 @@ public class SurveyService {
         survey.setIsActive(!survey.getIsActive());
         surveyRepository.save(survey);
 
+        definitionCache.invalidateAfterCommit(surveyId);
         log.info("설문 활성화 상태 변경: surveyId={}, isActive={}", surveyId, survey.getIsActive());
     }
 
@@ -305,41 +307,7 @@ public class SurveyService {
     }
 
     private SurveyDTO convertToResponse(Survey survey, Integer currentUserId) {
-        long questionCount = surveyQuestionRepository.countBySurveyId(survey.getSurveyId());
-        long responseCount = surveyResponseRepository.countBySurveyId(survey.getSurveyId());
-
-        Boolean hasResponded = null;
-        if (currentUserId != null) {
-            hasResponded = surveyResponseRepository.existsBySurveyIdAndUserId(
-                    survey.getSurveyId(), currentUserId);
-        }
-
-        String createdByName = userRepository.findById(survey.getCreatedBy())
-                .map(User::getName)
-                .orElse("알 수 없음");
-
-        return SurveyDTO.builder()
-                .surveyId(survey.getSurveyId())
-                .title(survey.getTitle())
-                .description(survey.getDescription())
-                .startDate(survey.getStartDate())
-                .endDate(survey.getEndDate())
-                .isAnonymous(survey.getIsAnonymous())
-                .isActive(survey.getIsActive())
-                .targetType(survey.getTargetType())
-                .maxResponses(survey.getMaxResponses())
-                .allowMultipleResponses(survey.getAllowMultipleResponses())
-                .showResults(survey.getShowResults())
-                .createdBy(survey.getCreatedBy())
-                .createdByName(createdByName)
-                .createdAt(survey.getCreatedAt())
-                .updatedAt(survey.getUpdatedAt())
-                .questionCount(questionCount)
-                .responseCount(responseCount)
-                .isOngoing(survey.isOngoing())
-                .isExpired(survey.isExpired())
-                .hasResponded(hasResponded)
-                .build();
+        return listingService.toSurveyDTOs(List.of(survey), currentUserId).get(0);
     }
 
     /**
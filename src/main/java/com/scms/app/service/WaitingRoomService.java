@@ -0,0 +1,416 @@
+package com.scms.app.service;
+
+import com.scms.app.dto.WaitingRoomStats;
+import com.scms.app.dto.WaitingTicketResponse;
+import com.scms.app.model.ApplicationStatus;
+import com.scms.app.model.ProgramApplication;
+import com.scms.app.model.ProgramWaitingRoom;
+import com.scms.app.model.WaitingTicketStatus;
+import com.scms.app.repository.ProgramWaitingRoomRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 프로그램 신청 대기실 서비스
+ * - 대기실이 설정된 인기 프로그램의 신청은 바로 처리하지 않고 프로그램별 FIFO 대기열에 넣은 뒤 대기표를 발급
+ * - 일정 주기로 프로그램별 처리 속도(초당 건수)만큼 대기열에서 꺼내 고정 크기 작업자 풀에서 신청 처리
+ * - 동시에 실행되는 신청 트랜잭션 수가 작업자 수로 제한되므로 요청이 몰려도 DB 커넥션 풀이 고갈되지 않음
+ * - 대기열과 대기표는 서버 메모리에 있으므로 처리 속도/대기열 길이는 서버당 값
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WaitingRoomService {
+
+    private final ProgramWaitingRoomRepository waitingRoomRepository;
+    private final ProgramApplicationService applicationService;
+
+    @Value("${program.waiting-room.workers:4}")
+    private int workers;
+
+    @Value("${program.waiting-room.tick-ms:100}")
+    private long tickMillis;
+
+    @Value("${program.waiting-room.ticket-ttl-seconds:600}")
+    private long ticketTtlSeconds;
+
+    @Value("${program.waiting-room.default-admission-per-second:20}")
+    private int defaultAdmissionPerSecond;
+
+    @Value("${program.waiting-room.default-max-queue-size:5000}")
+    private int defaultMaxQueueSize;
+
+    private final Map<Integer, Room> rooms = new ConcurrentHashMap<>();
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor applyPool;
+    private ScheduledExecutorService ticker;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        applyPool = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers * 2), runnable -> {
+                    Thread thread = new Thread(runnable, "waiting-room-apply-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        // 짧은 주기로 도는 작업이므로 공용 스케줄링 풀과 분리하여 다른 스케줄 작업을 밀어내지 않게 함
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "waiting-room-tick");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::dispatch, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+        applyPool.shutdown();
+        try {
+            ticker.awaitTermination(1, TimeUnit.SECONDS);
+            applyPool.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 대기실이 설정된 프로그램이면 대기열에 넣고 대기표 발급
+     * 이미 대기 중인 사용자는 기존 대기표를 반환
+     *
+     * @return 대기실이 없는 프로그램이면 empty (바로 신청 처리)
+     */
+    public Optional<WaitingTicketResponse> tryEnter(Integer programId, Integer userId) {
+        Room room = rooms.get(programId);
+        if (room == null || room.closing) {
+            return Optional.empty();
+        }
+
+        Ticket existing = room.liveTickets.get(userId);
+        if (existing != null) {
+            return Optional.of(toResponse(existing));
+        }
+
+        if (!room.tryReserveSlot()) {
+            room.rejected.increment();
+            throw new IllegalStateException("신청 대기 인원이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        Ticket ticket = new Ticket(UUID.randomUUID().toString(), programId, userId, room.sequence.incrementAndGet());
+        Ticket previous = room.liveTickets.putIfAbsent(userId, ticket);
+        if (previous != null) {
+            room.depth.decrementAndGet();
+            return Optional.of(toResponse(previous));
+        }
+
+        tickets.put(ticket.ticketId, ticket);
+        room.queue.offer(ticket);
+        room.entered.increment();
+        return Optional.of(toResponse(ticket));
+    }
+
+    /**
+     * 대기표 조회 (본인 대기표만)
+     */
+    public WaitingTicketResponse getTicket(String ticketId, Integer userId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket == null || !ticket.userId.equals(userId)) {
+            throw new IllegalArgumentException("대기표를 찾을 수 없습니다.");
+        }
+        return toResponse(ticket);
+    }
+
+    /**
+     * 대기실 설정 (관리자용)
+     * 다른 서버에는 설정 재적재 주기 안에 반영
+     */
+    @Transactional
+    public ProgramWaitingRoom configure(Integer programId, boolean enabled,
+                                        Integer admissionPerSecond, Integer maxQueueSize) {
+        int rate = admissionPerSecond != null ? admissionPerSecond : defaultAdmissionPerSecond;
+        int queueSize = maxQueueSize != null ? maxQueueSize : defaultMaxQueueSize;
+        if (rate <= 0 || queueSize <= 0) {
+            throw new IllegalArgumentException("처리 속도와 대기열 길이는 1 이상이어야 합니다.");
+        }
+
+        ProgramWaitingRoom setting = waitingRoomRepository.save(ProgramWaitingRoom.builder()
+                .programId(programId)
+                .enabled(enabled)
+                .admissionPerSecond(rate)
+                .maxQueueSize(queueSize)
+                .build());
+        applySetting(setting);
+
+        log.info("프로그램 신청 대기실 설정: programId={}, enabled={}, admissionPerSecond={}, maxQueueSize={}",
+                programId, enabled, rate, queueSize);
+        return setting;
+    }
+
+    /**
+     * 대기실 지표 (현재 서버)
+     */
+    public List<WaitingRoomStats> getStats() {
+        List<WaitingRoomStats> stats = new ArrayList<>();
+        for (Room room : rooms.values()) {
+            long admitted = room.admitted.sum();
+            stats.add(WaitingRoomStats.builder()
+                    .programId(room.programId)
+                    .admissionPerSecond(room.admissionPerSecond)
+                    .maxQueueSize(room.maxQueueSize)
+                    .queueDepth(room.depth.get())
+                    .enteredTotal(room.entered.sum())
+                    .rejectedTotal(room.rejected.sum())
+                    .admittedTotal(admitted)
+                    .succeededTotal(room.succeeded.sum())
+                    .failedTotal(room.failed.sum())
+                    .avgWaitMs(admitted > 0 ? (double) room.waitMsTotal.sum() / admitted : 0.0)
+                    .maxWaitMs(room.maxWaitMs.get())
+                    .build());
+        }
+        return stats;
+    }
+
+    /**
+     * 처리 속도만큼 대기열에서 꺼내 신청 처리 (전용 스레드에서 tick-ms 주기로 실행)
+     */
+    void dispatch() {
+        long nowNanos = System.nanoTime();
+        for (Room room : rooms.values()) {
+            try {
+                dispatchRoom(room, nowNanos);
+            } catch (Exception e) {
+                log.error("신청 대기열 처리 실패: programId={}, error={}", room.programId, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 대기실 설정 재적재 (다른 서버에서 변경된 설정 반영)
+     */
+    @Scheduled(fixedDelayString = "${program.waiting-room.refresh-ms:10000}")
+    public void refreshSettings() {
+        try {
+            Map<Integer, ProgramWaitingRoom> enabled = new HashMap<>();
+            for (ProgramWaitingRoom setting : waitingRoomRepository.findByEnabledTrue()) {
+                enabled.put(setting.getProgramId(), setting);
+            }
+
+            enabled.values().forEach(this::applySetting);
+            for (Room room : rooms.values()) {
+                if (!enabled.containsKey(room.programId)) {
+                    room.closing = true;
+                }
+            }
+        } catch (Exception e) {
+            log.error("신청 대기실 설정 재적재 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 완료 대기표 정리
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void sweepTickets() {
+        long cutoff = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(ticketTtlSeconds);
+        tickets.values().removeIf(ticket -> ticket.status.isFinished() && ticket.finishedAtMillis < cutoff);
+    }
+
+    private void applySetting(ProgramWaitingRoom setting) {
+        if (!setting.getEnabled()) {
+            Room room = rooms.get(setting.getProgramId());
+            if (room != null) {
+                room.closing = true;
+            }
+            return;
+        }
+
+        rooms.compute(setting.getProgramId(), (programId, room) -> {
+            Room target = room != null ? room : new Room(programId);
+            target.admissionPerSecond = setting.getAdmissionPerSecond();
+            target.maxQueueSize = setting.getMaxQueueSize();
+            target.closing = false;
+            return target;
+        });
+    }
+
+    private void dispatchRoom(Room room, long nowNanos) {
+        room.refill(nowNanos);
+
+        while (room.tokens >= 1 && applyPool.getQueue().remainingCapacity() > 0) {
+            Ticket ticket = room.queue.poll();
+            if (ticket == null) {
+                break;
+            }
+            room.depth.decrementAndGet();
+            room.dispatchedSequence.accumulateAndGet(ticket.sequence, Math::max);
+
+            room.tokens -= 1;
+            ticket.status = WaitingTicketStatus.PROCESSING;
+            long waitMs = System.currentTimeMillis() - ticket.createdAtMillis;
+            room.admitted.increment();
+            room.waitMsTotal.add(waitMs);
+            room.maxWaitMs.accumulateAndGet(waitMs, Math::max);
+            applyPool.execute(() -> process(room, ticket));
+        }
+
+        if (room.closing && room.depth.get() == 0) {
+            rooms.remove(room.programId, room);
+        }
+    }
+
+    private void process(Room room, Ticket ticket) {
+        try {
+            ProgramApplication application = applicationService.applyProgram(ticket.userId, ticket.programId);
+            String message = application.getStatus() == ApplicationStatus.WAITLISTED
+                    ? "정원이 마감되어 대기자로 등록되었습니다."
+                    : "프로그램 신청이 완료되었습니다.";
+            finish(room, ticket, WaitingTicketStatus.SUCCEEDED, application.getApplicationId(), message);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            finish(room, ticket, WaitingTicketStatus.FAILED, null, e.getMessage());
+        } catch (Exception e) {
+            log.error("대기열 신청 처리 실패: programId={}, userId={}", ticket.programId, ticket.userId, e);
+            finish(room, ticket, WaitingTicketStatus.FAILED, null, "서버 오류가 발생했습니다.");
+        }
+    }
+
+    private void finish(Room room, Ticket ticket, WaitingTicketStatus status, Integer applicationId, String message) {
+        ticket.applicationId = applicationId;
+        ticket.message = message;
+        ticket.finishedAtMillis = System.currentTimeMillis();
+        ticket.status = status;
+        room.liveTickets.remove(ticket.userId, ticket);
+        if (status == WaitingTicketStatus.SUCCEEDED) {
+            room.succeeded.increment();
+        } else {
+            room.failed.increment();
+        }
+    }
+
+    private WaitingTicketResponse toResponse(Ticket ticket) {
+        WaitingTicketStatus status = ticket.status;
+        Long position = null;
+        Long estimatedWaitSeconds = null;
+
+        Room room = rooms.get(ticket.programId);
+        if (status == WaitingTicketStatus.WAITING && room != null) {
+            position = Math.max(1L, ticket.sequence - room.dispatchedSequence.get());
+            estimatedWaitSeconds = (position + room.admissionPerSecond - 1) / room.admissionPerSecond;
+        }
+
+        return WaitingTicketResponse.builder()
+                .ticketId(ticket.ticketId)
+                .programId(ticket.programId)
+                .status(status)
+                .statusDescription(status.getDescription())
+                .position(position)
+                .estimatedWaitSeconds(estimatedWaitSeconds)
+                .applicationId(ticket.applicationId)
+                .message(ticket.message)
+                .build();
+    }
+
+    /**
+     * 프로그램별 대기열
+     */
+    private static final class Room {
+        private final Integer programId;
+        private volatile int admissionPerSecond;
+        private volatile int maxQueueSize;
+        private volatile boolean closing;
+
+        private final Queue<Ticket> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger depth = new AtomicInteger();
+        private final AtomicLong sequence = new AtomicLong();
+        private final AtomicLong dispatchedSequence = new AtomicLong();
+        private final Map<Integer, Ticket> liveTickets = new ConcurrentHashMap<>(); // userId -> 진행 중인 대기표
+
+        // 처리 속도 제한 (토큰 버킷, 대기열 처리 스레드에서만 접근)
+        private double tokens;
+        private long lastRefillNanos = System.nanoTime();
+
+        private final LongAdder entered = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder admitted = new LongAdder();
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder waitMsTotal = new LongAdder();
+        private final AtomicLong maxWaitMs = new AtomicLong();
+
+        private Room(Integer programId) {
+            this.programId = programId;
+        }
+
+        /**
+         * 대기열 자리 확보 (최대 길이 초과 시 false)
+         */
+        private boolean tryReserveSlot() {
+            while (true) {
+                int current = depth.get();
+                if (current >= maxQueueSize) {
+                    return false;
+                }
+                if (depth.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * 경과 시간만큼 처리 가능 건수 충전 (최대 1초분)
+         */
+        private void refill(long nowNanos) {
+            double elapsedSeconds = (nowNanos - lastRefillNanos) / 1_000_000_000.0;
+            lastRefillNanos = nowNanos;
+            tokens = Math.min(admissionPerSecond, tokens + admissionPerSecond * elapsedSeconds);
+        }
+    }
+
+    /**
+     * 신청 대기표
+     */
+    private static final class Ticket {
+        private final String ticketId;
+        private final Integer programId;
+        private final Integer userId;
+        private final long sequence;
+        private final long createdAtMillis = System.currentTimeMillis();
+
+        private volatile WaitingTicketStatus status = WaitingTicketStatus.WAITING;
+        private volatile Integer applicationId;
+        private volatile String message;
+        private volatile long finishedAtMillis;
+
+        private Ticket(String ticketId, Integer programId, Integer userId, long sequence) {
+            this.ticketId = ticketId;
+            this.programId = programId;
+            this.userId = userId;
+            this.sequence = sequence;
+        }
+    }
+}
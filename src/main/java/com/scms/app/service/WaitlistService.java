@@ -0,0 +1,226 @@
+package com.scms.app.service;
+
+import com.scms.app.model.ApplicationStatus;
+import com.scms.app.model.NotificationType;
+import com.scms.app.model.Program;
+import com.scms.app.model.ProgramApplication;
+import com.scms.app.repository.ProgramApplicationRepository;
+import com.scms.app.repository.ProgramRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로그램 대기자 명단 서비스
+ * - 정원 마감 후 신청은 WAITLISTED 상태와 순번(waitlist_position)을 받아 대기
+ * - 좌석이 반납되면 같은 트랜잭션에서 맨 앞 대기자를 PENDING으로 승격하고 좌석을 그대로 넘겨줌
+ *   (프로그램이 OPEN으로 돌아가지 않으므로 새 신청이 몰리지 않음)
+ * - 프로그램별 헤드 포인터(아직 대기 중일 수 있는 가장 작은 순번)를 메모리에 두고
+ *   (program_id, status, waitlist_position) 인덱스를 그 지점부터 탐색
+ * - 반납이 아직 커밋되지 않은 대기자 등록과 엇갈려 좌석이 남은 채 대기자가 생기면 주기적 보정에서 승격
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WaitlistService {
+
+    private static final int HEAD_BATCH_SIZE = 5;
+
+    private final ProgramApplicationRepository applicationRepository;
+    private final ProgramRepository programRepository;
+    private final SeatReservationService seatReservationService;
+    private final NotificationService notificationService;
+
+    private final Map<Integer, AtomicLong> heads = new ConcurrentHashMap<>();
+
+    /**
+     * 신청을 대기자 명단에 등록 (트랜잭션 안에서 호출, 저장된 신청이어야 함)
+     * 순번은 신청 ID를 사용하므로 서버가 여러 대여도 신청 순서가 유지됨
+     */
+    public void enqueue(ProgramApplication application) {
+        long position = application.getApplicationId().longValue();
+        application.waitlist(position);
+
+        // 헤드 포인터가 이미 이 순번을 지나갔다면 (늦게 커밋된 신청) 되돌림
+        Integer programId = application.getProgram().getProgramId();
+        runAfterCommit(() -> {
+            AtomicLong head = heads.get(programId);
+            if (head != null) {
+                head.accumulateAndGet(position, Math::min);
+            }
+        });
+    }
+
+    /**
+     * 좌석 반납 (신청 취소/거부 시, 트랜잭션 안에서 호출)
+     * 대기자가 있으면 맨 앞 대기자에게 좌석을 넘기고, 없으면 프로그램 정원으로 반납
+     */
+    public void releaseSeat(Program program) {
+        releaseSeats(program, 1);
+    }
+
+    /**
+     * 좌석 여러 개 반납 (일괄 거부 시, 트랜잭션 안에서 호출)
+     * 대기자를 순서대로 최대 count명 승격하고, 남은 좌석은 프로그램 정원으로 한 번에 반납
+     */
+    public void releaseSeats(Program program, int count) {
+        int promoted = 0;
+        while (promoted < count && promoteNext(program)) {
+            promoted++;
+        }
+        seatReservationService.release(program.getProgramId(), count - promoted);
+    }
+
+    /**
+     * 남은 좌석이 있는데 대기자가 남아 있는 프로그램 ID 목록
+     */
+    public List<Integer> findProgramsToFill() {
+        return applicationRepository.findProgramIdsWithFreeSeatsAndWaitlist();
+    }
+
+    /**
+     * 남은 좌석만큼 대기자를 순서대로 승격 (좌석 확보와 승격을 한 트랜잭션에서 처리)
+     *
+     * @return 승격한 대기자 수
+     */
+    @Transactional
+    public int fillFreeSeats(Integer programId) {
+        Program program = programRepository.findById(programId).orElse(null);
+        if (program == null) {
+            return 0;
+        }
+
+        int promoted = 0;
+        while (seatReservationService.reserveForWaitlist(programId)) {
+            if (!promoteNext(program)) {
+                // 그 사이 대기자가 모두 승격/취소됨
+                seatReservationService.release(programId);
+                break;
+            }
+            promoted++;
+        }
+        return promoted;
+    }
+
+    /**
+     * 맨 앞 대기자 승격
+     *
+     * @return 승격한 대기자가 있으면 true
+     */
+    private boolean promoteNext(Program program) {
+        Integer programId = program.getProgramId();
+        AtomicLong head = heads.computeIfAbsent(programId, id -> new AtomicLong(0));
+
+        long from = head.get();
+        while (true) {
+            List<Object[]> candidates = applicationRepository.findWaitlistHead(
+                    programId, from, PageRequest.of(0, HEAD_BATCH_SIZE));
+            if (candidates.isEmpty()) {
+                if (from > 0 && from == head.get()) {
+                    // 다른 서버에서 늦게 커밋된 대기자가 포인터 앞에 있을 수 있으므로 처음부터 한 번 더 확인
+                    from = 0;
+                    continue;
+                }
+                return false;
+            }
+
+            for (Object[] candidate : candidates) {
+                Integer applicationId = (Integer) candidate[0];
+                long position = (Long) candidate[1];
+                Integer userId = (Integer) candidate[2];
+
+                // 다른 트랜잭션이 먼저 승격했거나 대기자가 취소했으면 다음 대기자로
+                if (applicationRepository.promoteFromWaitlist(
+                        applicationId, ApplicationStatus.PENDING, LocalDateTime.now()) == 0) {
+                    continue;
+                }
+
+                runAfterCommit(() -> head.accumulateAndGet(position + 1, Math::max));
+                notifyPromoted(userId, program);
+                log.info("대기자 승격: programId={}, applicationId={}, position={}",
+                        programId, applicationId, position);
+                return true;
+            }
+
+            from = (Long) candidates.get(candidates.size() - 1)[1] + 1;
+        }
+    }
+
+    /**
+     * 대기 순서 (1부터 시작, 대기자가 아니면 null)
+     */
+    public Long getWaitlistRank(ProgramApplication application) {
+        if (application.getStatus() != ApplicationStatus.WAITLISTED || application.getWaitlistPosition() == null) {
+            return null;
+        }
+        return applicationRepository.countWaitlistAhead(
+                application.getProgram().getProgramId(), application.getWaitlistPosition()) + 1;
+    }
+
+    /**
+     * 헤드 포인터를 DB의 가장 앞선 대기자 순번으로 보정 (다른 서버의 승격/등록 반영)
+     */
+    @Scheduled(initialDelayString = "${program.waitlist.refresh-ms:60000}",
+               fixedDelayString = "${program.waitlist.refresh-ms:60000}")
+    public void refreshHeads() {
+        if (heads.isEmpty()) {
+            return;
+        }
+
+        try {
+            Set<Integer> loaded = new HashSet<>(heads.keySet());
+            for (Object[] row : applicationRepository.findWaitlistHeadPositions(loaded)) {
+                Integer programId = (Integer) row[0];
+                AtomicLong head = heads.get(programId);
+                if (head != null) {
+                    head.set((Long) row[1]);
+                }
+                loaded.remove(programId);
+            }
+            // 대기자가 없는 프로그램은 다음 반납 때 처음부터 탐색
+            loaded.forEach(heads::remove);
+        } catch (Exception e) {
+            log.error("대기자 헤드 포인터 보정 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    private void notifyPromoted(Integer userId, Program program) {
+        try {
+            notificationService.createNotificationByType(
+                    userId,
+                    NotificationType.WAITLIST_PROMOTED,
+                    program.getTitle(),
+                    "/programs/" + program.getProgramId()
+            );
+        } catch (Exception e) {
+            log.error("대기자 승격 알림 생성 실패: programId={}, userId={}, error={}",
+                    program.getProgramId(), userId, e.getMessage());
+        }
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
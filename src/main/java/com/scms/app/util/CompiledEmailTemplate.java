@@ -0,0 +1,108 @@
+package com.scms.app.util;
+
+import org.unbescape.html.HtmlEscape;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 미리 렌더링해 둔 이메일 템플릿
+ * - 템플릿을 변수 자리표시자(marker)로 한 번 렌더링한 결과를 고정 구간과 변수 위치로 나누어 보관
+ * - 수신자별 렌더링은 고정 구간 사이에 HTML 이스케이프한 변수 값만 이어 붙임
+ * - 출력 버퍼는 스레드별로 재사용
+ * - 불변 객체이므로 여러 스레드에서 동시에 사용 가능
+ */
+public final class CompiledEmailTemplate {
+
+    private static final int INITIAL_BUFFER_CAPACITY = 16 * 1024;
+    private static final int MAX_POOLED_BUFFER_CAPACITY = 256 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFERS =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER_CAPACITY));
+
+    private final String name;
+    private final String[] segments;  // 고정 구간 (변수 위치 수 + 1)
+    private final String[] slots;     // 변수 위치별 변수 이름
+    private final int staticLength;
+
+    private CompiledEmailTemplate(String name, String[] segments, String[] slots) {
+        this.name = name;
+        this.segments = segments;
+        this.slots = slots;
+        int length = 0;
+        for (String segment : segments) {
+            length += segment.length();
+        }
+        this.staticLength = length;
+    }
+
+    /**
+     * 자리표시자로 렌더링한 결과를 분해
+     *
+     * @param name 템플릿 이름
+     * @param rendered 자리표시자를 변수 값으로 넣어 렌더링한 HTML
+     * @param markerPrefix 자리표시자 접두어 (자리표시자는 접두어 + 변수 번호 + 'X')
+     * @param variableNames 변수 번호별 변수 이름
+     */
+    public static CompiledEmailTemplate parse(String name, String rendered, String markerPrefix,
+                                              List<String> variableNames) {
+        Matcher matcher = Pattern.compile(Pattern.quote(markerPrefix) + "(\\d+)X").matcher(rendered);
+        List<String> segments = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+
+        int position = 0;
+        while (matcher.find()) {
+            segments.add(rendered.substring(position, matcher.start()));
+            slots.add(variableNames.get(Integer.parseInt(matcher.group(1))));
+            position = matcher.end();
+        }
+        segments.add(rendered.substring(position));
+
+        return new CompiledEmailTemplate(name, segments.toArray(new String[0]), slots.toArray(new String[0]));
+    }
+
+    /**
+     * 수신자 변수로 렌더링
+     */
+    public String render(Map<String, String> variables) {
+        StringBuilder buffer = BUFFERS.get();
+        buffer.setLength(0);
+        try {
+            renderTo(variables, buffer);
+            return buffer.toString();
+        } finally {
+            if (buffer.capacity() > MAX_POOLED_BUFFER_CAPACITY) {
+                // 비정상적으로 커진 버퍼는 보관하지 않음
+                BUFFERS.remove();
+            }
+        }
+    }
+
+    /**
+     * 호출 측 버퍼에 렌더링 (대량 발송 시 버퍼를 직접 관리하는 경우)
+     */
+    public void renderTo(Map<String, String> variables, StringBuilder out) {
+        out.ensureCapacity(out.length() + staticLength + slots.length * 64);
+        for (int i = 0; i < slots.length; i++) {
+            out.append(segments[i]);
+            String value = variables.get(slots[i]);
+            if (value != null) {
+                out.append(HtmlEscape.escapeHtml4Xml(value));
+            }
+        }
+        out.append(segments[slots.length]);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 변수가 들어가는 위치 수
+     */
+    public int getSlotCount() {
+        return slots.length;
+    }
+}
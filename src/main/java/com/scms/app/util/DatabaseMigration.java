@@ -35,6 +35,15 @@ public class DatabaseMigration implements CommandLineRunner {
             // 3. program_files 테이블 생성
             createProgramFilesTableIfNotExists();
 
+            // 4. notifications 중복 발송 방지 키 컬럼 추가
+            addNotificationDedupKeyColumn();
+
+            // 5. notifications_archive 테이블 생성
+            createNotificationsArchiveTableIfNotExists();
+
+            // 6. program_applications 대기자 상태/순번 컬럼 준비
+            prepareProgramApplicationWaitlist();
+
             log.info("✅ 데이터베이스 마이그레이션 완료!");
         } catch (Exception e) {
             log.error("데이터베이스 마이그레이션 실패: {}", e.getMessage(), e);
@@ -91,8 +100,10 @@ public class DatabaseMigration implements CommandLineRunner {
                 created_at DATETIME NOT NULL,
                 read_at DATETIME,
                 deleted_at DATETIME,
+                dedup_key VARCHAR(100),
                 CONSTRAINT fk_notification_user FOREIGN KEY (user_id)
                     REFERENCES users(user_id) ON DELETE CASCADE,
+                UNIQUE KEY uk_notification_dedup_key (dedup_key),
                 INDEX idx_user_id (user_id),
                 INDEX idx_is_read (is_read),
                 INDEX idx_deleted_at (deleted_at),
@@ -126,6 +137,96 @@ public class DatabaseMigration implements CommandLineRunner {
     }
 
 
+    /**
+     * notifications 테이블에 중복 발송 방지 키 컬럼 추가
+     */
+    private void addNotificationDedupKeyColumn() {
+        try {
+            if (checkColumnExists("notifications", "dedup_key")) {
+                log.info("notifications.dedup_key 컬럼이 이미 존재합니다.");
+                return;
+            }
+
+            jdbcTemplate.execute(
+                "ALTER TABLE notifications ADD COLUMN dedup_key VARCHAR(100) NULL, " +
+                "ADD UNIQUE KEY uk_notification_dedup_key (dedup_key)"
+            );
+            log.info("✅ notifications.dedup_key 컬럼 추가 완료");
+        } catch (Exception e) {
+            log.error("notifications.dedup_key 컬럼 추가 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 오래된 알림 보관 테이블 생성
+     */
+    private void createNotificationsArchiveTableIfNotExists() {
+        try {
+            if (checkTableExists("notifications_archive")) {
+                log.info("✅ notifications_archive 테이블이 이미 존재합니다.");
+                return;
+            }
+
+            jdbcTemplate.execute("""
+                CREATE TABLE notifications_archive (
+                    notification_id INT PRIMARY KEY,
+                    user_id INT NOT NULL,
+                    title VARCHAR(200) NOT NULL,
+                    content TEXT NOT NULL,
+                    type VARCHAR(50) NOT NULL,
+                    is_read BOOLEAN NOT NULL DEFAULT FALSE,
+                    related_url VARCHAR(500),
+                    created_at DATETIME NOT NULL,
+                    read_at DATETIME,
+                    deleted_at DATETIME,
+                    archived_at DATETIME NOT NULL,
+                    INDEX idx_archive_user_id (user_id),
+                    INDEX idx_archive_created_at (created_at)
+                ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+                """);
+            log.info("✅ notifications_archive 테이블 생성 완료");
+        } catch (Exception e) {
+            log.error("notifications_archive 테이블 생성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * program_applications 대기자 명단 준비
+     * - Hibernate가 status를 ENUM 컬럼으로 만든 경우 새 상태(WAITLISTED)를 저장할 수 있도록 VARCHAR로 변경
+     * - 대기자 순번 컬럼과 인덱스 추가
+     */
+    private void prepareProgramApplicationWaitlist() {
+        try {
+            if (!checkTableExists("program_applications")) {
+                return;
+            }
+
+            String statusType = jdbcTemplate.queryForObject(
+                "SELECT DATA_TYPE FROM information_schema.COLUMNS " +
+                "WHERE TABLE_SCHEMA = 'scms2' " +
+                "AND TABLE_NAME = 'program_applications' " +
+                "AND COLUMN_NAME = 'status'",
+                String.class
+            );
+            if ("enum".equalsIgnoreCase(statusType)) {
+                jdbcTemplate.execute(
+                    "ALTER TABLE program_applications MODIFY COLUMN status VARCHAR(20) NOT NULL"
+                );
+                log.info("✅ program_applications.status 컬럼을 VARCHAR(20)으로 변경");
+            }
+
+            if (!checkColumnExists("program_applications", "waitlist_position")) {
+                jdbcTemplate.execute(
+                    "ALTER TABLE program_applications ADD COLUMN waitlist_position BIGINT NULL, " +
+                    "ADD INDEX idx_application_waitlist (program_id, status, waitlist_position)"
+                );
+                log.info("✅ program_applications.waitlist_position 컬럼 추가 완료");
+            }
+        } catch (Exception e) {
+            log.error("program_applications 대기자 컬럼 준비 실패: {}", e.getMessage(), e);
+        }
+    }
+
     /**
      * programs 테이블에 실행 날짜 컬럼 추가
      */
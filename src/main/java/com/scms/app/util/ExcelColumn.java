@@ -0,0 +1,17 @@
+package com.scms.app.util;
+
+import java.util.function.Function;
+
+/**
+ * 스트리밍 Excel 내보내기 열 정의
+ * - 머리글과 행 객체에서 셀 값을 꺼내는 함수로 구성
+ * - 셀 값이 Number이면 숫자 셀, LocalDateTime이면 "yyyy-MM-dd HH:mm" 문자열, 그 외는 문자열로 기록
+ *
+ * @param <T> 행 타입
+ */
+public record ExcelColumn<T>(String header, Function<T, ?> value) {
+
+    public static <T> ExcelColumn<T> of(String header, Function<T, ?> value) {
+        return new ExcelColumn<>(header, value);
+    }
+}
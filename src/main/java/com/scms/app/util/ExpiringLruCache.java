@@ -0,0 +1,274 @@
+package com.scms.app.util;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 크기와 유효 시간이 제한된 LRU 캐시
+ * - 최대 항목 수를 넘으면 가장 오래 사용되지 않은 항목부터 제거
+ * - 저장 후 유효 시간이 지난 항목은 다음 조회 때 다시 적재
+ * - 같은 키를 동시에 조회하면 한 요청만 적재하고 나머지는 그 결과를 기다림
+ * - 적재 도중 해당 키가 무효화(invalidate/invalidateAll)되면 적재 결과는 반환만 하고 저장하지 않으며,
+ *   무효화 이후의 조회는 진행 중인 적재를 기다리지 않고 새로 적재 (무효화 이전 값이 남지 않도록)
+ */
+public class ExpiringLruCache<K, V> {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    private final LinkedHashMap<K, Node<V>> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+
+    // 무효화 순번: 적재 시작 시점의 순번보다 뒤에 무효화된 키는 적재 결과를 저장하지 않음
+    private long invalidationStamp = 0;
+    private long invalidatedAllStamp = 0;
+    private final Map<K, Long> invalidatedStamps = new HashMap<>();   // 진행 중인 적재가 없으면 비움
+    private int activeLoads = 0;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTimeNanos = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public ExpiringLruCache(int maxEntries, long ttlMillis) {
+        if (maxEntries <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("maxEntries와 ttlMillis는 0보다 커야 합니다.");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+    }
+
+    /**
+     * 캐시 조회 (없거나 만료되었으면 loader로 적재 후 저장)
+     * loader는 null을 반환하면 안 됨
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            hitCount.increment();
+            return cached;
+        }
+        missCount.increment();
+
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = loading.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        long loadStamp = beginLoad();
+        long startNanos = System.nanoTime();
+        try {
+            V value = loader.apply(key);
+            totalLoadTimeNanos.add(System.nanoTime() - startNanos);
+            loadSuccessCount.increment();
+            put(key, value, loadStamp);
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            totalLoadTimeNanos.add(System.nanoTime() - startNanos);
+            loadFailureCount.increment();
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, future);
+            endLoad();
+        }
+    }
+
+    /**
+     * 여러 키 일괄 조회 (없거나 만료된 키만 모아 loader 한 번으로 적재 후 저장)
+     * loader 결과에 없는 키는 저장하지 않고 반환 결과에서도 빠짐
+     * 같은 키의 동시 적재를 합치지 않으므로 loader는 한 번에 여러 키를 싸게 조회할 수 있어야 함
+     */
+    public Map<K, V> getAll(Collection<K> keys, Function<? super Set<K>, ? extends Map<K, V>> loader) {
+        Map<K, V> result = new HashMap<>();
+        Set<K> missing = new LinkedHashSet<>();
+        for (K key : keys) {
+            V cached = getIfPresent(key);
+            if (cached != null) {
+                hitCount.increment();
+                result.put(key, cached);
+            } else if (!result.containsKey(key) && missing.add(key)) {
+                missCount.increment();
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        long loadStamp = beginLoad();
+        try {
+            long startNanos = System.nanoTime();
+            Map<K, V> loaded;
+            try {
+                loaded = loader.apply(missing);
+                totalLoadTimeNanos.add(System.nanoTime() - startNanos);
+                loadSuccessCount.increment();
+            } catch (RuntimeException | Error e) {
+                totalLoadTimeNanos.add(System.nanoTime() - startNanos);
+                loadFailureCount.increment();
+                throw e;
+            }
+
+            for (K key : missing) {
+                V value = loaded.get(key);
+                if (value != null) {
+                    put(key, value, loadStamp);
+                    result.put(key, value);
+                }
+            }
+            return result;
+        } finally {
+            endLoad();
+        }
+    }
+
+    /**
+     * 캐시에 있는 값 조회 (없거나 만료되었으면 null, 적재하지 않음)
+     */
+    public synchronized V getIfPresent(K key) {
+        Node<V> node = entries.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (System.nanoTime() - node.expiresAtNanos > 0) {
+            entries.remove(key);
+            return null;
+        }
+        return node.value;
+    }
+
+    /**
+     * 특정 키 무효화 (진행 중인 이 키의 적재 결과도 저장되지 않음)
+     */
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+        if (activeLoads > 0) {
+            invalidatedStamps.put(key, ++invalidationStamp);
+        }
+        // 이후 조회는 무효화 이전에 시작된 적재를 기다리지 않고 새로 적재
+        loading.remove(key);
+    }
+
+    /**
+     * 전체 무효화 (진행 중인 적재 결과도 저장되지 않음)
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        invalidatedAllStamp = ++invalidationStamp;
+        invalidatedStamps.clear();
+        loading.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 적중률 (조회가 없었으면 0)
+     */
+    public double getHitRate() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    public long getLoadSuccessCount() {
+        return loadSuccessCount.sum();
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailureCount.sum();
+    }
+
+    public long getTotalLoadTimeNanos() {
+        return totalLoadTimeNanos.sum();
+    }
+
+    /**
+     * 적재 1회 평균 소요 시간 (나노초)
+     */
+    public double getAverageLoadPenaltyNanos() {
+        long loads = loadSuccessCount.sum() + loadFailureCount.sum();
+        return loads == 0 ? 0.0 : (double) totalLoadTimeNanos.sum() / loads;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    private synchronized long beginLoad() {
+        activeLoads++;
+        return invalidationStamp;
+    }
+
+    private synchronized void endLoad() {
+        if (--activeLoads == 0) {
+            invalidatedStamps.clear();
+        }
+    }
+
+    private synchronized void put(K key, V value, long loadStamp) {
+        if (invalidatedAllStamp > loadStamp || invalidatedStamps.getOrDefault(key, 0L) > loadStamp) {
+            return;
+        }
+
+        entries.put(key, new Node<>(value, System.nanoTime() + ttlNanos));
+        Iterator<Node<V>> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictionCount.increment();
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Node<V> {
+        private final V value;
+        private final long expiresAtNanos;
+
+        private Node(V value, long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.scms.app.util;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 패싯(필터 항목) 비트맵 색인
+ * - 문서마다 0부터 시작하는 순번(ordinal)을 부여하고, 패싯 값마다 해당 순번 비트를 켠 BitSet 유지
+ * - "필터에 맞는 문서"는 선택된 값들의 BitSet AND, "패싯 값별 개수"는 AND 후 cardinality로 계산
+ * - 제거된 문서의 순번은 재사용하여 비트맵이 계속 커지지 않도록 함
+ * - 스레드 안전하지 않으므로 호출 측에서 동기화해야 함
+ */
+public class FacetBitmapIndex {
+
+    private final List<String> facets;
+    private final Map<String, Map<String, BitSet>> bitmaps = new LinkedHashMap<>();
+    private final BitSet live = new BitSet();
+    private final Map<Integer, Integer> ordinals = new HashMap<>();     // 문서 ID -> 순번
+    private final Map<Integer, Map<String, String>> values = new HashMap<>(); // 순번 -> 패싯 값
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private int nextOrdinal = 0;
+
+    /**
+     * @param facets 패싯 이름 목록 (예: department, college, category)
+     */
+    public FacetBitmapIndex(List<String> facets) {
+        this.facets = List.copyOf(facets);
+        for (String facet : facets) {
+            bitmaps.put(facet, new HashMap<>());
+        }
+    }
+
+    /**
+     * 문서 색인 (기존 문서가 있으면 교체)
+     *
+     * @param facetValues 패싯 이름 -> 값 (값이 null인 패싯은 어느 값에도 속하지 않음)
+     */
+    public void put(int docId, Map<String, String> facetValues) {
+        remove(docId);
+
+        int ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+        Map<String, String> stored = new HashMap<>();
+        for (String facet : facets) {
+            String value = facetValues.get(facet);
+            if (value != null) {
+                bitmaps.get(facet).computeIfAbsent(value, v -> new BitSet()).set(ordinal);
+                stored.put(facet, value);
+            }
+        }
+        live.set(ordinal);
+        ordinals.put(docId, ordinal);
+        values.put(ordinal, stored);
+    }
+
+    /**
+     * 문서 제거
+     */
+    public boolean remove(int docId) {
+        Integer ordinal = ordinals.remove(docId);
+        if (ordinal == null) {
+            return false;
+        }
+        Map<String, String> stored = values.remove(ordinal);
+        stored.forEach((facet, value) -> {
+            Map<String, BitSet> facetBitmaps = bitmaps.get(facet);
+            BitSet bits = facetBitmaps.get(value);
+            bits.clear(ordinal);
+            if (bits.isEmpty()) {
+                facetBitmaps.remove(value);
+            }
+        });
+        live.clear(ordinal);
+        freeOrdinals.push(ordinal);
+        return true;
+    }
+
+    /**
+     * 필터에 맞는 문서 수
+     *
+     * @param filters 패싯 이름 -> 선택 값 (null 값은 조건 없음)
+     */
+    public int count(Map<String, String> filters) {
+        return match(filters, null).cardinality();
+    }
+
+    /**
+     * 패싯 값별 문서 수
+     * 각 패싯의 개수는 그 패싯을 제외한 나머지 필터를 적용한 결과로 계산
+     * (선택을 바꿨을 때의 결과 수를 보여주기 위함)
+     *
+     * @return 패싯 이름 -> (값 -> 문서 수), 개수가 0인 값은 제외
+     */
+    public Map<String, Map<String, Integer>> facetCounts(Map<String, String> filters) {
+        Map<String, Map<String, Integer>> result = new LinkedHashMap<>();
+        for (String facet : facets) {
+            BitSet base = match(filters, facet);
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            bitmaps.get(facet).forEach((value, bits) -> {
+                int count = intersectionCount(base, bits);
+                if (count > 0) {
+                    counts.put(value, count);
+                }
+            });
+            result.put(facet, counts);
+        }
+        return result;
+    }
+
+    /**
+     * 패싯별 "전체" 개수 (그 패싯을 제외한 나머지 필터만 적용)
+     */
+    public Map<String, Integer> facetTotals(Map<String, String> filters) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (String facet : facets) {
+            result.put(facet, match(filters, facet).cardinality());
+        }
+        return result;
+    }
+
+    public int size() {
+        return ordinals.size();
+    }
+
+    /**
+     * 필터에 맞는 순번 비트맵 (excludedFacet은 조건에서 제외)
+     */
+    private BitSet match(Map<String, String> filters, String excludedFacet) {
+        BitSet result = (BitSet) live.clone();
+        for (String facet : facets) {
+            String value = filters.get(facet);
+            if (value == null || facet.equals(excludedFacet)) {
+                continue;
+            }
+            BitSet bits = bitmaps.get(facet).get(value);
+            if (bits == null) {
+                return new BitSet();
+            }
+            result.and(bits);
+        }
+        return result;
+    }
+
+    private static int intersectionCount(BitSet a, BitSet b) {
+        BitSet smaller = a.length() <= b.length() ? a : b;
+        BitSet other = smaller == a ? b : a;
+        BitSet copy = (BitSet) smaller.clone();
+        copy.and(other);
+        return copy.cardinality();
+    }
+}
@@ -0,0 +1,84 @@
+package com.scms.app.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이지네이션 위치
+ * - 마지막으로 본 행의 (정렬 시각, ID)를 담아 다음 페이지를 "그 행 다음부터" 조회
+ * - OFFSET과 달리 앞 페이지 행을 건너뛰며 읽지 않으므로 깊은 페이지도 조회 비용이 일정
+ * - 클라이언트에는 URL에 그대로 넣을 수 있는 불투명 문자열로 전달
+ */
+public final class KeysetCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime sortedAt;
+    private final long id;
+
+    private KeysetCursor(LocalDateTime sortedAt, long id) {
+        this.sortedAt = sortedAt;
+        this.id = id;
+    }
+
+    public static KeysetCursor of(LocalDateTime sortedAt, long id) {
+        if (sortedAt == null) {
+            throw new IllegalArgumentException("커서 정렬 시각은 필수입니다.");
+        }
+        return new KeysetCursor(sortedAt, id);
+    }
+
+    /**
+     * 커서 문자열 해석 (비어 있으면 첫 페이지로 보고 null 반환)
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * URL에 넣을 수 있는 커서 문자열
+     */
+    public String encode() {
+        String raw = sortedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getSortedAt() {
+        return sortedAt;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * INT 키 테이블용 ID
+     *
+     * @throws IllegalArgumentException ID가 int 범위를 벗어난 경우 (조작된 커서, 다른 해석 실패와 같은 메시지)
+     */
+    public int getIntId() {
+        if (id < Integer.MIN_VALUE || id > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        return (int) id;
+    }
+}
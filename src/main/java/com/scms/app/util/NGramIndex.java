@@ -0,0 +1,169 @@
+package com.scms.app.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 문자 바이그램(2-gram) 역색인
+ * - 글자/숫자 연속 구간마다 인접한 두 글자를 색인어로 사용하여 한글처럼 띄어쓰기와
+ *   조사에 따라 형태가 바뀌는 텍스트도 부분 일치로 검색
+ * - 문서는 (텍스트, 가중치) 필드 목록으로 색인하며, 같은 색인어가 여러 필드에 있으면 가중치를 합산
+ * - 검색어의 모든 색인어를 포함한 문서만 반환 (AND), 점수는 일치한 색인어 가중치의 합
+ * - 스레드 안전하지 않으므로 호출 측에서 동기화해야 함
+ */
+public class NGramIndex {
+
+    private final Map<String, Map<Integer, Float>> postings = new HashMap<>();
+    private final Map<Integer, Set<String>> documentTerms = new HashMap<>();
+
+    /**
+     * 문서 색인 (기존 문서가 있으면 교체)
+     *
+     * @param fields 색인할 텍스트 -> 필드 가중치
+     */
+    public void put(int docId, Map<String, Float> fields) {
+        remove(docId);
+
+        Map<String, Float> weights = new HashMap<>();
+        fields.forEach((text, weight) -> {
+            for (String term : tokenize(text)) {
+                weights.merge(term, weight, Float::sum);
+            }
+        });
+        if (weights.isEmpty()) {
+            return;
+        }
+
+        weights.forEach((term, weight) ->
+                postings.computeIfAbsent(term, t -> new HashMap<>()).put(docId, weight));
+        documentTerms.put(docId, weights.keySet());
+    }
+
+    /**
+     * 문서 제거
+     */
+    public boolean remove(int docId) {
+        Set<String> terms = documentTerms.remove(docId);
+        if (terms == null) {
+            return false;
+        }
+        for (String term : terms) {
+            Map<Integer, Float> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(docId);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 검색 (검색어의 모든 색인어를 포함한 문서)
+     *
+     * @return 문서 ID -> 점수 (검색어에 색인어가 없으면 빈 맵)
+     */
+    public Map<Integer, Float> search(String query) {
+        List<Map<Integer, Float>> lists = new ArrayList<>();
+        for (String term : tokenize(query)) {
+            Map<Integer, Float> docs = term.length() == 1 ? containing(term) : postings.get(term);
+            if (docs == null || docs.isEmpty()) {
+                return Map.of();
+            }
+            lists.add(docs);
+        }
+        if (lists.isEmpty()) {
+            return Map.of();
+        }
+
+        // 가장 짧은 목록부터 교집합
+        lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+        Map<Integer, Float> result = new HashMap<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            Map<Integer, Float> docs = lists.get(i);
+            Iterator<Map.Entry<Integer, Float>> it = result.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Integer, Float> entry = it.next();
+                Float weight = docs.get(entry.getKey());
+                if (weight == null) {
+                    it.remove();
+                } else {
+                    entry.setValue(entry.getValue() + weight);
+                }
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return documentTerms.size();
+    }
+
+    public int termCount() {
+        return postings.size();
+    }
+
+    /**
+     * 한 글자 검색어: 해당 글자를 포함한 색인어의 문서를 합집합
+     * (한 글자로만 된 구간은 그 글자 자체가 색인어)
+     */
+    private Map<Integer, Float> containing(String ch) {
+        Map<Integer, Float> result = new HashMap<>();
+        postings.forEach((term, docs) -> {
+            if (term.contains(ch)) {
+                docs.forEach((docId, weight) -> result.merge(docId, weight, Math::max));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 텍스트를 색인어로 분리
+     * 유니코드 정규화(NFKC)와 소문자 변환 후 글자/숫자 구간마다 바이그램 생성,
+     * 한 글자 구간은 그 글자를 그대로 사용
+     */
+    public static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+
+        String normalized = normalize(text);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addGrams(normalized, start, i, terms);
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 비교용 정규화 (NFKC + 소문자)
+     */
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private static void addGrams(String text, int start, int end, Set<String> terms) {
+        if (end - start == 1) {
+            terms.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 2 <= end; i++) {
+            terms.add(text.substring(i, i + 2));
+        }
+    }
+}
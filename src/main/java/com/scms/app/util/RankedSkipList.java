@@ -0,0 +1,255 @@
+package com.scms.app.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 순위 조회가 가능한 스킵 리스트 (점수 내림차순, 동점이면 ID 오름차순)
+ * - 각 레벨의 링크마다 건너뛰는 노드 수(span)를 저장하여
+ *   "N위까지 조회"와 "특정 ID의 순위 조회"를 O(log n)에 처리
+ * - 스레드 안전하지 않으므로 호출 측에서 동기화해야 함
+ */
+public class RankedSkipList {
+
+    private static final int MAX_LEVEL = 32;
+    private static final double LEVEL_PROBABILITY = 0.25;
+
+    private final Node head = new Node(0, 0L, MAX_LEVEL);
+    private final Map<Integer, Long> scores = new HashMap<>();
+    private int level = 1;
+    private int size = 0;
+
+    /**
+     * 점수 설정 (기존 항목이 있으면 교체)
+     */
+    public void put(int id, long score) {
+        Long oldScore = scores.get(id);
+        if (oldScore != null) {
+            if (oldScore == score) {
+                return;
+            }
+            delete(id, oldScore);
+        }
+        insert(id, score);
+        scores.put(id, score);
+    }
+
+    /**
+     * 점수 증감 (항목이 없으면 0점에서 시작)
+     */
+    public long add(int id, long delta) {
+        long newScore = scores.getOrDefault(id, 0L) + delta;
+        put(id, newScore);
+        return newScore;
+    }
+
+    /**
+     * 항목 제거
+     */
+    public boolean remove(int id) {
+        Long score = scores.remove(id);
+        if (score == null) {
+            return false;
+        }
+        delete(id, score);
+        return true;
+    }
+
+    /**
+     * 점수 조회 (없으면 null)
+     */
+    public Long getScore(int id) {
+        return scores.get(id);
+    }
+
+    /**
+     * 순위 조회 (1부터 시작, 없으면 0)
+     */
+    public int rankOf(int id) {
+        Long score = scores.get(id);
+        if (score == null) {
+            return 0;
+        }
+
+        int rank = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.forward[i] != null
+                    && (precedes(x.forward[i], score, id) || x.forward[i].id == id)) {
+                rank += x.span[i];
+                x = x.forward[i];
+            }
+            if (x != head && x.id == id) {
+                return rank;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 순위 구간 조회
+     *
+     * @param offset 건너뛸 항목 수 (0이면 1위부터)
+     * @param limit 최대 조회 개수
+     */
+    public List<Entry> range(int offset, int limit) {
+        List<Entry> result = new ArrayList<>(Math.max(0, Math.min(limit, size - offset)));
+        if (offset < 0 || offset >= size || limit <= 0) {
+            return result;
+        }
+
+        int rank = offset + 1;
+        Node x = nodeAt(rank);
+        while (x != null && result.size() < limit) {
+            result.add(new Entry(x.id, x.score, rank++));
+            x = x.forward[0];
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void insert(int id, long score) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = (i == level - 1) ? 0 : rank[i + 1];
+            while (x.forward[i] != null && precedes(x.forward[i], score, id)) {
+                rank[i] += x.span[i];
+                x = x.forward[i];
+            }
+            update[i] = x;
+        }
+
+        int newLevel = randomLevel();
+        if (newLevel > level) {
+            for (int i = level; i < newLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                update[i].span[i] = size;
+            }
+            level = newLevel;
+        }
+
+        Node node = new Node(id, score, newLevel);
+        for (int i = 0; i < newLevel; i++) {
+            node.forward[i] = update[i].forward[i];
+            update[i].forward[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = newLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+    }
+
+    private void delete(int id, long score) {
+        Node[] update = new Node[MAX_LEVEL];
+
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.forward[i] != null && precedes(x.forward[i], score, id)) {
+                x = x.forward[i];
+            }
+            update[i] = x;
+        }
+
+        x = x.forward[0];
+        if (x == null || x.id != id || x.score != score) {
+            return;
+        }
+
+        for (int i = 0; i < level; i++) {
+            if (update[i].forward[i] == x) {
+                update[i].span[i] += x.span[i] - 1;
+                update[i].forward[i] = x.forward[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.forward[level - 1] == null) {
+            level--;
+        }
+        size--;
+    }
+
+    private Node nodeAt(int rank) {
+        int traversed = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.forward[i] != null && traversed + x.span[i] <= rank) {
+                traversed += x.span[i];
+                x = x.forward[i];
+            }
+            if (traversed == rank) {
+                return x;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * node가 (score, id)보다 앞 순위인지 확인
+     */
+    private static boolean precedes(Node node, long score, int id) {
+        return node.score > score || (node.score == score && node.id < id);
+    }
+
+    private static int randomLevel() {
+        int newLevel = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (newLevel < MAX_LEVEL && random.nextDouble() < LEVEL_PROBABILITY) {
+            newLevel++;
+        }
+        return newLevel;
+    }
+
+    private static final class Node {
+        private final int id;
+        private final long score;
+        private final Node[] forward;
+        private final int[] span;
+
+        private Node(int id, long score, int level) {
+            this.id = id;
+            this.score = score;
+            this.forward = new Node[level];
+            this.span = new int[level];
+        }
+    }
+
+    /**
+     * 순위 조회 결과 항목
+     */
+    public static final class Entry {
+        private final int id;
+        private final long score;
+        private final int rank;
+
+        public Entry(int id, long score, int rank) {
+            this.id = id;
+            this.score = score;
+            this.rank = rank;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public long getScore() {
+            return score;
+        }
+
+        public int getRank() {
+            return rank;
+        }
+    }
+}
@@ -0,0 +1,533 @@
+package com.scms.app.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * 설문 응답 열 지향(columnar) 저장소
+ * - 응답 한 건을 행 번호(0..size-1)로 두고 질문/속성마다 원시 타입 배열 하나에 값을 저장
+ *   (단일선택: 선택지 순번 int[], 복수선택: 선택지 순번 비트마스크 long[], 척도: 원래 값 short[])
+ * - 응답자 속성(학과, 학년 등)은 사전 인코딩: 값마다 코드 번호를 붙이고 행마다 코드만 int[]로 저장
+ * - 필터는 boolean[] 마스크, 집계는 분기 없는 단순 반복문으로 처리하고 행이 많으면 구간을 나눠 병렬 계산
+ * - 적재 후에는 변경하지 않으므로 여러 스레드가 동시에 조회해도 안전
+ */
+public final class SurveyAnswerColumns {
+
+    public static final int NO_OPTION = -1;   // 단일선택 미응답
+    public static final short NO_SCALE = Short.MIN_VALUE;   // 척도 미응답 (척도 범위는 0, 음수로 시작할 수 있음)
+    public static final int MAX_MULTI_OPTIONS = 64;
+
+    private static final int PARALLEL_THRESHOLD = 50_000; // 이 행 수 이상이면 병렬 계산
+    private static final int CHUNK_SIZE = 16_384;
+
+    private final int size;
+    private final int[] userIds;                          // 0이면 익명/탈퇴 사용자
+    private final Map<String, Dimension> dimensions;      // 속성 이름 -> 사전 인코딩 열
+    private final Map<Long, int[]> singleChoices;         // 질문 ID -> 행별 선택지 순번
+    private final Map<Long, long[]> multiChoices;         // 질문 ID -> 행별 선택지 비트마스크
+    private final Map<Long, short[]> scales;              // 질문 ID -> 행별 척도 값
+
+    /**
+     * 사전 인코딩된 응답자 속성 열
+     *
+     * @param labels 코드 -> 값 (코드 0은 "미상")
+     * @param codes 행 -> 코드
+     */
+    public record Dimension(String name, String[] labels, int[] codes) {
+
+        public int cardinality() {
+            return labels.length;
+        }
+
+        /**
+         * 값의 코드 (없으면 -1)
+         */
+        public int codeOf(String label) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i].equals(label)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * 척도 질문 요약 (histogram[i] = 척도 값 minValue + i의 응답 수)
+     */
+    public record ScaleSummary(int minValue, long count, long sum, long sumSq, long[] histogram) {
+
+        public Double mean() {
+            return count > 0 ? (double) sum / count : null;
+        }
+
+        public Double stdDev() {
+            if (count == 0) {
+                return null;
+            }
+            double mean = (double) sum / count;
+            return Math.sqrt(Math.max((double) sumSq / count - mean * mean, 0));
+        }
+    }
+
+    private SurveyAnswerColumns(int size, int[] userIds, Map<String, Dimension> dimensions,
+                                Map<Long, int[]> singleChoices, Map<Long, long[]> multiChoices,
+                                Map<Long, short[]> scales) {
+        this.size = size;
+        this.userIds = userIds;
+        this.dimensions = dimensions;
+        this.singleChoices = singleChoices;
+        this.multiChoices = multiChoices;
+        this.scales = scales;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Dimension dimension(String name) {
+        return dimensions.get(name);
+    }
+
+    public boolean hasChoice(Long questionId) {
+        return singleChoices.containsKey(questionId) || multiChoices.containsKey(questionId);
+    }
+
+    public boolean hasScale(Long questionId) {
+        return scales.containsKey(questionId);
+    }
+
+    /**
+     * 행별 사용자 ID (0이면 익명/탈퇴 사용자, 프로그램 참여 여부 등 외부 조건 필터용)
+     */
+    public int userIdAt(int row) {
+        return userIds[row];
+    }
+
+    // ==================== 필터 ====================
+
+    /**
+     * 속성 값이 일치하는 행 마스크 (filters가 비어 있으면 null = 전체 행)
+     *
+     * @param filters 속성 이름 -> 값
+     */
+    public boolean[] mask(Map<String, String> filters) {
+        boolean[] mask = null;
+        for (Map.Entry<String, String> filter : filters.entrySet()) {
+            Dimension dimension = dimensions.get(filter.getKey());
+            if (dimension == null) {
+                throw new IllegalArgumentException("지원하지 않는 필터입니다: " + filter.getKey());
+            }
+            int code = dimension.codeOf(filter.getValue());
+            if (mask == null) {
+                mask = new boolean[size];
+                Arrays.fill(mask, true);
+            }
+            int[] codes = dimension.codes();
+            for (int i = 0; i < size; i++) {
+                mask[i] &= codes[i] == code;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 마스크에서 지정한 사용자의 응답만 남김 (프로그램 참여자 필터 등)
+     *
+     * @param mask 기존 마스크 (null = 전체 행)
+     */
+    public boolean[] restrictToUsers(boolean[] mask, Set<Integer> allowedUserIds) {
+        boolean[] result = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = (mask == null || mask[i]) && userIds[i] != 0 && allowedUserIds.contains(userIds[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 마스크에 포함된 행 수
+     */
+    public int count(boolean[] mask) {
+        if (mask == null) {
+            return size;
+        }
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            count += mask[i] ? 1 : 0;
+        }
+        return count;
+    }
+
+    // ==================== 분포 ====================
+
+    /**
+     * 질문에 답한 행 수 (복수선택은 하나 이상 선택한 행)
+     */
+    public int answered(Long questionId, boolean[] mask) {
+        int[] single = singleChoices.get(questionId);
+        long[] multi = multiChoices.get(questionId);
+        short[] values = scales.get(questionId);
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (mask != null && !mask[i]) {
+                continue;
+            }
+            boolean answered = single != null ? single[i] >= 0
+                    : multi != null ? multi[i] != 0
+                    : values != null && values[i] != NO_SCALE;
+            count += answered ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * 선택지 순번별 응답 수
+     *
+     * @param optionCount 질문의 선택지 수
+     */
+    public long[] optionCounts(Long questionId, int optionCount, boolean[] mask) {
+        long[][] table = crossTab(questionId, optionCount, null, mask);
+        return table[0];
+    }
+
+    /**
+     * 척도 요약 (응답 수, 합계, 제곱합, 값별 분포)
+     *
+     * @param minValue 척도 최솟값
+     * @param maxValue 척도 최댓값 (범위 밖 값은 집계하지 않음)
+     */
+    public ScaleSummary scaleSummary(Long questionId, int minValue, int maxValue, boolean[] mask) {
+        ScaleSummary[] byGroup = scaleSummaryBy(questionId, minValue, maxValue, null, mask);
+        return byGroup[0];
+    }
+
+    // ==================== 교차표 ====================
+
+    /**
+     * 속성 값 x 선택지 교차표
+     *
+     * @param dimensionName 행으로 사용할 속성 (null이면 전체 한 행)
+     * @return [속성 코드][선택지 순번] 응답 수
+     */
+    public long[][] crossTab(Long questionId, int optionCount, String dimensionName, boolean[] mask) {
+        int[] groups = groupCodes(dimensionName);
+        int groupCount = groupCount(dimensionName);
+
+        int[] single = singleChoices.get(questionId);
+        long[] multi = multiChoices.get(questionId);
+        if (single == null && multi == null) {
+            throw new IllegalArgumentException("객관식 질문이 아닙니다: ID " + questionId);
+        }
+
+        return reduce((from, to) -> {
+            long[][] counts = new long[groupCount][optionCount];
+            for (int i = from; i < to; i++) {
+                if (mask != null && !mask[i]) {
+                    continue;
+                }
+                long[] row = counts[groups == null ? 0 : groups[i]];
+                if (single != null) {
+                    int option = single[i];
+                    if (option >= 0) {
+                        row[option]++;
+                    }
+                } else {
+                    long bits = multi[i];
+                    while (bits != 0) {
+                        row[Long.numberOfTrailingZeros(bits)]++;
+                        bits &= bits - 1;
+                    }
+                }
+            }
+            return counts;
+        }, SurveyAnswerColumns::sum);
+    }
+
+    /**
+     * 속성 값별 척도 요약 (그룹별 평균/분포)
+     *
+     * @return [속성 코드] 척도 요약 (dimensionName이 null이면 길이 1)
+     */
+    public ScaleSummary[] scaleSummaryBy(Long questionId, int minValue, int maxValue,
+                                         String dimensionName, boolean[] mask) {
+        int[] groups = groupCodes(dimensionName);
+        int groupCount = groupCount(dimensionName);
+
+        short[] values = scales.get(questionId);
+        if (values == null) {
+            throw new IllegalArgumentException("척도형 질문이 아닙니다: ID " + questionId);
+        }
+        if (minValue <= NO_SCALE || maxValue > Short.MAX_VALUE || minValue > maxValue) {
+            throw new IllegalArgumentException("잘못된 척도 범위입니다: " + minValue + " ~ " + maxValue);
+        }
+        int width = maxValue - minValue + 1;
+
+        // [그룹][값] 분포만 누적하고 합계/제곱합은 분포로부터 계산
+        long[][] histograms = reduce((from, to) -> {
+            long[][] counts = new long[groupCount][width];
+            for (int i = from; i < to; i++) {
+                if (mask != null && !mask[i]) {
+                    continue;
+                }
+                short value = values[i];
+                if (value >= minValue && value <= maxValue) {
+                    counts[groups == null ? 0 : groups[i]][value - minValue]++;
+                }
+            }
+            return counts;
+        }, SurveyAnswerColumns::sum);
+
+        ScaleSummary[] summaries = new ScaleSummary[groupCount];
+        for (int g = 0; g < groupCount; g++) {
+            long count = 0;
+            long sum = 0;
+            long sumSq = 0;
+            for (int i = 0; i < width; i++) {
+                long n = histograms[g][i];
+                long v = minValue + i;
+                count += n;
+                sum += n * v;
+                sumSq += n * v * v;
+            }
+            summaries[g] = new ScaleSummary(minValue, count, sum, sumSq, histograms[g]);
+        }
+        return summaries;
+    }
+
+    private int[] groupCodes(String dimensionName) {
+        if (dimensionName == null) {
+            return null;
+        }
+        Dimension dimension = dimensions.get(dimensionName);
+        if (dimension == null) {
+            throw new IllegalArgumentException("지원하지 않는 교차 기준입니다: " + dimensionName);
+        }
+        return dimension.codes();
+    }
+
+    private int groupCount(String dimensionName) {
+        return dimensionName == null ? 1 : dimensions.get(dimensionName).cardinality();
+    }
+
+    // ==================== 병렬 계산 ====================
+
+    private interface RangeKernel {
+        long[][] apply(int from, int to);
+    }
+
+    private interface Merger {
+        long[][] merge(long[][] a, long[][] b);
+    }
+
+    /**
+     * 행 구간별로 kernel을 실행하고 결과를 합침 (행이 많으면 ForkJoin 공용 풀에서 병렬 실행)
+     */
+    private long[][] reduce(RangeKernel kernel, Merger merger) {
+        if (size < PARALLEL_THRESHOLD) {
+            return kernel.apply(0, size);
+        }
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(c -> kernel.apply(c * CHUNK_SIZE, Math.min(size, (c + 1) * CHUNK_SIZE)))
+                .reduce(merger::merge)
+                .orElseGet(() -> kernel.apply(0, 0));
+    }
+
+    private static long[][] sum(long[][] a, long[][] b) {
+        long[][] result = new long[a.length][];
+        for (int g = 0; g < a.length; g++) {
+            long[] x = a[g];
+            long[] y = b[g];
+            long[] row = new long[x.length];
+            for (int j = 0; j < x.length; j++) {
+                row[j] = x[j] + y[j];
+            }
+            result[g] = row;
+        }
+        return result;
+    }
+
+    // ==================== 적재 ====================
+
+    /**
+     * 저장소 생성기 (응답 행을 먼저 모두 추가한 뒤 답변을 추가)
+     */
+    public static final class Builder {
+
+        private final List<Long> responseIds = new ArrayList<>();
+        private final List<Integer> userIdList = new ArrayList<>();
+        private final List<String> dimensionNames;
+        private final List<List<String>> dimensionValues = new ArrayList<>();
+
+        private final Map<Long, Map<Long, Integer>> choiceOrdinals = new HashMap<>(); // 질문 -> 선택지 ID -> 순번
+        private final Map<Long, Boolean> multiple = new HashMap<>();
+        private final List<Long> scaleQuestions = new ArrayList<>();
+
+        private long[] sortedResponseIds;
+        private Map<Long, int[]> singleChoices;
+        private Map<Long, long[]> multiChoices;
+        private Map<Long, short[]> scales;
+
+        /**
+         * @param dimensionNames 응답자 속성 이름 목록 (예: department, grade)
+         */
+        public Builder(List<String> dimensionNames) {
+            this.dimensionNames = List.copyOf(dimensionNames);
+            for (int i = 0; i < dimensionNames.size(); i++) {
+                dimensionValues.add(new ArrayList<>());
+            }
+        }
+
+        /**
+         * 객관식 질문 등록
+         *
+         * @param optionIds 선택지 ID (표시 순서, 순번은 이 목록의 위치)
+         */
+        public Builder choiceQuestion(Long questionId, List<Long> optionIds, boolean multipleChoice) {
+            Map<Long, Integer> ordinals = new HashMap<>();
+            for (int i = 0; i < optionIds.size(); i++) {
+                if (multipleChoice && i >= MAX_MULTI_OPTIONS) {
+                    break;
+                }
+                ordinals.put(optionIds.get(i), i);
+            }
+            choiceOrdinals.put(questionId, ordinals);
+            multiple.put(questionId, multipleChoice);
+            return this;
+        }
+
+        public Builder scaleQuestion(Long questionId) {
+            scaleQuestions.add(questionId);
+            return this;
+        }
+
+        /**
+         * 응답 행 추가 (응답 ID 오름차순으로 추가해야 함)
+         *
+         * @param userId 사용자 ID (익명이면 null)
+         * @param attributes 속성 값 (dimensionNames 순서, null은 "미상")
+         */
+        public void addResponse(long responseId, Integer userId, String... attributes) {
+            responseIds.add(responseId);
+            userIdList.add(userId != null ? userId : 0);
+            for (int d = 0; d < dimensionNames.size(); d++) {
+                String value = d < attributes.length ? attributes[d] : null;
+                dimensionValues.get(d).add(value);
+            }
+        }
+
+        /**
+         * 답변 추가 (응답 행을 모두 추가한 뒤 호출, 알 수 없는 응답/질문/선택지는 무시)
+         */
+        public void addAnswer(long responseId, Long questionId, Long optionId, Integer answerNumber) {
+            if (sortedResponseIds == null) {
+                allocate();
+            }
+            int row = Arrays.binarySearch(sortedResponseIds, responseId);
+            if (row < 0) {
+                return;
+            }
+
+            Map<Long, Integer> ordinals = choiceOrdinals.get(questionId);
+            if (ordinals != null && optionId != null) {
+                Integer ordinal = ordinals.get(optionId);
+                if (ordinal == null) {
+                    return;
+                }
+                if (Boolean.TRUE.equals(multiple.get(questionId))) {
+                    multiChoices.get(questionId)[row] |= 1L << ordinal;
+                } else {
+                    singleChoices.get(questionId)[row] = ordinal;
+                }
+                return;
+            }
+
+            short[] values = scales.get(questionId);
+            if (values != null && answerNumber != null
+                    && answerNumber > NO_SCALE && answerNumber <= Short.MAX_VALUE) {
+                values[row] = answerNumber.shortValue();
+            }
+        }
+
+        public SurveyAnswerColumns build() {
+            if (sortedResponseIds == null) {
+                allocate();
+            }
+            int size = sortedResponseIds.length;
+
+            int[] userIds = new int[size];
+            for (int i = 0; i < size; i++) {
+                userIds[i] = userIdList.get(i);
+            }
+
+            Map<String, Dimension> dimensions = new LinkedHashMap<>();
+            for (int d = 0; d < dimensionNames.size(); d++) {
+                dimensions.put(dimensionNames.get(d), encode(dimensionNames.get(d), dimensionValues.get(d)));
+            }
+
+            return new SurveyAnswerColumns(size, userIds, dimensions, singleChoices, multiChoices, scales);
+        }
+
+        private void allocate() {
+            int size = responseIds.size();
+            sortedResponseIds = new long[size];
+            for (int i = 0; i < size; i++) {
+                sortedResponseIds[i] = responseIds.get(i);
+                if (i > 0 && sortedResponseIds[i] <= sortedResponseIds[i - 1]) {
+                    throw new IllegalStateException("응답 ID 오름차순으로 추가해야 합니다.");
+                }
+            }
+
+            singleChoices = new HashMap<>();
+            multiChoices = new HashMap<>();
+            choiceOrdinals.forEach((questionId, ordinals) -> {
+                if (Boolean.TRUE.equals(multiple.get(questionId))) {
+                    multiChoices.put(questionId, new long[size]);
+                } else {
+                    int[] column = new int[size];
+                    Arrays.fill(column, NO_OPTION);
+                    singleChoices.put(questionId, column);
+                }
+            });
+            scales = new HashMap<>();
+            for (Long questionId : scaleQuestions) {
+                short[] column = new short[size];
+                Arrays.fill(column, NO_SCALE);
+                scales.put(questionId, column);
+            }
+        }
+
+        /**
+         * 값 목록을 사전 인코딩 (코드 0 = 미상, 나머지는 값의 정렬 순서)
+         */
+        private static Dimension encode(String name, List<String> values) {
+            List<String> distinct = values.stream()
+                    .filter(v -> v != null && !v.isBlank())
+                    .distinct()
+                    .sorted()
+                    .toList();
+
+            String[] labels = new String[distinct.size() + 1];
+            labels[0] = "미상";
+            Map<String, Integer> codeByValue = new HashMap<>();
+            for (int i = 0; i < distinct.size(); i++) {
+                labels[i + 1] = distinct.get(i);
+                codeByValue.put(distinct.get(i), i + 1);
+            }
+
+            int[] codes = new int[values.size()];
+            for (int i = 0; i < codes.length; i++) {
+                String value = values.get(i);
+                codes[i] = value == null ? 0 : codeByValue.getOrDefault(value, 0);
+            }
+            return new Dimension(name, labels, codes);
+        }
+    }
+}
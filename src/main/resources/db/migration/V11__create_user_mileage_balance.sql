@@ -0,0 +1,19 @@
+-- ============================================
+-- V11: 사용자별 마일리지 잔액 요약 테이블
+-- mileage_history(원장)의 사용자별 합계를 유지하여 랭킹/총 마일리지 조회 시 전체 집계를 피함
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS user_mileage_balance (
+    user_id INT PRIMARY KEY COMMENT '사용자 ID',
+    total_points BIGINT NOT NULL DEFAULT 0 COMMENT '총 마일리지',
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+    INDEX idx_total_points (total_points),
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자별 마일리지 잔액';
+
+-- 기존 원장으로부터 초기 잔액 적재
+INSERT INTO user_mileage_balance (user_id, total_points, updated_at)
+SELECT user_id, SUM(points), NOW()
+FROM mileage_history
+GROUP BY user_id
+ON DUPLICATE KEY UPDATE total_points = VALUES(total_points);
@@ -0,0 +1,29 @@
+-- ============================================
+-- V12: 사용자별 마일리지 잔액 버킷 테이블
+-- 활동 타입별 / 월별 합계와 건수를 유지하여 마일리지 통계 조회 시 원장 집계를 피함
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS user_mileage_balance_bucket (
+    bucket_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '버킷 ID',
+    user_id INT NOT NULL COMMENT '사용자 ID',
+    bucket_type VARCHAR(20) NOT NULL COMMENT '버킷 구분 (ACTIVITY, MONTH)',
+    bucket_key VARCHAR(50) NOT NULL COMMENT '활동 타입 또는 연월 (yyyy-MM)',
+    total_points BIGINT NOT NULL DEFAULT 0 COMMENT '합계 포인트',
+    entry_count BIGINT NOT NULL DEFAULT 0 COMMENT '내역 건수',
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+    UNIQUE KEY uk_user_bucket (user_id, bucket_type, bucket_key),
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자별 마일리지 잔액 버킷';
+
+-- 기존 원장으로부터 초기 버킷 적재
+INSERT INTO user_mileage_balance_bucket (user_id, bucket_type, bucket_key, total_points, entry_count, updated_at)
+SELECT user_id, 'ACTIVITY', activity_type, SUM(points), COUNT(*), NOW()
+FROM mileage_history
+GROUP BY user_id, activity_type
+ON DUPLICATE KEY UPDATE total_points = VALUES(total_points), entry_count = VALUES(entry_count);
+
+INSERT INTO user_mileage_balance_bucket (user_id, bucket_type, bucket_key, total_points, entry_count, updated_at)
+SELECT user_id, 'MONTH', CONCAT(YEAR(earned_at), '-', LPAD(MONTH(earned_at), 2, '0')), SUM(points), COUNT(*), NOW()
+FROM mileage_history
+GROUP BY user_id, YEAR(earned_at), MONTH(earned_at)
+ON DUPLICATE KEY UPDATE total_points = VALUES(total_points), entry_count = VALUES(entry_count);
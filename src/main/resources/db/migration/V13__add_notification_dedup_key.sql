@@ -0,0 +1,8 @@
+-- ============================================
+-- V13: 예약 알림 중복 발송 방지 키
+-- (알림 타입, 프로그램, 사용자, 발송일) 단위로 한 번만 생성되도록 UNIQUE 제약 추가
+-- ============================================
+
+ALTER TABLE notifications
+    ADD COLUMN dedup_key VARCHAR(100) NULL COMMENT '중복 발송 방지 키 (타입:프로그램ID:사용자ID:발송일)',
+    ADD UNIQUE KEY uk_notification_dedup_key (dedup_key);
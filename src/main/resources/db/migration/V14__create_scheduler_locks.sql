@@ -0,0 +1,13 @@
+-- ============================================
+-- V14: 스케줄러 분산 잠금 테이블
+-- 여러 서버에서 같은 예약 작업이 중복 실행되지 않도록 임대(lease) 방식 잠금 관리
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS scheduler_locks (
+    lock_name VARCHAR(150) PRIMARY KEY COMMENT '잠금 이름 (작업명 또는 작업명:샤드 구간)',
+    locked_by VARCHAR(100) NULL COMMENT '잠금 보유 노드',
+    locked_at DATETIME(3) NULL COMMENT '잠금 획득 일시',
+    locked_until DATETIME(3) NOT NULL COMMENT '임대 만료 일시',
+    fencing_token BIGINT NOT NULL DEFAULT 0 COMMENT '획득할 때마다 증가하는 토큰',
+    last_completed_at DATETIME(3) NULL COMMENT '마지막 작업 완료 일시'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='스케줄러 분산 잠금';
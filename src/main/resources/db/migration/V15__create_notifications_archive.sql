@@ -0,0 +1,20 @@
+-- ============================================
+-- V15: 오래된 알림 보관 테이블
+-- Soft Delete된 지 오래된 알림을 청크 단위로 옮겨 notifications 테이블 크기를 유지
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS notifications_archive (
+    notification_id INT PRIMARY KEY COMMENT '원본 알림 ID',
+    user_id INT NOT NULL COMMENT '수신 사용자 ID',
+    title VARCHAR(200) NOT NULL COMMENT '제목',
+    content TEXT NOT NULL COMMENT '내용',
+    type VARCHAR(50) NOT NULL COMMENT '알림 유형',
+    is_read BOOLEAN NOT NULL DEFAULT FALSE COMMENT '읽음 여부',
+    related_url VARCHAR(500) NULL COMMENT '관련 URL',
+    created_at DATETIME NOT NULL COMMENT '생성 일시',
+    read_at DATETIME NULL COMMENT '읽은 일시',
+    deleted_at DATETIME NULL COMMENT '삭제 일시',
+    archived_at DATETIME NOT NULL COMMENT '보관 일시',
+    INDEX idx_archive_user_id (user_id),
+    INDEX idx_archive_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='보관된 알림';
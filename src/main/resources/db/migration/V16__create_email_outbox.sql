@@ -0,0 +1,22 @@
+-- ============================================
+-- V16: 이메일 발송 대기열 (outbox)
+-- 업무 트랜잭션 안에서 저장하고, 커밋 후 발송 작업자가 비동기로 SMTP 전송
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS email_outbox (
+    outbox_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    to_email VARCHAR(255) NOT NULL COMMENT '수신자 이메일',
+    subject VARCHAR(255) NOT NULL COMMENT '제목',
+    template_name VARCHAR(100) NOT NULL COMMENT '템플릿 이름',
+    template_variables TEXT NULL COMMENT '템플릿 변수 (JSON, 발송 완료 후 삭제)',
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT '상태 (PENDING, SENDING, SENT, DEAD)',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '발송 시도 횟수',
+    next_attempt_at DATETIME NOT NULL COMMENT '다음 발송 시도 일시',
+    claim_token VARCHAR(36) NULL COMMENT '발송 작업자 선점 토큰',
+    locked_until DATETIME NULL COMMENT '선점 만료 일시',
+    last_error VARCHAR(1000) NULL COMMENT '마지막 오류',
+    created_at DATETIME NOT NULL COMMENT '생성 일시',
+    sent_at DATETIME NULL COMMENT '발송 완료 일시',
+    INDEX idx_outbox_status_next (status, next_attempt_at),
+    INDEX idx_outbox_claim_token (claim_token)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='이메일 발송 대기열';
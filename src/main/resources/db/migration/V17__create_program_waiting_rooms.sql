@@ -0,0 +1,14 @@
+-- ============================================
+-- V17: 프로그램 신청 대기실 설정
+-- 인기 프로그램의 신청 요청을 대기열에 넣고 정해진 속도로만 처리
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS program_waiting_rooms (
+    program_id INT PRIMARY KEY COMMENT '프로그램 ID',
+    enabled BOOLEAN NOT NULL DEFAULT TRUE COMMENT '대기실 사용 여부',
+    admission_per_second INT NOT NULL COMMENT '초당 신청 처리 수 (서버당)',
+    max_queue_size INT NOT NULL COMMENT '대기열 최대 길이 (서버당)',
+    updated_at DATETIME NOT NULL COMMENT '수정 일시',
+    CONSTRAINT fk_waiting_room_program FOREIGN KEY (program_id)
+        REFERENCES programs(program_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='프로그램 신청 대기실 설정';
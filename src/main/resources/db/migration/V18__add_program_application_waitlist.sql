@@ -0,0 +1,8 @@
+-- ============================================
+-- V18: 프로그램 신청 대기자 명단
+-- 정원 마감 후 신청은 WAITLISTED 상태와 순번을 받고, 좌석이 반납되면 순번대로 승격
+-- ============================================
+
+ALTER TABLE program_applications
+    ADD COLUMN waitlist_position BIGINT NULL COMMENT '대기자 순번 (작을수록 먼저 승격)' AFTER status,
+    ADD INDEX idx_application_waitlist (program_id, status, waitlist_position);
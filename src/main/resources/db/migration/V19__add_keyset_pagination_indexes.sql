@@ -0,0 +1,18 @@
+-- ============================================
+-- V19: 커서(keyset) 페이지네이션 인덱스
+-- 목록 조회를 (정렬 시각, PK) 역순 인덱스 탐색으로 처리하여 OFFSET 스캔과 애플리케이션 측 LIMIT 제거
+-- ============================================
+
+ALTER TABLE programs
+    ADD INDEX idx_programs_latest (deleted_at, created_at, program_id),
+    ADD INDEX idx_programs_hits (deleted_at, hits, program_id);
+
+ALTER TABLE notifications
+    ADD INDEX idx_notification_user_feed (user_id, deleted_at, created_at, notification_id);
+
+ALTER TABLE mileage_history
+    ADD INDEX idx_mileage_history_user_earned (user_id, earned_at, history_id);
+
+ALTER TABLE program_applications
+    ADD INDEX idx_application_user_applied (user_id, deleted_at, applied_at, application_id),
+    ADD INDEX idx_application_program_applied (program_id, deleted_at, applied_at, application_id);
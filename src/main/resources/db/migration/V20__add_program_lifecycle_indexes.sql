@@ -0,0 +1,9 @@
+-- ============================================
+-- V20: 프로그램 상태 전환 인덱스
+-- 상태 전환 엔진의 전환 시각 조회, 상태 일치 목록 조회, 알림 스케줄러의 시각 범위 조회용
+-- ============================================
+
+ALTER TABLE programs
+    ADD INDEX idx_programs_status_start (status, application_start_date),
+    ADD INDEX idx_programs_status_end (status, application_end_date),
+    ADD INDEX idx_programs_program_start (program_start_date);
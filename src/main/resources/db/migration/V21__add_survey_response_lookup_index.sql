@@ -0,0 +1,7 @@
+-- ============================================
+-- V21: 설문 응답 조회 인덱스
+-- 응답 제출 시 중복 응답 확인(설문 + 사용자)용
+-- ============================================
+
+ALTER TABLE survey_responses
+    ADD INDEX idx_survey_response_survey_user (survey_id, user_id);
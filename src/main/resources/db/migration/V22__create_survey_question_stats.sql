@@ -0,0 +1,49 @@
+-- ============================================
+-- V22: 설문 질문별 집계 테이블
+-- 응답 제출 시 증분으로 가산하여 통계 화면이 원본 답변을 집계하지 않도록 함
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS survey_question_stats (
+    stat_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '집계 ID',
+    survey_id BIGINT NOT NULL COMMENT '설문 ID',
+    question_id BIGINT NOT NULL COMMENT '질문 ID',
+    bucket_type VARCHAR(20) NOT NULL COMMENT '버킷 구분 (TOTAL, OPTION, SCALE)',
+    bucket_key BIGINT NOT NULL COMMENT 'TOTAL: 0, OPTION: 선택지 ID, SCALE: 척도 값',
+    answer_count BIGINT NOT NULL DEFAULT 0 COMMENT '답변 수',
+    value_sum BIGINT NOT NULL DEFAULT 0 COMMENT '척도 합계',
+    value_sum_sq BIGINT NOT NULL DEFAULT 0 COMMENT '척도 제곱합',
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+    UNIQUE KEY uk_survey_question_stat (question_id, bucket_type, bucket_key),
+    INDEX idx_survey_question_stat_survey (survey_id),
+    FOREIGN KEY (question_id) REFERENCES survey_questions(question_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='설문 질문별 집계';
+
+-- 주관식 답변 최신순 페이지 조회용
+ALTER TABLE survey_answers
+    ADD INDEX idx_survey_answer_question_feed (question_id, created_at, answer_id);
+
+-- 기존 답변으로부터 초기 집계 적재
+INSERT INTO survey_question_stats
+    (survey_id, question_id, bucket_type, bucket_key, answer_count, value_sum, value_sum_sq, updated_at)
+SELECT q.survey_id, a.question_id, 'TOTAL', 0, COUNT(*),
+       COALESCE(SUM(a.answer_number), 0), COALESCE(SUM(a.answer_number * a.answer_number), 0), NOW()
+FROM survey_answers a
+JOIN survey_questions q ON q.question_id = a.question_id
+GROUP BY q.survey_id, a.question_id;
+
+INSERT INTO survey_question_stats
+    (survey_id, question_id, bucket_type, bucket_key, answer_count, value_sum, value_sum_sq, updated_at)
+SELECT q.survey_id, a.question_id, 'OPTION', a.option_id, COUNT(*), 0, 0, NOW()
+FROM survey_answers a
+JOIN survey_questions q ON q.question_id = a.question_id
+WHERE a.option_id IS NOT NULL
+GROUP BY q.survey_id, a.question_id, a.option_id;
+
+INSERT INTO survey_question_stats
+    (survey_id, question_id, bucket_type, bucket_key, answer_count, value_sum, value_sum_sq, updated_at)
+SELECT q.survey_id, a.question_id, 'SCALE', a.answer_number, COUNT(*),
+       SUM(a.answer_number), SUM(a.answer_number * a.answer_number), NOW()
+FROM survey_answers a
+JOIN survey_questions q ON q.question_id = a.question_id
+WHERE a.answer_number IS NOT NULL
+GROUP BY q.survey_id, a.question_id, a.answer_number;
@@ -0,0 +1,451 @@
+package com.scms.app.scheduler;
+
+import com.scms.app.model.EmailOutbox;
+import com.scms.app.model.EmailOutboxStatus;
+import com.scms.app.service.EmailOutboxService;
+import com.scms.app.service.EmailTemplateRenderer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이메일 발송 대기열 처리기 테스트
+ * - SMTP는 JavaMailSender mock, 대기열 테이블은 메모리의 FakeOutbox로 대신함
+ *   (선점/결과 기록 쿼리와 같은 상태 전환을 흉내 냄)
+ */
+public class EmailOutboxDispatcherTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BACKOFF_INITIAL_SECONDS = 30;
+    private static final long CLAIM_TIMEOUT_SECONDS = 300;
+
+    private FakeOutbox outbox;
+    private JavaMailSender mailSender;
+    private EmailOutboxService outboxService;
+    private EmailOutboxDispatcher dispatcher;
+    private final List<MimeMessage> createdMessages = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        outbox = new FakeOutbox();
+
+        outboxService = mock(EmailOutboxService.class);
+        when(outboxService.claimDue(anyInt(), any())).thenAnswer(invocation ->
+                outbox.claimDue(invocation.getArgument(0), invocation.getArgument(1)));
+        when(outboxService.releaseExpiredClaims()).thenAnswer(invocation -> outbox.releaseExpiredClaims());
+        doAnswer(invocation -> {
+            outbox.markSent(invocation.getArgument(0));
+            return null;
+        }).when(outboxService).markSent(any());
+        doAnswer(invocation -> {
+            outbox.markRetry(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+            return null;
+        }).when(outboxService).markRetry(any(), any(), any());
+        doAnswer(invocation -> {
+            outbox.markDead(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(outboxService).markDead(any(), any());
+        when(outboxService.readVariables(any())).thenReturn(Map.of("name", "홍길동"));
+
+        mailSender = mock(JavaMailSender.class);
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> {
+            MimeMessage message = new MimeMessage(Session.getInstance(new Properties()));
+            createdMessages.add(message);
+            return message;
+        });
+
+        EmailTemplateRenderer templateRenderer = mock(EmailTemplateRenderer.class);
+        when(templateRenderer.render(anyString(), anyMap())).thenReturn("<p>안내</p>");
+
+        dispatcher = new EmailOutboxDispatcher(outboxService, mailSender, templateRenderer, mock(ClusterJobRunner.class));
+        ReflectionTestUtils.setField(dispatcher, "fromEmail", "noreply@scms.test");
+        ReflectionTestUtils.setField(dispatcher, "workers", 2);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 10);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(dispatcher, "backoffInitialSeconds", BACKOFF_INITIAL_SECONDS);
+        ReflectionTestUtils.setField(dispatcher, "backoffMaxSeconds", 3600L);
+        ReflectionTestUtils.setField(dispatcher, "claimTimeoutSeconds", CLAIM_TIMEOUT_SECONDS);
+        ReflectionTestUtils.setField(dispatcher, "shutdownWaitSeconds", 5L);
+        dispatcher.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void sendsDueMailInOneSmtpBatch() {
+        long first = outbox.addPending("a@scms.test");
+        long second = outbox.addPending("b@scms.test");
+        long third = outbox.addPending("c@scms.test");
+
+        pollAndAwait(3);
+
+        verify(mailSender, times(1)).send(any(MimeMessage[].class));
+        for (long id : List.of(first, second, third)) {
+            assertEquals(EmailOutboxStatus.SENT, outbox.get(id).getStatus());
+            assertEquals(1, outbox.get(id).getAttempts());
+        }
+    }
+
+    @Test
+    public void transientFailureIsRetriedWithExponentialBackoff() {
+        doThrow(new MailSendException("SMTP 연결 실패")).when(mailSender).send(any(MimeMessage[].class));
+        long id = outbox.addPending("a@scms.test");
+
+        // 1차 실패: 초기값(30초) + 최대 20% 지터
+        LocalDateTime before = LocalDateTime.now();
+        pollAndAwait(1);
+        EmailOutbox row = outbox.get(id);
+        assertEquals(EmailOutboxStatus.PENDING, row.getStatus());
+        assertEquals(1, row.getAttempts());
+        assertNull(row.getClaimToken());
+        assertTrue(row.getLastError().contains("SMTP 연결 실패"), row.getLastError());
+        assertBackoff(before, row.getNextAttemptAt(), BACKOFF_INITIAL_SECONDS);
+
+        // 재시도 시각이 되기 전에는 선점되지 않음
+        pollAndAssertUntouched(id);
+        verify(mailSender, times(1)).send(any(MimeMessage[].class));
+
+        // 2차 실패: 대기 시간 두 배
+        outbox.makeDue(id);
+        before = LocalDateTime.now();
+        pollAndAwait(2);
+        row = outbox.get(id);
+        assertEquals(EmailOutboxStatus.PENDING, row.getStatus());
+        assertEquals(2, row.getAttempts());
+        assertBackoff(before, row.getNextAttemptAt(), BACKOFF_INITIAL_SECONDS * 2);
+    }
+
+    @Test
+    public void deadLettersAfterMaxAttempts() {
+        doThrow(new MailSendException("SMTP 연결 실패")).when(mailSender).send(any(MimeMessage[].class));
+        long id = outbox.addPending("a@scms.test");
+
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            outbox.makeDue(id);
+            pollAndAwait(attempt);
+        }
+
+        EmailOutbox row = outbox.get(id);
+        assertEquals(EmailOutboxStatus.DEAD, row.getStatus());
+        assertEquals(MAX_ATTEMPTS, row.getAttempts());
+        assertTrue(row.getLastError().contains("SMTP 연결 실패"), row.getLastError());
+        verify(outboxService, times(MAX_ATTEMPTS - 1)).markRetry(any(), any(), any());
+        verify(outboxService, times(1)).markDead(any(), any());
+
+        // 발송 포기된 메일은 다시 선점되지 않음
+        outbox.makeDue(id);
+        pollAndAssertUntouched(id);
+        assertEquals(EmailOutboxStatus.DEAD, outbox.get(id).getStatus());
+        verify(mailSender, times(MAX_ATTEMPTS)).send(any(MimeMessage[].class));
+    }
+
+    @Test
+    public void permanentFailureDeadLettersOnlyThatMessage() {
+        long first = outbox.addPending("a@scms.test");
+        long rejected = outbox.addPending("b@scms.test");
+        long third = outbox.addPending("c@scms.test");
+        doAnswer(invocation -> {
+            throw new MailSendException(Map.of(createdMessages.get(1), new AddressException("550 수신자 없음")));
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        pollAndAwait(3);
+
+        assertEquals(EmailOutboxStatus.SENT, outbox.get(first).getStatus());
+        assertEquals(EmailOutboxStatus.SENT, outbox.get(third).getStatus());
+        assertEquals(EmailOutboxStatus.DEAD, outbox.get(rejected).getStatus());
+        assertEquals(1, outbox.get(rejected).getAttempts());
+        verify(outboxService, never()).markRetry(any(), any(), any());
+    }
+
+    @Test
+    public void partialTransientFailureRetriesOnlyThatMessage() {
+        long first = outbox.addPending("a@scms.test");
+        long failed = outbox.addPending("b@scms.test");
+        doAnswer(invocation -> {
+            throw new MailSendException(Map.of(createdMessages.get(1), new MessagingException("451 잠시 후 재시도")));
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        pollAndAwait(2);
+
+        assertEquals(EmailOutboxStatus.SENT, outbox.get(first).getStatus());
+        assertEquals(EmailOutboxStatus.PENDING, outbox.get(failed).getStatus());
+        assertEquals(1, outbox.get(failed).getAttempts());
+    }
+
+    @Test
+    public void reclaimsRowWhoseClaimExpired() {
+        // 발송 중 종료된 서버가 선점한 채 남긴 행과, 다른 서버가 아직 발송 중인 행
+        long abandoned = outbox.addClaimed("a@scms.test", LocalDateTime.now().minusMinutes(1));
+        long inFlight = outbox.addClaimed("b@scms.test", LocalDateTime.now().plusMinutes(5));
+
+        LocalDateTime before = LocalDateTime.now();
+        pollAndAwait(1);
+
+        assertEquals(EmailOutboxStatus.SENT, outbox.get(abandoned).getStatus());
+        assertEquals(EmailOutboxStatus.SENDING, outbox.get(inFlight).getStatus());
+        assertEquals(1, createdMessages.size());
+
+        // 새 선점의 만료 시각은 지금 + claim-timeout
+        LocalDateTime lockedUntil = outbox.lastLockedUntil();
+        assertTrue(!lockedUntil.isBefore(before.plusSeconds(CLAIM_TIMEOUT_SECONDS)), lockedUntil.toString());
+        assertTrue(!lockedUntil.isAfter(LocalDateTime.now().plusSeconds(CLAIM_TIMEOUT_SECONDS)), lockedUntil.toString());
+
+        // 다른 서버가 발송 중인 행은 다음 주기에도 그대로 (선점 정보 유지, 시도 횟수 증가 없음)
+        pollAndAssertUntouched(inFlight);
+        assertEquals("crashed-worker", outbox.get(inFlight).getClaimToken());
+        assertEquals(0, outbox.get(inFlight).getAttempts());
+    }
+
+    /**
+     * 주기 처리 1회 실행 후 결과 기록(발송 완료/재시도/포기)이 누적 expectedResults건이 될 때까지 대기
+     */
+    private void pollAndAwait(int expectedResults) {
+        dispatcher.scheduledPoll();
+        outbox.awaitResults(expectedResults);
+    }
+
+    /**
+     * 주기 처리 1회 실행 후 해당 행이 선점/발송되지 않았는지 확인
+     * 누적 결과 수로는 구분할 수 없으므로, 선점 쿼리가 실제로 실행된 뒤 비동기 발송이 끝날 시간만큼 기다리고
+     * 행의 상태/시도 횟수/선점 정보와 생성된 메일 수가 그대로인지 확인
+     */
+    private void pollAndAssertUntouched(long id) {
+        EmailOutbox before = outbox.get(id);
+        int results = outbox.resultCount();
+        int claims = outbox.claimCount();
+        int messages = createdMessages.size();
+
+        dispatcher.scheduledPoll();
+        assertTrue(outbox.claimCount() > claims, "선점 쿼리가 실행되지 않음");
+        try {
+            Thread.sleep(200);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail("대기 중 인터럽트");
+        }
+
+        EmailOutbox after = outbox.get(id);
+        assertEquals(before.getStatus(), after.getStatus());
+        assertEquals(before.getAttempts(), after.getAttempts());
+        assertEquals(before.getClaimToken(), after.getClaimToken());
+        assertEquals(before.getLockedUntil(), after.getLockedUntil());
+        assertEquals(before.getNextAttemptAt(), after.getNextAttemptAt());
+        assertEquals(results, outbox.resultCount());
+        assertEquals(messages, createdMessages.size());
+    }
+
+    private static void assertBackoff(LocalDateTime before, LocalDateTime nextAttemptAt, long delaySeconds) {
+        LocalDateTime earliest = before.plusSeconds(delaySeconds);
+        LocalDateTime latest = LocalDateTime.now().plusSeconds(delaySeconds + delaySeconds / 5 + 1);
+        assertTrue(!nextAttemptAt.isBefore(earliest) && !nextAttemptAt.isAfter(latest),
+                "nextAttemptAt=" + nextAttemptAt + ", expected between " + earliest + " and " + latest);
+    }
+
+    /**
+     * email_outbox 테이블 대역 (EmailOutboxRepository 쿼리와 같은 상태 전환)
+     */
+    private static final class FakeOutbox {
+
+        private final Map<Long, EmailOutbox> rows = new TreeMap<>();
+        private long nextId = 1;
+        private int results = 0;
+        private int claims = 0;
+        private LocalDateTime lastLockedUntil;
+
+        synchronized long addPending(String toEmail) {
+            EmailOutbox row = newRow(toEmail);
+            rows.put(row.getOutboxId(), row);
+            return row.getOutboxId();
+        }
+
+        synchronized long addClaimed(String toEmail, LocalDateTime lockedUntil) {
+            EmailOutbox row = newRow(toEmail);
+            row.setStatus(EmailOutboxStatus.SENDING);
+            row.setClaimToken("crashed-worker");
+            row.setLockedUntil(lockedUntil);
+            rows.put(row.getOutboxId(), row);
+            return row.getOutboxId();
+        }
+
+        synchronized EmailOutbox get(long id) {
+            return copy(rows.get(id));
+        }
+
+        synchronized void makeDue(long id) {
+            rows.get(id).setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        }
+
+        synchronized LocalDateTime lastLockedUntil() {
+            return lastLockedUntil;
+        }
+
+        synchronized int resultCount() {
+            return results;
+        }
+
+        synchronized int claimCount() {
+            return claims;
+        }
+
+        synchronized List<EmailOutbox> claimDue(int limit, LocalDateTime lockedUntil) {
+            claims++;
+            String claimToken = "claim-" + nextId++;
+            LocalDateTime now = LocalDateTime.now();
+            List<EmailOutbox> claimed = new ArrayList<>();
+            rows.values().stream()
+                    .filter(row -> row.getStatus() == EmailOutboxStatus.PENDING && !row.getNextAttemptAt().isAfter(now))
+                    .sorted(Comparator.comparing(EmailOutbox::getNextAttemptAt))
+                    .limit(limit)
+                    .forEach(row -> {
+                        row.setStatus(EmailOutboxStatus.SENDING);
+                        row.setClaimToken(claimToken);
+                        row.setLockedUntil(lockedUntil);
+                        claimed.add(copy(row));
+                    });
+            lastLockedUntil = lockedUntil;
+            claimed.sort(Comparator.comparing(EmailOutbox::getOutboxId));
+            return claimed;
+        }
+
+        synchronized void markSent(Collection<Long> ids) {
+            for (Long id : ids) {
+                EmailOutbox row = rows.get(id);
+                row.setStatus(EmailOutboxStatus.SENT);
+                row.setAttempts(row.getAttempts() + 1);
+                row.setSentAt(LocalDateTime.now());
+                clearClaim(row);
+            }
+            recordResults(ids.size());
+        }
+
+        synchronized void markRetry(Long id, LocalDateTime nextAttemptAt, String error) {
+            EmailOutbox row = rows.get(id);
+            row.setStatus(EmailOutboxStatus.PENDING);
+            row.setAttempts(row.getAttempts() + 1);
+            row.setNextAttemptAt(nextAttemptAt);
+            row.setLastError(error);
+            clearClaim(row);
+            recordResults(1);
+        }
+
+        synchronized void markDead(Long id, String error) {
+            EmailOutbox row = rows.get(id);
+            row.setStatus(EmailOutboxStatus.DEAD);
+            row.setAttempts(row.getAttempts() + 1);
+            row.setLastError(error);
+            clearClaim(row);
+            recordResults(1);
+        }
+
+        synchronized int releaseExpiredClaims() {
+            LocalDateTime now = LocalDateTime.now();
+            int released = 0;
+            for (EmailOutbox row : rows.values()) {
+                if (row.getStatus() == EmailOutboxStatus.SENDING && row.getLockedUntil().isBefore(now)) {
+                    row.setStatus(EmailOutboxStatus.PENDING);
+                    clearClaim(row);
+                    released++;
+                }
+            }
+            return released;
+        }
+
+        synchronized void awaitResults(int expected) {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (results < expected) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    fail("발송 결과 기록 대기 시간 초과: expected=" + expected + ", actual=" + results);
+                }
+                try {
+                    wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    fail("대기 중 인터럽트");
+                }
+            }
+            if (results > expected) {
+                fail("예상보다 많은 결과 기록: expected=" + expected + ", actual=" + results);
+            }
+        }
+
+        private void recordResults(int count) {
+            results += count;
+            notifyAll();
+        }
+
+        private EmailOutbox newRow(String toEmail) {
+            LocalDateTime now = LocalDateTime.now();
+            return EmailOutbox.builder()
+                    .outboxId(nextId++)
+                    .toEmail(toEmail)
+                    .subject("[SCMS] 안내")
+                    .templateName("email/verification")
+                    .templateVariables("{\"name\":\"홍길동\"}")
+                    .status(EmailOutboxStatus.PENDING)
+                    .attempts(0)
+                    .nextAttemptAt(now.minusSeconds(1))
+                    .createdAt(now)
+                    .build();
+        }
+
+        private static void clearClaim(EmailOutbox row) {
+            row.setClaimToken(null);
+            row.setLockedUntil(null);
+        }
+
+        private static EmailOutbox copy(EmailOutbox row) {
+            return EmailOutbox.builder()
+                    .outboxId(row.getOutboxId())
+                    .toEmail(row.getToEmail())
+                    .subject(row.getSubject())
+                    .templateName(row.getTemplateName())
+                    .templateVariables(row.getTemplateVariables())
+                    .status(row.getStatus())
+                    .attempts(row.getAttempts())
+                    .nextAttemptAt(row.getNextAttemptAt())
+                    .claimToken(row.getClaimToken())
+                    .lockedUntil(row.getLockedUntil())
+                    .lastError(row.getLastError())
+                    .createdAt(row.getCreatedAt())
+                    .sentAt(row.getSentAt())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.scms.app.service;
+
+import com.scms.app.util.CompiledEmailTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 미리 렌더링한 템플릿 결과가 매번 Thymeleaf로 렌더링한 결과(기존 방식)와 같은지 확인
+ */
+public class EmailTemplateRendererTest {
+
+    private static final List<Map<String, String>> NAMES = List.of(
+            Map.of("name", "홍길동"),
+            Map.of("name", "<script>alert(\"x\")</script>"),
+            Map.of("name", "Tom & Jerry's"),
+            Map.of("name", ""));
+
+    private SpringTemplateEngine templateEngine;
+    private EmailTemplateRenderer renderer;
+
+    @BeforeEach
+    public void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        renderer = new EmailTemplateRenderer(templateEngine);
+        ReflectionTestUtils.setField(renderer, "cacheEnabled", true);
+    }
+
+    @Test
+    public void verificationMatchesPerCallRendering() {
+        assertCompiled("email/verification", "name", "verificationLink", 4);
+
+        for (Map<String, String> name : NAMES) {
+            Map<String, String> variables = new HashMap<>(name);
+            variables.put("verificationLink", "https://scms.test/verify?token=a1b2&redirect=/mypage\"><x>");
+            assertEquals(processDirectly("email/verification", variables),
+                    renderer.render("email/verification", variables));
+        }
+    }
+
+    @Test
+    public void passwordResetMatchesPerCallRendering() {
+        assertCompiled("email/password-reset", "name", "resetLink", 3);
+
+        for (Map<String, String> name : NAMES) {
+            Map<String, String> variables = new HashMap<>(name);
+            variables.put("resetLink", "https://scms.test/reset?token=z9&lang=ko'");
+            assertEquals(processDirectly("email/password-reset", variables),
+                    renderer.render("email/password-reset", variables));
+        }
+    }
+
+    @Test
+    public void escapesMarkupInVariables() {
+        String html = renderer.render("email/password-reset", Map.of(
+                "name", "<b onclick=\"x()\">관리자</b>",
+                "resetLink", "https://scms.test/reset?a=1&b=2"));
+
+        assertTrue(html.contains("&lt;b onclick=&quot;x()&quot;&gt;관리자&lt;/b&gt;"));
+        assertTrue(html.contains("https://scms.test/reset?a=1&amp;b=2"));
+        assertFalse(html.contains("<b onclick"));
+    }
+
+    @Test
+    public void unescapedTemplateFallsBackToPerCallRendering() {
+        Optional<CompiledEmailTemplate> compiled =
+                renderer.compile("email-test/raw-content", Set.of("name", "content"));
+        assertFalse(compiled.isPresent());
+
+        Map<String, String> variables = Map.of("name", "<i>홍길동</i>", "content", "<p>본문 <b>강조</b></p>");
+        assertEquals(processDirectly("email-test/raw-content", variables),
+                renderer.render("email-test/raw-content", variables));
+    }
+
+    @Test
+    public void nullVariableUsesPerCallRendering() {
+        Map<String, String> variables = new HashMap<>();
+        variables.put("name", null);
+        variables.put("resetLink", "https://scms.test/reset");
+
+        assertEquals(processDirectly("email/password-reset", variables),
+                renderer.render("email/password-reset", variables));
+    }
+
+    @Test
+    public void disabledCacheAlwaysRendersPerCall() {
+        ReflectionTestUtils.setField(renderer, "cacheEnabled", false);
+
+        assertFalse(renderer.compile("email/password-reset", Set.of("name", "resetLink")).isPresent());
+        Map<String, String> variables = Map.of("name", "홍길동", "resetLink", "https://scms.test/reset");
+        assertEquals(processDirectly("email/password-reset", variables),
+                renderer.render("email/password-reset", variables));
+    }
+
+    private void assertCompiled(String templateName, String first, String second, int slots) {
+        Optional<CompiledEmailTemplate> compiled = renderer.compile(templateName, Set.of(first, second));
+        assertTrue(compiled.isPresent());
+        assertEquals(slots, compiled.get().getSlotCount());
+    }
+
+    /**
+     * 기존 방식 (요청마다 templateEngine.process)
+     */
+    private String processDirectly(String templateName, Map<String, String> variables) {
+        Context context = new Context();
+        variables.forEach(context::setVariable);
+        return templateEngine.process(templateName, context);
+    }
+}
@@ -0,0 +1,62 @@
+package com.scms.app.service;
+
+import com.scms.app.util.ExcelColumn;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 내보내기 파일에 사용자 입력이 수식으로 기록되지 않는지 확인
+ */
+public class ExcelServiceTest {
+
+    private static final List<ExcelColumn<Object[]>> COLUMNS = List.of(
+            ExcelColumn.of("이름", row -> row[0]),
+            ExcelColumn.of("점수", row -> row[1]));
+
+    private final ExcelService excelService = new ExcelService();
+
+    @Test
+    public void csvPrefixesFormulaLikeValues() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        excelService.writeCsv(out, COLUMNS, Stream.of(
+                new Object[]{"=HYPERLINK(\"http://x\",\"y\")", -3},
+                new Object[]{"+82-10", 1},
+                new Object[]{"@SUM(A1)", null},
+                new Object[]{"\tcmd", null},
+                new Object[]{"홍길동", 2}));
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertEquals("\uFEFF이름,점수\r\n"
+                + "\"'=HYPERLINK(\"\"http://x\"\",\"\"y\"\")\",-3\r\n"
+                + "'+82-10,1\r\n"
+                + "'@SUM(A1),\r\n"
+                + "'\tcmd,\r\n"
+                + "홍길동,2\r\n", csv);
+    }
+
+    @Test
+    public void excelPrefixesFormulaLikeStrings() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        excelService.writeExcel(out, "test", COLUMNS, Stream.of(
+                new Object[]{"-1+2", -5},
+                new Object[]{"홍길동", 3}));
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            Row first = sheet.getRow(1);
+            assertEquals("'-1+2", first.getCell(0).getStringCellValue());
+            assertEquals(-5.0, first.getCell(1).getNumericCellValue());
+            assertEquals("홍길동", sheet.getRow(2).getCell(0).getStringCellValue());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.scms.app.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CompiledEmailTemplateTest {
+
+    private static final String MARKER = "SCMSVARtest";
+
+    @Test
+    public void splitsSegmentsAtMarkers() {
+        String rendered = "<p>" + MARKER + "0X님</p><a href=\"" + MARKER + "1X\">" + MARKER + "1X</a>";
+
+        CompiledEmailTemplate template =
+                CompiledEmailTemplate.parse("email/test", rendered, MARKER, List.of("name", "link"));
+
+        assertEquals(3, template.getSlotCount());
+        assertEquals("<p>홍길동님</p><a href=\"https://scms.test/v?t=1\">https://scms.test/v?t=1</a>",
+                template.render(Map.of("name", "홍길동", "link", "https://scms.test/v?t=1")));
+    }
+
+    @Test
+    public void escapesValuesLikeThText() {
+        CompiledEmailTemplate template = CompiledEmailTemplate.parse(
+                "email/test", "<b>" + MARKER + "0X</b>", MARKER, List.of("name"));
+
+        assertEquals("<b>&lt;script&gt;alert(&quot;x&quot;)&lt;/script&gt; &amp; &#39;q&#39;</b>",
+                template.render(Map.of("name", "<script>alert(\"x\")</script> & 'q'")));
+    }
+
+    @Test
+    public void missingVariableRendersEmpty() {
+        CompiledEmailTemplate template = CompiledEmailTemplate.parse(
+                "email/test", "[" + MARKER + "0X]", MARKER, List.of("name"));
+
+        assertEquals("[]", template.render(Map.of()));
+    }
+
+    @Test
+    public void templateWithoutMarkersIsStatic() {
+        CompiledEmailTemplate template =
+                CompiledEmailTemplate.parse("email/test", "<p>안내</p>", MARKER, List.of());
+
+        assertEquals(0, template.getSlotCount());
+        assertEquals("<p>안내</p>", template.render(Map.of()));
+    }
+
+    @Test
+    public void renderToAppendsToCallerBuffer() {
+        CompiledEmailTemplate template = CompiledEmailTemplate.parse(
+                "email/test", "<i>" + MARKER + "0X</i>", MARKER, List.of("name"));
+        StringBuilder out = new StringBuilder("앞:");
+
+        template.renderTo(Map.of("name", "a"), out);
+        template.renderTo(Map.of("name", "b"), out);
+
+        assertEquals("앞:<i>a</i><i>b</i>", out.toString());
+    }
+}
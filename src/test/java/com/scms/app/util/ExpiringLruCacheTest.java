@@ -0,0 +1,286 @@
+package com.scms.app.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExpiringLruCacheTest {
+
+    @Test
+    public void loadsOnceAndServesHits() {
+        ExpiringLruCache<Integer, String> cache = new ExpiringLruCache<>(10, 60_000);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("a", cache.get(1, key -> {
+            loads.incrementAndGet();
+            return "a";
+        }));
+        assertEquals("a", cache.get(1, key -> {
+            loads.incrementAndGet();
+            return "b";
+        }));
+
+        assertEquals(1, loads.get());
+
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getLoadSuccessCount());
+        assertEquals(0.5, cache.getHitRate(), 0.0001);
+    }
+
+    @Test
+    public void reloadsAfterTtl() throws InterruptedException {
+        ExpiringLruCache<Integer, String> cache = new ExpiringLruCache<>(10, 50);
+        cache.get(1, key -> "old");
+
+        Thread.sleep(100);
+
+        assertNull(cache.getIfPresent(1));
+        assertEquals("new", cache.get(1, key -> "new"));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        ExpiringLruCache<Integer, String> cache = new ExpiringLruCache<>(2, 60_000);
+        cache.get(1, key -> "a");
+        cache.get(2, key -> "b");
+        cache.get(1, key -> "unused"); // 1을 최근 사용으로
+
+        cache.get(3, key -> "c");
+
+        assertEquals(2, cache.size());
+        assertEquals("a", cache.getIfPresent(1));
+        assertNull(cache.getIfPresent(2));
+        assertEquals("c", cache.getIfPresent(3));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void invalidateRemovesEntries() {
+        ExpiringLruCache<Integer, String> cache = new ExpiringLruCache<>(10, 60_000);
+        cache.get(1, key -> "a");
+        cache.get(2, key -> "b");
+
+        cache.invalidate(1);
+        assertNull(cache.getIfPresent(1));
+        assertEquals("b", cache.getIfPresent(2));
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void failedLoadIsNotCached() {
+        ExpiringLruCache<Integer, String> cache = new ExpiringLruCache<>(10, 60_000);
+
+        assertThrows(IllegalStateException.class, () -> cache.get(1, key -> {
+            throw new IllegalStateException("적재 실패");
+        }));
+
+        assertEquals(1, cache.getLoadFailureCount());
+        assertEquals("a", cache.get(1, key -> "a"));
+    }
+
+    @Test
+    public void concurrentMissesShareOneLoad() throws Exception {
+        ExpiringLruCache<Integer, String> cache = new ExpiringLruCache<>(10, 60_000);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> cache.get(1, key -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                await(release);
+                return "a";
+            }));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+            Future<String> second = executor.submit(() -> cache.get(1, key -> {
+                loads.incrementAndGet();
+                return "b";
+            }));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertEquals("a", first.get(5, TimeUnit.SECONDS));
+            assertEquals("a", second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void loadStartedBeforeInvalidateAllIsNotStored() {
+        ExpiringLruCache<Integer, String> cache = new ExpiringLruCache<>(10, 60_000);
+
+        String value = cache.get(1, key -> {
+            cache.invalidateAll();
+            return "stale";
+        });
+
+        assertEquals("stale", value);
+        assertNull(cache.getIfPresent(1));
+    }
+
+    @Test
+    public void loadStartedBeforeInvalidateIsNotStored() {
+        ExpiringLruCache<Integer, String> cache = new ExpiringLruCache<>(10, 60_000);
+
+        String value = cache.get(1, key -> {
+            cache.invalidate(1);
+            return "stale";
+        });
+
+        assertEquals("stale", value);
+        assertNull(cache.getIfPresent(1));
+
+        // 다른 키의 적재는 영향을 받지 않음
+        assertEquals("b", cache.get(2, key -> {
+            cache.invalidate(1);
+            return "b";
+        }));
+        assertEquals("b", cache.getIfPresent(2));
+
+        // 무효화 이후에 시작한 적재는 저장됨
+        assertEquals("fresh", cache.get(1, key -> "fresh"));
+        assertEquals("fresh", cache.getIfPresent(1));
+    }
+
+    @Test
+    public void getAfterInvalidateDoesNotJoinStaleLoad() throws Exception {
+        ExpiringLruCache<Integer, String> cache = new ExpiringLruCache<>(10, 60_000);
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> stale = executor.submit(() -> cache.get(1, key -> {
+                loaderStarted.countDown();
+                await(release);
+                return "stale";
+            }));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+            cache.invalidate(1);
+            assertEquals("fresh", cache.get(1, key -> "fresh"));
+
+            release.countDown();
+            assertEquals("stale", stale.get(5, TimeUnit.SECONDS));
+            assertEquals("fresh", cache.getIfPresent(1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void getAllLoadStartedBeforeInvalidateIsNotStored() {
+        ExpiringLruCache<Integer, String> cache = new ExpiringLruCache<>(10, 60_000);
+
+        Map<Integer, String> result = cache.getAll(List.of(1, 2), keys -> {
+            cache.invalidate(1);
+            return Map.of(1, "stale", 2, "b");
+        });
+
+        assertEquals(Map.of(1, "stale", 2, "b"), result);
+        assertNull(cache.getIfPresent(1));
+        assertEquals("b", cache.getIfPresent(2));
+    }
+
+    @Test
+    public void getAllLoadsOnlyMissingKeysInOneCall() {
+        ExpiringLruCache<Integer, String> cache = new ExpiringLruCache<>(10, 60_000);
+        cache.get(1, key -> "v1");
+        List<Set<Integer>> requested = new ArrayList<>();
+
+        Map<Integer, String> result = cache.getAll(List.of(1, 2, 3, 2), keys -> {
+            requested.add(Set.copyOf(keys));
+            Map<Integer, String> loaded = new HashMap<>();
+            keys.forEach(key -> loaded.put(key, "v" + key));
+            return loaded;
+        });
+
+        assertEquals(Map.of(1, "v1", 2, "v2", 3, "v3"), result);
+        assertEquals(List.of(Set.of(2, 3)), requested);
+        assertEquals("v3", cache.getIfPresent(3));
+        assertEquals(3, cache.getMissCount()); // 첫 get 1건 + getAll 2건 (중복 키는 한 번만)
+    }
+
+    @Test
+    public void getAllSkipsLoaderWhenAllCached() {
+        ExpiringLruCache<Integer, String> cache = new ExpiringLruCache<>(10, 60_000);
+        cache.getAll(List.of(1, 2), keys -> Map.of(1, "a", 2, "b"));
+
+        Map<Integer, String> result = cache.getAll(List.of(2, 1), keys -> {
+            throw new IllegalStateException("적재하면 안 됨");
+        });
+
+        assertEquals(Map.of(1, "a", 2, "b"), result);
+        assertEquals(1, cache.getLoadSuccessCount());
+    }
+
+    @Test
+    public void getAllOmitsKeysMissingFromLoaderResult() {
+        ExpiringLruCache<Integer, String> cache = new ExpiringLruCache<>(10, 60_000);
+
+        Map<Integer, String> result = cache.getAll(List.of(1, 2), keys -> Map.of(1, "a"));
+
+        assertEquals(Map.of(1, "a"), result);
+        assertNull(cache.getIfPresent(2));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void getAllReloadsExpiredKeys() throws InterruptedException {
+        ExpiringLruCache<Integer, String> cache = new ExpiringLruCache<>(10, 50);
+        cache.getAll(List.of(1), keys -> Map.of(1, "old"));
+
+        Thread.sleep(100);
+
+        assertEquals(Map.of(1, "new"), cache.getAll(List.of(1), keys -> Map.of(1, "new")));
+    }
+
+    @Test
+    public void getAllLoaderFailureStoresNothing() {
+        ExpiringLruCache<Integer, String> cache = new ExpiringLruCache<>(10, 60_000);
+
+        assertThrows(IllegalStateException.class, () -> cache.getAll(List.of(1, 2), keys -> {
+            throw new IllegalStateException("적재 실패");
+        }));
+
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getLoadFailureCount());
+    }
+
+    @Test
+    public void rejectsNonPositiveLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringLruCache<Integer, String>(0, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringLruCache<Integer, String>(10, 0));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.scms.app.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FacetBitmapIndexTest {
+
+    private static final List<String> FACETS = List.of("department", "college", "category");
+
+    @Test
+    public void countsDocumentsMatchingAllFilters() {
+        FacetBitmapIndex index = sampleIndex();
+
+        assertEquals(5, index.count(Map.of()));
+        assertEquals(3, index.count(Map.of("college", "공과대학")));
+        assertEquals(2, index.count(Map.of("college", "공과대학", "category", "취업")));
+        assertEquals(0, index.count(Map.of("college", "공과대학", "category", "상담")));
+        assertEquals(0, index.count(Map.of("department", "없는 부서")));
+    }
+
+    @Test
+    public void nullFilterValueMeansNoCondition() {
+        FacetBitmapIndex index = sampleIndex();
+        Map<String, String> filters = new HashMap<>();
+        filters.put("college", null);
+        filters.put("category", "취업");
+
+        assertEquals(3, index.count(filters));
+    }
+
+    @Test
+    public void facetCountsExcludeOwnFilter() {
+        FacetBitmapIndex index = sampleIndex();
+
+        Map<String, Map<String, Integer>> counts =
+                index.facetCounts(Map.of("college", "공과대학", "category", "취업"));
+
+        // college 개수는 category=취업만 적용
+        assertEquals(Map.of("공과대학", 2, "인문대학", 1), counts.get("college"));
+        // category 개수는 college=공과대학만 적용
+        assertEquals(Map.of("취업", 2, "교육", 1), counts.get("category"));
+        // department는 두 필터 모두 적용
+        assertEquals(Map.of("취업지원팀", 2), counts.get("department"));
+
+        Map<String, Integer> totals = index.facetTotals(Map.of("college", "공과대학", "category", "취업"));
+        assertEquals(Map.of("department", 2, "college", 3, "category", 3), totals);
+    }
+
+    @Test
+    public void documentsWithoutValueAreCountedOnlyInTotals() {
+        FacetBitmapIndex index = new FacetBitmapIndex(FACETS);
+        index.put(1, Map.of("college", "공과대학"));
+        index.put(2, Map.of("college", "공과대학", "category", "취업"));
+
+        assertEquals(Map.of("취업", 1), index.facetCounts(Map.of()).get("category"));
+        assertEquals(Map.of("department", 2, "college", 2, "category", 2), index.facetTotals(Map.of()));
+    }
+
+    @Test
+    public void putReplacesAndRemoveReusesOrdinal() {
+        FacetBitmapIndex index = sampleIndex();
+
+        index.put(1, Map.of("department", "학생상담센터", "college", "인문대학", "category", "상담"));
+        assertEquals(2, index.count(Map.of("college", "공과대학")));
+        assertEquals(5, index.size());
+
+        assertTrue(index.remove(2));
+        assertFalse(index.remove(2));
+        assertEquals(1, index.count(Map.of("college", "공과대학")));
+        assertFalse(index.facetCounts(Map.of()).get("category").containsKey("교육"));
+
+        index.put(6, Map.of("college", "공과대학", "category", "교육"));
+        assertEquals(5, index.size());
+        assertEquals(Map.of("공과대학", 2, "인문대학", 3), index.facetCounts(Map.of()).get("college"));
+    }
+
+    /**
+     * 무작위 갱신/삭제 후 개수가 전체 순회 결과와 일치하는지 확인
+     */
+    @Test
+    public void matchesBruteForceAfterRandomUpdates() {
+        FacetBitmapIndex index = new FacetBitmapIndex(FACETS);
+        Map<Integer, Map<String, String>> docs = new HashMap<>();
+        Random random = new Random(7);
+
+        for (int step = 0; step < 3000; step++) {
+            int docId = random.nextInt(200);
+            if (random.nextInt(5) == 0) {
+                assertEquals(docs.remove(docId) != null, index.remove(docId));
+            } else {
+                Map<String, String> doc = new HashMap<>();
+                for (String facet : FACETS) {
+                    int value = random.nextInt(5);
+                    if (value > 0) {
+                        doc.put(facet, facet + value);
+                    }
+                }
+                index.put(docId, doc);
+                docs.put(docId, doc);
+            }
+        }
+
+        Map<String, String> filters = Map.of("college", "college2", "category", "category3");
+        long expected = docs.values().stream()
+                .filter(doc -> "college2".equals(doc.get("college")) && "category3".equals(doc.get("category")))
+                .count();
+        assertEquals(expected, index.count(filters));
+        assertEquals(docs.size(), index.size());
+
+        Map<String, Integer> departments = index.facetCounts(filters).get("department");
+        for (int value = 1; value < 5; value++) {
+            String department = "department" + value;
+            long departmentCount = docs.values().stream()
+                    .filter(doc -> department.equals(doc.get("department"))
+                            && "college2".equals(doc.get("college"))
+                            && "category3".equals(doc.get("category")))
+                    .count();
+            assertEquals(departmentCount, departments.getOrDefault(department, 0).longValue());
+        }
+    }
+
+    private static FacetBitmapIndex sampleIndex() {
+        FacetBitmapIndex index = new FacetBitmapIndex(FACETS);
+        index.put(1, Map.of("department", "취업지원팀", "college", "공과대학", "category", "취업"));
+        index.put(2, Map.of("department", "교육혁신팀", "college", "공과대학", "category", "교육"));
+        index.put(3, Map.of("department", "취업지원팀", "college", "공과대학", "category", "취업"));
+        index.put(4, Map.of("department", "취업지원팀", "college", "인문대학", "category", "취업"));
+        index.put(5, Map.of("department", "학생상담센터", "college", "인문대학", "category", "상담"));
+        return index;
+    }
+}
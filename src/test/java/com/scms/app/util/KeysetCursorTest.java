@@ -0,0 +1,121 @@
+package com.scms.app.util;
+
+import com.scms.app.dto.CursorPage;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KeysetCursorTest {
+
+    private static final LocalDateTime SORTED_AT = LocalDateTime.of(2024, 3, 15, 9, 30, 12, 345_000_000);
+
+    @Test
+    public void encodeDecodeRoundTrip() {
+        KeysetCursor cursor = KeysetCursor.of(SORTED_AT, 12345L);
+
+        String token = cursor.encode();
+        KeysetCursor decoded = KeysetCursor.decode(token);
+
+        assertEquals(SORTED_AT, decoded.getSortedAt());
+        assertEquals(12345L, decoded.getId());
+        assertEquals(12345, decoded.getIntId());
+        assertEquals(token, decoded.encode());
+    }
+
+    @Test
+    public void tokenIsUrlSafe() {
+        String token = KeysetCursor.of(SORTED_AT, Long.MAX_VALUE).encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), token);
+    }
+
+    @Test
+    public void blankTokenMeansFirstPage() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(""));
+        assertNull(KeysetCursor.decode("   "));
+    }
+
+    @Test
+    public void rejectsTamperedTokens() {
+        String token = KeysetCursor.of(SORTED_AT, 42L).encode();
+
+        assertRejected(token.substring(0, token.length() - 3));   // 잘린 커서
+        assertRejected(token + "!");                               // Base64 범위 밖 문자
+        assertRejected(encodeRaw("2024-03-15T09:30:12"));          // 구분자 없음
+        assertRejected(encodeRaw("not-a-date|42"));                // 시각 형식 오류
+        assertRejected(encodeRaw("2024-03-15T09:30:12|abc"));      // ID 형식 오류
+        assertRejected(encodeRaw("2024-03-15T09:30:12|"));         // ID 없음
+    }
+
+    @Test
+    public void rejectsIdOutsideIntRangeForIntKeys() {
+        KeysetCursor cursor = KeysetCursor.decode(encodeRaw("2024-03-15T09:30:12|" + (Integer.MAX_VALUE + 1L)));
+
+        assertEquals(Integer.MAX_VALUE + 1L, cursor.getId());
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, cursor::getIntId);
+        assertEquals("잘못된 커서입니다.", e.getMessage());
+    }
+
+    @Test
+    public void requiresSortedAt() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.of(null, 1L));
+    }
+
+    @Test
+    public void cursorPageBuildsNextCursorFromLastItem() {
+        List<Integer> fetched = List.of(10, 9, 8, 7);
+
+        CursorPage<Integer> page = CursorPage.of(fetched, 3, id -> KeysetCursor.of(SORTED_AT, id));
+
+        assertEquals(List.of(10, 9, 8), page.getItems());
+        assertTrue(page.isHasNext());
+        assertEquals(8L, KeysetCursor.decode(page.getNextCursor()).getId());
+    }
+
+    @Test
+    public void cursorPageWithoutExtraRowIsLastPage() {
+        CursorPage<Integer> page = CursorPage.of(List.of(3, 2), 3, id -> KeysetCursor.of(SORTED_AT, id));
+
+        assertEquals(List.of(3, 2), page.getItems());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    public void cursorPageMapKeepsCursor() {
+        CursorPage<Integer> page = CursorPage.of(List.of(5, 4, 3), 2, id -> KeysetCursor.of(SORTED_AT, id));
+
+        CursorPage<String> mapped = page.map(id -> "#" + id);
+
+        assertEquals(List.of("#5", "#4"), mapped.getItems());
+        assertEquals(page.getNextCursor(), mapped.getNextCursor());
+        assertTrue(mapped.isHasNext());
+    }
+
+    @Test
+    public void normalizeSizeClampsToLimits() {
+        assertEquals(CursorPage.DEFAULT_SIZE, CursorPage.normalizeSize(null));
+        assertEquals(CursorPage.DEFAULT_SIZE, CursorPage.normalizeSize(0));
+        assertEquals(15, CursorPage.normalizeSize(15));
+        assertEquals(CursorPage.MAX_SIZE, CursorPage.normalizeSize(1000));
+    }
+
+    private static void assertRejected(String token) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(token));
+        assertEquals("잘못된 커서입니다.", e.getMessage());
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,90 @@
+package com.scms.app.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NGramIndexTest {
+
+    @Test
+    public void tokenizesIntoBigramsPerWord() {
+        assertEquals(List.of("취업", "업특", "특강"), List.copyOf(NGramIndex.tokenize("취업특강")));
+        assertEquals(List.of("ai", "캠", "프"), List.copyOf(NGramIndex.tokenize("AI 캠 프")));
+        assertEquals(List.of("ab", "bc", "12"), List.copyOf(NGramIndex.tokenize("ＡＢＣ-12"))); // 전각 문자 정규화
+        assertTrue(NGramIndex.tokenize("  ").isEmpty());
+    }
+
+    @Test
+    public void findsPartialMatchRegardlessOfSpacingAndParticles() {
+        NGramIndex index = new NGramIndex();
+        index.put(1, Map.of("2024 취업특강을 안내합니다", 3f));
+        index.put(2, Map.of("진로 상담 프로그램", 3f));
+
+        assertEquals(Set.of(1), index.search("취업 특강").keySet());
+        assertEquals(Set.of(1), index.search("특강").keySet());
+        assertEquals(Set.of(1), index.search("안내").keySet());
+        assertEquals(Set.of(2), index.search("상담 프로그램").keySet());
+        assertTrue(index.search("해외").isEmpty());
+        assertTrue(index.search("!!").isEmpty());
+    }
+
+    @Test
+    public void requiresEveryQueryTerm() {
+        NGramIndex index = new NGramIndex();
+        index.put(1, Map.of("취업 특강", 1f));
+        index.put(2, Map.of("취업 박람회", 1f));
+        index.put(3, Map.of("특강 모음", 1f));
+
+        assertEquals(Set.of(1, 2), index.search("취업").keySet());
+        assertEquals(Set.of(1, 3), index.search("특강").keySet());
+        assertEquals(Set.of(1), index.search("취업 특강").keySet());
+        assertTrue(index.search("박람회 모음").isEmpty());
+    }
+
+    @Test
+    public void scoresSumFieldWeights() {
+        NGramIndex index = new NGramIndex();
+        index.put(1, Map.of("취업", 3f));                 // 제목
+        index.put(2, Map.of("취업", 1f));                 // 본문
+        index.put(3, Map.of("취업", 3f, "취업 안내", 1f)); // 제목 + 본문
+
+        Map<Integer, Float> scores = index.search("취업");
+
+        assertEquals(3f, scores.get(1), 0.0001);
+        assertEquals(1f, scores.get(2), 0.0001);
+        assertEquals(4f, scores.get(3), 0.0001);
+    }
+
+    @Test
+    public void singleCharacterQueryMatchesContainingTerms() {
+        NGramIndex index = new NGramIndex();
+        index.put(1, Map.of("취업 특강", 1f));
+        index.put(2, Map.of("특별 강연", 1f));
+        index.put(3, Map.of("상담", 1f));
+
+        assertEquals(Set.of(1, 2), index.search("특").keySet());
+        assertEquals(Set.of(1, 2), index.search("강").keySet());
+    }
+
+    @Test
+    public void putReplacesAndRemoveDropsPostings() {
+        NGramIndex index = new NGramIndex();
+        index.put(1, Map.of("취업 특강", 1f));
+        index.put(1, Map.of("진로 상담", 1f));
+
+        assertTrue(index.search("취업").isEmpty());
+        assertEquals(Set.of(1), index.search("상담").keySet());
+        assertEquals(1, index.size());
+
+        assertTrue(index.remove(1));
+        assertFalse(index.remove(1));
+        assertEquals(0, index.size());
+        assertEquals(0, index.termCount());
+    }
+}
@@ -0,0 +1,134 @@
+package com.scms.app.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RankedSkipListTest {
+
+    @Test
+    public void ranksByScoreDescending() {
+        RankedSkipList list = new RankedSkipList();
+        list.put(1, 100);
+        list.put(2, 300);
+        list.put(3, 200);
+
+        assertEquals(1, list.rankOf(2));
+        assertEquals(2, list.rankOf(3));
+        assertEquals(3, list.rankOf(1));
+        assertEquals(0, list.rankOf(4));
+        assertEquals(List.of(2, 3, 1), ids(list.range(0, 10)));
+    }
+
+    @Test
+    public void tiesAreOrderedById() {
+        RankedSkipList list = new RankedSkipList();
+        list.put(30, 50);
+        list.put(10, 50);
+        list.put(20, 50);
+        list.put(40, 70);
+
+        assertEquals(List.of(40, 10, 20, 30), ids(list.range(0, 10)));
+        assertEquals(2, list.rankOf(10));
+        assertEquals(4, list.rankOf(30));
+    }
+
+    @Test
+    public void updateMovesEntry() {
+        RankedSkipList list = new RankedSkipList();
+        for (int id = 1; id <= 5; id++) {
+            list.put(id, id * 10L);
+        }
+
+        list.put(1, 1000);
+        assertEquals(1, list.rankOf(1));
+        assertEquals(2, list.rankOf(5));
+
+        assertEquals(1005, list.add(1, 5));
+        assertEquals(15, list.add(6, 15));
+        assertEquals(6, list.rankOf(6));
+        assertEquals(6, list.size());
+    }
+
+    @Test
+    public void removeClosesGap() {
+        RankedSkipList list = new RankedSkipList();
+        for (int id = 1; id <= 5; id++) {
+            list.put(id, id * 10L);
+        }
+
+        assertTrue(list.remove(4));
+        assertFalse(list.remove(4));
+        assertNull(list.getScore(4));
+        assertEquals(0, list.rankOf(4));
+        assertEquals(2, list.rankOf(3));
+        assertEquals(List.of(5, 3, 2, 1), ids(list.range(0, 10)));
+        assertEquals(4, list.size());
+    }
+
+    @Test
+    public void rangeRespectsOffsetAndLimit() {
+        RankedSkipList list = new RankedSkipList();
+        for (int id = 1; id <= 10; id++) {
+            list.put(id, id);
+        }
+
+        List<RankedSkipList.Entry> page = list.range(3, 4);
+        assertEquals(List.of(7, 6, 5, 4), ids(page));
+        assertEquals(4, page.get(0).getRank());
+        assertEquals(7, page.get(3).getRank());
+        assertTrue(list.range(10, 5).isEmpty());
+        assertTrue(list.range(0, 0).isEmpty());
+    }
+
+    /**
+     * 무작위 삽입/갱신/삭제 후 모든 순위와 구간이 정렬 결과와 일치하는지 확인 (span 유지 검증)
+     */
+    @Test
+    public void spansStayConsistentAfterRandomOperations() {
+        RankedSkipList list = new RankedSkipList();
+        Map<Integer, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int step = 0; step < 5000; step++) {
+            int id = random.nextInt(300);
+            int op = random.nextInt(10);
+            if (op < 6) {
+                long score = random.nextInt(50); // 동점이 자주 생기도록 좁은 범위
+                list.put(id, score);
+                expected.put(id, score);
+            } else if (op < 8) {
+                long delta = random.nextInt(21) - 10;
+                long score = list.add(id, delta);
+                assertEquals(expected.getOrDefault(id, 0L) + delta, score);
+                expected.put(id, score);
+            } else {
+                assertEquals(expected.remove(id) != null, list.remove(id));
+            }
+        }
+
+        List<Integer> sorted = new ArrayList<>(expected.keySet());
+        sorted.sort(Comparator.<Integer>comparingLong(expected::get).reversed().thenComparing(id -> id));
+
+        assertEquals(sorted.size(), list.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(i + 1, list.rankOf(sorted.get(i)));
+        }
+        assertEquals(sorted, ids(list.range(0, sorted.size())));
+        assertEquals(sorted.subList(17, 42), ids(list.range(17, 25)));
+    }
+
+    private static List<Integer> ids(List<RankedSkipList.Entry> entries) {
+        return entries.stream().map(RankedSkipList.Entry::getId).toList();
+    }
+}
@@ -0,0 +1,306 @@
+package com.scms.app.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SurveyAnswerColumnsTest {
+
+    private static final List<String> DIMENSIONS = List.of("department", "grade");
+    private static final long SINGLE = 1L;
+    private static final long MULTI = 2L;
+    private static final long SCALE = 3L;
+    private static final List<Long> SINGLE_OPTIONS = List.of(101L, 102L, 103L);
+    private static final List<Long> MULTI_OPTIONS = List.of(201L, 202L, 203L, 204L);
+
+    @Test
+    public void encodesDimensionsWithSortedDictionary() {
+        SurveyAnswerColumns table = sampleTable();
+
+        SurveyAnswerColumns.Dimension department = table.dimension("department");
+        assertArrayEquals(new String[]{"미상", "경영학과", "컴퓨터공학과"}, department.labels());
+        assertArrayEquals(new int[]{2, 1, 2, 0, 1}, department.codes());
+        assertEquals(3, department.cardinality());
+        assertEquals(2, department.codeOf("컴퓨터공학과"));
+        assertEquals(-1, department.codeOf("없는학과"));
+
+        SurveyAnswerColumns.Dimension grade = table.dimension("grade");
+        assertArrayEquals(new String[]{"미상", "1", "2"}, grade.labels());
+    }
+
+    @Test
+    public void singleChoiceCountsAndAnswered() {
+        SurveyAnswerColumns table = sampleTable();
+
+        assertArrayEquals(new long[]{2, 1, 1}, table.optionCounts(SINGLE, 3, null));
+        assertEquals(4, table.answered(SINGLE, null));
+    }
+
+    @Test
+    public void multiChoiceUsesBitmaskPerRow() {
+        SurveyAnswerColumns table = sampleTable();
+
+        // 행별 선택: {201, 203}, {202}, {201, 202, 204}, 없음, {204}
+        assertArrayEquals(new long[]{2, 2, 1, 2}, table.optionCounts(MULTI, 4, null));
+        assertEquals(4, table.answered(MULTI, null));
+
+        boolean[] computerScience = table.mask(Map.of("department", "컴퓨터공학과"));
+        assertArrayEquals(new long[]{2, 1, 1, 1}, table.optionCounts(MULTI, 4, computerScience));
+    }
+
+    @Test
+    public void multiChoiceIgnoresOptionsBeyondBitmaskLimit() {
+        List<Long> options = new ArrayList<>();
+        for (long id = 1; id <= SurveyAnswerColumns.MAX_MULTI_OPTIONS + 1; id++) {
+            options.add(id);
+        }
+        SurveyAnswerColumns.Builder builder = new SurveyAnswerColumns.Builder(DIMENSIONS)
+                .choiceQuestion(MULTI, options, true);
+        builder.addResponse(1, 1);
+        builder.addAnswer(1, MULTI, (long) SurveyAnswerColumns.MAX_MULTI_OPTIONS, null);
+        builder.addAnswer(1, MULTI, (long) SurveyAnswerColumns.MAX_MULTI_OPTIONS + 1, null);
+        SurveyAnswerColumns table = builder.build();
+
+        long[] counts = table.optionCounts(MULTI, SurveyAnswerColumns.MAX_MULTI_OPTIONS, null);
+        assertEquals(1, counts[SurveyAnswerColumns.MAX_MULTI_OPTIONS - 1]);
+        assertEquals(1, Arrays.stream(counts).sum());
+    }
+
+    @Test
+    public void scaleSummaryComputesMeanAndStdDev() {
+        SurveyAnswerColumns table = sampleTable();
+
+        // 척도 값: 5, 3, 4, 없음, 5 (범위 밖 값 9는 무시)
+        SurveyAnswerColumns.ScaleSummary summary = table.scaleSummary(SCALE, 1, 5, null);
+        assertEquals(4, summary.count());
+        assertEquals(17, summary.sum());
+        assertEquals(4.25, summary.mean(), 0.0001);
+        assertEquals(Math.sqrt(75.0 / 4 - 4.25 * 4.25), summary.stdDev(), 0.0001);
+        assertArrayEquals(new long[]{0, 0, 1, 1, 2}, summary.histogram());
+        assertEquals(1, summary.minValue());
+
+        SurveyAnswerColumns.ScaleSummary empty = table.scaleSummary(SCALE, 1, 5, new boolean[table.size()]);
+        assertEquals(0, empty.count());
+        assertNull(empty.mean());
+        assertNull(empty.stdDev());
+    }
+
+    @Test
+    public void scaleSummaryKeepsZeroAndNegativeValues() {
+        SurveyAnswerColumns.Builder builder = new SurveyAnswerColumns.Builder(DIMENSIONS).scaleQuestion(SCALE);
+        for (int i = 1; i <= 6; i++) {
+            builder.addResponse(i, i);
+        }
+        builder.addAnswer(1, SCALE, null, -2);
+        builder.addAnswer(2, SCALE, null, 0);
+        builder.addAnswer(3, SCALE, null, 0);
+        builder.addAnswer(4, SCALE, null, 2);
+        builder.addAnswer(5, SCALE, null, 3);      // 범위 밖
+        SurveyAnswerColumns table = builder.build();   // 응답 6은 미응답
+
+        // -2..2 척도: 0은 미응답이 아니라 응답 값
+        SurveyAnswerColumns.ScaleSummary summary = table.scaleSummary(SCALE, -2, 2, null);
+        assertArrayEquals(new long[]{1, 0, 2, 0, 1}, summary.histogram());
+        assertEquals(4, summary.count());
+        assertEquals(0, summary.sum());
+        assertEquals(8, summary.sumSq());
+        assertEquals(0.0, summary.mean(), 0.0001);
+        assertEquals(5, table.answered(SCALE, null));
+
+        assertThrows(IllegalArgumentException.class, () -> table.scaleSummary(SCALE, 3, 2, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> table.scaleSummary(SCALE, SurveyAnswerColumns.NO_SCALE, 2, null));
+    }
+
+    @Test
+    public void masksCombineFiltersAndUsers() {
+        SurveyAnswerColumns table = sampleTable();
+
+        assertNull(table.mask(Map.of()));
+        assertEquals(5, table.count(null));
+
+        boolean[] mask = table.mask(Map.of("department", "컴퓨터공학과", "grade", "1"));
+        assertArrayEquals(new boolean[]{true, false, false, false, false}, mask);
+        assertEquals(0, table.count(table.mask(Map.of("department", "없는학과"))));
+
+        boolean[] participants = table.restrictToUsers(null, Set.of(12, 14, 99));
+        assertArrayEquals(new boolean[]{false, true, false, false, true}, participants);
+
+        // 익명 응답(사용자 ID 0)은 포함되지 않음
+        assertEquals(0, table.count(table.restrictToUsers(table.mask(Map.of("grade", "미상")), Set.of(0))));
+
+        assertThrows(IllegalArgumentException.class, () -> table.mask(Map.of("age", "20")));
+    }
+
+    @Test
+    public void crossTabGroupsByDimensionCode() {
+        SurveyAnswerColumns table = sampleTable();
+
+        long[][] byDepartment = table.crossTab(SINGLE, 3, "department", null);
+        assertArrayEquals(new long[]{0, 0, 0}, byDepartment[0]);   // 미상 (응답 4는 단일선택 미응답)
+        assertArrayEquals(new long[]{0, 1, 1}, byDepartment[1]);   // 경영학과
+        assertArrayEquals(new long[]{2, 0, 0}, byDepartment[2]);   // 컴퓨터공학과
+
+        SurveyAnswerColumns.ScaleSummary[] byGrade = table.scaleSummaryBy(SCALE, 1, 5, "grade", null);
+        assertEquals(3, byGrade.length);
+        assertEquals(0, byGrade[0].count());         // 미상 (응답 4의 척도 값은 범위 밖)
+        assertEquals(5.0, byGrade[1].mean(), 0.0001);
+        assertEquals(3.5, byGrade[2].mean(), 0.0001);
+
+        assertThrows(IllegalArgumentException.class, () -> table.crossTab(SINGLE, 3, "age", null));
+        assertThrows(IllegalArgumentException.class, () -> table.crossTab(SCALE, 3, null, null));
+        assertThrows(IllegalArgumentException.class, () -> table.scaleSummaryBy(SINGLE, 1, 5, null, null));
+    }
+
+    @Test
+    public void ignoresUnknownResponsesQuestionsAndOptions() {
+        SurveyAnswerColumns.Builder builder = new SurveyAnswerColumns.Builder(DIMENSIONS)
+                .choiceQuestion(SINGLE, SINGLE_OPTIONS, false);
+        builder.addResponse(1, 1, "경영학과", "1");
+        builder.addAnswer(2, SINGLE, 101L, null);   // 없는 응답
+        builder.addAnswer(1, 99L, 101L, null);      // 없는 질문
+        builder.addAnswer(1, SINGLE, 999L, null);   // 없는 선택지
+        SurveyAnswerColumns table = builder.build();
+
+        assertEquals(0, table.answered(SINGLE, null));
+        assertTrue(table.hasChoice(SINGLE));
+        assertFalse(table.hasScale(SINGLE));
+    }
+
+    @Test
+    public void rejectsResponsesOutOfOrder() {
+        SurveyAnswerColumns.Builder builder = new SurveyAnswerColumns.Builder(DIMENSIONS)
+                .choiceQuestion(SINGLE, SINGLE_OPTIONS, false);
+        builder.addResponse(2, 1);
+        builder.addResponse(1, 2);
+
+        assertThrows(IllegalStateException.class, () -> builder.addAnswer(1, SINGLE, 101L, null));
+    }
+
+    @Test
+    public void rejectsDuplicateResponseIds() {
+        SurveyAnswerColumns.Builder builder = new SurveyAnswerColumns.Builder(DIMENSIONS);
+        builder.addResponse(1, 1);
+        builder.addResponse(1, 2);
+
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    /**
+     * 병렬 계산 기준 행 수를 넘는 저장소의 집계가 행을 하나씩 센 결과와 같은지 확인
+     */
+    @Test
+    public void parallelAggregationMatchesSequentialCount() {
+        int rows = 120_000;
+        String[] departments = {null, "경영학과", "컴퓨터공학과", "전자공학과"};
+        Random random = new Random(2024);
+
+        int[] single = new int[rows];
+        long[] multi = new long[rows];
+        short[] scale = new short[rows];
+        int[] departmentOf = new int[rows];
+
+        SurveyAnswerColumns.Builder builder = new SurveyAnswerColumns.Builder(DIMENSIONS)
+                .choiceQuestion(SINGLE, SINGLE_OPTIONS, false)
+                .choiceQuestion(MULTI, MULTI_OPTIONS, true)
+                .scaleQuestion(SCALE);
+        for (int i = 0; i < rows; i++) {
+            departmentOf[i] = random.nextInt(departments.length);
+            builder.addResponse(i + 1, i + 1, departments[departmentOf[i]], String.valueOf(1 + random.nextInt(4)));
+        }
+        for (int i = 0; i < rows; i++) {
+            single[i] = random.nextInt(4) - 1;
+            if (single[i] >= 0) {
+                builder.addAnswer(i + 1, SINGLE, SINGLE_OPTIONS.get(single[i]), null);
+            }
+            multi[i] = random.nextInt(16);
+            for (int o = 0; o < 4; o++) {
+                if ((multi[i] & (1L << o)) != 0) {
+                    builder.addAnswer(i + 1, MULTI, MULTI_OPTIONS.get(o), null);
+                }
+            }
+            scale[i] = (short) random.nextInt(6);
+            if (scale[i] > 0) {
+                builder.addAnswer(i + 1, SCALE, null, (int) scale[i]);
+            }
+        }
+        SurveyAnswerColumns table = builder.build();
+        boolean[] mask = table.mask(Map.of("grade", "2"));
+
+        long[][] singleExpected = new long[departments.length][3];
+        long[][] multiExpected = new long[departments.length][4];
+        long[] scaleExpected = new long[5];
+        SurveyAnswerColumns.Dimension department = table.dimension("department");
+        for (int i = 0; i < rows; i++) {
+            if (!mask[i]) {
+                continue;
+            }
+            int group = departmentOf[i] == 0 ? 0 : department.codeOf(departments[departmentOf[i]]);
+            if (single[i] >= 0) {
+                singleExpected[group][single[i]]++;
+            }
+            for (int o = 0; o < 4; o++) {
+                if ((multi[i] & (1L << o)) != 0) {
+                    multiExpected[group][o]++;
+                }
+            }
+            if (scale[i] > 0) {
+                scaleExpected[scale[i] - 1]++;
+            }
+        }
+
+        assertArrayEquals(singleExpected, table.crossTab(SINGLE, 3, "department", mask));
+        assertArrayEquals(multiExpected, table.crossTab(MULTI, 4, "department", mask));
+        assertArrayEquals(scaleExpected, table.scaleSummary(SCALE, 1, 5, mask).histogram());
+    }
+
+    /**
+     * 응답 5건
+     * 1: 컴퓨터공학과/1학년, 단일 101, 복수 {201, 203}, 척도 5
+     * 2: 경영학과/2학년,     단일 102, 복수 {202},      척도 3
+     * 3: 컴퓨터공학과/2학년, 단일 101, 복수 {201, 202, 204}, 척도 4
+     * 4: 미상/미상(익명),     미응답,   미응답,          척도 9(범위 밖)
+     * 5: 경영학과/1학년,     단일 103, 복수 {204},      척도 5
+     */
+    private static SurveyAnswerColumns sampleTable() {
+        SurveyAnswerColumns.Builder builder = new SurveyAnswerColumns.Builder(DIMENSIONS)
+                .choiceQuestion(SINGLE, SINGLE_OPTIONS, false)
+                .choiceQuestion(MULTI, MULTI_OPTIONS, true)
+                .scaleQuestion(SCALE);
+        builder.addResponse(10, 11, "컴퓨터공학과", "1");
+        builder.addResponse(20, 12, "경영학과", "2");
+        builder.addResponse(30, 13, "컴퓨터공학과", "2");
+        builder.addResponse(40, null);
+        builder.addResponse(50, 14, "경영학과", "1");
+
+        builder.addAnswer(10, SINGLE, 101L, null);
+        builder.addAnswer(10, MULTI, 201L, null);
+        builder.addAnswer(10, MULTI, 203L, null);
+        builder.addAnswer(10, SCALE, null, 5);
+        builder.addAnswer(20, SINGLE, 102L, null);
+        builder.addAnswer(20, MULTI, 202L, null);
+        builder.addAnswer(20, SCALE, null, 3);
+        builder.addAnswer(30, SINGLE, 101L, null);
+        builder.addAnswer(30, MULTI, 201L, null);
+        builder.addAnswer(30, MULTI, 202L, null);
+        builder.addAnswer(30, MULTI, 204L, null);
+        builder.addAnswer(30, SCALE, null, 4);
+        builder.addAnswer(40, SCALE, null, 9);
+        builder.addAnswer(50, SINGLE, 103L, null);
+        builder.addAnswer(50, MULTI, 204L, null);
+        builder.addAnswer(50, SCALE, null, 5);
+        return builder.build();
+    }
+}